@@ -0,0 +1,28 @@
+package com.snow.popin.domain.admin.controller;
+
+import com.snow.popin.global.http.LatencyHistogram;
+import com.snow.popin.global.http.OutboundHttpClient;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/http-clients")
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminHttpClientApiController {
+
+    private final OutboundHttpClient outboundHttpClient;
+
+    /**
+     * 외부 API 엔드포인트별 호출 수, 오류, 동시 호출 한도 초과, 지연 시간 분포
+     */
+    @GetMapping("/metrics")
+    public List<LatencyHistogram.Snapshot> metrics() {
+        return outboundHttpClient.metrics();
+    }
+}
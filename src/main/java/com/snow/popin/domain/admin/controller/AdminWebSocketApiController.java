@@ -0,0 +1,25 @@
+package com.snow.popin.domain.admin.controller;
+
+import com.snow.popin.global.websocket.StompBrokerMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/websocket")
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminWebSocketApiController {
+
+    private final StompBrokerMetrics stompBrokerMetrics;
+
+    /**
+     * 채널 스레드 풀 상태, 목적지별 초당 발행/전달 수, 전송 대기, 끊긴 세션 수
+     */
+    @GetMapping("/metrics")
+    public StompBrokerMetrics.Snapshot metrics() {
+        return stompBrokerMetrics.snapshot();
+    }
+}
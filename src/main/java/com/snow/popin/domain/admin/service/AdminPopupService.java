@@ -8,11 +8,13 @@ import com.snow.popin.domain.popup.dto.response.PopupAdminStatusUpdateResponse;
 import com.snow.popin.domain.popup.dto.response.PopupStatsResponse;
 import com.snow.popin.domain.popup.entity.Popup;
 import com.snow.popin.domain.popup.entity.PopupStatus;
+import com.snow.popin.domain.popup.event.PopupChangedEvent;
 import com.snow.popin.domain.popup.repository.PopupRepository;
 import com.snow.popin.global.constant.ErrorCode;
 import com.snow.popin.global.exception.GeneralException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -41,6 +43,7 @@ public class AdminPopupService {
     private final PopupRepository popupRepo;
     private final BrandRepository brandRepo;
     private final HostRepository hostRepo;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 팝업 통게 조회
@@ -176,6 +179,7 @@ public class AdminPopupService {
 
         popup.AdminUpdateStatus(status);
         popupRepo.save(popup);
+        eventPublisher.publishEvent(PopupChangedEvent.updated(popup));
 
         log.info("팝업 상태 변경 완료 - popupId: {}, 변경된 상태: {}", popupId, status);
 
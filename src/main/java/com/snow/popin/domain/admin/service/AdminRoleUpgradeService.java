@@ -19,6 +19,7 @@ import com.snow.popin.domain.user.entity.User;
 import com.snow.popin.domain.user.repository.UserRepository;
 import com.snow.popin.global.constant.ErrorCode;
 import com.snow.popin.global.exception.GeneralException;
+import com.snow.popin.global.jwt.UserPrincipalCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -41,6 +42,7 @@ public class AdminRoleUpgradeService {
     private final HostRepository hostRepository;
     private final ProviderProfileRepository providerProfileRepository;
     private final ObjectMapper objectMapper;
+    private final UserPrincipalCache userPrincipalCache;
 
     // 관리자용: 모든 역할 승격 요청 페이징 조회
     public Page<RoleUpgradeResponse> getAllRoleUpgradeRequests(Pageable pageable){
@@ -89,6 +91,7 @@ public class AdminRoleUpgradeService {
                     .orElseThrow(() -> new GeneralException(ErrorCode.USER_NOT_FOUND));
 
             user.updateRole(roleUpgrade.getRequestedRole());
+            userPrincipalCache.invalidate(user);
 
             // 역할별 추가 데이터 생성
             createRoleSpecificData(user, roleUpgrade);
@@ -9,6 +9,7 @@ import com.snow.popin.domain.user.entity.User;
 import com.snow.popin.domain.user.repository.UserRepository;
 import com.snow.popin.global.constant.ErrorCode;
 import com.snow.popin.global.exception.GeneralException;
+import com.snow.popin.global.jwt.UserPrincipalCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.jpa.domain.Specification;
@@ -31,6 +32,7 @@ import javax.persistence.criteria.Predicate;
 public class AdminUserService {
 
     private final UserRepository userRepo;
+    private final UserPrincipalCache userPrincipalCache;
 
     /**
      * 회원 검색
@@ -78,6 +80,7 @@ public class AdminUserService {
 
         user.updateStatus(status);
         User savedUser = userRepo.save(user);
+        userPrincipalCache.invalidate(savedUser);
 
         return UserStatusUpdateResponse.of(
                 savedUser.getId(),
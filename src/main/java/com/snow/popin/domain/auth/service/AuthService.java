@@ -12,12 +12,13 @@ import com.snow.popin.domain.user.entity.User;
 import com.snow.popin.domain.user.repository.UserRepository;
 import com.snow.popin.global.constant.ErrorCode;
 import com.snow.popin.global.exception.GeneralException;
+import com.snow.popin.global.jwt.AuthenticatedUser;
 import com.snow.popin.global.jwt.JwtTokenResolver;
 import com.snow.popin.global.jwt.JwtUtil;
+import com.snow.popin.global.jwt.UserPrincipalCache;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -29,8 +30,6 @@ import org.springframework.util.StringUtils;
 import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -47,6 +46,7 @@ public class AuthService implements UserDetailsService {
     private final JwtUtil jwtUtil;
     private final JwtTokenResolver jwtTokenResolver;
     private final UserInterestRepository userInterestRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
     /**
      * 회원가입 처리
@@ -84,11 +84,12 @@ public class AuthService implements UserDetailsService {
      * 사용자 로그아웃 처리
      */
     public LogoutResponse logout(LogoutRequest request, HttpServletRequest httpRequest, HttpServletResponse httpResponse) {
-        String userEmail = extractUserEmailFromToken(request, httpRequest);
+        String token = extractToken(request, httpRequest);
+        String userEmail = extractUserEmailFromToken(token);
 
         log.info("로그아웃 요청 처리: email={}", userEmail);
 
-        processLogout(httpResponse);
+        processLogout(token, httpResponse);
 
         log.info("로그아웃 완료: email={}", userEmail);
         return LogoutResponse.success("로그아웃이 완료되었습니다.");
@@ -99,10 +100,12 @@ public class AuthService implements UserDetailsService {
      */
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email));
+        return userPrincipalCache.get(email, key -> {
+            User user = userRepository.findByEmail(key)
+                    .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + key));
 
-        return createUserDetails(user);
+            return createUserDetails(user);
+        });
     }
 
     /**
@@ -272,12 +275,11 @@ public class AuthService implements UserDetailsService {
     /**
      * 토큰에서 사용자 이메일 추출
      */
-    private String extractUserEmailFromToken(LogoutRequest request, HttpServletRequest httpRequest) {
+    private String extractUserEmailFromToken(String token) {
         try {
-            String token = extractToken(request, httpRequest);
-
-            if (StringUtils.hasText(token) && jwtUtil.validateToken(token)) {
-                return jwtUtil.getEmail(token);
+            Claims claims = StringUtils.hasText(token) ? jwtUtil.verify(token) : null;
+            if (claims != null) {
+                return claims.getSubject();
             }
         } catch (Exception e) {
             log.debug("토큰에서 사용자 정보 추출 실패: {}", e.getMessage());
@@ -287,9 +289,12 @@ public class AuthService implements UserDetailsService {
     }
 
     /**
-     * 실제 로그아웃 처리
+     * 실제 로그아웃 처리 (토큰 폐기, 쿠키 정리)
      */
-    private void processLogout(HttpServletResponse response) {
+    private void processLogout(String token, HttpServletResponse response) {
+        if (StringUtils.hasText(token)) {
+            jwtUtil.revoke(token);
+        }
         clearAuthCookies(response);
         addCacheControlHeaders(response);
     }
@@ -339,22 +344,8 @@ public class AuthService implements UserDetailsService {
     /**
      * Spring Security UserDetails 객체 생성
      */
-    private UserDetails createUserDetails(User user) {
-        Collection<GrantedAuthority> authorities = new ArrayList<>();
-
-        if (user.getRole() != null) {
-            authorities.add(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()));
-        }
-
-        return org.springframework.security.core.userdetails.User.builder()
-                .username(user.getEmail())
-                .password(user.getPassword())
-                .authorities(authorities)
-                .accountExpired(false)
-                .accountLocked(false)
-                .credentialsExpired(false)
-                .disabled(false)
-                .build();
+    private AuthenticatedUser createUserDetails(User user) {
+        return AuthenticatedUser.from(user);
     }
 
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ import com.snow.popin.domain.bookmark.repository.BookMarkQueryDslRepository;
 import com.snow.popin.domain.bookmark.repository.BookMarkRepository;
 import com.snow.popin.domain.popup.entity.Popup;
 import com.snow.popin.domain.popup.repository.PopupRepository;
+import com.snow.popin.domain.popup.service.PopupTrendingRanking;
 import com.snow.popin.global.exception.PopupNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,6 +30,7 @@ public class BookMarkService {
     private final BookMarkRepository bookMarkRepository;
     private final BookMarkQueryDslRepository bookMarkQueryDslRepository;
     private final PopupRepository popupRepository;
+    private final PopupTrendingRanking popupTrendingRanking;
 
     // 북마크 추가
     @Transactional
@@ -43,6 +45,7 @@ public class BookMarkService {
         try {
             BookMark bookmark = BookMark.ofWithPopup(userId, popup);
             BookMark savedBookmark = bookMarkRepository.save(bookmark);
+            popupTrendingRanking.record(popupId, PopupTrendingRanking.Signal.BOOKMARK);
 
             log.info("북마크 추가 완료 - userId: {}, popupId: {}", userId, popupId);
             return BookMarkResponseDto.from(savedBookmark);
@@ -1,6 +1,6 @@
 package com.snow.popin.domain.chat.controller;
 
-import com.snow.popin.domain.chat.entity.ChatMessage;
+import com.snow.popin.domain.chat.dto.ChatHistoryResponseDto;
 import com.snow.popin.domain.chat.service.ChatService;
 import com.snow.popin.domain.spacereservation.entity.SpaceReservation;
 import com.snow.popin.domain.spacereservation.repository.SpaceReservationRepository;
@@ -14,9 +14,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Slf4j
 @RestController
@@ -27,26 +25,20 @@ public class ChatApiController {
     private final ChatService chatService;
     private final SpaceReservationRepository reservationRepository;
 
+    /**
+     * 채팅 기록 조회 - beforeId 없이 호출하면 최근 메시지, 이전 응답의 nextBeforeId 를 넘기면 그 이전 메시지
+     */
     @GetMapping("/{reservationId}/messages")
-    public ResponseEntity<List<Map<String, Object>>> getMessages(@PathVariable Long reservationId) {
-        log.info("[ChatApiController] 채팅 메시지 조회 요청: reservationId={}", reservationId);
-
-        List<ChatMessage> messages = chatService.getMessages(reservationId);
-
-        List<Map<String, Object>> result = messages.stream()
-                .map(m -> {
-                    Map<String, Object> map = new HashMap<>();
-                    map.put("id", m.getId());
-                    map.put("reservationId", reservationId);
-                    map.put("senderId", m.getSender().getId());
-                    map.put("content", m.getContent());
-                    map.put("sentAt", m.getSentAt());
-                    return map;
-                })
-                .collect(Collectors.toList());
-
-        log.info("[ChatApiController] 채팅 메시지 조회 성공: reservationId={}, count={}", reservationId, result.size());
-        return ResponseEntity.ok(result);
+    public ResponseEntity<ChatHistoryResponseDto> getMessages(@PathVariable Long reservationId,
+                                                              @RequestParam(required = false) Long beforeId,
+                                                              @RequestParam(required = false) Integer size) {
+        log.debug("[ChatApiController] 채팅 메시지 조회 요청: reservationId={}, beforeId={}", reservationId, beforeId);
+
+        ChatHistoryResponseDto history = chatService.getMessages(reservationId, beforeId, size);
+
+        log.debug("[ChatApiController] 채팅 메시지 조회 성공: reservationId={}, count={}",
+                reservationId, history.getMessages().size());
+        return ResponseEntity.ok(history);
     }
 
     @GetMapping("/{reservationId}/context")
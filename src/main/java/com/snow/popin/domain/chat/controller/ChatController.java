@@ -1,12 +1,13 @@
 package com.snow.popin.domain.chat.controller;
 
 import com.snow.popin.domain.chat.dto.ChatMessageDto;
-import com.snow.popin.domain.chat.entity.ChatMessage;
 import com.snow.popin.domain.chat.service.ChatService;
+import com.snow.popin.global.websocket.StompTopicPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.annotation.SendToUser;
 import org.springframework.stereotype.Controller;
 
 import java.util.HashMap;
@@ -18,43 +19,38 @@ import java.util.Map;
 public class ChatController {
 
     private final ChatService chatService;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final StompTopicPublisher stompTopicPublisher;
 
     @MessageMapping("/chat.send")
     public void sendMessage(ChatMessageDto dto) {
-        log.info("[ChatController] 채팅 메시지 수신: reservationId={}, senderId={}, content={}",
-                dto.getReservationId(), dto.getSenderId(), dto.getContent());
-
-        try {
-            ChatMessage saved = chatService.saveMessage(
-                    dto.getReservationId(),
-                    dto.getContent(),
-                    dto.getSenderId()
-            );
-
-            log.info("[ChatController] 채팅 메시지 저장 성공: id={}, reservationId={}",
-                    saved.getId(), saved.getReservation().getId());
-
-            ChatMessageDto response = new ChatMessageDto(saved);
-
-            messagingTemplate.convertAndSend(
-                    "/topic/reservation/" + dto.getReservationId(),
-                    response
-            );
-
-            log.info("[ChatController] 채팅 메시지 브로드캐스트 완료: reservationId={}", dto.getReservationId());
-
-        } catch (Exception e) {
-            log.error("[ChatController] 채팅 메시지 처리 실패: reservationId={}, senderId={}, error={}",
-                    dto.getReservationId(), dto.getSenderId(), e.getMessage(), e);
-
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("error", "메시지 전송 실패: " + e.getMessage());
+        log.debug("[ChatController] 채팅 메시지 수신: reservationId={}, senderId={}",
+                dto.getReservationId(), dto.getSenderId());
+
+        ChatMessageDto response = chatService.send(
+                dto.getReservationId(),
+                dto.getContent(),
+                dto.getSenderId()
+        );
+
+        stompTopicPublisher.publish(
+                "/topic/reservation/" + dto.getReservationId(),
+                response
+        );
+
+        log.debug("[ChatController] 채팅 메시지 브로드캐스트 완료: reservationId={}, seq={}",
+                dto.getReservationId(), response.getSeq());
+    }
 
-            messagingTemplate.convertAndSend(
-                    "/topic/reservation/" + dto.getReservationId(),
-                    errorResponse
-            );
-        }
+    /**
+     * 전송 실패는 보낸 세션에만 알린다 (방 토픽으로 보내면 다른 참여자 화면에도 오류가 뜬다)
+     */
+    @MessageExceptionHandler
+    @SendToUser(destinations = "/queue/chat-errors", broadcast = false)
+    public Map<String, Object> handleSendFailure(Exception e) {
+        log.error("[ChatController] 채팅 메시지 처리 실패: error={}", e.getMessage(), e);
+
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("error", "메시지 전송 실패: " + e.getMessage());
+        return errorResponse;
     }
 }
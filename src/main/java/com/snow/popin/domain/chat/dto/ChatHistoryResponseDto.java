@@ -0,0 +1,37 @@
+package com.snow.popin.domain.chat.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 채팅 기록 (오래된 순)
+ *
+ * hasMore 면 nextBeforeId 를 beforeId 로 넘겨 이전 메시지를 조회한다.
+ * 아직 저장되지 않은 메시지와 겹칠 수 있으므로 클라이언트는 seq 로 중복을 거른다.
+ */
+@Getter
+@Builder
+public class ChatHistoryResponseDto {
+    private final List<ChatMessageDto> messages;
+    private final boolean hasMore;
+    private final Long nextBeforeId;
+
+    public static ChatHistoryResponseDto of(List<ChatMessageDto> messages, boolean hasMore) {
+        // 가장 오래된 저장된 메시지가 다음 커서 (모두 저장 전이면 방 전체에서 이어 읽음)
+        Long nextBeforeId = null;
+        if (hasMore) {
+            nextBeforeId = messages.stream()
+                    .map(ChatMessageDto::getId)
+                    .filter(id -> id != null)
+                    .findFirst()
+                    .orElse(Long.MAX_VALUE);
+        }
+        return ChatHistoryResponseDto.builder()
+                .messages(messages)
+                .hasMore(hasMore)
+                .nextBeforeId(nextBeforeId)
+                .build();
+    }
+}
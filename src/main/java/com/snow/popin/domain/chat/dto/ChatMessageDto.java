@@ -1,6 +1,7 @@
 package com.snow.popin.domain.chat.dto;
 
 import com.snow.popin.domain.chat.entity.ChatMessage;
+import com.snow.popin.domain.user.entity.User;
 import lombok.*;
 
 @Getter
@@ -9,33 +10,47 @@ import lombok.*;
 @AllArgsConstructor
 @Builder
 public class ChatMessageDto {
+    private Long id; // 저장 전이면 null
     private Long reservationId;
     private Long senderId;
     private String senderName;
     private String content;
     private String sentAt;
+    private Long seq;
 
-    public ChatMessageDto(ChatMessage message) {
-        this.reservationId = message.getReservation().getId();
-        this.senderId = message.getSender().getId();
+    /**
+     * 저장된 메시지 (보낸 사람 이름은 채팅방 정보에서 - sender 를 초기화하지 않음)
+     */
+    public static ChatMessageDto of(ChatMessage message, Long reservationId, String senderName) {
+        return ChatMessageDto.builder()
+                .id(message.getId())
+                .reservationId(reservationId)
+                .senderId(message.getSenderId())
+                .senderName(senderName)
+                .content(message.getContent())
+                .sentAt(message.getSentAt() != null ? message.getSentAt().toString() : null)
+                .seq(message.getSeq())
+                .build();
+    }
+
+    public ChatMessageDto copy() {
+        return new ChatMessageDto(id, reservationId, senderId, senderName, content, sentAt, seq);
+    }
 
-        // 닉네임 우선순위 처리
-        String nickname = message.getSender().getNickname();
-        String name = message.getSender().getName();
-        String email = message.getSender().getEmail();
+    // 닉네임 우선순위 처리
+    public static String displayName(User user) {
+        String nickname = user.getNickname();
+        String name = user.getName();
+        String email = user.getEmail();
 
         if (nickname != null && !nickname.trim().isEmpty()) {
-            this.senderName = nickname;
+            return nickname;
         } else if (name != null && !name.trim().isEmpty()) {
-            this.senderName = name;
+            return name;
         } else if (email != null && !email.trim().isEmpty()) {
             String[] emailParts = email.split("@");
-            this.senderName = emailParts.length > 0 ? emailParts[0] : "익명";
-        } else {
-            this.senderName = "익명";
+            return emailParts.length > 0 ? emailParts[0] : "익명";
         }
-
-        this.content = message.getContent();
-        this.sentAt = message.getSentAt().toString();
+        return "익명";
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,19 @@
+package com.snow.popin.domain.chat.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 브로드캐스트는 끝났고 아직 DB 에 저장되지 않은 채팅 메시지
+ */
+@Getter
+@RequiredArgsConstructor(staticName = "of")
+public class PendingChatMessage {
+    private final Long reservationId;
+    private final Long senderId;
+    private final String content;
+    private final LocalDateTime sentAt;
+    private final long seq;
+}
@@ -9,7 +9,11 @@ import javax.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "chat_message")
+@Table(name = "chat_message", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_chat_message_reservation_seq", columnNames = {"reservation_id", "seq"})
+}, indexes = {
+        @Index(name = "idx_chat_message_reservation_id", columnList = "reservation_id, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -28,11 +32,16 @@ public class ChatMessage extends BaseEntity {
     @JoinColumn(name = "sender_id", nullable = false)
     private User sender;
 
+    @Column(name = "sender_id", insertable = false, updatable = false)
+    private Long senderId; // 기록 조회 시 sender 를 초기화하지 않고 ID 만 읽기 위한 읽기 전용 매핑
+
     @Column(nullable = false, length = 1000)
     private String content;
 
     private LocalDateTime sentAt;
 
+    private Long seq; // 채팅방(예약)별 메시지 순번
+
     @PrePersist
     public void prePersist() {
         if (this.sentAt == null) {
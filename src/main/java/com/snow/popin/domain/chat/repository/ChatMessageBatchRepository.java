@@ -0,0 +1,62 @@
+package com.snow.popin.domain.chat.repository;
+
+import com.snow.popin.domain.chat.dto.PendingChatMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageBatchRepository {
+
+    private static final String INSERT_CHAT_MESSAGE_SQL =
+            "INSERT INTO chat_message (reservation_id, sender_id, content, sent_at, seq, "
+                    + "created_at, updated_at, created_by, modified_by) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditorAware<String> auditorAware;
+
+    /**
+     * 채팅 메시지를 배치 INSERT 로 저장하고 생성된 ID 를 입력 순서대로 반환
+     * (IDENTITY 키라 JPA 로는 배치가 되지 않으므로 JDBC 로 직접)
+     */
+    public List<Long> insertAll(List<PendingChatMessage> messages) {
+        String auditor = auditorAware.getCurrentAuditor().orElse("");
+
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            List<Long> ids = new ArrayList<>(messages.size());
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_CHAT_MESSAGE_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (PendingChatMessage message : messages) {
+                    Timestamp sentAt = Timestamp.valueOf(message.getSentAt());
+                    ps.setLong(1, message.getReservationId());
+                    ps.setLong(2, message.getSenderId());
+                    ps.setString(3, message.getContent());
+                    ps.setTimestamp(4, sentAt);
+                    ps.setLong(5, message.getSeq());
+                    ps.setTimestamp(6, sentAt);
+                    ps.setTimestamp(7, sentAt);
+                    ps.setString(8, auditor);
+                    ps.setString(9, auditor);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+            }
+            return ids;
+        });
+    }
+}
@@ -1,10 +1,21 @@
 package com.snow.popin.domain.chat.repository;
 
 import com.snow.popin.domain.chat.entity.ChatMessage;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
-    List<ChatMessage> findByReservationIdOrderBySentAtAsc(Long reservationId);
+
+    // 방의 최근 메시지 (최신순)
+    List<ChatMessage> findByReservationIdOrderByIdDesc(Long reservationId, Pageable pageable);
+
+    // 커서(id) 이전 메시지 (최신순, (reservation_id, id) 인덱스에서 바로 이어 읽음)
+    List<ChatMessage> findByReservationIdAndIdLessThanOrderByIdDesc(Long reservationId, Long beforeId, Pageable pageable);
+
+    @Query("SELECT COALESCE(MAX(m.seq), 0) FROM ChatMessage m WHERE m.reservation.id = :reservationId")
+    long findMaxSeqByReservationId(@Param("reservationId") Long reservationId);
 }
@@ -0,0 +1,153 @@
+package com.snow.popin.domain.chat.service;
+
+import com.snow.popin.domain.chat.dto.ChatHistoryResponseDto;
+import com.snow.popin.domain.chat.dto.ChatMessageDto;
+import com.snow.popin.global.config.ChatProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅방별 최근 메시지 링 버퍼
+ *
+ * 방에 들어올 때 DB 를 읽지 않고 최근 recent-size 개를 바로 돌려준다.
+ * 처음 조회할 때만 DB 에서 최근 메시지를 읽어 채우고, 이후에는 보낸 메시지를 순번 순서대로 덧붙인다.
+ * 아직 저장되지 않은 메시지도 들어 있으며, 저장되면 ChatMessageWriter 가 ID 를 채운다.
+ *
+ * 최대 max-rooms 개 방을 보관하고 가장 오래 쓰이지 않은 방부터 밀려난다.
+ */
+@Component
+public class ChatHistoryBuffer {
+
+    // 순번이 없는 (순번 도입 전) 메시지가 가장 오래된 것, 그다음은 순번 순
+    private static final Comparator<ChatMessageDto> CHRONOLOGICAL =
+            Comparator.comparing((ChatMessageDto message) -> message.getSeq() != null)
+                    .thenComparing(ChatMessageDto::getSeq, Comparator.nullsFirst(Comparator.naturalOrder()))
+                    .thenComparing(ChatMessageDto::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final int recentSize;
+    private final int maxRooms;
+    private final LinkedHashMap<Long, RoomHistory> rooms = new LinkedHashMap<>(16, 0.75f, true);
+
+    public ChatHistoryBuffer(ChatProperties chatProperties) {
+        this.recentSize = chatProperties.getHistory().getRecentSize();
+        this.maxRooms = chatProperties.getHistory().getMaxRooms();
+    }
+
+    /**
+     * 보낸 메시지 추가 (방별 순번 순서대로 호출)
+     */
+    public void append(ChatMessageDto message) {
+        RoomHistory history = history(message.getReservationId());
+        synchronized (history) {
+            history.add(message.copy(), recentSize);
+        }
+    }
+
+    /**
+     * 저장된 메시지의 ID 반영
+     */
+    public void markPersisted(Long reservationId, long seq, Long id) {
+        RoomHistory history;
+        synchronized (this) {
+            history = rooms.get(reservationId);
+        }
+        if (history == null) {
+            return;
+        }
+        synchronized (history) {
+            for (Iterator<ChatMessageDto> it = history.messages.descendingIterator(); it.hasNext(); ) {
+                ChatMessageDto message = it.next();
+                if (message.getSeq() != null && message.getSeq() == seq) {
+                    message.setId(id);
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 최근 메시지 (오래된 순)
+     *
+     * 처음이면 loader 로 DB 의 최근 메시지(최신순, 요청한 개수만큼)를 읽어 채운다.
+     * loader 는 이 방의 버퍼 락 안에서 실행되므로 다른 락을 잡지 않아야 한다.
+     */
+    public ChatHistoryResponseDto recent(Long reservationId, IntFunction<List<ChatMessageDto>> loader) {
+        RoomHistory history = history(reservationId);
+        synchronized (history) {
+            if (!history.loaded) {
+                history.merge(loader.apply(recentSize + 1), recentSize);
+            }
+            List<ChatMessageDto> messages = history.messages.stream()
+                    .map(ChatMessageDto::copy)
+                    .collect(Collectors.toList());
+            return ChatHistoryResponseDto.of(messages, history.hasOlder);
+        }
+    }
+
+    synchronized int size() {
+        return rooms.size();
+    }
+
+    private synchronized RoomHistory history(Long reservationId) {
+        RoomHistory history = rooms.computeIfAbsent(reservationId, id -> new RoomHistory());
+
+        Iterator<Map.Entry<Long, RoomHistory>> eldest = rooms.entrySet().iterator();
+        while (rooms.size() > maxRooms && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+        }
+        return history;
+    }
+
+    private static final class RoomHistory {
+
+        private final Deque<ChatMessageDto> messages = new ArrayDeque<>();
+        private boolean loaded;     // DB 의 최근 메시지를 읽어 합쳤는지
+        private boolean hasOlder;   // 버퍼보다 오래된 메시지가 있는지
+
+        private void add(ChatMessageDto message, int recentSize) {
+            messages.addLast(message);
+            while (messages.size() > recentSize) {
+                messages.removeFirst();
+                hasOlder = true;
+            }
+        }
+
+        /**
+         * DB 에서 읽은 최근 메시지(최신순)와 버퍼에 있던 메시지를 합친다. 같은 순번은 한 번만
+         */
+        private void merge(List<ChatMessageDto> stored, int recentSize) {
+            Map<Long, ChatMessageDto> live = new HashMap<>();
+            for (ChatMessageDto message : messages) {
+                live.put(message.getSeq(), message);
+            }
+
+            List<ChatMessageDto> merged = new ArrayList<>(messages);
+            for (ChatMessageDto message : stored.subList(0, Math.min(stored.size(), recentSize))) {
+                ChatMessageDto same = message.getSeq() != null ? live.get(message.getSeq()) : null;
+                if (same != null) {
+                    same.setId(message.getId());
+                } else {
+                    merged.add(message);
+                }
+            }
+            merged.sort(CHRONOLOGICAL);
+
+            messages.clear();
+            merged.forEach(message -> add(message, recentSize));
+            hasOlder |= stored.size() > recentSize;
+            loaded = true;
+        }
+    }
+}
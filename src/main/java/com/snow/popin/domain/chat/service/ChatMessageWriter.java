@@ -0,0 +1,184 @@
+package com.snow.popin.domain.chat.service;
+
+import com.snow.popin.domain.chat.dto.PendingChatMessage;
+import com.snow.popin.domain.chat.repository.ChatMessageBatchRepository;
+import com.snow.popin.global.config.ChatProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메시지 지연 저장 (write-behind)
+ *
+ * 메시지는 브로드캐스트 직후 크기가 정해진 대기열에 넣고, 저장 스레드가 모아서 JDBC 배치로 INSERT 한다.
+ * 저장이 끝나면 생성된 ID 를 최근 메시지 버퍼에 알려 이전 메시지 조회 커서로 쓰게 한다.
+ * 대기열이 가득 차면 offer-timeout 만큼 기다린 뒤 전송을 실패시켜 메모리가 무한히 늘지 않게 한다.
+ *
+ * 보장 범위
+ * - 정상 종료: 새 메시지를 받지 않고 shutdown-timeout 안에서 남은 메시지를 모두 저장한다.
+ * - 저장 실패: 배치를 max-attempts 번 다시 시도하고, 그래도 실패하면 한 건씩 저장해 문제 있는 메시지만 버린다.
+ *   이미 저장된 메시지(방, 순번 중복)는 저장된 것으로 본다.
+ * - 비정상 종료(프로세스 강제 종료 등): 대기열에 남아 있던 메시지(보통 flush-interval 이내 분량)는 유실될 수 있다.
+ */
+@Slf4j
+@Component
+public class ChatMessageWriter {
+
+    private final ChatMessageBatchRepository chatMessageBatchRepository;
+    private final ChatHistoryBuffer chatHistoryBuffer;
+    private final TransactionTemplate transactionTemplate;
+    private final ChatProperties.Persistence properties;
+    private final BlockingQueue<PendingChatMessage> queue;
+
+    private volatile boolean accepting = true;
+    private volatile Thread worker;
+
+    public ChatMessageWriter(ChatMessageBatchRepository chatMessageBatchRepository,
+                             ChatHistoryBuffer chatHistoryBuffer,
+                             TransactionTemplate transactionTemplate,
+                             ChatProperties chatProperties) {
+        this.chatMessageBatchRepository = chatMessageBatchRepository;
+        this.chatHistoryBuffer = chatHistoryBuffer;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = chatProperties.getPersistence();
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+    }
+
+    /**
+     * 저장 대기열에 추가. 대기열이 계속 가득 차 있거나 종료 중이면 IllegalStateException
+     */
+    public void enqueue(PendingChatMessage message) {
+        if (!accepting) {
+            throw new IllegalStateException("서버가 종료 중입니다. 잠시 후 다시 시도해 주세요.");
+        }
+        boolean offered;
+        try {
+            offered = queue.offer(message, properties.getOfferTimeout(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            offered = false;
+        }
+        if (!offered) {
+            log.warn("[ChatMessageWriter] 저장 대기열 가득 참: reservationId={}, pending={}",
+                    message.getReservationId(), queue.size());
+            throw new IllegalStateException("메시지가 많아 잠시 후 다시 시도해 주세요.");
+        }
+    }
+
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    @PostConstruct
+    public synchronized void start() {
+        if (worker != null) {
+            return;
+        }
+        worker = new Thread(this::run, "chat-message-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * 새 메시지를 막고, 남은 메시지를 저장할 때까지 (최대 shutdown-timeout) 기다린다
+     */
+    @PreDestroy
+    public void shutdown() {
+        accepting = false;
+        Thread current;
+        synchronized (this) {
+            current = worker;
+            worker = null;
+        }
+        if (current == null) {
+            return;
+        }
+
+        try {
+            current.join(properties.getShutdownTimeout());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (current.isAlive()) {
+            current.interrupt();
+            log.error("[ChatMessageWriter] 종료 대기 시간 초과 - 저장하지 못한 메시지: {}건", queue.size());
+        } else {
+            log.info("[ChatMessageWriter] 남은 채팅 메시지 저장 후 종료");
+        }
+    }
+
+    private void run() {
+        List<PendingChatMessage> batch = new ArrayList<>(properties.getBatchSize());
+        while (true) {
+            try {
+                PendingChatMessage first = queue.poll(properties.getFlushInterval(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    if (worker == null && queue.isEmpty()) {
+                        return; // 종료 요청 후 대기열을 모두 비웠음
+                    }
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, properties.getBatchSize() - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("[ChatMessageWriter] 채팅 메시지 저장 처리 실패", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 배치 저장 (재시도 후에도 실패하면 한 건씩)
+     */
+    void flush(List<PendingChatMessage> batch) throws InterruptedException {
+        for (int attempt = 1; attempt <= properties.getMaxAttempts(); attempt++) {
+            try {
+                insert(batch);
+                return;
+            } catch (RuntimeException e) {
+                log.warn("[ChatMessageWriter] 배치 저장 실패 ({}/{}): size={}",
+                        attempt, properties.getMaxAttempts(), batch.size(), e);
+                if (attempt < properties.getMaxAttempts()) {
+                    Thread.sleep(properties.getFlushInterval() * attempt);
+                }
+            }
+        }
+
+        for (PendingChatMessage message : batch) {
+            try {
+                insert(List.of(message));
+            } catch (DuplicateKeyException e) {
+                log.debug("[ChatMessageWriter] 이미 저장된 메시지: reservationId={}, seq={}",
+                        message.getReservationId(), message.getSeq());
+            } catch (RuntimeException e) {
+                log.error("[ChatMessageWriter] 메시지 저장 실패 - 버림: reservationId={}, seq={}, senderId={}",
+                        message.getReservationId(), message.getSeq(), message.getSenderId(), e);
+            }
+        }
+    }
+
+    private void insert(List<PendingChatMessage> messages) {
+        List<Long> ids = transactionTemplate.execute(status -> chatMessageBatchRepository.insertAll(messages));
+        if (ids == null) {
+            return;
+        }
+        for (int i = 0; i < ids.size() && i < messages.size(); i++) {
+            PendingChatMessage message = messages.get(i);
+            chatHistoryBuffer.markPersisted(message.getReservationId(), message.getSeq(), ids.get(i));
+        }
+    }
+}
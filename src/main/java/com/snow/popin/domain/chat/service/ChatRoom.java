@@ -0,0 +1,51 @@
+package com.snow.popin.domain.chat.service;
+
+import com.snow.popin.domain.chat.dto.ChatMessageDto;
+import com.snow.popin.domain.spacereservation.entity.ReservationStatus;
+import com.snow.popin.domain.spacereservation.entity.SpaceReservation;
+import com.snow.popin.domain.user.entity.User;
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 채팅방(공간 예약) 정보 - 참여자는 예약한 호스트와 공간 소유자
+ */
+@Getter
+public class ChatRoom {
+
+    private final Long reservationId;
+    private final ReservationStatus status;
+    private final Map<Long, String> members; // userId → 표시 이름
+
+    ChatRoom(Long reservationId, ReservationStatus status, Map<Long, String> members) {
+        this.reservationId = reservationId;
+        this.status = status;
+        this.members = Map.copyOf(members);
+    }
+
+    static ChatRoom from(SpaceReservation reservation) {
+        Map<Long, String> members = new LinkedHashMap<>();
+        User host = reservation.getHost();
+        User owner = reservation.getSpace().getOwner();
+        members.put(host.getId(), ChatMessageDto.displayName(host));
+        members.putIfAbsent(owner.getId(), ChatMessageDto.displayName(owner));
+        return new ChatRoom(reservation.getId(), reservation.getStatus(), members);
+    }
+
+    public boolean isMember(Long userId) {
+        return userId != null && members.containsKey(userId);
+    }
+
+    /**
+     * 거절, 취소된 예약은 채팅 불가
+     */
+    public boolean isClosed() {
+        return status == ReservationStatus.REJECTED || status == ReservationStatus.CANCELLED;
+    }
+
+    public String displayName(Long userId) {
+        return members.getOrDefault(userId, "익명");
+    }
+}
@@ -0,0 +1,122 @@
+package com.snow.popin.domain.chat.service;
+
+import com.snow.popin.domain.chat.repository.ChatMessageRepository;
+import com.snow.popin.domain.spacereservation.repository.SpaceReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.snow.popin.global.util.TransactionUtil.afterCommit;
+
+/**
+ * 채팅방 정보와 방별 메시지 순번
+ *
+ * 메시지마다 예약, 사용자를 조회하지 않도록 참여자와 상태를 방 단위로 캐시하고,
+ * 예약 상태가 바뀌면 커밋 이후 무효화해 다음 메시지에서 다시 읽는다.
+ *
+ * 순번은 방을 처음 쓸 때 DB 의 최대 순번에서 이어가며, 무효화되어도 유지된다.
+ * 종료 시 저장 대기 메시지를 모두 저장하므로 재시작 후에도 순번이 겹치지 않는다 (단일 노드 기준).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomRegistry {
+
+    private final SpaceReservationRepository spaceReservationRepository;
+    private final ChatMessageRepository chatMessageRepository;
+
+    private final ConcurrentMap<Long, RoomState> rooms = new ConcurrentHashMap<>();
+
+    /**
+     * 다음 순번으로 메시지 추가
+     *
+     * 같은 방의 append 는 순번 순서대로 하나씩 실행되고, action 이 예외를 던지면 순번을 쓰지 않는다.
+     */
+    public <T> T append(Long reservationId, MessageAppender<T> action) {
+        while (true) {
+            RoomState state = rooms.computeIfAbsent(reservationId, id -> new RoomState());
+            synchronized (state) {
+                if (state.removed) {
+                    continue;
+                }
+                ChatRoom room = loadIfStale(reservationId, state);
+                long seq = state.lastSeq + 1;
+                T result = action.append(room, seq);
+                state.lastSeq = seq;
+                return result;
+            }
+        }
+    }
+
+    /**
+     * 방 정보 (캐시에 없으면 적재)
+     */
+    public ChatRoom room(Long reservationId) {
+        while (true) {
+            RoomState state = rooms.computeIfAbsent(reservationId, id -> new RoomState());
+            synchronized (state) {
+                if (!state.removed) {
+                    return loadIfStale(reservationId, state);
+                }
+            }
+        }
+    }
+
+    /**
+     * 예약 상태 변경 시 방 정보 무효화 (트랜잭션 안에서 호출되면 커밋 이후 반영, 순번은 유지)
+     */
+    public void invalidate(Long reservationId) {
+        afterCommit(() -> evict(reservationId));
+    }
+
+    int size() {
+        return rooms.size();
+    }
+
+    private ChatRoom loadIfStale(Long reservationId, RoomState state) {
+        if (state.room != null) {
+            return state.room;
+        }
+        try {
+            state.room = spaceReservationRepository.findWithMembersById(reservationId)
+                    .map(ChatRoom::from)
+                    .orElseThrow(() -> new IllegalArgumentException("예약을 찾을 수 없습니다."));
+            if (state.lastSeq < 0) {
+                state.lastSeq = chatMessageRepository.findMaxSeqByReservationId(reservationId);
+            }
+        } catch (RuntimeException e) {
+            if (state.lastSeq < 0) {
+                // 한 번도 쓰지 못한 방은 남기지 않는다 (없는 예약 ID 로 캐시가 커지지 않도록)
+                state.removed = true;
+                rooms.remove(reservationId, state);
+            }
+            throw e;
+        }
+        log.debug("[ChatRoomRegistry] 채팅방 적재: reservationId={}, status={}, lastSeq={}",
+                reservationId, state.room.getStatus(), state.lastSeq);
+        return state.room;
+    }
+
+    private void evict(Long reservationId) {
+        RoomState state = rooms.get(reservationId);
+        if (state != null) {
+            synchronized (state) {
+                state.room = null;
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface MessageAppender<T> {
+        T append(ChatRoom room, long seq);
+    }
+
+    private static final class RoomState {
+        private ChatRoom room;      // null 이면 다음 append 때 다시 적재
+        private long lastSeq = -1;  // -1 이면 아직 DB 에서 읽지 않음
+        private boolean removed;
+    }
+}
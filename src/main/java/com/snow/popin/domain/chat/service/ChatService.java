@@ -1,19 +1,22 @@
 package com.snow.popin.domain.chat.service;
 
+import com.snow.popin.domain.chat.dto.ChatHistoryResponseDto;
+import com.snow.popin.domain.chat.dto.ChatMessageDto;
+import com.snow.popin.domain.chat.dto.PendingChatMessage;
 import com.snow.popin.domain.chat.entity.ChatMessage;
 import com.snow.popin.domain.chat.repository.ChatMessageRepository;
-import com.snow.popin.domain.spacereservation.entity.ReservationStatus;
-import com.snow.popin.domain.spacereservation.entity.SpaceReservation;
-import com.snow.popin.domain.spacereservation.repository.SpaceReservationRepository;
-import com.snow.popin.domain.user.entity.User;
-import com.snow.popin.domain.user.repository.UserRepository;
+import com.snow.popin.global.config.ChatProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -21,52 +24,83 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class ChatService {
 
+    private static final int MAX_CONTENT_LENGTH = 1000;
+
     private final ChatMessageRepository chatMessageRepository;
-    private final SpaceReservationRepository reservationRepository;
-    private final UserRepository userRepository;
+    private final ChatRoomRegistry chatRoomRegistry;
+    private final ChatMessageWriter chatMessageWriter;
+    private final ChatHistoryBuffer chatHistoryBuffer;
+    private final ChatProperties chatProperties;
 
-    @Transactional
-    public ChatMessage saveMessage(Long reservationId, String content, Long senderId) {
-        log.info("[ChatService] 메시지 저장 요청: reservationId={}, senderId={}, content={}",
-                reservationId, senderId, content);
+    /**
+     * 채팅 메시지 전송
+     *
+     * 캐시된 방 정보로 참여자, 예약 상태를 확인하고 방별 순번을 매긴 뒤 저장 대기열에 넣는다.
+     * DB 저장은 ChatMessageWriter 가 나중에 모아서 하므로 브로드캐스트는 INSERT 를 기다리지 않는다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ChatMessageDto send(Long reservationId, String content, Long senderId) {
+        if (content == null || content.isBlank()) {
+            throw new IllegalArgumentException("메시지를 입력해 주세요.");
+        }
+        if (content.length() > MAX_CONTENT_LENGTH) {
+            throw new IllegalArgumentException("메시지는 " + MAX_CONTENT_LENGTH + "자까지 보낼 수 있습니다.");
+        }
 
-        SpaceReservation reservation = reservationRepository.findById(reservationId)
-                .orElseThrow(() -> {
-                    log.error("[ChatService] 예약을 찾을 수 없음: reservationId={}", reservationId);
-                    return new IllegalArgumentException("예약을 찾을 수 없습니다.");
-                });
+        return chatRoomRegistry.append(reservationId, (room, seq) -> {
+            if (!room.isMember(senderId)) {
+                log.warn("[ChatService] 채팅방 참여자가 아님: reservationId={}, senderId={}", reservationId, senderId);
+                throw new IllegalArgumentException("채팅방 참여자가 아닙니다.");
+            }
+            if (room.isClosed()) {
+                log.warn("[ChatService] 채팅 불가 상태: reservationId={}, status={}", reservationId, room.getStatus());
+                throw new IllegalStateException("이 예약 상태에서는 채팅할 수 없습니다.");
+            }
 
-        User sender = userRepository.findById(senderId)
-                .orElseThrow(() -> {
-                    log.error("[ChatService] 사용자를 찾을 수 없음: senderId={}", senderId);
-                    return new IllegalArgumentException("사용자를 찾을 수 없습니다.");
-                });
+            LocalDateTime sentAt = LocalDateTime.now();
+            chatMessageWriter.enqueue(PendingChatMessage.of(reservationId, senderId, content, sentAt, seq));
 
-        if (reservation.getStatus() == ReservationStatus.REJECTED ||
-                reservation.getStatus() == ReservationStatus.CANCELLED) {
-            log.warn("[ChatService] 채팅 불가 상태: reservationId={}, status={}",
-                    reservationId, reservation.getStatus());
-            throw new IllegalStateException("이 예약 상태에서는 채팅할 수 없습니다.");
-        }
+            ChatMessageDto message = ChatMessageDto.builder()
+                    .reservationId(reservationId)
+                    .senderId(senderId)
+                    .senderName(room.displayName(senderId))
+                    .content(content)
+                    .sentAt(sentAt.toString())
+                    .seq(seq)
+                    .build();
+            chatHistoryBuffer.append(message);
+            return message;
+        });
+    }
 
-        ChatMessage chatMessage = ChatMessage.builder()
-                .reservation(reservation)
-                .sender(sender)
-                .content(content)
-                .sentAt(LocalDateTime.now())
-                .build();
+    /**
+     * 채팅 기록 (오래된 순)
+     *
+     * beforeId 가 없으면 방의 최근 메시지를 링 버퍼에서 바로 돌려주고 (처음 한 번만 DB 조회),
+     * 있으면 그 이전 메시지를 (reservation_id, id) 인덱스로 size 개만 읽는다. 기록 길이와 관계없이 비용이 같다.
+     * 보낸 사람 이름은 채팅방 정보에서 가져오므로 sender 를 조회하지 않는다.
+     */
+    public ChatHistoryResponseDto getMessages(Long reservationId, Long beforeId, Integer size) {
+        // 버퍼 락 안에서 다른 락을 잡지 않도록 방 정보를 먼저 읽는다
+        ChatRoom room = chatRoomRegistry.room(reservationId);
 
-        ChatMessage saved = chatMessageRepository.save(chatMessage);
-        log.info("[ChatService] 메시지 저장 완료: id={}, reservationId={}, senderId={}",
-                saved.getId(), reservationId, senderId);
+        if (beforeId == null) {
+            return chatHistoryBuffer.recent(reservationId, limit -> chatMessageRepository
+                    .findByReservationIdOrderByIdDesc(reservationId, PageRequest.of(0, limit)).stream()
+                    .map(message -> ChatMessageDto.of(message, reservationId, room.displayName(message.getSenderId())))
+                    .collect(Collectors.toList()));
+        }
 
-        return saved;
-    }
+        ChatProperties.History history = chatProperties.getHistory();
+        int pageSize = size == null ? history.getPageSize() : Math.max(1, Math.min(size, history.getMaxPageSize()));
+        List<ChatMessage> rows = chatMessageRepository.findByReservationIdAndIdLessThanOrderByIdDesc(
+                reservationId, beforeId, PageRequest.of(0, pageSize + 1));
 
-    public List<ChatMessage> getMessages(Long reservationId) {
-        log.info("[ChatService] 메시지 목록 조회: reservationId={}", reservationId);
-        List<ChatMessage> messages = chatMessageRepository.findByReservationIdOrderBySentAtAsc(reservationId);
-        log.info("[ChatService] 메시지 조회 완료: reservationId={}, count={}", reservationId, messages.size());
-        return messages;
+        List<ChatMessageDto> messages = rows.stream()
+                .limit(pageSize)
+                .map(message -> ChatMessageDto.of(message, reservationId, room.displayName(message.getSenderId())))
+                .collect(Collectors.toList());
+        Collections.reverse(messages);
+        return ChatHistoryResponseDto.of(messages, rows.size() > pageSize);
     }
 }
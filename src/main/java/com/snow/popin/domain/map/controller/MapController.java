@@ -1,5 +1,6 @@
 package com.snow.popin.domain.map.controller;
 
+import com.snow.popin.domain.map.dto.MapClusterResponseDto;
 import com.snow.popin.domain.map.dto.PopupMapResponseDto;
 import com.snow.popin.domain.map.service.MapService;
 import lombok.RequiredArgsConstructor;
@@ -13,6 +14,8 @@ import org.springframework.web.bind.annotation.RestController;
 
 import javax.validation.constraints.DecimalMax;
 import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
 import java.util.List;
 import java.util.Map;
 
@@ -68,6 +71,23 @@ public class MapController {
         return ResponseEntity.ok(popups);
     }
 
+    // 범위 내 팝업 클러스터 조회 (축소 시 셀 단위 집계, 확대 시 개별 마커)
+    @GetMapping("/popups/clusters")
+    public ResponseEntity<MapClusterResponseDto> getClustersInBounds(
+            @RequestParam @DecimalMin(value = "-90.0") @DecimalMax(value = "90.0") double southWestLat,
+            @RequestParam @DecimalMin(value = "-180.0") @DecimalMax(value = "180.0") double southWestLng,
+            @RequestParam @DecimalMin(value = "-90.0") @DecimalMax(value = "90.0") double northEastLat,
+            @RequestParam @DecimalMin(value = "-180.0") @DecimalMax(value = "180.0") double northEastLng,
+            @RequestParam @Min(1) @Max(14) int level) {
+
+        log.info("범위 내 팝업 클러스터 조회 API 호출 - SW({}, {}), NE({}, {}), level: {}",
+                southWestLat, southWestLng, northEastLat, northEastLng, level);
+
+        MapClusterResponseDto response = mapService.getClustersInBounds(
+                southWestLat, southWestLng, northEastLat, northEastLng, level);
+        return ResponseEntity.ok(response);
+    }
+
     // 내 주변 팝업 조회 (현재 위치 기반)
     @GetMapping("/popups/nearby")
     public ResponseEntity<List<PopupMapResponseDto>> getNearbyPopups(
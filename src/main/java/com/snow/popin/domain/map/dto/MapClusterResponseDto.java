@@ -0,0 +1,51 @@
+package com.snow.popin.domain.map.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.List;
+
+@Getter
+@Builder
+public class MapClusterResponseDto {
+    private int level;
+    private boolean clustered;
+    private int totalCount;
+
+    // clustered = true 일 때만 채워짐
+    private List<Cluster> clusters;
+
+    // clustered = false 일 때만 채워짐
+    private List<PopupMapResponseDto> popups;
+
+    public static MapClusterResponseDto ofClusters(int level, int totalCount, List<Cluster> clusters) {
+        return MapClusterResponseDto.builder()
+                .level(level)
+                .clustered(true)
+                .totalCount(totalCount)
+                .clusters(clusters)
+                .popups(Collections.emptyList())
+                .build();
+    }
+
+    public static MapClusterResponseDto ofPopups(int level, List<PopupMapResponseDto> popups) {
+        return MapClusterResponseDto.builder()
+                .level(level)
+                .clustered(false)
+                .totalCount(popups.size())
+                .clusters(Collections.emptyList())
+                .popups(popups)
+                .build();
+    }
+
+    @Getter
+    @Builder
+    public static class Cluster {
+        private double latitude;   // 셀 내 팝업 좌표 평균
+        private double longitude;
+        private int count;
+        private String dominantCategoryName;
+        private Long popupId;      // count = 1 인 경우에만
+    }
+}
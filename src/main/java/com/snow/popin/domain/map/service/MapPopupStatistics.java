@@ -0,0 +1,199 @@
+package com.snow.popin.domain.map.service;
+
+import com.snow.popin.domain.popup.entity.Popup;
+import com.snow.popin.domain.popup.entity.PopupStatus;
+import com.snow.popin.domain.popup.event.PopupChangedEvent;
+import com.snow.popin.domain.popup.repository.PopupQueryDslRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static com.snow.popin.global.util.TransactionUtil.afterCommit;
+
+/**
+ * 지도 사이드바용 팝업 통계 (카테고리별, 지역별, 활성 지역 목록)
+ *
+ * 진행중/예정 팝업의 지역·카테고리 정보를 한 번 적재해 개수만 메모리에 들고 있고,
+ * 팝업 등록/수정/삭제, 장소 변경, 상태 변경 시 커밋 이후 해당 팝업의 기여분만 빼고 더한다.
+ * 조회는 집계된 개수를 복사해 돌려줄 뿐 쿼리를 실행하지 않는다.
+ *
+ * 집계 기준은 기존 GROUP BY 쿼리와 같다. 카테고리/지역 통계는 좌표가 있는 팝업만,
+ * 활성 지역 목록은 좌표와 관계없이 지역이 있는 팝업을 센다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MapPopupStatistics {
+
+    private final PopupQueryDslRepository popupQueryDslRepository;
+
+    private final Map<Long, Contribution> contributions = new HashMap<>();
+    private final Map<String, Long> categoryCounts = new HashMap<>();
+    private final Map<String, Map<String, Long>> categoryCountsByRegion = new HashMap<>();
+    private final Map<String, Long> regionCounts = new HashMap<>();
+    private final Map<String, Long> activeRegionCounts = new TreeMap<>();
+    private boolean loaded;
+
+    /**
+     * 카테고리별 팝업 수 (region 이 없거나 "전체"면 전체 지역)
+     */
+    public synchronized Map<String, Long> getCategoryCounts(String region) {
+        ensureLoaded();
+        if (!StringUtils.hasText(region) || "전체".equals(region)) {
+            return new HashMap<>(categoryCounts);
+        }
+        return new HashMap<>(categoryCountsByRegion.getOrDefault(region, Map.of()));
+    }
+
+    /**
+     * 지역별 팝업 수
+     */
+    public synchronized Map<String, Long> getRegionCounts() {
+        ensureLoaded();
+        return new HashMap<>(regionCounts);
+    }
+
+    /**
+     * 진행중/예정 팝업이 있는 지역 목록 (가나다순)
+     */
+    public synchronized List<String> getActiveRegions() {
+        ensureLoaded();
+        return new ArrayList<>(activeRegionCounts.keySet());
+    }
+
+    /**
+     * 팝업 변경 반영 (장소 정보가 바뀌면 그 장소 팝업의 좌표가 모두 바뀔 수 있어 전체 무효화)
+     */
+    @EventListener
+    public void onPopupChanged(PopupChangedEvent event) {
+        event.getPopups().forEach(this::upsert);
+        event.getDeletedIds().forEach(this::delete);
+        if (event.getVenueId() != null) {
+            invalidateAll();
+        }
+    }
+
+    /**
+     * 팝업 반영 (트랜잭션 안에서는 커밋 이후 반영)
+     */
+    public void upsert(Popup popup) {
+        Long popupId = popup.getId();
+        Contribution contribution = Contribution.of(popup);
+        afterCommit(() -> apply(popupId, contribution));
+    }
+
+    /**
+     * 팝업 제거 (트랜잭션 안에서는 커밋 이후 반영)
+     */
+    public void delete(Long popupId) {
+        afterCommit(() -> apply(popupId, null));
+    }
+
+    /**
+     * 전체 무효화 (다음 조회 시 다시 적재)
+     */
+    public void invalidateAll() {
+        afterCommit(() -> {
+            synchronized (this) {
+                loaded = false;
+                log.info("[MapPopupStatistics] 통계 무효화");
+            }
+        });
+    }
+
+    // 적재 전 변경은 버린다 (적재 시 DB에서 최신 상태를 읽음)
+    private synchronized void apply(Long popupId, Contribution contribution) {
+        if (!loaded) {
+            return;
+        }
+        Contribution previous = contribution != null
+                ? contributions.put(popupId, contribution)
+                : contributions.remove(popupId);
+        if (previous != null) {
+            count(previous, -1);
+        }
+        if (contribution != null) {
+            count(contribution, 1);
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        contributions.clear();
+        categoryCounts.clear();
+        categoryCountsByRegion.clear();
+        regionCounts.clear();
+        activeRegionCounts.clear();
+
+        for (Popup popup : popupQueryDslRepository.findActivePopupsWithVenue()) {
+            Contribution contribution = Contribution.of(popup);
+            if (contribution != null) {
+                contributions.put(popup.getId(), contribution);
+                count(contribution, 1);
+            }
+        }
+        loaded = true;
+        log.info("[MapPopupStatistics] 통계 적재 완료: popups={}, regions={}", contributions.size(), activeRegionCounts.size());
+    }
+
+    private void count(Contribution contribution, long delta) {
+        String region = contribution.region;
+        String category = contribution.categoryName;
+
+        if (region != null) {
+            add(activeRegionCounts, region, delta);
+        }
+        if (!contribution.hasCoordinates) {
+            return;
+        }
+        if (region != null) {
+            add(regionCounts, region, delta);
+        }
+        if (category != null) {
+            add(categoryCounts, category, delta);
+            if (region != null) {
+                Map<String, Long> byCategory = categoryCountsByRegion.computeIfAbsent(region, key -> new HashMap<>());
+                add(byCategory, category, delta);
+                if (byCategory.isEmpty()) {
+                    categoryCountsByRegion.remove(region);
+                }
+            }
+        }
+    }
+
+    private static void add(Map<String, Long> counts, String key, long delta) {
+        counts.merge(key, delta, (current, change) -> current + change > 0 ? current + change : null);
+    }
+
+    private static final class Contribution {
+        private final String region;
+        private final String categoryName;
+        private final boolean hasCoordinates;
+
+        private Contribution(String region, String categoryName, boolean hasCoordinates) {
+            this.region = region;
+            this.categoryName = categoryName;
+            this.hasCoordinates = hasCoordinates;
+        }
+
+        // 진행중/예정이 아니거나 장소가 없으면 집계 대상이 아니다
+        private static Contribution of(Popup popup) {
+            boolean active = popup.getStatus() == PopupStatus.ONGOING || popup.getStatus() == PopupStatus.PLANNED;
+            if (!active || popup.getVenue() == null) {
+                return null;
+            }
+            return new Contribution(popup.getRegion(), popup.getCategoryName(),
+                    popup.getLatitude() != null && popup.getLongitude() != null);
+        }
+    }
+}
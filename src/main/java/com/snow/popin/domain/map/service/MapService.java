@@ -1,5 +1,6 @@
 package com.snow.popin.domain.map.service;
 
+import com.snow.popin.domain.map.dto.MapClusterResponseDto;
 import com.snow.popin.domain.map.dto.PopupMapResponseDto;
 import com.snow.popin.domain.map.repository.MapQueryDslRepository;
 import com.snow.popin.domain.map.repository.MapRepository;
@@ -11,6 +12,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -21,15 +23,21 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class MapService {
 
+    // 카카오맵 레벨 (1 = 가장 확대). 이 레벨 이하에서는 개별 마커를 내려준다.
+    static final int MARKER_MAX_LEVEL = 5;
+    private static final double CLUSTER_CELL_DEGREES_PER_LEVEL = 0.0005;
+
     private final MapQueryDslRepository mapQueryDslRepository;
     private final PopupQueryDslRepository popupQueryDslRepository;
+    private final PopupSpatialIndex popupSpatialIndex;
+    private final MapPopupStatistics mapPopupStatistics;
 
     // 현재 활성화된 팝업이 있는 지역 목록 조회
     public List<String> getAllRegions() {
         log.info("지역 목록 조회 시작");
 
         try {
-            List<String> regions = mapQueryDslRepository.findDistinctRegionsWithActivePopups();
+            List<String> regions = mapPopupStatistics.getActiveRegions();
             log.info("지역 목록 조회 완료 - 총 {}개 지역", regions.size());
             return regions;
         } catch (Exception e) {
@@ -78,18 +86,53 @@ public class MapService {
             return List.of();
         }
 
-        List<Popup> popups = popupQueryDslRepository.findPopupsInBounds(
+        List<PopupMapResponseDto> mapPopups = popupSpatialIndex.findInBounds(
                 southWestLat, southWestLng, northEastLat, northEastLng);
 
-        List<PopupMapResponseDto> mapPopups = popups.stream()
-                .map(PopupMapResponseDto::from)
-                .filter(PopupMapResponseDto::hasValidCoordinates)
-                .collect(Collectors.toList());
-
         log.info("범위 내 팝업 조회 완료 - 총 {}개", mapPopups.size());
         return mapPopups;
     }
 
+    /**
+     * 범위 내 팝업 클러스터 조회
+     *
+     * 레벨이 한 단계 오를 때마다 지도 축척이 두 배가 되므로 셀 크기도 두 배로 키운다.
+     * 화면에 들어오는 셀 수가 레벨과 무관하게 비슷하게 유지되어 응답 크기가 팝업 수에 비례하지 않는다.
+     * 셀은 화면이 아니라 위경도 기준으로 고정되어 지도를 움직여도 클러스터가 흔들리지 않는다.
+     */
+    public MapClusterResponseDto getClustersInBounds(double southWestLat, double southWestLng,
+                                                     double northEastLat, double northEastLng, int level) {
+        log.info("범위 내 팝업 클러스터 조회 - SW({}, {}), NE({}, {}), level: {}",
+                southWestLat, southWestLng, northEastLat, northEastLng, level);
+
+        if (!isValidCoordinateRange(southWestLat, southWestLng, northEastLat, northEastLng)) {
+            log.warn("유효하지 않은 좌표 범위");
+            return MapClusterResponseDto.ofPopups(level, List.of());
+        }
+
+        List<PopupMapResponseDto> popups = popupSpatialIndex.findInBounds(
+                southWestLat, southWestLng, northEastLat, northEastLng);
+
+        if (level <= MARKER_MAX_LEVEL) {
+            return MapClusterResponseDto.ofPopups(level, popups);
+        }
+
+        double cellDegrees = CLUSTER_CELL_DEGREES_PER_LEVEL * (1 << level);
+        Map<Long, ClusterCell> cells = new HashMap<>();
+        for (PopupMapResponseDto popup : popups) {
+            long row = (long) Math.floor((popup.getLatitude() + 90) / cellDegrees);
+            long col = (long) Math.floor((popup.getLongitude() + 180) / cellDegrees);
+            cells.computeIfAbsent(row * 1_000_000L + col, key -> new ClusterCell()).add(popup);
+        }
+
+        List<MapClusterResponseDto.Cluster> clusters = cells.values().stream()
+                .map(ClusterCell::toCluster)
+                .collect(Collectors.toList());
+
+        log.info("범위 내 팝업 클러스터 조회 완료 - 팝업 {}개, 클러스터 {}개", popups.size(), clusters.size());
+        return MapClusterResponseDto.ofClusters(level, popups.size(), clusters);
+    }
+
     // 내 주변 팝업 조회 (반경 기반)
     public List<PopupMapResponseDto> getNearbyPopups(double latitude, double longitude, double radiusKm) {
         log.info("주변 팝업 조회 - 위치: ({}, {}), 반경: {}km", latitude, longitude, radiusKm);
@@ -100,12 +143,7 @@ public class MapService {
             return List.of();
         }
 
-        List<Popup> popups = popupQueryDslRepository.findPopupsWithinRadius(latitude, longitude, radiusKm);
-
-        List<PopupMapResponseDto> mapPopups = popups.stream()
-                .map(PopupMapResponseDto::from)
-                .filter(PopupMapResponseDto::hasValidCoordinates)
-                .collect(Collectors.toList());
+        List<PopupMapResponseDto> mapPopups = popupSpatialIndex.findWithinRadius(latitude, longitude, radiusKm);
 
         log.info("주변 팝업 조회 완료 - 총 {}개", mapPopups.size());
         return mapPopups;
@@ -117,14 +155,7 @@ public class MapService {
     public Map<String, Long> getMapPopupStatsByCategory(String region) {
         log.info("카테고리별 지도 팝업 통계 조회 - 지역: {}", region);
 
-        List<Object[]> results = popupQueryDslRepository.findMapPopupStatsByCategory(region);
-
-        Map<String, Long> stats = results.stream()
-                .collect(Collectors.toMap(
-                        row -> (String) row[0],
-                        row -> ((Number) row[1]).longValue(),
-                        Long::sum
-                ));
+        Map<String, Long> stats = mapPopupStatistics.getCategoryCounts(region);
 
         log.info("카테고리별 통계 조회 완료 - {}개 카테고리", stats.size());
         return stats;
@@ -136,14 +167,7 @@ public class MapService {
     public Map<String, Long> getMapPopupStatsByRegion() {
         log.info("지역별 지도 팝업 통계 조회 시작");
 
-        List<Object[]> results = popupQueryDslRepository.findMapPopupStatsByRegion();
-
-        Map<String, Long> stats = results.stream()
-                .collect(Collectors.toMap(
-                        row -> (String) row[0],  // 지역명
-                        row -> ((Number) row[1]).longValue(),// 개수
-                        Long::sum
-                ));
+        Map<String, Long> stats = mapPopupStatistics.getRegionCounts();
 
         log.info("지역별 통계 조회 완료 - {}개 지역", stats.size());
         return stats;
@@ -174,6 +198,42 @@ public class MapService {
         return popups;
     }
 
+    // 클러스터 셀 집계 (좌표 합계, 카테고리별 개수)
+    private static final class ClusterCell {
+        private double latitudeSum;
+        private double longitudeSum;
+        private int count;
+        private Long firstPopupId;
+        private final Map<String, Integer> categoryCounts = new HashMap<>();
+
+        private void add(PopupMapResponseDto popup) {
+            if (count == 0) {
+                firstPopupId = popup.getId();
+            }
+            latitudeSum += popup.getLatitude();
+            longitudeSum += popup.getLongitude();
+            count++;
+            if (popup.getCategoryName() != null) {
+                categoryCounts.merge(popup.getCategoryName(), 1, Integer::sum);
+            }
+        }
+
+        private MapClusterResponseDto.Cluster toCluster() {
+            String dominantCategory = categoryCounts.entrySet().stream()
+                    .max(Map.Entry.<String, Integer>comparingByValue().thenComparing(Map.Entry.comparingByKey()))
+                    .map(Map.Entry::getKey)
+                    .orElse(null);
+
+            return MapClusterResponseDto.Cluster.builder()
+                    .latitude(latitudeSum / count)
+                    .longitude(longitudeSum / count)
+                    .count(count)
+                    .dominantCategoryName(dominantCategory)
+                    .popupId(count == 1 ? firstPopupId : null)
+                    .build();
+        }
+    }
+
     //좌표 유효성 검증
     private boolean isValidCoordinate(double lat, double lng) {
         return lat >= -90 && lat <= 90 && lng >= -180 && lng <= 180;
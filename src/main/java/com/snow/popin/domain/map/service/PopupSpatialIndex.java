@@ -0,0 +1,278 @@
+package com.snow.popin.domain.map.service;
+
+import com.snow.popin.domain.map.dto.PopupMapResponseDto;
+import com.snow.popin.domain.popup.entity.Popup;
+import com.snow.popin.domain.popup.entity.PopupStatus;
+import com.snow.popin.domain.popup.event.PopupChangedEvent;
+import com.snow.popin.domain.popup.repository.PopupQueryDslRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static com.snow.popin.global.util.TransactionUtil.afterCommit;
+
+/**
+ * 지도용 팝업 공간 인덱스 (위경도 격자)
+ *
+ * 좌표가 있는 진행중/예정 팝업을 0.02도(약 2km) 격자 셀에 나눠 담고,
+ * 범위/반경 조회는 겹치는 셀만 훑어 DB 조회 없이 응답한다.
+ * 지도 응답 DTO와 라디안 좌표는 인덱싱 시점에 한 번만 계산해 둔다.
+ *
+ * 최초 조회 시 한 번 적재하고, 이후에는 팝업 등록/수정/삭제, 장소 변경, 상태 변경 시
+ * 커밋 이후 해당 팝업만 갱신한다. 인스턴스 메모리에만 있으므로 노드마다 따로 유지된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopupSpatialIndex {
+
+    private static final double CELL_DEGREES = 0.02;
+    private static final long LNG_CELLS = (long) Math.ceil(360 / CELL_DEGREES) + 1;
+    private static final double EARTH_RADIUS_KM = 6371.0;
+
+    private final PopupQueryDslRepository popupQueryDslRepository;
+
+    private final Map<Long, IndexedPopup> popupsById = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> popupIdsByCell = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    /**
+     * 범위 내 팝업 (최신 등록순)
+     */
+    public List<PopupMapResponseDto> findInBounds(double southWestLat, double southWestLng,
+                                                  double northEastLat, double northEastLng) {
+        ensureLoaded();
+
+        return collectCandidates(southWestLat, southWestLng, northEastLat, northEastLng).stream()
+                .filter(indexed -> indexed.isWithin(southWestLat, southWestLng, northEastLat, northEastLng))
+                .sorted(Comparator.comparing(IndexedPopup::getCreatedAt,
+                        Comparator.nullsLast(Comparator.reverseOrder())))
+                .map(IndexedPopup::getDto)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 반경 내 팝업 (가까운 순)
+     */
+    public List<PopupMapResponseDto> findWithinRadius(double latitude, double longitude, double radiusKm) {
+        ensureLoaded();
+
+        double latDelta = radiusKm / 111.0; // 1도 ≈ 111km
+        double lngDelta = radiusKm / (111.0 * Math.cos(Math.toRadians(latitude)));
+        double latRad = Math.toRadians(latitude);
+        double lngRad = Math.toRadians(longitude);
+        double cosLat = Math.cos(latRad);
+
+        List<Map.Entry<Double, PopupMapResponseDto>> withinRadius = new ArrayList<>();
+        for (IndexedPopup indexed : collectCandidates(latitude - latDelta, longitude - lngDelta,
+                latitude + latDelta, longitude + lngDelta)) {
+            double distance = indexed.distanceKm(latRad, lngRad, cosLat);
+            if (distance <= radiusKm) {
+                withinRadius.add(Map.entry(distance, indexed.getDto()));
+            }
+        }
+
+        withinRadius.sort(Map.Entry.comparingByKey());
+        return withinRadius.stream().map(Map.Entry::getValue).collect(Collectors.toList());
+    }
+
+    /**
+     * 팝업 변경 반영 (장소 정보가 바뀌면 그 장소 팝업의 좌표가 모두 바뀔 수 있어 전체 무효화)
+     */
+    @EventListener
+    public void onPopupChanged(PopupChangedEvent event) {
+        event.getPopups().forEach(this::upsert);
+        event.getDeletedIds().forEach(this::delete);
+        if (event.getVenueId() != null) {
+            invalidateAll();
+        }
+    }
+
+    /**
+     * 팝업 반영 (좌표가 없거나 진행중/예정이 아니면 제거, 트랜잭션 안에서는 커밋 이후 반영)
+     */
+    public void upsert(Popup popup) {
+        Long popupId = popup.getId();
+        IndexedPopup indexed = isIndexable(popup) ? IndexedPopup.from(popup) : null;
+        afterCommit(() -> apply(popupId, indexed));
+    }
+
+    /**
+     * 팝업 제거 (트랜잭션 안에서는 커밋 이후 반영)
+     */
+    public void delete(Long popupId) {
+        afterCommit(() -> apply(popupId, null));
+    }
+
+    /**
+     * 전체 무효화 (다음 조회 시 다시 적재)
+     */
+    public void invalidateAll() {
+        afterCommit(() -> {
+            synchronized (this) {
+                loaded = false;
+                log.info("[PopupSpatialIndex] 인덱스 무효화");
+            }
+        });
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            popupsById.clear();
+            popupIdsByCell.clear();
+            popupQueryDslRepository.findActivePopupsWithCoordinates().stream()
+                    .filter(PopupSpatialIndex::isIndexable)
+                    .map(IndexedPopup::from)
+                    .forEach(this::put);
+            loaded = true;
+            log.info("[PopupSpatialIndex] 인덱스 적재 완료: popups={}, cells={}", popupsById.size(), popupIdsByCell.size());
+        }
+    }
+
+    private Collection<IndexedPopup> collectCandidates(double minLat, double minLng, double maxLat, double maxLng) {
+        long minLatCell = latCell(Math.max(-90, minLat));
+        long maxLatCell = latCell(Math.min(90, maxLat));
+        long minLngCell = lngCell(Math.max(-180, minLng));
+        long maxLngCell = lngCell(Math.min(180, maxLng));
+
+        // 셀 수가 팝업 수보다 많으면 전체를 훑는 편이 빠르다
+        long cellCount = (maxLatCell - minLatCell + 1) * (maxLngCell - minLngCell + 1);
+        if (cellCount > popupsById.size()) {
+            return popupsById.values();
+        }
+
+        List<IndexedPopup> candidates = new ArrayList<>();
+        for (long latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+            for (long lngCell = minLngCell; lngCell <= maxLngCell; lngCell++) {
+                Set<Long> ids = popupIdsByCell.get(cellKey(latCell, lngCell));
+                if (ids == null) {
+                    continue;
+                }
+                for (Long id : ids) {
+                    IndexedPopup indexed = popupsById.get(id);
+                    if (indexed != null) {
+                        candidates.add(indexed);
+                    }
+                }
+            }
+        }
+        return candidates;
+    }
+
+    // 적재 전 변경은 버린다 (적재 시 DB에서 최신 상태를 읽음)
+    private synchronized void apply(Long popupId, IndexedPopup indexed) {
+        if (!loaded) {
+            return;
+        }
+        if (indexed != null) {
+            put(indexed);
+        } else {
+            remove(popupId);
+        }
+    }
+
+    private void put(IndexedPopup indexed) {
+        IndexedPopup previous = popupsById.put(indexed.getId(), indexed);
+        if (previous != null && previous.cellKey != indexed.cellKey) {
+            removeFromCell(previous);
+        }
+        popupIdsByCell.computeIfAbsent(indexed.cellKey, key -> ConcurrentHashMap.newKeySet()).add(indexed.getId());
+    }
+
+    private void remove(Long popupId) {
+        IndexedPopup previous = popupsById.remove(popupId);
+        if (previous != null) {
+            removeFromCell(previous);
+        }
+    }
+
+    private void removeFromCell(IndexedPopup indexed) {
+        popupIdsByCell.computeIfPresent(indexed.cellKey, (key, ids) -> {
+            ids.remove(indexed.getId());
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private static boolean isIndexable(Popup popup) {
+        return (popup.getStatus() == PopupStatus.ONGOING || popup.getStatus() == PopupStatus.PLANNED)
+                && popup.getLatitude() != null && popup.getLongitude() != null
+                && popup.getLatitude() >= -90 && popup.getLatitude() <= 90
+                && popup.getLongitude() >= -180 && popup.getLongitude() <= 180;
+    }
+
+    private static long latCell(double latitude) {
+        return (long) Math.floor((latitude + 90) / CELL_DEGREES);
+    }
+
+    private static long lngCell(double longitude) {
+        return (long) Math.floor((longitude + 180) / CELL_DEGREES);
+    }
+
+    private static long cellKey(long latCell, long lngCell) {
+        return latCell * LNG_CELLS + lngCell;
+    }
+
+    private static final class IndexedPopup {
+        private final PopupMapResponseDto dto;
+        private final LocalDateTime createdAt;
+        private final long cellKey;
+        private final double latRad;
+        private final double lngRad;
+        private final double cosLat;
+
+        private IndexedPopup(PopupMapResponseDto dto, LocalDateTime createdAt) {
+            this.dto = dto;
+            this.createdAt = createdAt;
+            this.cellKey = cellKey(latCell(dto.getLatitude()), lngCell(dto.getLongitude()));
+            this.latRad = Math.toRadians(dto.getLatitude());
+            this.lngRad = Math.toRadians(dto.getLongitude());
+            this.cosLat = Math.cos(latRad);
+        }
+
+        private static IndexedPopup from(Popup popup) {
+            return new IndexedPopup(PopupMapResponseDto.from(popup), popup.getCreatedAt());
+        }
+
+        private Long getId() {
+            return dto.getId();
+        }
+
+        private PopupMapResponseDto getDto() {
+            return dto;
+        }
+
+        private LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+
+        private boolean isWithin(double minLat, double minLng, double maxLat, double maxLng) {
+            return dto.getLatitude() >= minLat && dto.getLatitude() <= maxLat
+                    && dto.getLongitude() >= minLng && dto.getLongitude() <= maxLng;
+        }
+
+        // 하버사인 공식 (기준점의 라디안/코사인은 호출 측에서 한 번만 계산)
+        private double distanceKm(double originLatRad, double originLngRad, double originCosLat) {
+            double sinLat = Math.sin((latRad - originLatRad) / 2);
+            double sinLng = Math.sin((lngRad - originLngRad) / 2);
+            double a = sinLat * sinLat + originCosLat * cosLat * sinLng * sinLng;
+            return EARTH_RADIUS_KM * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+        }
+    }
+}
@@ -13,6 +13,7 @@ import com.snow.popin.domain.mypage.host.repository.HostRepository;
 import com.snow.popin.domain.popup.entity.Popup;
 import com.snow.popin.domain.popup.entity.PopupHours;
 import com.snow.popin.domain.popup.entity.Tag;
+import com.snow.popin.domain.popup.event.PopupChangedEvent;
 import com.snow.popin.domain.popup.repository.PopupHoursRepository;
 import com.snow.popin.domain.popup.repository.PopupRepository;
 import com.snow.popin.domain.popup.repository.TagRepository;
@@ -21,6 +22,7 @@ import com.snow.popin.global.constant.ErrorCode;
 import com.snow.popin.global.exception.GeneralException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
@@ -49,6 +51,7 @@ public class HostService {
     private final TagRepository tagRepository;
     private final CategoryRepository categoryRepository;
     private final MapRepository mapRepository;
+    private final ApplicationEventPublisher eventPublisher;
     /**
      * 팝업 등록
      *
@@ -86,6 +89,8 @@ public class HostService {
             popupHoursRepository.saveAll(hours);
         }
 
+        eventPublisher.publishEvent(PopupChangedEvent.updated(popup));
+
         log.info("[HostService] 팝업 등록 완료: popupId={}, userId={}", popup.getId(), user.getId());
         return popup.getId();
     }
@@ -164,6 +169,8 @@ public class HostService {
             popup.getTags().addAll(tags);
         }
 
+        eventPublisher.publishEvent(PopupChangedEvent.updated(popup));
+
         log.info("[HostService] 팝업 수정 완료: userId={}, popupId={}", user.getId(), id);
     }
 
@@ -187,6 +194,7 @@ public class HostService {
         }
 
         popupRepository.delete(popup);
+        eventPublisher.publishEvent(PopupChangedEvent.deleted(id));
         log.info("[HostService] 팝업 삭제 완료: userId={}, popupId={}", user.getId(), id);
     }
     /**
@@ -230,6 +238,7 @@ public class HostService {
 
         mapRepository.save(venue);
         popup.setVenue(venue);
+        eventPublisher.publishEvent(PopupChangedEvent.updated(popup));
 
         log.info("[HostService] 팝업 장소 등록 완료: popupId={}, venueId={}, region={}",
                 popupId, venue.getId(), venue.getRegion());
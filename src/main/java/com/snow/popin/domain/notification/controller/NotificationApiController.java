@@ -1,20 +1,19 @@
 package com.snow.popin.domain.notification.controller;
 
-import com.snow.popin.domain.notification.dto.response.NotificationResponseDto;
-import com.snow.popin.domain.notification.entity.Notification;
+import com.snow.popin.domain.notification.dto.response.NotificationPageResponseDto;
 import com.snow.popin.domain.notification.constant.NotificationType;
 import com.snow.popin.domain.notification.service.NotificationService;
+import com.snow.popin.domain.notification.service.NotificationStreamHub;
 import com.snow.popin.global.util.UserUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/notifications")
@@ -22,22 +21,38 @@ import java.util.stream.Collectors;
 public class NotificationApiController {
 
     private final NotificationService notificationService;
+    private final NotificationStreamHub notificationStreamHub;
     private final UserUtil userUtil;
 
-    // 유저별 SSE 연결 보관
-    private static final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
+    /** 실시간 알림 구독 (SSE, 재연결 시 Last-Event-ID 이후 알림 재전송) */
+    @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        Long userId = userUtil.getCurrentUserId();
+        return notificationStreamHub.subscribe(userId, lastEventId);
+    }
 
-    /** 내 알림 목록 조회 */
+    /** 내 알림 목록 조회 (최신순, 커서 기반 - 다음 페이지는 이전 응답의 nextCursorCreatedAt, nextCursorId 전달) */
     @GetMapping("/me")
-    public ResponseEntity<List<NotificationResponseDto>> getMyNotifications() {
+    public ResponseEntity<NotificationPageResponseDto> getMyNotifications(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(required = false) Integer size) {
         Long userId = userUtil.getCurrentUserId();
+        return ResponseEntity.ok(notificationService.getUserNotifications(userId, cursorCreatedAt, cursorId, size));
+    }
 
-        List<Notification> list = notificationService.getUserNotifications(userId);
-        return ResponseEntity.ok(
-                list.stream()
-                        .map(NotificationResponseDto::from)
-                        .collect(Collectors.toList())
-        );
+    /** 읽지 않은 알림 수 (알림 뱃지) */
+    @GetMapping("/me/unread-count")
+    public ResponseEntity<Map<String, Long>> getMyUnreadCount() {
+        Long userId = userUtil.getCurrentUserId();
+        return ResponseEntity.ok(Map.of("unreadCount", notificationService.getUnreadCount(userId)));
+    }
+
+    /** 내 알림 모두 읽음 처리 */
+    @PostMapping("/me/read-all")
+    public ResponseEntity<Map<String, Integer>> markAllAsRead() {
+        Long userId = userUtil.getCurrentUserId();
+        return ResponseEntity.ok(Map.of("updatedCount", notificationService.markAllAsRead(userId)));
     }
 
     /** 알림 읽음 처리 */
@@ -50,7 +65,7 @@ public class NotificationApiController {
     /** 예약 확정 시 알림 (테스트용 엔드포인트) */
     @PostMapping("/reservation")
     public ResponseEntity<Void> sendReservationNotification(@RequestParam Long userId) {
-        Notification n = notificationService.createNotification(
+        notificationService.createNotification(
                 userId,
                 "예약 확정",
                 "예약이 확정되었습니다!",
@@ -58,22 +73,6 @@ public class NotificationApiController {
                 "/users/user-popup-reservation"
         );
 
-        if (n != null) {
-            sendToClient(userId, NotificationResponseDto.from(n));
-        }
-
         return ResponseEntity.ok().build();
     }
-
-    /** 특정 유저에게 SSE 전송 */
-    public static void sendToClient(Long userId, NotificationResponseDto dto) {
-        SseEmitter emitter = emitters.get(userId);
-        if (emitter != null) {
-            try {
-                emitter.send(SseEmitter.event().name("notification").data(dto));
-            } catch (IOException e) {
-                emitters.remove(userId);
-            }
-        }
-    }
 }
@@ -0,0 +1,18 @@
+package com.snow.popin.domain.notification.dto.request;
+
+import com.snow.popin.domain.notification.constant.NotificationType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 알림 한 건 생성 요청 (여러 사용자에게 한 번에 보낼 때 사용)
+ */
+@Getter
+@RequiredArgsConstructor(staticName = "of")
+public class NotificationCreateDto {
+    private final Long userId;
+    private final String title;
+    private final String message;
+    private final NotificationType type;
+    private final String link;
+}
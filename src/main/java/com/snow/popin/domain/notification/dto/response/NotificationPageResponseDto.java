@@ -0,0 +1,33 @@
+package com.snow.popin.domain.notification.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 알림함 페이지 (커서 기반)
+ *
+ * 다음 페이지는 nextCursorCreatedAt, nextCursorId 를 그대로 넘겨 조회한다.
+ */
+@Getter
+@Builder
+public class NotificationPageResponseDto {
+    private final List<NotificationResponseDto> notifications;
+    private final boolean hasNext;
+    private final LocalDateTime nextCursorCreatedAt;
+    private final Long nextCursorId;
+    private final long unreadCount;
+
+    public static NotificationPageResponseDto of(List<NotificationResponseDto> notifications, boolean hasNext, long unreadCount) {
+        NotificationResponseDto last = notifications.isEmpty() ? null : notifications.get(notifications.size() - 1);
+        return NotificationPageResponseDto.builder()
+                .notifications(notifications)
+                .hasNext(hasNext)
+                .nextCursorCreatedAt(hasNext && last != null ? last.getCreatedAt() : null)
+                .nextCursorId(hasNext && last != null ? last.getId() : null)
+                .unreadCount(unreadCount)
+                .build();
+    }
+}
@@ -12,7 +12,10 @@ import javax.persistence.*;
 
 @Entity
 @Getter
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notification_user_created", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_notification_user_read", columnList = "user_id, is_read")
+})
 @NoArgsConstructor
 public class Notification extends BaseEntity {
 
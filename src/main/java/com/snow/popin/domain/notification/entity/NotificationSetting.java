@@ -1,5 +1,6 @@
 package com.snow.popin.domain.notification.entity;
 
+import com.snow.popin.domain.notification.constant.NotificationType;
 import com.snow.popin.domain.user.entity.User;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -50,6 +51,25 @@ public class NotificationSetting {
         return new NotificationSetting(user);
     }
 
+    /**
+     * 해당 종류의 알림을 받는지 (전체 OFF 면 모두 받지 않음)
+     */
+    public boolean allows(NotificationType type) {
+        if (!enabled) {
+            return false;
+        }
+        switch (type) {
+            case RESERVATION:
+                return reservationEnabled;
+            case SYSTEM:
+                return systemEnabled;
+            case EVENT:
+                return inquiryEnabled;
+            default:
+                return true;
+        }
+    }
+
     /**
      * 비즈니스 메소드
      */
@@ -0,0 +1,80 @@
+package com.snow.popin.domain.notification.repository;
+
+import com.snow.popin.domain.notification.dto.request.NotificationCreateDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class NotificationBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_NOTIFICATION_SQL =
+            "INSERT INTO notifications (user_id, title, message, type, link, is_read, "
+                    + "created_at, updated_at, created_by, modified_by) "
+                    + "VALUES (?, ?, ?, ?, ?, FALSE, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditorAware<String> auditorAware;
+
+    /**
+     * 알림을 배치 INSERT 로 저장하고 생성된 ID 를 입력 순서대로 반환
+     *
+     * IDENTITY 키라 JPA 로는 배치 INSERT 가 되지 않으므로 JDBC 로 직접 넣는다.
+     * 호출한 쪽의 트랜잭션 커넥션을 그대로 사용한다.
+     */
+    public List<Long> insertAll(List<NotificationCreateDto> notifications, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        String auditor = auditorAware.getCurrentAuditor().orElse("");
+
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            List<Long> ids = new ArrayList<>(notifications.size());
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_NOTIFICATION_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                int pending = 0;
+                for (NotificationCreateDto notification : notifications) {
+                    ps.setLong(1, notification.getUserId());
+                    ps.setString(2, notification.getTitle());
+                    ps.setString(3, notification.getMessage());
+                    ps.setString(4, notification.getType().name());
+                    ps.setString(5, notification.getLink());
+                    ps.setTimestamp(6, timestamp);
+                    ps.setTimestamp(7, timestamp);
+                    ps.setString(8, auditor);
+                    ps.setString(9, auditor);
+                    ps.addBatch();
+
+                    if (++pending == BATCH_SIZE) {
+                        executeBatch(ps, ids);
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    executeBatch(ps, ids);
+                }
+            }
+            return ids;
+        });
+    }
+
+    private void executeBatch(PreparedStatement ps, List<Long> ids) throws SQLException {
+        ps.executeBatch();
+        try (ResultSet keys = ps.getGeneratedKeys()) {
+            while (keys.next()) {
+                ids.add(keys.getLong(1));
+            }
+        }
+    }
+}
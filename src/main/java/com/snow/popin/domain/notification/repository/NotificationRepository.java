@@ -1,11 +1,33 @@
 package com.snow.popin.domain.notification.repository;
 
 import com.snow.popin.domain.notification.entity.Notification;
-import com.snow.popin.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
-    List<Notification> findByUserOrderByCreatedAtDesc(User user);
+
+    // 알림함 첫 페이지 (최신순)
+    List<Notification> findByUserIdOrderByCreatedAtDescIdDesc(Long userId, Pageable pageable);
+
+    // 알림함 다음 페이지 - (createdAt, id) 커서보다 오래된 알림 (offset 없이 인덱스에서 바로 이어 읽음)
+    @Query("SELECT n FROM Notification n " +
+            "WHERE n.user.id = :userId " +
+            "AND (n.createdAt < :cursorCreatedAt OR (n.createdAt = :cursorCreatedAt AND n.id < :cursorId)) " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findByUserIdBefore(@Param("userId") Long userId,
+                                          @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                          @Param("cursorId") Long cursorId,
+                                          Pageable pageable);
+
+    long countByUserIdAndReadFalse(Long userId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.read = true, n.updatedAt = :now WHERE n.user.id = :userId AND n.read = false")
+    int markAllAsReadByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now);
 }
@@ -4,6 +4,8 @@ import com.snow.popin.domain.notification.entity.NotificationSetting;
 import com.snow.popin.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface NotificationSettingRepository extends JpaRepository<NotificationSetting, Long> {
@@ -13,4 +15,7 @@ public interface NotificationSettingRepository extends JpaRepository<Notificatio
 
     // userId로 바로 조회하고 싶을 때
     Optional<NotificationSetting> findByUserId(Long userId);
+
+    // 여러 유저의 알림 설정을 한 번에 조회 (알림 일괄 발송용)
+    List<NotificationSetting> findByUserIdIn(Collection<Long> userIds);
 }
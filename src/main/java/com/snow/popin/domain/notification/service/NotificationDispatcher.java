@@ -0,0 +1,53 @@
+package com.snow.popin.domain.notification.service;
+
+import com.snow.popin.domain.notification.dto.response.NotificationResponseDto;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+import static com.snow.popin.global.util.TransactionUtil.afterCommit;
+
+/**
+ * 알림 SSE 전달
+ *
+ * 알림을 저장한 트랜잭션이 커밋된 뒤 NotificationStreamHub 의 연결별 대기열에 넣는다.
+ * 실제 전송은 허브의 전송 스레드가 하므로 호출한 쪽은 전달을 기다리지 않고, 롤백된 알림은 보내지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationDispatcher {
+
+    private final NotificationStreamHub notificationStreamHub;
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 전달 (트랜잭션 밖이면 바로 전달)
+     */
+    public void dispatchAfterCommit(List<Delivery> deliveries) {
+        if (deliveries.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> dispatch(deliveries));
+    }
+
+    private void dispatch(List<Delivery> deliveries) {
+        for (Delivery delivery : deliveries) {
+            try {
+                notificationStreamHub.publish(delivery.getUserId(), delivery.getNotification());
+            } catch (RuntimeException e) {
+                log.warn("[NotificationDispatcher] SSE 전달 실패: userId={}, notificationId={}",
+                        delivery.getUserId(), delivery.getNotification().getId(), e);
+            }
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor(staticName = "of")
+    public static final class Delivery {
+        private final Long userId;
+        private final NotificationResponseDto notification;
+    }
+}
@@ -1,84 +1,156 @@
 package com.snow.popin.domain.notification.service;
 
-import com.snow.popin.domain.notification.controller.NotificationApiController;
+import com.snow.popin.domain.notification.dto.request.NotificationCreateDto;
+import com.snow.popin.domain.notification.dto.response.NotificationPageResponseDto;
 import com.snow.popin.domain.notification.dto.response.NotificationResponseDto;
 import com.snow.popin.domain.notification.entity.Notification;
 import com.snow.popin.domain.notification.entity.NotificationSetting;
 import com.snow.popin.domain.notification.constant.NotificationType;
+import com.snow.popin.domain.notification.repository.NotificationBatchRepository;
 import com.snow.popin.domain.notification.repository.NotificationRepository;
 import com.snow.popin.domain.notification.repository.NotificationSettingRepository;
-import com.snow.popin.domain.user.entity.User;
-import com.snow.popin.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class NotificationService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
+
     private final NotificationRepository notificationRepository;
     private final NotificationSettingRepository notificationSettingRepository;
-    private final UserRepository userRepository;
+    private final NotificationBatchRepository notificationBatchRepository;
+    private final NotificationDispatcher notificationDispatcher;
+    private final NotificationUnreadCounter notificationUnreadCounter;
 
     /**
-     * 특정 사용자에게 알림 생성 & SSE 푸시
+     * 특정 사용자에게 알림 생성 & SSE 푸시. 알림 설정으로 받지 않으면 null
      */
     @Transactional
-    public Notification createNotification(Long userId, String title, String message, NotificationType type, String link) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+    public NotificationResponseDto createNotification(Long userId, String title, String message, NotificationType type, String link) {
+        List<NotificationResponseDto> created = createNotifications(
+                List.of(NotificationCreateDto.of(userId, title, message, type, link)));
+        return created.isEmpty() ? null : created.get(0);
+    }
 
-        // 유저 알림 설정 확인
-        NotificationSetting setting = notificationSettingRepository.findByUser(user)
-                .orElseThrow(() -> new RuntimeException("알림 설정이 없습니다."));
+    /**
+     * 같은 알림을 여러 사용자에게 생성 & SSE 푸시
+     */
+    @Transactional
+    public List<NotificationResponseDto> fanOut(Collection<Long> userIds, String title, String message,
+                                                NotificationType type, String link) {
+        return createNotifications(userIds.stream()
+                .distinct()
+                .map(userId -> NotificationCreateDto.of(userId, title, message, type, link))
+                .collect(Collectors.toList()));
+    }
 
-        // 전체 OFF
-        if (!setting.isEnabled()) {
-            return null;
+    /**
+     * 알림 일괄 생성 & SSE 푸시
+     *
+     * 수신자 알림 설정은 한 번에 조회하고 (설정이 없으면 기본값 = 모두 받음),
+     * 알림은 배치 INSERT 로 저장한 뒤 SSE 전달은 커밋 후 디스패처에 넘긴다.
+     */
+    @Transactional
+    public List<NotificationResponseDto> createNotifications(List<NotificationCreateDto> requests) {
+        if (requests.isEmpty()) {
+            return List.of();
         }
 
-        // 타입별 OFF
-        switch (type) {
-            case RESERVATION:
-                if (!setting.isReservationEnabled()) return null;
-                break;
-            case SYSTEM:
-                if (!setting.isSystemEnabled()) return null;
-                break;
-            case EVENT:
-                if (!setting.isInquiryEnabled()) return null;
-                break;
+        Set<Long> userIds = requests.stream()
+                .map(NotificationCreateDto::getUserId)
+                .collect(Collectors.toSet());
+        Map<Long, NotificationSetting> settings = notificationSettingRepository.findByUserIdIn(userIds).stream()
+                .collect(Collectors.toMap(setting -> setting.getUser().getId(), Function.identity()));
+
+        // 유저 알림 설정 확인 (전체 OFF, 타입별 OFF)
+        List<NotificationCreateDto> allowed = requests.stream()
+                .filter(request -> {
+                    NotificationSetting setting = settings.get(request.getUserId());
+                    return setting == null || setting.allows(request.getType());
+                })
+                .collect(Collectors.toList());
+        if (allowed.isEmpty()) {
+            return List.of();
         }
 
         // 알림 저장
-        Notification notification = Notification.builder()
-                .user(user)
-                .title(title)
-                .message(message)
-                .type(type)
-                .link(link)
-                .build();
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = notificationBatchRepository.insertAll(allowed, now);
 
-        Notification saved = notificationRepository.save(notification);
+        List<NotificationResponseDto> created = new ArrayList<>(allowed.size());
+        List<NotificationDispatcher.Delivery> deliveries = new ArrayList<>(allowed.size());
+        for (int i = 0; i < allowed.size(); i++) {
+            NotificationCreateDto request = allowed.get(i);
+            NotificationResponseDto dto = NotificationResponseDto.builder()
+                    .id(i < ids.size() ? ids.get(i) : null)
+                    .title(request.getTitle())
+                    .message(request.getMessage())
+                    .type(request.getType().name())
+                    .read(false)
+                    .link(request.getLink())
+                    .createdAt(now)
+                    .build();
+            created.add(dto);
+            deliveries.add(NotificationDispatcher.Delivery.of(request.getUserId(), dto));
+        }
 
-        // SSE 푸시
-        NotificationApiController.sendToClient(userId, NotificationResponseDto.from(saved));
+        // 읽지 않은 알림 수, SSE 푸시 (커밋 후)
+        notificationUnreadCounter.increment(allowed.stream()
+                .map(NotificationCreateDto::getUserId)
+                .collect(Collectors.toList()));
+        notificationDispatcher.dispatchAfterCommit(deliveries);
 
-        return saved;
+        return created;
     }
 
     /**
-     * 유저 알림 목록 조회
+     * 유저 알림함 조회 (최신순, 커서 기반)
+     *
+     * 커서(createdAt, id)가 없으면 첫 페이지, 있으면 그보다 오래된 알림부터 size 개.
+     * 한 개 더 읽어 다음 페이지 여부를 판단하므로 전체 개수를 세지 않는다.
      */
     @Transactional(readOnly = true)
-    public List<Notification> getUserNotifications(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("유저를 찾을 수 없습니다. id=" + userId));
+    public NotificationPageResponseDto getUserNotifications(Long userId, LocalDateTime cursorCreatedAt,
+                                                            Long cursorId, Integer size) {
+        if ((cursorCreatedAt == null) != (cursorId == null)) {
+            throw new IllegalArgumentException("커서는 createdAt 과 id 를 함께 지정해야 합니다.");
+        }
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<Notification> rows = cursorId == null
+                ? notificationRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId, limit)
+                : notificationRepository.findByUserIdBefore(userId, cursorCreatedAt, cursorId, limit);
 
-        return notificationRepository.findByUserOrderByCreatedAtDesc(user);
+        boolean hasNext = rows.size() > pageSize;
+        List<NotificationResponseDto> notifications = rows.stream()
+                .limit(pageSize)
+                .map(NotificationResponseDto::from)
+                .collect(Collectors.toList());
+
+        return NotificationPageResponseDto.of(notifications, hasNext, getUnreadCount(userId));
+    }
+
+    /**
+     * 읽지 않은 알림 수 (알림 뱃지)
+     */
+    @Transactional(readOnly = true)
+    public long getUnreadCount(Long userId) {
+        return notificationUnreadCounter.get(userId, notificationRepository::countByUserIdAndReadFalse);
     }
 
     /**
@@ -88,6 +160,20 @@ public class NotificationService {
     public void markAsRead(Long notificationId) {
         Notification n = notificationRepository.findById(notificationId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 알림입니다."));
+        if (n.isRead()) {
+            return;
+        }
         n.markAsRead();
+        notificationUnreadCounter.decrement(n.getUser().getId());
+    }
+
+    /**
+     * 유저 알림 모두 읽음 처리 (UPDATE 한 번). 읽음 처리한 알림 수 반환
+     */
+    @Transactional
+    public int markAllAsRead(Long userId) {
+        int updated = notificationRepository.markAllAsReadByUserId(userId, LocalDateTime.now());
+        notificationUnreadCounter.reset(userId);
+        return updated;
     }
 }
@@ -0,0 +1,379 @@
+package com.snow.popin.domain.notification.service;
+
+import com.snow.popin.domain.notification.dto.response.NotificationResponseDto;
+import com.snow.popin.global.config.NotificationStreamProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 알림 SSE 허브
+ *
+ * 유저마다 여러 연결(탭, 기기)을 두고, 연결마다 작은 전송 대기열을 둔다.
+ * publish 는 대기열에 넣기만 하고 실제 전송은 전송 스레드가 연결 단위로 나눠 처리하므로,
+ * 느린 클라이언트가 알림을 만든 쪽이나 다른 연결을 막지 않는다. 대기열이 가득 찬 연결은 끊는다.
+ *
+ * 유저별로 최근 이벤트를 링 버퍼에 보관해, 브라우저가 재연결하면서 보내는 Last-Event-ID 이후 이벤트를 다시 보낸다.
+ * 버퍼에서 밀려난 이벤트가 있으면 replay-gap 이벤트를 보내 클라이언트가 알림 목록을 다시 조회하게 한다.
+ * 이벤트 ID 는 시작 시각 기준으로 늘어나므로 재시작 전 ID 로 재연결해도 순서가 꼬이지 않는다.
+ *
+ * 유휴 연결은 하트비트(SSE 주석)로 유지하며, 보내다 실패한 연결은 그때 정리한다.
+ */
+@Slf4j
+@Component
+public class NotificationStreamHub {
+
+    static final String NOTIFICATION_EVENT = "notification";
+    static final String REPLAY_GAP_EVENT = "replay-gap";
+    private static final long RECONNECT_MILLIS = 3000L;
+    // 한 번에 보내는 최대 이벤트 수 (전송 스레드를 한 연결이 오래 잡지 않도록)
+    private static final int MAX_SEND_BATCH = 16;
+
+    private final NotificationStreamProperties properties;
+    private final ConcurrentMap<Long, UserStream> streams = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong(System.currentTimeMillis() * 1000);
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final ThreadPoolExecutor sender;
+
+    public NotificationStreamHub(NotificationStreamProperties properties) {
+        this.properties = properties;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.sender = new ThreadPoolExecutor(
+                properties.getSenderThreads(), properties.getSenderThreads(), 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "notification-stream-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 알림 스트림 연결. lastEventId 가 있으면 그 이후 이벤트부터 다시 보낸다.
+     */
+    public SseEmitter subscribe(Long userId, String lastEventId) {
+        SseEmitter emitter = createEmitter(properties.getTimeoutMillis());
+        Connection connection = new Connection(userId, emitter);
+        emitter.onCompletion(() -> detach(connection));
+        emitter.onTimeout(() -> close(connection));
+        emitter.onError(e -> detach(connection));
+
+        Long lastId = parseEventId(lastEventId);
+        Connection evicted = null;
+        while (true) {
+            UserStream stream = streams.computeIfAbsent(userId, id -> new UserStream(sequence.get()));
+            synchronized (stream) {
+                if (stream.retired) {
+                    continue;
+                }
+                connection.offer(StreamEvent.CONNECTED, Integer.MAX_VALUE);
+                if (lastId != null) {
+                    stream.replayAfter(lastId, connection);
+                }
+                stream.connections.add(connection);
+                if (stream.connections.size() > properties.getMaxConnectionsPerUser()) {
+                    evicted = stream.connections.remove(0);
+                }
+                break;
+            }
+        }
+        connectionCount.incrementAndGet();
+
+        if (evicted != null) {
+            log.debug("[NotificationStreamHub] 유저당 연결 수 초과 - 오래된 연결 종료: userId={}", userId);
+            close(evicted);
+        }
+        schedule(connection);
+        return emitter;
+    }
+
+    /**
+     * 유저의 모든 연결에 알림 전송 (대기열에 넣기만 하고 바로 반환)
+     */
+    public void publish(Long userId, NotificationResponseDto notification) {
+        List<Connection> targets;
+        List<Connection> overflowed = new ArrayList<>(0);
+        while (true) {
+            UserStream stream = streams.computeIfAbsent(userId, id -> new UserStream(sequence.get()));
+            synchronized (stream) {
+                if (stream.retired) {
+                    continue;
+                }
+                StreamEvent event = StreamEvent.notification(sequence.incrementAndGet(), notification);
+                stream.remember(event, properties.getReplaySize());
+
+                targets = new ArrayList<>(stream.connections.size());
+                for (Connection connection : stream.connections) {
+                    if (connection.offer(event, properties.getQueueCapacity())) {
+                        targets.add(connection);
+                    } else {
+                        overflowed.add(connection);
+                    }
+                }
+                break;
+            }
+        }
+
+        for (Connection connection : overflowed) {
+            log.warn("[NotificationStreamHub] 전송 대기열 초과 - 느린 연결 종료: userId={}", userId);
+            close(connection);
+        }
+        targets.forEach(this::schedule);
+    }
+
+    /**
+     * 유휴 연결에 하트비트를 보내고, 연결이 없고 오래된 재전송 버퍼를 정리
+     */
+    @Scheduled(fixedDelayString = "${notification.stream.heartbeat-interval:15000}")
+    public void heartbeat() {
+        long expireBefore = System.currentTimeMillis() - properties.getReplayRetention();
+        List<Connection> idle = new ArrayList<>();
+
+        streams.forEach((userId, stream) -> {
+            synchronized (stream) {
+                if (stream.connections.isEmpty()) {
+                    if (stream.lastActivityMillis < expireBefore) {
+                        stream.retired = true;
+                        streams.remove(userId, stream);
+                    }
+                    return;
+                }
+                stream.lastActivityMillis = System.currentTimeMillis();
+                for (Connection connection : stream.connections) {
+                    if (connection.offerIfIdle(StreamEvent.HEARTBEAT)) {
+                        idle.add(connection);
+                    }
+                }
+            }
+        });
+
+        idle.forEach(this::schedule);
+    }
+
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+        streams.values().forEach(stream -> {
+            List<Connection> connections;
+            synchronized (stream) {
+                connections = new ArrayList<>(stream.connections);
+            }
+            connections.forEach(this::close);
+        });
+    }
+
+    SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    private void schedule(Connection connection) {
+        if (connection.draining.compareAndSet(false, true)) {
+            try {
+                sender.execute(() -> drain(connection));
+            } catch (RuntimeException e) {
+                connection.draining.set(false);
+            }
+        }
+    }
+
+    private void drain(Connection connection) {
+        try {
+            for (int i = 0; i < MAX_SEND_BATCH; i++) {
+                StreamEvent event = connection.poll();
+                if (event == null) {
+                    break;
+                }
+                connection.emitter.send(event.toSseEvent());
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 끊었거나 이미 완료된 연결
+            close(connection);
+            return;
+        } finally {
+            connection.draining.set(false);
+        }
+
+        if (connection.hasPending()) {
+            schedule(connection);
+        }
+    }
+
+    private void close(Connection connection) {
+        if (detach(connection)) {
+            try {
+                connection.emitter.complete();
+            } catch (RuntimeException e) {
+                log.debug("[NotificationStreamHub] 연결 종료 실패: userId={}", connection.userId, e);
+            }
+        }
+    }
+
+    /**
+     * 연결 제거. 처음 제거한 경우에만 true
+     */
+    private boolean detach(Connection connection) {
+        if (!connection.markClosed()) {
+            return false;
+        }
+        connectionCount.decrementAndGet();
+
+        UserStream stream = streams.get(connection.userId);
+        if (stream != null) {
+            synchronized (stream) {
+                stream.connections.remove(connection);
+                stream.lastActivityMillis = System.currentTimeMillis();
+            }
+        }
+        return true;
+    }
+
+    private static Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 유저별 연결 목록과 재전송 버퍼 (변경은 모두 stream 모니터 안에서)
+     */
+    private static final class UserStream {
+
+        private final List<Connection> connections = new ArrayList<>(1);
+        private final Deque<StreamEvent> recent = new ArrayDeque<>();
+        // 이 ID 이하 이벤트는 버퍼에 없음 (밀려났거나 버퍼가 생기기 전)
+        private long floorId;
+        private long lastActivityMillis = System.currentTimeMillis();
+        private boolean retired;
+
+        private UserStream(long floorId) {
+            this.floorId = floorId;
+        }
+
+        private void remember(StreamEvent event, int replaySize) {
+            recent.addLast(event);
+            while (recent.size() > replaySize) {
+                floorId = recent.removeFirst().id;
+            }
+            lastActivityMillis = System.currentTimeMillis();
+        }
+
+        private void replayAfter(long lastId, Connection connection) {
+            if (lastId < floorId) {
+                connection.offer(StreamEvent.REPLAY_GAP, Integer.MAX_VALUE);
+            }
+            for (StreamEvent event : recent) {
+                if (event.id > lastId) {
+                    connection.offer(event, Integer.MAX_VALUE);
+                }
+            }
+        }
+    }
+
+    private static final class Connection {
+
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final Deque<StreamEvent> queue = new ArrayDeque<>(4);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private boolean closed;
+
+        private Connection(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        private synchronized boolean offer(StreamEvent event, int capacity) {
+            if (closed || queue.size() >= capacity) {
+                return false;
+            }
+            queue.addLast(event);
+            return true;
+        }
+
+        private synchronized boolean offerIfIdle(StreamEvent event) {
+            return queue.isEmpty() && offer(event, 1);
+        }
+
+        private synchronized StreamEvent poll() {
+            return closed ? null : queue.pollFirst();
+        }
+
+        private synchronized boolean hasPending() {
+            return !closed && !queue.isEmpty();
+        }
+
+        private synchronized boolean markClosed() {
+            if (closed) {
+                return false;
+            }
+            closed = true;
+            queue.clear();
+            return true;
+        }
+    }
+
+    private static final class StreamEvent {
+
+        private static final StreamEvent CONNECTED = new StreamEvent(0L, null, "connected");
+        private static final StreamEvent HEARTBEAT = new StreamEvent(0L, null, "ping");
+        private static final StreamEvent REPLAY_GAP = new StreamEvent(0L, null, null);
+
+        private final long id;
+        private final NotificationResponseDto notification;
+        private final String comment;
+
+        private StreamEvent(long id, NotificationResponseDto notification, String comment) {
+            this.id = id;
+            this.notification = notification;
+            this.comment = comment;
+        }
+
+        private static StreamEvent notification(long id, NotificationResponseDto notification) {
+            return new StreamEvent(id, notification, null);
+        }
+
+        /**
+         * SseEventBuilder 는 build 할 때 내용이 바뀌므로 보낼 때마다 새로 만든다
+         */
+        private SseEmitter.SseEventBuilder toSseEvent() {
+            if (this == CONNECTED) {
+                return SseEmitter.event().comment(comment).reconnectTime(RECONNECT_MILLIS);
+            }
+            if (comment != null) {
+                return SseEmitter.event().comment(comment);
+            }
+            if (this == REPLAY_GAP) {
+                return SseEmitter.event().name(REPLAY_GAP_EVENT).data("");
+            }
+            return SseEmitter.event()
+                    .id(String.valueOf(id))
+                    .name(NOTIFICATION_EVENT)
+                    .data(notification);
+        }
+    }
+}
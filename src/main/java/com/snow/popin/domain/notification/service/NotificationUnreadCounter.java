@@ -0,0 +1,139 @@
+package com.snow.popin.domain.notification.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+import static com.snow.popin.global.util.TransactionUtil.afterCommit;
+
+/**
+ * 유저별 읽지 않은 알림 수 (알림 뱃지용)
+ *
+ * 처음 조회할 때만 DB 에서 세고, 이후에는 알림 생성, 읽음, 모두 읽음이 커밋될 때 메모리 값만 바꾼다.
+ * 최대 max-size 명까지 보관하며 가장 오래 쓰이지 않은 유저부터 밀려난다.
+ * 적재 중에 값이 바뀌면 읽어 온 값은 캐시하지 않고, 드물게 어긋나더라도 ttl 이 지나면 다시 센다.
+ */
+@Component
+public class NotificationUnreadCounter {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+
+    private final LinkedHashMap<Long, Counter> counters = new LinkedHashMap<>(16, 0.75f, true);
+    private long misses;
+
+    @Autowired
+    public NotificationUnreadCounter(@Value("${notification.unread-counter.max-size:10000}") int maxSize,
+                                     @Value("${notification.unread-counter.ttl:PT10M}") Duration ttl) {
+        this(maxSize, ttl, System::currentTimeMillis);
+    }
+
+    NotificationUnreadCounter(int maxSize, Duration ttl, LongSupplier clock) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * 읽지 않은 알림 수 (없거나 만료되었으면 loader 로 적재)
+     */
+    public long get(Long userId, ToLongFunction<Long> loader) {
+        long generation;
+        synchronized (this) {
+            Counter counter = counters.get(userId);
+            if (counter != null && counter.expiresAt > clock.getAsLong()) {
+                return counter.unread;
+            }
+            generation = misses;
+        }
+
+        // DB 조회는 락 밖에서
+        long unread = loader.applyAsLong(userId);
+
+        synchronized (this) {
+            if (generation == misses) {
+                put(userId, unread);
+            }
+        }
+        return unread;
+    }
+
+    /**
+     * 새 알림 반영 (수신자마다 1씩, 커밋 이후)
+     */
+    public void increment(Collection<Long> userIds) {
+        afterCommit(() -> {
+            synchronized (this) {
+                userIds.forEach(userId -> add(userId, 1));
+            }
+        });
+    }
+
+    /**
+     * 읽음 반영 (커밋 이후)
+     */
+    public void decrement(Long userId) {
+        afterCommit(() -> {
+            synchronized (this) {
+                add(userId, -1);
+            }
+        });
+    }
+
+    /**
+     * 모두 읽음 반영 (커밋 이후)
+     */
+    public void reset(Long userId) {
+        afterCommit(() -> {
+            synchronized (this) {
+                misses++;
+                put(userId, 0);
+            }
+        });
+    }
+
+    synchronized int size() {
+        return counters.size();
+    }
+
+    /**
+     * 캐시된 값에만 더한다. 캐시에 없거나 만료된 유저는 적재 중일 수 있으므로 그 적재 결과를 버리게 한다.
+     */
+    private void add(Long userId, long delta) {
+        Counter counter = counters.get(userId);
+        if (counter == null || counter.expiresAt <= clock.getAsLong()) {
+            misses++;
+            return;
+        }
+        counter.unread = Math.max(0, counter.unread + delta);
+    }
+
+    private void put(Long userId, long unread) {
+        counters.put(userId, new Counter(unread, clock.getAsLong() + ttlMillis));
+
+        Iterator<Map.Entry<Long, Counter>> eldest = counters.entrySet().iterator();
+        while (counters.size() > maxSize && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+        }
+    }
+
+    private static final class Counter {
+        private long unread;
+        private final long expiresAt;
+
+        private Counter(long unread, long expiresAt) {
+            this.unread = unread;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -242,7 +242,7 @@ public class PaymentController {
             if (success) {
                 return ResponseEntity.ok(Map.of(
                         "success", true,
-                        "message", "환불이 완료되었습니다.",
+                        "message", "환불 요청이 접수되었습니다.",
                         "reservationId", reservationId
                 ));
             } else {
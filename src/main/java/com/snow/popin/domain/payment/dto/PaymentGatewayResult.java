@@ -0,0 +1,33 @@
+package com.snow.popin.domain.payment.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * PG 호출 결과
+ *
+ * declined 는 PG 가 거절한 확정 실패, unavailable 은 PG 에 반영됐는지 알 수 없는 실패(타임아웃, 5xx)로 재시도 대상이다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PaymentGatewayResult {
+
+    private final boolean success;
+    private final boolean retryable;
+    private final String transactionId;
+    private final String redirectUrl;
+    private final String message;
+
+    public static PaymentGatewayResult success(String transactionId, String redirectUrl) {
+        return new PaymentGatewayResult(true, false, transactionId, redirectUrl, null);
+    }
+
+    public static PaymentGatewayResult declined(String message) {
+        return new PaymentGatewayResult(false, false, null, null, message);
+    }
+
+    public static PaymentGatewayResult unavailable(String message) {
+        return new PaymentGatewayResult(false, true, null, null, message);
+    }
+}
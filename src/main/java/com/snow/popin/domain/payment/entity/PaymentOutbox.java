@@ -0,0 +1,151 @@
+package com.snow.popin.domain.payment.entity;
+
+import com.snow.popin.global.common.BaseTimeEntity;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 결제 아웃박스
+ *
+ * PG 호출 의도(요청 파라미터)와 결과를 기록한다. 예약 상태 변경과 같은 트랜잭션에서 먼저 커밋하고,
+ * PG 호출은 트랜잭션 밖에서 한 뒤 결과를 다시 짧은 트랜잭션으로 기록한다.
+ * 결과가 불확실한 건(타임아웃, 5xx)은 PENDING 으로 남아 PaymentOutboxWorker 가 재시도한다.
+ */
+@Entity
+@Table(
+        name = "payment_outbox",
+        uniqueConstraints = @UniqueConstraint(name = "uk_payment_outbox_idempotency_key", columnNames = "idempotency_key"),
+        indexes = {
+                @Index(name = "idx_payment_outbox_status_next", columnList = "status, next_attempt_at"),
+                @Index(name = "idx_payment_outbox_reservation", columnList = "reservation_id")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PaymentOutbox extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "idempotency_key", nullable = false, length = 100)
+    private String idempotencyKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 20)
+    private Type type;
+
+    @Column(name = "payment_method", nullable = false, length = 50)
+    private String paymentMethod;
+
+    @Column(name = "reservation_id", nullable = false)
+    private Long reservationId;
+
+    // PG 요청 파라미터 (JSON)
+    @Lob
+    @Column(name = "payload", nullable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // PG 가 돌려준 거래 ID (tid, paymentId, aid)
+    @Column(name = "result", length = 100)
+    private String result;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Version
+    private Long version;
+
+    public enum Type {
+        PREPARE, APPROVE, REFUND
+    }
+
+    public enum Status {
+        PENDING, COMPLETED, FAILED
+    }
+
+    private PaymentOutbox(String idempotencyKey, Type type, String paymentMethod, Long reservationId,
+                          String payload, int attempts, LocalDateTime nextAttemptAt) {
+        this.idempotencyKey = idempotencyKey;
+        this.type = type;
+        this.paymentMethod = paymentMethod;
+        this.reservationId = reservationId;
+        this.payload = payload;
+        this.status = Status.PENDING;
+        this.attempts = attempts;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    /**
+     * 요청 스레드가 바로 PG 를 호출할 건 (lease 동안 워커가 가져가지 않음)
+     */
+    public static PaymentOutbox claimed(String idempotencyKey, Type type, String paymentMethod, Long reservationId,
+                                        String payload, LocalDateTime leaseUntil) {
+        return new PaymentOutbox(idempotencyKey, type, paymentMethod, reservationId, payload, 1, leaseUntil);
+    }
+
+    /**
+     * 커밋 후 워커가 처리할 건
+     */
+    public static PaymentOutbox queued(String idempotencyKey, Type type, String paymentMethod, Long reservationId,
+                                       String payload, LocalDateTime now) {
+        return new PaymentOutbox(idempotencyKey, type, paymentMethod, reservationId, payload, 0, now);
+    }
+
+    // ===== 상태 변경 =====
+
+    public void claim(LocalDateTime leaseUntil) {
+        this.attempts++;
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    public void complete(String result) {
+        this.status = Status.COMPLETED;
+        this.result = result;
+        this.lastError = null;
+        this.completedAt = LocalDateTime.now();
+    }
+
+    public void fail(String error) {
+        this.status = Status.FAILED;
+        this.lastError = truncate(error);
+        this.completedAt = LocalDateTime.now();
+    }
+
+    public void retryAt(LocalDateTime nextAttemptAt, String error) {
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = truncate(error);
+    }
+
+    public boolean isPending() {
+        return status == Status.PENDING;
+    }
+
+    public boolean isCompleted() {
+        return status == Status.COMPLETED;
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= 500) {
+            return error;
+        }
+        return error.substring(0, 500);
+    }
+}
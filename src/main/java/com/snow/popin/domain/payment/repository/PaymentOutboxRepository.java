@@ -0,0 +1,17 @@
+package com.snow.popin.domain.payment.repository;
+
+import com.snow.popin.domain.payment.entity.PaymentOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface PaymentOutboxRepository extends JpaRepository<PaymentOutbox, Long> {
+
+    Optional<PaymentOutbox> findByIdempotencyKey(String idempotencyKey);
+
+    List<PaymentOutbox> findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+            PaymentOutbox.Status status, LocalDateTime now, Pageable pageable);
+}
@@ -0,0 +1,194 @@
+package com.snow.popin.domain.payment.service;
+
+import com.snow.popin.domain.payment.dto.PaymentGatewayResult;
+import com.snow.popin.global.config.PaymentProperties;
+import com.snow.popin.global.http.OutboundHttpClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Map;
+
+/**
+ * 카카오페이, 네이버페이 API 호출
+ *
+ * DB 에 접근하지 않으며 트랜잭션 밖에서만 호출한다.
+ * 4xx 는 거절(declined), 연결 실패, 타임아웃, 5xx, 동시 호출 한도 초과는 결과 불명(unavailable)으로 돌려준다.
+ * 카카오페이, 네이버페이는 OutboundHttpClient 의 목적지를 나눠 써서 한쪽이 느려도 다른 쪽 호출은 막히지 않는다.
+ */
+@Slf4j
+@Component
+public class PaymentGatewayClient {
+
+    static final String KAKAO_CID = "TC0ONETIME"; // 테스트용 CID
+    static final String NAVER_IDEMPOTENCY_HEADER = "X-NaverPay-Idempotency-Key";
+
+    private final RestTemplate kakaoRestTemplate;
+    private final RestTemplate naverRestTemplate;
+    private final PaymentProperties paymentProperties;
+
+    @Value("${kakao.pay.admin.key:}")
+    private String kakaoPayAdminKey;
+
+    @Value("${naver.pay.client.id:}")
+    private String naverPayClientId;
+
+    @Value("${naver.pay.client.secret:}")
+    private String naverPayClientSecret;
+
+    public PaymentGatewayClient(OutboundHttpClient outboundHttpClient, PaymentProperties paymentProperties) {
+        this.kakaoRestTemplate = outboundHttpClient.restTemplate(OutboundHttpClient.KAKAO_PAY);
+        this.naverRestTemplate = outboundHttpClient.restTemplate(OutboundHttpClient.NAVER_PAY);
+        this.paymentProperties = paymentProperties;
+    }
+
+    public boolean isNaverPayConfigured() {
+        return naverPayClientId != null && !naverPayClientId.isEmpty()
+                && naverPayClientSecret != null && !naverPayClientSecret.isEmpty();
+    }
+
+    // ===== 카카오페이 =====
+
+    public PaymentGatewayResult kakaoReady(Map<String, Object> params) {
+        return callKakao("/v1/payment/ready", params, result -> {
+            String tid = (String) result.get("tid");
+            return tid != null
+                    ? PaymentGatewayResult.success(tid, (String) result.get("next_redirect_pc_url"))
+                    : PaymentGatewayResult.declined("카카오페이 결제 준비 응답에 tid가 없습니다.");
+        });
+    }
+
+    public PaymentGatewayResult kakaoApprove(Map<String, Object> params) {
+        return callKakao("/v1/payment/approve", params,
+                result -> PaymentGatewayResult.success((String) params.get("tid"), null));
+    }
+
+    public PaymentGatewayResult kakaoCancel(Map<String, Object> params) {
+        return callKakao("/v1/payment/cancel", params, result -> {
+            String aid = (String) result.get("aid");
+            return aid != null
+                    ? PaymentGatewayResult.success(aid, null)
+                    : PaymentGatewayResult.declined("카카오페이 환불 응답에 aid가 없습니다.");
+        });
+    }
+
+    /**
+     * 카카오페이 주문 상태 (SUCCESS_PAYMENT, CANCEL_PAYMENT 등). 조회에 실패하면 null
+     *
+     * 카카오페이는 멱등키를 받지 않으므로 재시도 전에 이미 반영됐는지 확인하는 데 쓴다.
+     */
+    public String kakaoOrderStatus(String tid) {
+        Map<String, Object> params = Map.of("cid", KAKAO_CID, "tid", tid);
+        try {
+            ResponseEntity<Map> response = kakaoRestTemplate.exchange(paymentProperties.getKakaoUrl() + "/v1/payment/order",
+                    HttpMethod.POST, new HttpEntity<>(buildFormData(params), kakaoHeaders()), Map.class);
+            Map<String, Object> result = response.getBody();
+            return result != null ? (String) result.get("status") : null;
+        } catch (RestClientException e) {
+            log.warn("카카오페이 주문 조회 실패: tid={}, {}", tid, e.getMessage());
+            return null;
+        }
+    }
+
+    // ===== 네이버페이 =====
+
+    public PaymentGatewayResult naverReserve(Map<String, Object> requestBody, String idempotencyKey) {
+        return callNaver("/reserve", requestBody, idempotencyKey, body -> {
+            String paymentId = body != null ? (String) body.get("paymentId") : null;
+            return paymentId != null
+                    ? PaymentGatewayResult.success(paymentId, (String) body.get("paymentUrl"))
+                    : PaymentGatewayResult.declined("네이버페이 결제 준비 응답에 paymentId가 없습니다.");
+        });
+    }
+
+    public PaymentGatewayResult naverApprove(Map<String, Object> requestBody, String idempotencyKey) {
+        return callNaver("/apply/payment", requestBody, idempotencyKey,
+                body -> PaymentGatewayResult.success((String) requestBody.get("paymentId"), null));
+    }
+
+    public PaymentGatewayResult naverCancel(Map<String, Object> requestBody, String idempotencyKey) {
+        return callNaver("/apply/cancel", requestBody, idempotencyKey,
+                body -> PaymentGatewayResult.success((String) requestBody.get("paymentId"), null));
+    }
+
+    // ===== 공통 =====
+
+    private interface ResultMapper {
+        PaymentGatewayResult map(Map<String, Object> result);
+    }
+
+    private PaymentGatewayResult callKakao(String path, Map<String, Object> params, ResultMapper mapper) {
+        HttpEntity<String> entity = new HttpEntity<>(buildFormData(params), kakaoHeaders());
+        try {
+            ResponseEntity<Map> response = kakaoRestTemplate.exchange(
+                    paymentProperties.getKakaoUrl() + path, HttpMethod.POST, entity, Map.class);
+            Map<String, Object> result = response.getBody();
+            if (result == null) {
+                return PaymentGatewayResult.unavailable("카카오페이 응답이 비어 있습니다.");
+            }
+            return mapper.map(result);
+        } catch (HttpClientErrorException e) {
+            log.warn("카카오페이 요청 거절: path={}, status={}, body={}", path, e.getRawStatusCode(), e.getResponseBodyAsString());
+            return PaymentGatewayResult.declined("카카오페이 요청 거절: " + e.getResponseBodyAsString());
+        } catch (RestClientException e) {
+            log.warn("카카오페이 호출 실패: path={}, {}", path, e.getMessage());
+            return PaymentGatewayResult.unavailable("카카오페이 호출 실패: " + e.getMessage());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private PaymentGatewayResult callNaver(String path, Map<String, Object> requestBody, String idempotencyKey,
+                                           ResultMapper mapper) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Content-Type", "application/json;charset=UTF-8");
+        headers.set("X-Naver-Client-Id", naverPayClientId);
+        headers.set("X-Naver-Client-Secret", naverPayClientSecret);
+        headers.set(NAVER_IDEMPOTENCY_HEADER, idempotencyKey);
+
+        try {
+            ResponseEntity<Map> response = naverRestTemplate.exchange(paymentProperties.getNaverUrl() + path,
+                    HttpMethod.POST, new HttpEntity<>(requestBody, headers), Map.class);
+            Map<String, Object> result = response.getBody();
+            if (result == null) {
+                return PaymentGatewayResult.unavailable("네이버페이 응답이 비어 있습니다.");
+            }
+            if (!"Success".equals(result.get("code"))) {
+                String message = result.get("message") != null ? (String) result.get("message") : "알 수 없는 오류";
+                log.warn("네이버페이 요청 거절: path={}, code={}, message={}", path, result.get("code"), message);
+                return PaymentGatewayResult.declined(message);
+            }
+            return mapper.map((Map<String, Object>) result.get("body"));
+        } catch (HttpClientErrorException e) {
+            log.warn("네이버페이 요청 거절: path={}, status={}, body={}", path, e.getRawStatusCode(), e.getResponseBodyAsString());
+            return PaymentGatewayResult.declined("네이버페이 요청 거절: " + e.getResponseBodyAsString());
+        } catch (RestClientException e) {
+            log.warn("네이버페이 호출 실패: path={}, {}", path, e.getMessage());
+            return PaymentGatewayResult.unavailable("네이버페이 호출 실패: " + e.getMessage());
+        }
+    }
+
+    private HttpHeaders kakaoHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Authorization", "KakaoAK " + kakaoPayAdminKey);
+        headers.set("Content-Type", "application/x-www-form-urlencoded;charset=utf-8");
+        return headers;
+    }
+
+    private String buildFormData(Map<String, Object> params) {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, Object> entry : params.entrySet()) {
+            if (sb.length() > 0) {
+                sb.append("&");
+            }
+            sb.append(entry.getKey()).append("=").append(entry.getValue());
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,242 @@
+package com.snow.popin.domain.payment.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.snow.popin.domain.payment.dto.PaymentGatewayResult;
+import com.snow.popin.domain.payment.entity.PaymentOutbox;
+import com.snow.popin.domain.payment.repository.PaymentOutboxRepository;
+import com.snow.popin.domain.popupReservation.entity.Reservation;
+import com.snow.popin.domain.popupReservation.repository.ReservationRepository;
+import com.snow.popin.global.config.OutboundHttpProperties;
+import com.snow.popin.global.config.PaymentProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 아웃박스 한 건 실행
+ *
+ * 1) 짧은 트랜잭션으로 아웃박스를 읽고 2) 트랜잭션 밖에서 PG 를 호출한 뒤 3) 다시 짧은 트랜잭션으로 결과를 기록한다.
+ * 요청 스레드(결제 준비, 승인)와 PaymentOutboxWorker(재시도, 환불)가 같은 경로를 쓴다.
+ * 결제 준비는 요청 스레드에서 한 번만 호출하고 실패하면 재시도 없이 끝낸다.
+ * 워커가 가져간 준비 건(중단된 요청)은 예약의 결제 상태를 건드리지 않는다. 사용자가 새로 시작한 결제를 덮어쓸 수 있기 때문이다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentOutboxProcessor {
+
+    static final String KAKAO_PAY = "KAKAO_PAY";
+    static final String NAVER_PAY = "NAVER_PAY";
+
+    private static final long MAX_RETRY_DELAY_MILLIS = 600000L;
+
+    private final PaymentOutboxRepository paymentOutboxRepository;
+    private final ReservationRepository reservationRepository;
+    private final PaymentGatewayClient paymentGatewayClient;
+    private final PaymentProperties paymentProperties;
+    private final OutboundHttpProperties outboundHttpProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @PostConstruct
+    void validateLease() {
+        paymentProperties.getOutbox().validateLease(outboundHttpProperties);
+    }
+
+    /**
+     * 아웃박스 실행 후 PG 결과 반환
+     *
+     * 그사이 다른 쪽(워커)이 먼저 결과를 기록했으면 그 기록을 기준으로 반환한다.
+     */
+    public PaymentGatewayResult execute(Long outboxId) {
+        PaymentOutbox outbox = transactionTemplate.execute(status -> paymentOutboxRepository.findById(outboxId)
+                .orElseThrow(() -> new IllegalArgumentException("결제 아웃박스를 찾을 수 없습니다.")));
+
+        PaymentGatewayResult result;
+        try {
+            result = call(outbox);
+        } catch (RuntimeException e) {
+            log.error("PG 호출 준비 실패: outboxId={}", outboxId, e);
+            result = PaymentGatewayResult.unavailable(e.getMessage());
+        }
+
+        PaymentGatewayResult recorded = result;
+        try {
+            if (Boolean.TRUE.equals(transactionTemplate.execute(status -> record(outboxId, recorded)))) {
+                return result;
+            }
+        } catch (ObjectOptimisticLockingFailureException e) {
+            log.warn("결제 아웃박스 동시 기록, 먼저 기록된 결과 사용: outboxId={}", outboxId);
+        }
+        return recordedResult(outboxId, result);
+    }
+
+    String writePayload(Map<String, Object> payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("결제 요청 직렬화 실패", e);
+        }
+    }
+
+    LocalDateTime leaseUntil() {
+        return LocalDateTime.now().plusNanos(paymentProperties.getOutbox().getLease() * 1_000_000L);
+    }
+
+    private PaymentGatewayResult call(PaymentOutbox outbox) {
+        Map<String, Object> payload = readPayload(outbox.getPayload());
+        boolean kakao = KAKAO_PAY.equals(outbox.getPaymentMethod());
+
+        switch (outbox.getType()) {
+            case PREPARE:
+                // 결제 준비는 요청 스레드만 호출한다. 워커가 가져왔다면 응답을 돌려줄 사용자가 없으므로 종료한다.
+                if (outbox.getAttempts() > 1) {
+                    return PaymentGatewayResult.declined("결제 준비가 중단되었습니다.");
+                }
+                return kakao
+                        ? paymentGatewayClient.kakaoReady(payload)
+                        : paymentGatewayClient.naverReserve(payload, outbox.getIdempotencyKey());
+            case APPROVE:
+                if (kakao && outbox.getAttempts() > 1) {
+                    PaymentGatewayResult reconciled = reconcileKakao((String) payload.get("tid"), "SUCCESS_PAYMENT");
+                    if (reconciled != null) {
+                        return reconciled;
+                    }
+                }
+                return kakao
+                        ? paymentGatewayClient.kakaoApprove(payload)
+                        : paymentGatewayClient.naverApprove(payload, outbox.getIdempotencyKey());
+            case REFUND:
+                if (kakao && outbox.getAttempts() > 1) {
+                    PaymentGatewayResult reconciled = reconcileKakao((String) payload.get("tid"), "CANCEL_PAYMENT");
+                    if (reconciled != null) {
+                        return reconciled;
+                    }
+                }
+                return kakao
+                        ? paymentGatewayClient.kakaoCancel(payload)
+                        : paymentGatewayClient.naverCancel(payload, outbox.getIdempotencyKey());
+            default:
+                return PaymentGatewayResult.declined("지원하지 않는 결제 작업입니다: " + outbox.getType());
+        }
+    }
+
+    /**
+     * 카카오페이 재시도 전 주문 상태 확인 (이미 반영됐으면 성공, 아니면 null 로 다시 호출)
+     */
+    private PaymentGatewayResult reconcileKakao(String tid, String doneStatus) {
+        String orderStatus = paymentGatewayClient.kakaoOrderStatus(tid);
+        if (orderStatus == null) {
+            return PaymentGatewayResult.unavailable("카카오페이 주문 상태를 확인할 수 없습니다.");
+        }
+        if (doneStatus.equals(orderStatus)) {
+            log.info("카카오페이 재시도 전 반영 확인: tid={}, status={}", tid, orderStatus);
+            return PaymentGatewayResult.success(tid, null);
+        }
+        return null;
+    }
+
+    /**
+     * 결과 기록. 이미 다른 쪽이 끝낸 건이면 false
+     */
+    private boolean record(Long outboxId, PaymentGatewayResult result) {
+        PaymentOutbox outbox = paymentOutboxRepository.findById(outboxId)
+                .orElseThrow(() -> new IllegalArgumentException("결제 아웃박스를 찾을 수 없습니다."));
+        if (!outbox.isPending()) {
+            return false;
+        }
+        Reservation reservation = reservationRepository.findById(outbox.getReservationId()).orElse(null);
+
+        if (result.isSuccess()) {
+            outbox.complete(result.getTransactionId());
+            if (reservation != null) {
+                applySuccess(outbox, reservation, result);
+            }
+        } else if (outbox.getType() == PaymentOutbox.Type.PREPARE) {
+            // 결제 준비는 사용자가 다시 시작하면 되므로 재시도하지 않는다. 예약 실패 처리는 요청 스레드의 첫 호출만
+            outbox.fail(result.getMessage());
+            if (reservation != null && outbox.getAttempts() == 1) {
+                applyFailure(outbox, reservation, result);
+            }
+        } else if (result.isRetryable() && outbox.getAttempts() < paymentProperties.getOutbox().getMaxAttempts()) {
+            LocalDateTime nextAttemptAt = LocalDateTime.now().plusNanos(retryDelayMillis(outbox.getAttempts()) * 1_000_000L);
+            outbox.retryAt(nextAttemptAt, result.getMessage());
+            log.warn("결제 {} 재시도 예약: reservationId={}, attempts={}, next={}",
+                    outbox.getType(), outbox.getReservationId(), outbox.getAttempts(), nextAttemptAt);
+        } else {
+            outbox.fail(result.getMessage());
+            if (reservation != null) {
+                applyFailure(outbox, reservation, result);
+            }
+        }
+        paymentOutboxRepository.save(outbox);
+        return true;
+    }
+
+    /**
+     * 먼저 기록된 아웃박스 상태로 결과를 만든다 (리다이렉트 URL 은 이쪽 호출이 성공했을 때만 있음)
+     */
+    private PaymentGatewayResult recordedResult(Long outboxId, PaymentGatewayResult own) {
+        PaymentOutbox outbox = transactionTemplate.execute(status -> paymentOutboxRepository.findById(outboxId)
+                .orElseThrow(() -> new IllegalArgumentException("결제 아웃박스를 찾을 수 없습니다.")));
+        switch (outbox.getStatus()) {
+            case COMPLETED:
+                return PaymentGatewayResult.success(outbox.getResult(), own.isSuccess() ? own.getRedirectUrl() : null);
+            case FAILED:
+                return PaymentGatewayResult.declined(outbox.getLastError());
+            default:
+                return PaymentGatewayResult.unavailable(outbox.getLastError() != null
+                        ? outbox.getLastError() : "결제 처리 중입니다.");
+        }
+    }
+
+    private void applySuccess(PaymentOutbox outbox, Reservation reservation, PaymentGatewayResult result) {
+        switch (outbox.getType()) {
+            case PREPARE:
+                reservation.setPaymentTid(result.getTransactionId());
+                break;
+            case APPROVE:
+                reservation.markAsPaid(outbox.getPaymentMethod(), result.getTransactionId());
+                log.info("결제 승인 완료: 예약 ID {}, TID {}", reservation.getId(), result.getTransactionId());
+                break;
+            case REFUND:
+                reservation.markPaymentRefunded();
+                log.info("환불 완료: reservationId={}, method={}, amount={}",
+                        reservation.getId(), outbox.getPaymentMethod(), reservation.getPaymentAmount());
+                break;
+        }
+        reservationRepository.save(reservation);
+    }
+
+    private void applyFailure(PaymentOutbox outbox, Reservation reservation, PaymentGatewayResult result) {
+        if (outbox.getType() == PaymentOutbox.Type.REFUND) {
+            // 환불 실패는 결제 상태를 되돌리지 않는다. 아웃박스의 FAILED 기록을 보고 수동으로 처리한다.
+            log.error("환불 최종 실패: reservationId={}, attempts={}, error={}",
+                    reservation.getId(), outbox.getAttempts(), result.getMessage());
+            return;
+        }
+        reservation.markPaymentFailed(result.getMessage());
+        reservationRepository.save(reservation);
+    }
+
+    private long retryDelayMillis(int attempts) {
+        long delay = paymentProperties.getOutbox().getRetryDelay() << Math.min(Math.max(attempts - 1, 0), 16);
+        return Math.min(delay, MAX_RETRY_DELAY_MILLIS);
+    }
+
+    private Map<String, Object> readPayload(String payload) {
+        try {
+            return objectMapper.readValue(payload, new TypeReference<Map<String, Object>>() {});
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("결제 요청 역직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.snow.popin.domain.payment.service;
+
+import com.snow.popin.domain.payment.entity.PaymentOutbox;
+import com.snow.popin.domain.payment.repository.PaymentOutboxRepository;
+import com.snow.popin.global.config.PaymentProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결제 아웃박스 워커
+ *
+ * next-attempt-at 이 지난 PENDING 건을 한 건씩 lease 시간만큼 선점한 뒤 트랜잭션 밖에서 PG 를 호출한다.
+ * 한 건의 호출과 기록이 끝난 뒤에 다음 건을 선점하므로, 앞선 건의 PG 호출이 길어져도 뒤 건의 lease 가 미리 줄지 않는다.
+ * 선점은 @Version 으로 보호되어 여러 인스턴스가 같은 건을 동시에 가져가지 않는다.
+ * 호출 도중 죽으면 lease 가 지난 뒤 다시 가져가며, 중복 호출은 멱등키(네이버페이)와 주문 상태 확인(카카오페이)으로 막는다.
+ *
+ * PG 호출은 블로킹이므로 공용 @Scheduled 스레드(STOMP 하트비트 등)가 아닌 전용 스레드에서 돈다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentOutboxWorker {
+
+    private final PaymentOutboxRepository paymentOutboxRepository;
+    private final PaymentOutboxProcessor paymentOutboxProcessor;
+    private final PaymentProperties paymentProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "payment-outbox");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PostConstruct
+    public void start() {
+        long pollInterval = paymentProperties.getOutbox().getPollInterval();
+        scheduler.scheduleWithFixedDelay(this::drain, pollInterval, pollInterval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 한 주기에 최대 batch-size 건을 한 건씩 선점 → PG 호출 → 기록 순으로 처리
+     */
+    public void drain() {
+        for (int processed = 0; processed < paymentProperties.getOutbox().getBatchSize(); processed++) {
+            Long outboxId;
+            try {
+                outboxId = claimNext();
+            } catch (ObjectOptimisticLockingFailureException e) {
+                log.debug("[PaymentOutboxWorker] 다른 워커가 먼저 선점함, 다음 주기에 재시도");
+                return;
+            } catch (Exception e) {
+                log.error("[PaymentOutboxWorker] 아웃박스 선점 실패", e);
+                return;
+            }
+            if (outboxId == null) {
+                return;
+            }
+
+            try {
+                paymentOutboxProcessor.execute(outboxId);
+            } catch (Exception e) {
+                log.error("[PaymentOutboxWorker] 아웃박스 처리 실패: outboxId={}", outboxId, e);
+            }
+        }
+    }
+
+    /**
+     * 처리할 건 하나를 지금부터 lease 시간만큼 선점 (없으면 null)
+     */
+    Long claimNext() {
+        return transactionTemplate.execute(status -> {
+            List<PaymentOutbox> due = paymentOutboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+                    PaymentOutbox.Status.PENDING, LocalDateTime.now(), PageRequest.of(0, 1));
+            if (due.isEmpty()) {
+                return null;
+            }
+
+            due.forEach(outbox -> outbox.claim(paymentOutboxProcessor.leaseUntil()));
+            paymentOutboxRepository.saveAllAndFlush(due);
+            return due.get(0).getId();
+        });
+    }
+}
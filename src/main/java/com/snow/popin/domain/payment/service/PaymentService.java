@@ -1,111 +1,81 @@
 package com.snow.popin.domain.payment.service;
 
+import com.snow.popin.domain.payment.dto.PaymentGatewayResult;
 import com.snow.popin.domain.payment.dto.PaymentResponseDto;
+import com.snow.popin.domain.payment.entity.PaymentOutbox;
+import com.snow.popin.domain.payment.repository.PaymentOutboxRepository;
 import com.snow.popin.domain.popupReservation.entity.Reservation;
 import com.snow.popin.domain.popupReservation.repository.ReservationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-
+import java.util.Optional;
+import java.util.UUID;
+
+import static com.snow.popin.domain.payment.service.PaymentOutboxProcessor.KAKAO_PAY;
+import static com.snow.popin.domain.payment.service.PaymentOutboxProcessor.NAVER_PAY;
+
+/**
+ * 결제 서비스
+ *
+ * PG 호출 중에는 DB 커넥션과 예약 행 락을 잡지 않는다.
+ * 예약 변경과 PG 호출 의도를 결제 아웃박스에 먼저 커밋하고, PG 호출과 결과 기록은 PaymentOutboxProcessor 가 트랜잭션 밖에서 한다.
+ * - 결제 준비, 승인: 요청 스레드가 바로 호출하고 결과를 돌려준다. 결과를 알 수 없는 승인은 워커가 재시도한다.
+ * - 환불: 호출 측 트랜잭션(예약 취소)과 함께 아웃박스에 기록만 하고, 커밋 후 워커가 호출한다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional
 public class PaymentService {
 
     private final ReservationRepository reservationRepository;
-    private final RestTemplate restTemplate;
-
-    @Value("${kakao.pay.admin.key}")
-    private String kakaoPayAdminKey;
-
-    @Value("${naver.pay.client.id:}")
-    private String naverPayClientId;
-
-    @Value("${naver.pay.client.secret:}")
-    private String naverPayClientSecret;
+    private final PaymentOutboxRepository paymentOutboxRepository;
+    private final PaymentOutboxProcessor paymentOutboxProcessor;
+    private final PaymentGatewayClient paymentGatewayClient;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 카카오페이 결제 준비
      */
     public PaymentResponseDto prepareKakaoPayment(Long reservationId) {
-        // 예약 정보 조회
-        Reservation reservation = reservationRepository.findById(reservationId)
-                .orElseThrow(() -> new IllegalArgumentException("예약을 찾을 수 없습니다."));
-
-        // 입장료 계산
-        Integer entryFee = reservation.getPopup().getEntryFee();
-        if (entryFee == null || entryFee <= 0) {
-            throw new IllegalArgumentException("무료 팝업은 결제가 필요하지 않습니다.");
-        }
-
-        int totalAmount = entryFee * reservation.getPartySize();
-
-        // 예약에 결제 정보 설정
-        reservation.setPaymentAmount(totalAmount);
-        reservationRepository.save(reservation);
-
-        // 카카오페이 API 호출
-        String url = "https://kapi.kakao.com/v1/payment/ready";
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Authorization", "KakaoAK " + kakaoPayAdminKey);
-        headers.set("Content-Type", "application/x-www-form-urlencoded;charset=utf-8");
-
-        Map<String, Object> params = new HashMap<>();
-        params.put("cid", "TC0ONETIME"); // 테스트용 CID
-        params.put("partner_order_id", "popup_reservation_" + reservationId);
-        params.put("partner_user_id", "user_" + reservation.getUser().getId());
-        params.put("item_name",
-                "[POPIN] 예약이 완료되었습니다!\n" +
-                        "[팝업명] : " + reservation.getPopup().getTitle() + "\n" +
-                        "[예약자] : " + reservation.getName() + "\n" +
-                        "[인원] : " + reservation.getPartySize() + "명\n" +
-                        "[예약 날짜] : " + reservation.getReservationDate().toLocalDate() + "\n" +
-                        "[결제 금액] : " + reservation.getPaymentAmount() + "원"
-        );
-        params.put("quantity", 1);
-        params.put("total_amount", totalAmount);
-        params.put("vat_amount", totalAmount / 11); // 부가세입니다
-        params.put("tax_free_amount", 0);
-        params.put("approval_url", "http://localhost:8080/api/popup-reservations/payment/kakao/success");
-        params.put("fail_url", "http://localhost:8080/api/popup-reservations/payment/kakao/fail");
-        params.put("cancel_url", "http://localhost:8080/api/popup-reservations/payment/kakao/cancel");
-
-        String body = buildFormData(params);
-        HttpEntity<String> entity = new HttpEntity<>(body, headers);
-
-        try {
-            ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.POST, entity, Map.class);
-            Map<String, Object> result = response.getBody();
+        Long outboxId = transactionTemplate.execute(status -> {
+            Reservation reservation = findReservation(reservationId);
+            int totalAmount = applyPaymentAmount(reservation);
 
-            String tid = (String) result.get("tid");
-            reservation.setPaymentTid(tid);
-            reservationRepository.save(reservation);
-
-            return PaymentResponseDto.success(
-                    (String) result.get("next_redirect_pc_url"),
-                    tid,
-                    "카카오페이 결제 준비 완료"
+            Map<String, Object> params = new HashMap<>();
+            params.put("cid", PaymentGatewayClient.KAKAO_CID);
+            params.put("partner_order_id", "popup_reservation_" + reservationId);
+            params.put("partner_user_id", "user_" + reservation.getUser().getId());
+            params.put("item_name",
+                    "[POPIN] 예약이 완료되었습니다!\n" +
+                            "[팝업명] : " + reservation.getPopup().getTitle() + "\n" +
+                            "[예약자] : " + reservation.getName() + "\n" +
+                            "[인원] : " + reservation.getPartySize() + "명\n" +
+                            "[예약 날짜] : " + reservation.getReservationDate().toLocalDate() + "\n" +
+                            "[결제 금액] : " + reservation.getPaymentAmount() + "원"
             );
-
-        } catch (Exception e) {
-            log.error("카카오페이 결제 준비 실패", e);
-            reservation.markPaymentFailed(e.getMessage());
-            reservationRepository.save(reservation);
-
-            return PaymentResponseDto.failure("카카오페이 결제 준비 실패: " + e.getMessage());
+            params.put("quantity", 1);
+            params.put("total_amount", totalAmount);
+            params.put("vat_amount", totalAmount / 11); // 부가세입니다
+            params.put("tax_free_amount", 0);
+            params.put("approval_url", "http://localhost:8080/api/popup-reservations/payment/kakao/success");
+            params.put("fail_url", "http://localhost:8080/api/popup-reservations/payment/kakao/fail");
+            params.put("cancel_url", "http://localhost:8080/api/popup-reservations/payment/kakao/cancel");
+
+            return saveClaimed(prepareKey(reservationId), PaymentOutbox.Type.PREPARE, KAKAO_PAY, reservationId, params);
+        });
+
+        PaymentGatewayResult result = paymentOutboxProcessor.execute(outboxId);
+        if (!result.isSuccess()) {
+            return PaymentResponseDto.failure("카카오페이 결제 준비 실패: " + result.getMessage());
         }
+        return PaymentResponseDto.success(result.getRedirectUrl(), result.getTransactionId(), "카카오페이 결제 준비 완료");
     }
 
     /**
@@ -115,34 +85,15 @@ public class PaymentService {
         log.info("네이버페이 결제 준비 시작 - 예약 ID: {}", reservationId);
 
         // 네이버페이 설정 확인
-        if (naverPayClientId == null || naverPayClientId.isEmpty() ||
-                naverPayClientSecret == null || naverPayClientSecret.isEmpty()) {
+        if (!paymentGatewayClient.isNaverPayConfigured()) {
             log.error("네이버페이 설정이 완료되지 않았습니다.");
             return PaymentResponseDto.failure("네이버페이 설정이 완료되지 않았습니다.");
         }
 
-        // 예약 정보 조회
-        Reservation reservation = reservationRepository.findById(reservationId)
-                .orElseThrow(() -> new IllegalArgumentException("예약을 찾을 수 없습니다."));
-
-        Integer entryFee = reservation.getPopup().getEntryFee();
-        if (entryFee == null || entryFee <= 0) {
-            throw new IllegalArgumentException("무료 팝업은 결제가 필요하지 않습니다.");
-        }
-
-        int totalAmount = entryFee * reservation.getPartySize();
-
-        // 예약에 결제 정보 설정
-        reservation.setPaymentAmount(totalAmount);
-        reservationRepository.save(reservation);
-
-        try {
-            String url = "https://dev.apis.naver.com/naverpay-partner/naverpay/payments/v2.2/reserve";
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Content-Type", "application/json;charset=UTF-8");
-            headers.set("X-Naver-Client-Id", naverPayClientId);
-            headers.set("X-Naver-Client-Secret", naverPayClientSecret);
+        Long outboxId = transactionTemplate.execute(status -> {
+            Reservation reservation = findReservation(reservationId);
+            Integer entryFee = reservation.getPopup().getEntryFee();
+            int totalAmount = applyPaymentAmount(reservation);
 
             Map<String, Object> requestBody = new HashMap<>();
             requestBody.put("merchantPayKey", "popup_reservation_" + reservationId);
@@ -162,7 +113,7 @@ public class PaymentService {
             productItem.put("sellPrice", entryFee);
             productItem.put("payAmount", totalAmount);
 
-            requestBody.put("productItems", new Object[]{productItem});
+            requestBody.put("productItems", List.of(productItem));
 
             Map<String, Object> buyerInfo = new HashMap<>();
             buyerInfo.put("buyerId", "user_" + reservation.getUser().getId());
@@ -170,44 +121,16 @@ public class PaymentService {
             buyerInfo.put("buyerTel", reservation.getPhone());
             requestBody.put("buyerInfo", buyerInfo);
 
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-
-            ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.POST, entity, Map.class);
-            Map<String, Object> result = response.getBody();
-
-            if (result != null && "Success".equals(result.get("code"))) {
-                Map<String, Object> body = (Map<String, Object>) result.get("body");
-                String paymentId = (String) body.get("paymentId");
-                String paymentUrl = (String) body.get("paymentUrl");
-
-                // 네이버페이는 paymentId 사용
-                reservation.setPaymentTid(paymentId);
-                reservationRepository.save(reservation);
+            return saveClaimed(prepareKey(reservationId), PaymentOutbox.Type.PREPARE, NAVER_PAY, reservationId, requestBody);
+        });
 
-                log.info("네이버페이 결제 준비 완료 - 예약 ID: {}, Payment ID: {}", reservationId, paymentId);
-
-                return PaymentResponseDto.success(
-                        paymentUrl,
-                        paymentId,
-                        "네이버페이 결제 준비 완료"
-                );
-            } else {
-                String errorMessage = result != null ? (String) result.get("message") : "알 수 없는 오류";
-                log.error("네이버페이 API 오류: {}", errorMessage);
-
-                reservation.markPaymentFailed(errorMessage);
-                reservationRepository.save(reservation);
-
-                return PaymentResponseDto.failure("네이버페이 결제 준비 실패: " + errorMessage);
-            }
-
-        } catch (Exception e) {
-            log.error("네이버페이 결제 준비 실패", e);
-            reservation.markPaymentFailed(e.getMessage());
-            reservationRepository.save(reservation);
-
-            return PaymentResponseDto.failure("네이버페이 결제 준비 실패: " + e.getMessage());
+        PaymentGatewayResult result = paymentOutboxProcessor.execute(outboxId);
+        if (!result.isSuccess()) {
+            return PaymentResponseDto.failure("네이버페이 결제 준비 실패: " + result.getMessage());
         }
+
+        log.info("네이버페이 결제 준비 완료 - 예약 ID: {}, Payment ID: {}", reservationId, result.getTransactionId());
+        return PaymentResponseDto.success(result.getRedirectUrl(), result.getTransactionId(), "네이버페이 결제 준비 완료");
     }
 
     /**
@@ -215,45 +138,29 @@ public class PaymentService {
      */
     public boolean approveKakaoPayment(String tid, String pgToken, Long reservationId) {
         try {
-            // 예약 조회
-            Reservation reservation = reservationRepository.findById(reservationId)
-                    .orElseThrow(() -> new IllegalArgumentException("예약을 찾을 수 없습니다."));
-
-            // 카카오페이 승인 API 호출
-            String url = "https://kapi.kakao.com/v1/payment/approve";
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", "KakaoAK " + kakaoPayAdminKey);
-            headers.set("Content-Type", "application/x-www-form-urlencoded;charset=utf-8");
-
-            Map<String, Object> params = new HashMap<>();
-            params.put("cid", "TC0ONETIME");
-            params.put("tid", tid);
-            params.put("partner_order_id", "popup_reservation_" + reservationId);
-            params.put("partner_user_id", "user_" + reservation.getUser().getId());
-            params.put("pg_token", pgToken);
+            String idempotencyKey = "APPROVE:" + tid;
+            Optional<Boolean> duplicate = checkDuplicate(idempotencyKey);
+            if (duplicate.isPresent()) {
+                return duplicate.get();
+            }
 
-            String body = buildFormData(params);
-            HttpEntity<String> entity = new HttpEntity<>(body, headers);
+            Long outboxId = transactionTemplate.execute(status -> {
+                Reservation reservation = findReservation(reservationId);
 
-            ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.POST, entity, Map.class);
+                Map<String, Object> params = new HashMap<>();
+                params.put("cid", PaymentGatewayClient.KAKAO_CID);
+                params.put("tid", tid);
+                params.put("partner_order_id", "popup_reservation_" + reservationId);
+                params.put("partner_user_id", "user_" + reservation.getUser().getId());
+                params.put("pg_token", pgToken);
 
-            // 결제 완료 처리
-            reservation.markAsPaid("KAKAO_PAY", tid);
-            reservationRepository.save(reservation);
+                return saveClaimed(idempotencyKey, PaymentOutbox.Type.APPROVE, KAKAO_PAY, reservationId, params);
+            });
 
-            log.info("결제 승인 완료: 예약 ID {}, TID {}", reservationId, tid);
-            return true;
+            return approve(outboxId, reservationId);
 
         } catch (Exception e) {
             log.error("카카오페이 결제 승인 실패", e);
-
-            // 예약 조회 후 실패 처리
-            reservationRepository.findById(reservationId).ifPresent(reservation -> {
-                reservation.markPaymentFailed(e.getMessage());
-                reservationRepository.save(reservation);
-            });
-
             return false;
         }
     }
@@ -265,220 +172,145 @@ public class PaymentService {
         log.info("네이버페이 결제 승인 시작 - 예약 ID: {}, Payment ID: {}", reservationId, paymentId);
 
         try {
-            Reservation reservation = reservationRepository.findById(reservationId)
-                    .orElseThrow(() -> new IllegalArgumentException("예약을 찾을 수 없습니다."));
-
-            // 네이버페이 결제 승인 API 호출
-            String url = "https://dev.apis.naver.com/naverpay-partner/naverpay/payments/v2.2/apply/payment";
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Content-Type", "application/json;charset=UTF-8");
-            headers.set("X-Naver-Client-Id", naverPayClientId);
-            headers.set("X-Naver-Client-Secret", naverPayClientSecret);
-
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("paymentId", paymentId);
-
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-
-            ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.POST, entity, Map.class);
-            Map<String, Object> result = response.getBody();
+            String idempotencyKey = "APPROVE:" + paymentId;
+            Optional<Boolean> duplicate = checkDuplicate(idempotencyKey);
+            if (duplicate.isPresent()) {
+                return duplicate.get();
+            }
 
-            if (result != null && "Success".equals(result.get("code"))) {
-                // 결제 완료 처리
-                reservation.markAsPaid("NAVER_PAY", paymentId);
-                reservationRepository.save(reservation);
+            Long outboxId = transactionTemplate.execute(status -> {
+                findReservation(reservationId);
 
-                log.info("네이버페이 결제 승인 완료: 예약 ID {}, Payment ID {}", reservationId, paymentId);
-                return true;
-            } else {
-                String errorMessage = result != null ? (String) result.get("message") : "알 수 없는 오류";
-                log.error("네이버페이 승인 실패: {}", errorMessage);
+                Map<String, Object> requestBody = new HashMap<>();
+                requestBody.put("paymentId", paymentId);
 
-                reservation.markPaymentFailed(errorMessage);
-                reservationRepository.save(reservation);
+                return saveClaimed(idempotencyKey, PaymentOutbox.Type.APPROVE, NAVER_PAY, reservationId, requestBody);
+            });
 
-                return false;
-            }
+            return approve(outboxId, reservationId);
 
         } catch (Exception e) {
             log.error("네이버페이 결제 승인 실패", e);
-
-            // 예약 조회 후 실패 처리
-            reservationRepository.findById(reservationId).ifPresent(reservation -> {
-                reservation.markPaymentFailed(e.getMessage());
-                reservationRepository.save(reservation);
-            });
-
             return false;
         }
     }
+
     /**
-     * 카카오페이 환불 처리
+     * 통합 환불 처리 (결제 방법에 따라 자동 분기)
+     *
+     * 호출 측 트랜잭션에 참여해 환불 요청을 아웃박스에 기록하고 예약을 환불 처리중으로 바꾼다.
+     * PG 환불은 커밋 후 PaymentOutboxWorker 가 진행한다.
      */
-    public boolean refundKakaoPayment(Long reservationId) {
+    public boolean processRefund(Long reservationId) {
         try {
-            Reservation reservation = reservationRepository.findById(reservationId)
-                    .orElseThrow(() -> new IllegalArgumentException("예약을 찾을 수 없습니다."));
-
-            if (!reservation.isPaymentCompleted()) {
-                log.warn("결제가 완료되지 않은 예약입니다. reservationId: {}", reservationId);
-                return false;
-            }
-
-            String tid = reservation.getPaymentTid();
-            if (tid == null || tid.isEmpty()) {
-                log.error("결제 TID가 없습니다. reservationId: {}", reservationId);
-                return false;
-            }
-
-            // 카카오페이 환불 API 호출
-            String url = "https://kapi.kakao.com/v1/payment/cancel";
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", "KakaoAK " + kakaoPayAdminKey);
-            headers.set("Content-Type", "application/x-www-form-urlencoded;charset=utf-8");
-
-            Map<String, Object> params = new HashMap<>();
-            params.put("cid", "TC0ONETIME");
-            params.put("tid", tid);
-            params.put("cancel_amount", reservation.getPaymentAmount());
-            params.put("cancel_tax_free_amount", 0);
-            params.put("cancel_vat_amount", reservation.getPaymentAmount() / 11);
-
-            String body = buildFormData(params);
-            HttpEntity<String> entity = new HttpEntity<>(body, headers);
-
-            ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.POST, entity, Map.class);
-            Map<String, Object> result = response.getBody();
-
-            // 카카오페이 API 응답 검증
-            if (result != null && result.get("aid") != null) {
-                // 환불 성공 - aid가 있으면 성공
-                String aid = (String) result.get("aid");
-
-                reservation.markPaymentRefunded();
-                reservationRepository.save(reservation);
-
-                log.info("카카오페이 환불 완료: reservationId={}, tid={}, aid={}, amount={}",
-                        reservationId, tid, aid, reservation.getPaymentAmount());
-                return true;
-
-            } else {
-                // 환불 실패 - API 응답 이상
-                log.error("카카오페이 환불 API 응답 이상: reservationId={}, response={}",
-                        reservationId, result);
-                return false;
-            }
-
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> requestRefund(reservationId)));
         } catch (Exception e) {
-            log.error("카카오페이 환불 실패: reservationId={}", reservationId, e);
+            log.error("환불 처리 중 오류 발생: reservationId={}", reservationId, e);
             return false;
         }
     }
 
+    private boolean requestRefund(Long reservationId) {
+        Reservation reservation = findReservation(reservationId);
 
-    /**
-     * 네이버페이 환불 처리
-     */
-    public boolean refundNaverPayment(Long reservationId) {
-        try {
-            Reservation reservation = reservationRepository.findById(reservationId)
-                    .orElseThrow(() -> new IllegalArgumentException("예약을 찾을 수 없습니다."));
+        if (!reservation.isPaymentCompleted()) {
+            log.info("결제되지 않은 예약이므로 환불할 필요가 없습니다. reservationId: {}", reservationId);
+            return true;
+        }
 
-            if (!reservation.isPaymentCompleted()) {
-                log.warn("결제가 완료되지 않은 예약입니다. reservationId: {}", reservationId);
-                return false;
-            }
+        String paymentMethod = reservation.getPaymentMethod();
+        if (paymentMethod == null) {
+            log.error("결제 방법 정보가 없습니다. reservationId: {}", reservationId);
+            return false;
+        }
 
-            String paymentId = reservation.getPaymentTid();
-            if (paymentId == null || paymentId.isEmpty()) {
-                log.error("결제 ID가 없습니다. reservationId: {}", reservationId);
+        String tid = reservation.getPaymentTid();
+        if (tid == null || tid.isEmpty()) {
+            log.error("결제 TID가 없습니다. reservationId: {}", reservationId);
+            return false;
+        }
+
+        Map<String, Object> params = new HashMap<>();
+        switch (paymentMethod.toUpperCase()) {
+            case KAKAO_PAY:
+                params.put("cid", PaymentGatewayClient.KAKAO_CID);
+                params.put("tid", tid);
+                params.put("cancel_amount", reservation.getPaymentAmount());
+                params.put("cancel_tax_free_amount", 0);
+                params.put("cancel_vat_amount", reservation.getPaymentAmount() / 11);
+                break;
+            case NAVER_PAY:
+                params.put("paymentId", tid);
+                params.put("cancelAmount", reservation.getPaymentAmount());
+                params.put("cancelReason", "사용자 예약 취소");
+                break;
+            default:
+                log.error("지원하지 않는 결제 방법입니다. reservationId={}, paymentMethod={}",
+                        reservationId, paymentMethod);
                 return false;
-            }
+        }
 
-            // 네이버페이 환불 API 호출
-            String url = "https://dev.apis.naver.com/naverpay-partner/naverpay/payments/v2.2/apply/cancel";
+        String idempotencyKey = "REFUND:" + tid;
+        if (paymentOutboxRepository.findByIdempotencyKey(idempotencyKey).isEmpty()) {
+            paymentOutboxRepository.save(PaymentOutbox.queued(idempotencyKey, PaymentOutbox.Type.REFUND,
+                    paymentMethod.toUpperCase(), reservationId, paymentOutboxProcessor.writePayload(params),
+                    LocalDateTime.now()));
+        }
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Content-Type", "application/json;charset=UTF-8");
-            headers.set("X-Naver-Client-Id", naverPayClientId);
-            headers.set("X-Naver-Client-Secret", naverPayClientSecret);
+        reservation.markRefundRequested();
+        reservationRepository.save(reservation);
 
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("paymentId", paymentId);
-            requestBody.put("cancelAmount", reservation.getPaymentAmount());
-            requestBody.put("cancelReason", "사용자 예약 취소");
-
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-
-            ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.POST, entity, Map.class);
-            Map<String, Object> result = response.getBody();
-
-            if (result != null && "Success".equals(result.get("code"))) {
-                // 환불 성공 처리
-                reservation.markPaymentRefunded();
-                reservationRepository.save(reservation);
-
-                log.info("네이버페이 환불 완료: reservationId={}, paymentId={}, amount={}",
-                        reservationId, paymentId, reservation.getPaymentAmount());
-                return true;
-            } else {
-                String errorMessage = result != null ? (String) result.get("message") : "알 수 없는 오류";
-                log.error("네이버페이 환불 실패: reservationId={}, error={}", reservationId, errorMessage);
-                return false;
-            }
+        log.info("환불 요청 기록: reservationId={}, method={}, amount={}",
+                reservationId, paymentMethod, reservation.getPaymentAmount());
+        return true;
+    }
 
-        } catch (Exception e) {
-            log.error("네이버페이 환불 실패: reservationId={}", reservationId, e);
-            return false;
+    private boolean approve(Long outboxId, Long reservationId) {
+        PaymentGatewayResult result = paymentOutboxProcessor.execute(outboxId);
+        if (!result.isSuccess() && result.isRetryable()) {
+            log.warn("결제 승인 결과 확인 불가, 재시도 예정: reservationId={}, {}", reservationId, result.getMessage());
         }
+        return result.isSuccess();
     }
 
     /**
-     * 통합 환불 처리 (결제 방법에 따라 자동 분기)
+     * 같은 승인 콜백이 다시 들어온 경우 이전 결과 반환
      */
-    public boolean processRefund(Long reservationId) {
-        try {
-            Reservation reservation = reservationRepository.findById(reservationId)
-                    .orElseThrow(() -> new IllegalArgumentException("예약을 찾을 수 없습니다."));
-
-            if (!reservation.isPaymentCompleted()) {
-                log.info("결제되지 않은 예약이므로 환불할 필요가 없습니다. reservationId: {}", reservationId);
-                return true;
-            }
+    private Optional<Boolean> checkDuplicate(String idempotencyKey) {
+        return paymentOutboxRepository.findByIdempotencyKey(idempotencyKey)
+                .map(existing -> {
+                    log.info("이미 처리된 결제 요청: key={}, status={}", idempotencyKey, existing.getStatus());
+                    return existing.isCompleted();
+                });
+    }
 
-            String paymentMethod = reservation.getPaymentMethod();
-            if (paymentMethod == null) {
-                log.error("결제 방법 정보가 없습니다. reservationId: {}", reservationId);
-                return false;
-            }
+    private Long saveClaimed(String idempotencyKey, PaymentOutbox.Type type, String paymentMethod,
+                             Long reservationId, Map<String, Object> payload) {
+        return paymentOutboxRepository.save(PaymentOutbox.claimed(idempotencyKey, type, paymentMethod, reservationId,
+                paymentOutboxProcessor.writePayload(payload), paymentOutboxProcessor.leaseUntil())).getId();
+    }
 
-            switch (paymentMethod.toUpperCase()) {
-                case "KAKAO_PAY":
-                    return refundKakaoPayment(reservationId);
-                case "NAVER_PAY":
-                    return refundNaverPayment(reservationId);
-                default:
-                    log.error("지원하지 않는 결제 방법입니다. reservationId={}, paymentMethod={}",
-                            reservationId, paymentMethod);
-                    return false;
-            }
+    private Reservation findReservation(Long reservationId) {
+        return reservationRepository.findById(reservationId)
+                .orElseThrow(() -> new IllegalArgumentException("예약을 찾을 수 없습니다."));
+    }
 
-        } catch (Exception e) {
-            log.error("환불 처리 중 오류 발생: reservationId={}", reservationId, e);
-            return false;
+    /**
+     * 입장료 x 인원으로 결제 금액 설정
+     */
+    private int applyPaymentAmount(Reservation reservation) {
+        Integer entryFee = reservation.getPopup().getEntryFee();
+        if (entryFee == null || entryFee <= 0) {
+            throw new IllegalArgumentException("무료 팝업은 결제가 필요하지 않습니다.");
         }
+
+        int totalAmount = entryFee * reservation.getPartySize();
+        reservation.setPaymentAmount(totalAmount);
+        reservationRepository.save(reservation);
+        return totalAmount;
     }
 
-    private String buildFormData(Map<String, Object> params) {
-        StringBuilder sb = new StringBuilder();
-        for (Map.Entry<String, Object> entry : params.entrySet()) {
-            if (sb.length() > 0) {
-                sb.append("&");
-            }
-            sb.append(entry.getKey()).append("=").append(entry.getValue());
-        }
-        return sb.toString();
+    private String prepareKey(Long reservationId) {
+        return "PREPARE:" + reservationId + ":" + UUID.randomUUID();
     }
-}
\ No newline at end of file
+}
@@ -53,6 +53,11 @@ public class PopupDetailResponseDto {
     private final List<String> tags;
 
     public static PopupDetailResponseDto from(Popup popup) {
+        return from(popup, popup.getViewCount());
+    }
+
+    // 아직 DB에 반영되지 않은 조회수를 포함해 변환
+    public static PopupDetailResponseDto from(Popup popup, Long viewCount) {
         return PopupDetailResponseDto.builder()
                 .id(popup.getId())
                 .title(popup.getTitle())
@@ -70,7 +75,7 @@ public class PopupDetailResponseDto {
                 .entryFee(popup.getEntryFee())
                 .isFreeEntry(popup.isFreeEntry())
                 .feeDisplayText(popup.getFeeDisplayText())
-                .viewCount(popup.getViewCount())
+                .viewCount(viewCount)
                 .createdAt(popup.getCreatedAt())
                 .updatedAt(popup.getUpdatedAt())
                 .venueName(popup.getVenueName())
@@ -0,0 +1,53 @@
+package com.snow.popin.domain.popup.event;
+
+import com.snow.popin.domain.popup.entity.Popup;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 팝업 변경 이벤트
+ *
+ * 팝업 등록/수정/삭제, 상태·장소 변경 시 발행하고 팝업을 들고 있는 인덱스와 캐시가 받아 반영한다.
+ * 리스너는 발행한 트랜잭션 안에서 호출되므로 변경된 엔티티를 그대로 읽을 수 있고, 실제 반영은 각자 커밋 이후에 한다.
+ */
+@Getter
+public class PopupChangedEvent {
+
+    private final List<Popup> popups;       // 등록/수정된 팝업
+    private final List<Long> deletedIds;    // 삭제된 팝업 ID
+    private final Long venueId;             // 장소 정보가 바뀐 경우 그 장소 ID (장소의 팝업 전체가 대상)
+
+    private PopupChangedEvent(List<Popup> popups, List<Long> deletedIds, Long venueId) {
+        this.popups = popups;
+        this.deletedIds = deletedIds;
+        this.venueId = venueId;
+    }
+
+    public static PopupChangedEvent updated(Popup popup) {
+        return new PopupChangedEvent(List.of(popup), List.of(), null);
+    }
+
+    public static PopupChangedEvent updated(Collection<Popup> popups) {
+        return new PopupChangedEvent(List.copyOf(popups), List.of(), null);
+    }
+
+    public static PopupChangedEvent deleted(Long popupId) {
+        return new PopupChangedEvent(List.of(), List.of(popupId), null);
+    }
+
+    public static PopupChangedEvent venueUpdated(Long venueId) {
+        return new PopupChangedEvent(List.of(), List.of(), venueId);
+    }
+
+    /**
+     * 등록/수정 또는 삭제된 팝업 ID
+     */
+    public List<Long> getPopupIds() {
+        List<Long> ids = new ArrayList<>(deletedIds);
+        popups.forEach(popup -> ids.add(popup.getId()));
+        return ids;
+    }
+}
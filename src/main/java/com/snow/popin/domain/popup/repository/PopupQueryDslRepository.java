@@ -14,7 +14,6 @@ import org.springframework.util.StringUtils;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import static com.snow.popin.domain.map.entity.QVenue.venue;
 import static com.snow.popin.domain.popup.entity.QPopup.popup;
@@ -339,10 +338,9 @@ public class PopupQueryDslRepository {
     }
 
     /**
-     * 경계 내 팝업 조회
+     * 좌표가 있는 진행중/예정 팝업 전체 조회 (지도 공간 인덱스 적재용)
      */
-    public List<Popup> findPopupsInBounds(double southWestLat, double southWestLng,
-                                          double northEastLat, double northEastLng) {
+    public List<Popup> findActivePopupsWithCoordinates() {
         return queryFactory
                 .selectFrom(popup)
                 .leftJoin(popup.venue, venue).fetchJoin()
@@ -351,94 +349,20 @@ public class PopupQueryDslRepository {
                         popup.status.in(PopupStatus.ONGOING, PopupStatus.PLANNED)
                                 .and(venue.latitude.isNotNull())
                                 .and(venue.longitude.isNotNull())
-                                .and(venue.latitude.between(southWestLat, northEastLat))
-                                .and(venue.longitude.between(southWestLng, northEastLng))
                 )
-                .orderBy(popup.createdAt.desc())
                 .fetch();
     }
 
     /**
-     * 반경 내 팝업 조회
+     * 장소가 지정된 진행중/예정 팝업 전체 조회 (지도 통계 적재용)
      */
-    public List<Popup> findPopupsWithinRadius(double lat, double lng, double radiusKm) {
-        // 대략적인 경계 박스 계산으로 1차 필터링
-        double latDelta = radiusKm / 111.0; // 1도 ≈ 111km
-        double lngDelta = radiusKm / (111.0 * Math.cos(Math.toRadians(lat)));
-
-        List<Popup> candidates = queryFactory
+    public List<Popup> findActivePopupsWithVenue() {
+        return queryFactory
                 .selectFrom(popup)
-                .leftJoin(popup.venue, venue).fetchJoin()
+                .join(popup.venue, venue).fetchJoin()
                 .leftJoin(popup.category, category).fetchJoin()
-                .where(
-                        popup.status.in(PopupStatus.ONGOING, PopupStatus.PLANNED)
-                                .and(venue.latitude.isNotNull())
-                                .and(venue.longitude.isNotNull())
-                                .and(venue.latitude.between(lat - latDelta, lat + latDelta))
-                                .and(venue.longitude.between(lng - lngDelta, lng + lngDelta))
-                )
+                .where(popup.status.in(PopupStatus.ONGOING, PopupStatus.PLANNED))
                 .fetch();
-
-        return candidates.stream()
-                .filter(p -> calculateDistance(lat, lng,
-                        p.getVenue().getLatitude(), p.getVenue().getLongitude()) <= radiusKm)
-                .sorted((p1, p2) -> Double.compare(
-                        calculateDistance(lat, lng, p1.getVenue().getLatitude(), p1.getVenue().getLongitude()),
-                        calculateDistance(lat, lng, p2.getVenue().getLatitude(), p2.getVenue().getLongitude())
-                ))
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * 카테고리별 지도 통계
-     */
-    public List<Object[]> findMapPopupStatsByCategory(String region) {
-        BooleanBuilder builder = new BooleanBuilder();
-
-        builder.and(popup.status.in(PopupStatus.ONGOING, PopupStatus.PLANNED))
-                .and(venue.latitude.isNotNull())
-                .and(venue.longitude.isNotNull());
-
-        if (StringUtils.hasText(region) && !"전체".equals(region)) {
-            builder.and(venue.region.eq(region));
-        }
-
-        return queryFactory
-                .select(category.name, popup.count())
-                .from(popup)
-                .leftJoin(popup.category, category)
-                .leftJoin(popup.venue, venue)
-                .where(builder)
-                .groupBy(category.id, category.name)
-                .orderBy(popup.count().desc())
-                .fetch()
-                .stream()
-                .map(tuple -> new Object[]{tuple.get(category.name), tuple.get(popup.count())})
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * 지역별 지도 통계
-     */
-    public List<Object[]> findMapPopupStatsByRegion() {
-        BooleanBuilder builder = new BooleanBuilder();
-
-        builder.and(popup.status.in(PopupStatus.ONGOING, PopupStatus.PLANNED))
-                .and(venue.latitude.isNotNull())
-                .and(venue.longitude.isNotNull())
-                .and(venue.region.isNotNull());
-
-        return queryFactory
-                .select(venue.region, popup.count())
-                .from(popup)
-                .leftJoin(popup.venue, venue)
-                .where(builder)
-                .groupBy(venue.region)
-                .orderBy(popup.count().desc())
-                .fetch()
-                .stream()
-                .map(tuple -> new Object[]{tuple.get(venue.region), tuple.get(popup.count())})
-                .collect(Collectors.toList());
     }
 
     /**
@@ -467,16 +391,4 @@ public class PopupQueryDslRepository {
                 )
                 .fetch();
     }
-
-    // 거리 계산 헬퍼 메서드 (Haversine formula)
-    private double calculateDistance(double lat1, double lng1, double lat2, double lng2) {
-        final int R = 6371; // 지구 반지름 (km)
-        double latDistance = Math.toRadians(lat2 - lat1);
-        double lngDistance = Math.toRadians(lng2 - lng1);
-        double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
-                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-                * Math.sin(lngDistance / 2) * Math.sin(lngDistance / 2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        return R * c;
-    }
 }
\ No newline at end of file
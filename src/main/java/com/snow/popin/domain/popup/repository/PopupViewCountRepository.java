@@ -0,0 +1,30 @@
+package com.snow.popin.domain.popup.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class PopupViewCountRepository {
+
+    private static final String INCREMENT_VIEW_COUNT_SQL =
+            "UPDATE popups SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 팝업별 조회수 증가분을 한 번의 배치 UPDATE로 반영
+     */
+    @Transactional
+    public int[] incrementViewCounts(Map<Long, Long> deltas) {
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((popupId, delta) -> args.add(new Object[]{delta, popupId}));
+        return jdbcTemplate.batchUpdate(INCREMENT_VIEW_COUNT_SQL, args);
+    }
+}
@@ -0,0 +1,62 @@
+package com.snow.popin.domain.popup.service;
+
+import com.snow.popin.domain.popup.entity.Popup;
+import com.snow.popin.domain.popup.repository.PopupQueryDslRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 누적 조회수 순 인기 팝업 스냅샷 (트렌딩 랭킹 보충용)
+ *
+ * 트렌딩 점수가 비었거나(재시작 직후, 한산한 날) 상위 개수가 모자랄 때 채울 진행중/예정 팝업 ID 를
+ * 트렌딩 스냅샷과 같은 5초 주기로 한 번 조회해 두고, 인기 팝업 요청은 이 목록만 읽는다.
+ *
+ * 스냅샷이 아직 없으면 최초 요청에서 한 번 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopularPopupSnapshot {
+
+    static final int SIZE = 20;
+
+    private final PopupQueryDslRepository popupQueryDslRepository;
+
+    private volatile List<Long> popupIds;
+
+    /**
+     * 누적 조회수 순 진행중/예정 팝업 ID (최대 SIZE개)
+     */
+    public List<Long> getPopupIds() {
+        List<Long> current = popupIds;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (popupIds == null) {
+                refresh();
+            }
+            return popupIds != null ? popupIds : Collections.emptyList();
+        }
+    }
+
+    @Scheduled(fixedDelay = 5000)
+    public void refresh() {
+        try {
+            popupIds = popupQueryDslRepository.findPopularActivePopups(PageRequest.of(0, SIZE))
+                    .getContent()
+                    .stream()
+                    .map(Popup::getId)
+                    .collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList));
+        } catch (Exception e) {
+            log.error("[PopularPopupSnapshot] 인기 팝업 스냅샷 갱신 실패", e);
+        }
+    }
+}
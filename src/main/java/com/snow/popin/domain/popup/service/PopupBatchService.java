@@ -3,10 +3,12 @@ package com.snow.popin.domain.popup.service;
 import com.snow.popin.domain.mission.repository.MissionRepository;
 import com.snow.popin.domain.mission.repository.MissionSetRepository;
 import com.snow.popin.domain.popup.entity.Popup;
+import com.snow.popin.domain.popup.event.PopupChangedEvent;
 import com.snow.popin.domain.popup.repository.PopupQueryDslRepository;
 import com.snow.popin.domain.popup.repository.PopupRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,6 +25,7 @@ public class PopupBatchService {
     private final PopupRepository popupRepository;
     private final PopupQueryDslRepository popupQueryDslRepository;
     private final MissionSetRepository missionSetRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     //매일 자정, 팝업의 상태를 자동으로 업데이트합니다.
     @Transactional
@@ -44,6 +47,7 @@ public class PopupBatchService {
             int enabled = missionSetRepository.bulkEnableByPopupIds(ids);
             log.info("ONGOING 전환된 팝업 {}건에 대해 미션셋 {}건 ENABLE(벌크) 처리", popupsToStart.size(), enabled);
             popupRepository.saveAll(popupsToStart);
+            eventPublisher.publishEvent(PopupChangedEvent.updated(popupsToStart));
         }
 
         // ONGOING -> ENDED 업데이트
@@ -58,6 +62,7 @@ public class PopupBatchService {
             int disabled = missionSetRepository.bulkDisableByPopupIds(ids);
             log.info("ENDED 전환된 팝업 {}건에 대해 미션셋 {}건 DISABLE(벌크) 처리", popupsToEnd.size(), disabled);
             popupRepository.saveAll(popupsToEnd);
+            eventPublisher.publishEvent(PopupChangedEvent.updated(popupsToEnd));
         }
 
         if (updatedCount > 0) {
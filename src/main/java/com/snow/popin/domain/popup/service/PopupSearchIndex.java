@@ -0,0 +1,348 @@
+package com.snow.popin.domain.popup.service;
+
+import com.snow.popin.domain.mypage.host.entity.Brand;
+import com.snow.popin.domain.mypage.host.repository.BrandRepository;
+import com.snow.popin.domain.popup.entity.Popup;
+import com.snow.popin.domain.popup.entity.PopupStatus;
+import com.snow.popin.domain.popup.entity.Tag;
+import com.snow.popin.domain.popup.event.PopupChangedEvent;
+import com.snow.popin.domain.popup.repository.PopupSearchQueryDslRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static com.snow.popin.global.util.TransactionUtil.afterCommit;
+
+/**
+ * 팝업 검색용 역색인
+ *
+ * 제목, 태그, 브랜드명, 장소명, 요약을 글자 단위 2-gram 으로 잘라 색인한다.
+ * 한글은 형태소 분석 없이도 "나이키" 로 "나이키팝업스토어" 가 찾아지도록 공백/기호를 지운 뒤 2-gram 을 만든다.
+ *
+ * 검색어의 모든 2-gram 을 포함하는 팝업만 후보가 되고(AND),
+ * 점수는 2-gram 마다 (필드 가중치 × idf) 를 더한 값에 제목 완전 포함 가산점을 더해 매긴다.
+ * 동점이면 진행중 → 예정 → 종료, 최신 등록순이다.
+ *
+ * 최초 검색 시 한 번 적재하고, 팝업 등록/수정/삭제와 상태·장소 변경 시 커밋 이후 해당 문서만 다시 색인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopupSearchIndex {
+
+    private static final float TITLE_WEIGHT = 5f;
+    private static final float TAG_WEIGHT = 3f;
+    private static final float BRAND_WEIGHT = 2f;
+    private static final float VENUE_WEIGHT = 2f;
+    private static final float SUMMARY_WEIGHT = 1f;
+    private static final double EXACT_TITLE_BONUS = 10.0;
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final PopupSearchQueryDslRepository popupSearchQueryDslRepository;
+    private final BrandRepository brandRepository;
+
+    private final Map<String, Map<Long, Float>> postings = new ConcurrentHashMap<>();
+    private final Map<Long, IndexedDocument> documents = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    /**
+     * 검색어와 일치하는 팝업 ID (관련도순)
+     */
+    public List<Long> search(String query) {
+        ensureLoaded();
+
+        Set<String> terms = queryTerms(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        // 문서 빈도가 낮은 2-gram 부터 교집합을 구해 후보를 빠르게 줄인다
+        List<Map<Long, Float>> termPostings = terms.stream()
+                .map(postings::get)
+                .collect(Collectors.toList());
+        if (termPostings.contains(null)) {
+            return List.of();
+        }
+        termPostings.sort(Comparator.comparingInt(Map::size));
+
+        int totalDocuments = Math.max(1, documents.size());
+        Map<Long, Double> scores = null;
+        for (Map<Long, Float> posting : termPostings) {
+            double idf = Math.log(1 + (double) totalDocuments / Math.max(1, posting.size()));
+            if (scores == null) {
+                scores = new HashMap<>();
+                for (Map.Entry<Long, Float> entry : posting.entrySet()) {
+                    scores.put(entry.getKey(), entry.getValue() * idf);
+                }
+                continue;
+            }
+            scores.keySet().retainAll(posting.keySet());
+            scores.replaceAll((id, score) -> score + posting.getOrDefault(id, 0f) * idf);
+            if (scores.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        String normalizedQuery = normalize(query);
+        return scores.entrySet().stream()
+                .map(entry -> rank(entry.getKey(), entry.getValue(), normalizedQuery))
+                .filter(Objects::nonNull)
+                .sorted()
+                .map(ranked -> ranked.popupId)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 팝업 변경 반영
+     */
+    @EventListener
+    public void onPopupChanged(PopupChangedEvent event) {
+        upsertAll(event.getPopups());
+        event.getDeletedIds().forEach(this::delete);
+        if (event.getVenueId() != null) {
+            reindexVenue(event.getVenueId());
+        }
+    }
+
+    /**
+     * 팝업 색인 (트랜잭션 안에서는 커밋 이후 반영)
+     */
+    public void upsert(Popup popup) {
+        upsertAll(List.of(popup));
+    }
+
+    /**
+     * 여러 팝업 색인, 브랜드명은 한 번에 조회 (트랜잭션 안에서는 커밋 이후 반영)
+     */
+    public void upsertAll(Collection<Popup> popups) {
+        if (popups.isEmpty()) {
+            return;
+        }
+        List<IndexedDocument> indexed = toDocuments(popups);
+        afterCommit(() -> indexed.forEach(document -> apply(document.popupId, document)));
+    }
+
+    /**
+     * 장소 정보가 바뀐 팝업 재색인 (장소명도 색인 대상, 적재 전이면 적재 시 반영되므로 조회하지 않음)
+     */
+    public void reindexVenue(Long venueId) {
+        if (!loaded || venueId == null) {
+            return;
+        }
+        upsertAll(popupSearchQueryDslRepository.findAllForSearchIndexByVenueId(venueId));
+    }
+
+    /**
+     * 색인 제거 (트랜잭션 안에서는 커밋 이후 반영)
+     */
+    public void delete(Long popupId) {
+        afterCommit(() -> apply(popupId, null));
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            List<IndexedDocument> indexed = toDocuments(popupSearchQueryDslRepository.findAllForSearchIndex());
+
+            postings.clear();
+            documents.clear();
+            indexed.forEach(this::put);
+            loaded = true;
+            log.info("[PopupSearchIndex] 검색 인덱스 적재 완료: documents={}, terms={}", documents.size(), postings.size());
+        }
+    }
+
+    private List<IndexedDocument> toDocuments(Collection<Popup> popups) {
+        Set<Long> brandIds = popups.stream()
+                .map(Popup::getBrandId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, String> brandNames = brandIds.isEmpty()
+                ? Collections.emptyMap()
+                : brandRepository.findAllById(brandIds).stream()
+                        .collect(Collectors.toMap(Brand::getId, Brand::getName, (a, b) -> a));
+
+        return popups.stream()
+                .map(popup -> IndexedDocument.from(popup, brandNames.get(popup.getBrandId())))
+                .collect(Collectors.toList());
+    }
+
+    // 적재 전 변경은 버린다 (적재 시 DB에서 최신 상태를 읽음)
+    private synchronized void apply(Long popupId, IndexedDocument document) {
+        if (!loaded) {
+            return;
+        }
+        remove(popupId);
+        if (document != null) {
+            put(document);
+        }
+    }
+
+    private void put(IndexedDocument document) {
+        documents.put(document.popupId, document);
+        document.termWeights.forEach((term, weight) ->
+                postings.computeIfAbsent(term, key -> new ConcurrentHashMap<>()).put(document.popupId, weight));
+    }
+
+    private void remove(Long popupId) {
+        IndexedDocument previous = documents.remove(popupId);
+        if (previous == null) {
+            return;
+        }
+        previous.termWeights.keySet().forEach(term ->
+                postings.computeIfPresent(term, (key, posting) -> {
+                    posting.remove(popupId);
+                    return posting.isEmpty() ? null : posting;
+                }));
+    }
+
+    private RankedPopup rank(Long popupId, double score, String normalizedQuery) {
+        IndexedDocument document = documents.get(popupId);
+        if (document == null) {
+            return null;
+        }
+        if (document.normalizedTitle.contains(normalizedQuery)) {
+            score += EXACT_TITLE_BONUS;
+        }
+        return new RankedPopup(popupId, score, document.statusRank, document.createdAt);
+    }
+
+    // ===== 토큰화 =====
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT).trim();
+    }
+
+    // 문서: 공백/기호를 지운 전체 문자열의 2-gram (단어 경계를 넘는 2-gram 포함)
+    static Set<String> documentTerms(String text) {
+        String compact = NON_WORD.matcher(normalize(text)).replaceAll("");
+        Set<String> terms = new LinkedHashSet<>();
+        if (compact.length() == 1) {
+            terms.add(compact);
+        }
+        for (int i = 0; i + 2 <= compact.length(); i++) {
+            terms.add(compact.substring(i, i + 2));
+        }
+        return terms;
+    }
+
+    // 검색어: 단어별 2-gram (한 글자 단어는 다른 단어가 있으면 무시)
+    static Set<String> queryTerms(String query) {
+        Set<String> terms = new LinkedHashSet<>();
+        String[] words = NON_WORD.split(normalize(query));
+        for (String word : words) {
+            for (int i = 0; i + 2 <= word.length(); i++) {
+                terms.add(word.substring(i, i + 2));
+            }
+        }
+        if (terms.isEmpty()) {
+            for (String word : words) {
+                if (word.length() == 1) {
+                    terms.add(word);
+                }
+            }
+        }
+        return terms;
+    }
+
+    private static final class IndexedDocument {
+        private final Long popupId;
+        private final String normalizedTitle;
+        private final int statusRank;
+        private final LocalDateTime createdAt;
+        private final Map<String, Float> termWeights;
+
+        private IndexedDocument(Long popupId, String normalizedTitle, int statusRank,
+                                LocalDateTime createdAt, Map<String, Float> termWeights) {
+            this.popupId = popupId;
+            this.normalizedTitle = normalizedTitle;
+            this.statusRank = statusRank;
+            this.createdAt = createdAt;
+            this.termWeights = termWeights;
+        }
+
+        private static IndexedDocument from(Popup popup, String brandName) {
+            Map<String, Float> weights = new HashMap<>();
+            addField(weights, popup.getTitle(), TITLE_WEIGHT);
+            addField(weights, popup.getSummary(), SUMMARY_WEIGHT);
+            addField(weights, brandName, BRAND_WEIGHT);
+            addField(weights, popup.getVenueName(), VENUE_WEIGHT);
+            tagNames(popup.getTags()).forEach(tagName -> addField(weights, tagName, TAG_WEIGHT));
+
+            return new IndexedDocument(popup.getId(), normalize(popup.getTitle()), statusRank(popup.getStatus()),
+                    popup.getCreatedAt(), weights);
+        }
+
+        // 같은 2-gram 이 여러 필드에 있으면 가중치를 더한다 (필드 내 반복은 한 번만)
+        private static void addField(Map<String, Float> weights, String text, float weight) {
+            documentTerms(text).forEach(term -> weights.merge(term, weight, Float::sum));
+        }
+
+        private static Collection<String> tagNames(Collection<Tag> tags) {
+            if (tags == null) {
+                return List.of();
+            }
+            return tags.stream()
+                    .map(Tag::getName)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+        }
+
+        private static int statusRank(PopupStatus status) {
+            if (status == PopupStatus.ONGOING) return 1;
+            if (status == PopupStatus.PLANNED) return 2;
+            if (status == PopupStatus.ENDED) return 3;
+            return 4;
+        }
+    }
+
+    private static final class RankedPopup implements Comparable<RankedPopup> {
+        private static final Comparator<RankedPopup> ORDER = Comparator
+                .comparingDouble((RankedPopup ranked) -> ranked.score).reversed()
+                .thenComparingInt(ranked -> ranked.statusRank)
+                .thenComparing(ranked -> ranked.createdAt, Comparator.nullsLast(Comparator.reverseOrder()));
+
+        private final Long popupId;
+        private final double score;
+        private final int statusRank;
+        private final LocalDateTime createdAt;
+
+        private RankedPopup(Long popupId, double score, int statusRank, LocalDateTime createdAt) {
+            this.popupId = popupId;
+            this.score = score;
+            this.statusRank = statusRank;
+            this.createdAt = createdAt;
+        }
+
+        @Override
+        public int compareTo(RankedPopup other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
@@ -3,7 +3,7 @@ package com.snow.popin.domain.popup.service;
 import com.snow.popin.domain.popup.dto.request.PopupSearchRequestDto;
 import com.snow.popin.domain.popup.dto.response.*;
 import com.snow.popin.domain.popup.entity.Popup;
-import com.snow.popin.domain.popup.repository.PopupSearchQueryDslRepository;
+import com.snow.popin.domain.popup.repository.PopupQueryDslRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.*;
@@ -20,10 +20,12 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class PopupSearchService {
 
-    private final PopupSearchQueryDslRepository popupSearchQueryDslRepository;
+    private final PopupQueryDslRepository popupQueryDslRepository;
+    private final PopupSearchIndex popupSearchIndex;
+    private final PopupSuggestionIndex popupSuggestionIndex;
 
     /**
-     * 팝업 검색 (제목 + 태그)
+     * 팝업 검색 (제목, 태그, 브랜드, 장소, 요약 - 관련도순)
      */
     public PopupListResponseDto searchPopups(PopupSearchRequestDto request) {
         String query = preprocessQuery(request.getQuery());
@@ -39,10 +41,22 @@ public class PopupSearchService {
                 query, request.getPage(), request.getSize());
 
         Pageable pageable = PageRequest.of(request.getPage(), request.getSize());
-        Page<Popup> popupPage = popupSearchQueryDslRepository.searchByTitleAndTags(query, pageable);
+        List<Long> matchedIds = popupSearchIndex.search(query);
+
+        // 현재 페이지에 해당하는 팝업만 조회해 관련도 순서대로 정렬
+        int start = (int) Math.min(pageable.getOffset(), matchedIds.size());
+        int end = Math.min(start + pageable.getPageSize(), matchedIds.size());
+        List<Long> pageIds = matchedIds.subList(start, end);
+
+        Map<Long, Popup> popupsById = popupQueryDslRepository.findByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(Popup::getId, popup -> popup));
+        List<Popup> pagePopups = pageIds.stream()
+                .map(popupsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        Page<Popup> popupPage = new PageImpl<>(pagePopups, pageable, matchedIds.size());
 
-        List<PopupSummaryResponseDto> popupDtos = popupPage.getContent()
-                .stream()
+        List<PopupSummaryResponseDto> popupDtos = pagePopups.stream()
                 .map(PopupSummaryResponseDto::from)
                 .collect(Collectors.toList());
 
@@ -64,11 +78,7 @@ public class PopupSearchService {
         log.info("자동완성 조회 - query: '{}'", processedQuery);
 
         try {
-            List<String> suggestions = popupSearchQueryDslRepository.findSuggestions(processedQuery, 8);
-
-            List<AutocompleteSuggestionDto> suggestionDtos = suggestions.stream()
-                    .map(suggestion -> AutocompleteSuggestionDto.of(suggestion, "suggestion", 0L))
-                    .collect(Collectors.toList());
+            List<AutocompleteSuggestionDto> suggestionDtos = popupSuggestionIndex.suggest(processedQuery, 8);
 
             log.info("자동완성 완료 - 결과: {}개", suggestionDtos.size());
             return AutocompleteResponseDto.of(suggestionDtos, query);
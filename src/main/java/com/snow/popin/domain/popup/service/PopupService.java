@@ -32,6 +32,9 @@ public class PopupService {
     private final AiRecommendationService aiRecommendationService;
     private final BrandRepository brandRepository;
     private final UserUtil userUtil;
+    private final PopupViewCounter popupViewCounter;
+    private final PopupTrendingRanking popupTrendingRanking;
+    private final PopularPopupSnapshot popularPopupSnapshot;
 
     // ===== 메인 페이지 필터링 API =====
 
@@ -61,17 +64,33 @@ public class PopupService {
         }
 
         int adjustedSize = Math.min(size, remainingItems);
-        Pageable pageable = createPageable(page, adjustedSize);
 
-        // 진행중/예정 상태만 조회하는 새 메서드 사용
-        Page<Popup> popupPage = popupQueryDslRepository.findPopularActivePopups(pageable);
+        // DB 정렬 없이 트렌딩 랭킹 스냅샷 순으로, 모자라면 누적 조회수 스냅샷으로 채움
+        List<Long> trendingIds = popupTrendingRanking.getTopPopupIds();
+        Set<Long> candidateIds = new LinkedHashSet<>(trendingIds);
+        candidateIds.addAll(popularPopupSnapshot.getPopupIds());
+        if (candidateIds.isEmpty()) {
+            return PopupListResponseDto.empty(page, size);
+        }
 
-        List<PopupSummaryResponseDto> popupDtos = popupPage.getContent()
+        List<Long> orderedIds = new ArrayList<>(candidateIds);
+        List<Popup> popular = sortPopupsByIdOrder(popupQueryDslRepository.findByIdIn(orderedIds), orderedIds)
                 .stream()
+                .filter(popup -> popup.getStatus() == PopupStatus.ONGOING || popup.getStatus() == PopupStatus.PLANNED)
+                .limit(maxPopularItems)
+                .collect(Collectors.toList());
+
+        int start = page * size;
+        List<Popup> pagedEntities = start < popular.size()
+                ? popular.subList(start, Math.min(start + adjustedSize, popular.size()))
+                : List.of();
+        Page<Popup> popupPage = new PageImpl<>(pagedEntities, PageRequest.of(page, size), popular.size());
+
+        List<PopupSummaryResponseDto> popupDtos = pagedEntities.stream()
                 .map(PopupSummaryResponseDto::from)
                 .collect(Collectors.toList());
 
-        log.info("인기 팝업 조회 완료 - 총 {}개 (ONGOING/PLANNED만)", popupDtos.size());
+        log.info("인기 팝업 조회 완료 - 총 {}개 (트렌딩 {}개, ONGOING/PLANNED만)", popupDtos.size(), trendingIds.size());
 
         return PopupListResponseDto.of(popupPage, popupDtos);
     }
@@ -233,26 +252,25 @@ public class PopupService {
 
     // ===== 팝업 상세 조회 =====
 
-    // 팝업 상세 조회 (조회수 증가)
-    @Transactional
+    // 팝업 상세 조회 (조회수는 메모리에 누적 후 일괄 반영)
     public PopupDetailResponseDto getPopupDetail(Long popupId) {
         log.info("팝업 상세 조회 - popupId: {}", popupId);
 
         Popup popup = popupRepository.findByIdWithDetails(popupId)
                 .orElseThrow(() -> new PopupNotFoundException(popupId));
 
-        // 실시간 상태 업데이트 확인
-        boolean statusChanged = popup.updateStatus();
-        if (statusChanged) {
-            log.info("팝업 ID {}의 상태가 실시간으로 업데이트됨: {}", popup.getId(), popup.getStatus());
-            popupRepository.save(popup);
+        // 응답에만 현재 상태를 반영 (DB 상태는 자정 배치에서 갱신)
+        if (popup.updateStatus()) {
+            log.info("팝업 ID {}의 상태가 응답 시점 기준으로 보정됨: {}", popup.getId(), popup.getStatus());
         }
 
         // 조회수 증가
-        popup.incrementViewCount();
-        log.info("팝업 조회수 증가 - ID: {}, 현재 조회수: {}", popup.getId(), popup.getViewCount());
+        popupViewCounter.increment(popupId);
+        popupTrendingRanking.record(popupId, PopupTrendingRanking.Signal.VIEW);
+        long viewCount = popup.getViewCount() + popupViewCounter.getPending(popupId);
+        log.info("팝업 조회수 증가 - ID: {}, 현재 조회수: {}", popup.getId(), viewCount);
 
-        return PopupDetailResponseDto.from(popup);
+        return PopupDetailResponseDto.from(popup, viewCount);
     }
 
     // 팝업 상세 조회 (조회수 증가 없음 - 관리자용)
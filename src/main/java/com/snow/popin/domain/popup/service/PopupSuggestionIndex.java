@@ -0,0 +1,501 @@
+package com.snow.popin.domain.popup.service;
+
+import com.snow.popin.domain.popup.dto.response.AutocompleteSuggestionDto;
+import com.snow.popin.domain.popup.entity.Popup;
+import com.snow.popin.domain.popup.entity.Tag;
+import com.snow.popin.domain.popup.event.PopupChangedEvent;
+import com.snow.popin.domain.popup.repository.PopupSearchQueryDslRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static com.snow.popin.global.util.TransactionUtil.afterCommit;
+
+/**
+ * 검색어 자동완성 인덱스
+ *
+ * 팝업 제목과 태그명을 제안어로 두고, 접두어 일치는 압축 트라이(radix trie)로,
+ * 중간 일치는 1·2-gram 색인으로 찾는다. 트라이의 각 노드는 하위 제안어 중 인기도 상위 MAX_SUGGESTIONS 개를
+ * 미리 들고 있어 접두어 조회는 경로를 따라 내려가기만 하면 된다.
+ *
+ * 인기도는 제안어를 가진 팝업들의 (조회수 + 1) 합이다. 같은 태그를 쓰는 팝업이 많을수록, 조회가 많을수록 위로 온다.
+ *
+ * 최초 조회 시 한 번 적재하고, 팝업 등록/수정/삭제는 커밋 이후, 조회수는 배치 반영 직후 해당 제안어만 갱신한다.
+ * 키 입력마다 DB를 조회하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopupSuggestionIndex {
+
+    static final int MAX_SUGGESTIONS = 10;
+
+    private static final String TYPE_TITLE = "title";
+    private static final String TYPE_TAG = "tag";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Comparator<Suggestion> RANK = Comparator
+            .comparingLong((Suggestion suggestion) -> suggestion.popularity).reversed()
+            .thenComparingInt(suggestion -> suggestion.text.length())
+            .thenComparing(suggestion -> suggestion.text);
+
+    private final PopupSearchQueryDslRepository popupSearchQueryDslRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TrieNode root = new TrieNode("");
+    private final Map<String, Suggestion> suggestions = new HashMap<>();
+    private final Map<String, Set<Suggestion>> ngrams = new HashMap<>();
+    private final Map<Long, Contribution> contributions = new HashMap<>();
+    private volatile boolean loaded;
+
+    /**
+     * 자동완성 제안 (접두어 일치 → 중간 일치, 각각 인기도순)
+     */
+    public List<AutocompleteSuggestionDto> suggest(String query, int limit) {
+        ensureLoaded();
+
+        String key = key(query);
+        int size = Math.min(limit, MAX_SUGGESTIONS);
+        if (key.isEmpty() || size <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            // 제목과 태그가 같은 글자면 한 번만 보여준다
+            Map<String, Suggestion> result = new HashMap<>();
+            List<Suggestion> ordered = new ArrayList<>(size);
+            for (Suggestion suggestion : findByPrefix(key)) {
+                if (ordered.size() < size && result.putIfAbsent(suggestion.text, suggestion) == null) {
+                    ordered.add(suggestion);
+                }
+            }
+            if (ordered.size() < size) {
+                for (Suggestion suggestion : findByInfix(key, size)) {
+                    if (ordered.size() < size && result.putIfAbsent(suggestion.text, suggestion) == null) {
+                        ordered.add(suggestion);
+                    }
+                }
+            }
+            return ordered.stream()
+                    .map(Suggestion::toDto)
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 팝업 변경 반영 (제목, 태그만 쓰므로 장소 변경은 무시)
+     */
+    @EventListener
+    public void onPopupChanged(PopupChangedEvent event) {
+        event.getPopups().forEach(this::upsert);
+        event.getDeletedIds().forEach(this::delete);
+    }
+
+    /**
+     * 팝업 제목/태그 반영 (트랜잭션 안에서는 커밋 이후 반영)
+     */
+    public void upsert(Popup popup) {
+        Long popupId = popup.getId();
+        Contribution contribution = Contribution.of(popup);
+        afterCommit(() -> write(() -> apply(popupId, contribution)));
+    }
+
+    /**
+     * 팝업 제거 (트랜잭션 안에서는 커밋 이후 반영)
+     */
+    public void delete(Long popupId) {
+        afterCommit(() -> write(() -> apply(popupId, null)));
+    }
+
+    /**
+     * DB에 반영된 조회수 증가분을 인기도에 더한다
+     */
+    public void addViews(Map<Long, Long> viewDeltas) {
+        write(() -> viewDeltas.forEach((popupId, delta) -> {
+            Contribution previous = contributions.get(popupId);
+            if (previous != null) {
+                apply(popupId, previous.withViews(previous.viewCount + delta));
+            }
+        }));
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (loaded) {
+                return;
+            }
+            popupSearchQueryDslRepository.findAllForSearchIndex()
+                    .forEach(popup -> apply(popup.getId(), Contribution.of(popup)));
+            recomputeDirtyNodes();
+            loaded = true;
+            log.info("[PopupSuggestionIndex] 자동완성 인덱스 적재 완료: popups={}, suggestions={}",
+                    contributions.size(), suggestions.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 적재 전 변경은 버린다 (적재 시 DB에서 최신 상태를 읽음)
+    private void write(Runnable mutation) {
+        if (!loaded) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                return;
+            }
+            mutation.run();
+            recomputeDirtyNodes();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(Long popupId, Contribution contribution) {
+        Contribution previous = contribution != null
+                ? contributions.put(popupId, contribution)
+                : contributions.remove(popupId);
+        if (previous != null) {
+            previous.forEachSuggestion((type, text) -> adjust(type, text, -previous.weight(), -1));
+        }
+        if (contribution != null) {
+            contribution.forEachSuggestion((type, text) -> adjust(type, text, contribution.weight(), 1));
+        }
+    }
+
+    private void adjust(String type, String text, long popularityDelta, int referenceDelta) {
+        String key = key(text);
+        if (key.isEmpty()) {
+            return;
+        }
+        String id = type + ':' + key;
+        Suggestion suggestion = suggestions.get(id);
+        if (suggestion == null) {
+            if (referenceDelta <= 0) {
+                return;
+            }
+            suggestion = new Suggestion(type, key, text);
+            suggestions.put(id, suggestion);
+            insert(suggestion);
+        }
+
+        suggestion.popularity += popularityDelta;
+        suggestion.references += referenceDelta;
+        if (referenceDelta > 0) {
+            suggestion.text = text;
+        }
+
+        if (suggestion.references <= 0) {
+            suggestions.remove(id);
+            remove(suggestion);
+        } else {
+            markDirty(findPath(key));
+        }
+    }
+
+    // ===== 조회 =====
+
+    private List<Suggestion> findByPrefix(String key) {
+        TrieNode node = root;
+        int offset = 0;
+        while (offset < key.length()) {
+            TrieNode child = node.children.get(key.charAt(offset));
+            if (child == null) {
+                return List.of();
+            }
+            int common = commonPrefixLength(child.label, key, offset);
+            if (offset + common == key.length()) {
+                return child.top;
+            }
+            if (common < child.label.length()) {
+                return List.of();
+            }
+            node = child;
+            offset += common;
+        }
+        return node.top;
+    }
+
+    // 검색어의 모든 n-gram 을 가진 제안어 중 접두어가 아닌 곳에 검색어가 있는 것
+    private List<Suggestion> findByInfix(String key, int size) {
+        Set<Suggestion> candidates = null;
+        for (String gram : queryGrams(key)) {
+            Set<Suggestion> posting = ngrams.get(gram);
+            if (posting == null) {
+                return List.of();
+            }
+            if (candidates == null || posting.size() < candidates.size()) {
+                candidates = posting;
+            }
+        }
+        if (candidates == null) {
+            return List.of();
+        }
+
+        PriorityQueue<Suggestion> heap = new PriorityQueue<>(size + 1, RANK.reversed());
+        for (Suggestion suggestion : candidates) {
+            if (suggestion.key.startsWith(key) || !suggestion.key.contains(key)) {
+                continue;
+            }
+            heap.offer(suggestion);
+            if (heap.size() > size) {
+                heap.poll();
+            }
+        }
+
+        List<Suggestion> result = new ArrayList<>(heap);
+        result.sort(RANK);
+        return result;
+    }
+
+    // ===== 트라이 =====
+
+    private void insert(Suggestion suggestion) {
+        String key = suggestion.key;
+        List<TrieNode> path = new ArrayList<>();
+        TrieNode node = root;
+        path.add(node);
+
+        int offset = 0;
+        while (offset < key.length()) {
+            TrieNode child = node.children.get(key.charAt(offset));
+            if (child == null) {
+                child = new TrieNode(key.substring(offset));
+                node.children.put(key.charAt(offset), child);
+                offset = key.length();
+            } else {
+                int common = commonPrefixLength(child.label, key, offset);
+                if (common < child.label.length()) {
+                    // 간선 중간에서 갈라지면 공통 부분으로 새 노드를 만든다
+                    TrieNode split = new TrieNode(child.label.substring(0, common));
+                    child.label = child.label.substring(common);
+                    split.children.put(child.label.charAt(0), child);
+                    node.children.put(split.label.charAt(0), split);
+                    child = split;
+                }
+                offset += common;
+            }
+            node = child;
+            path.add(node);
+        }
+
+        node.suggestions.add(suggestion);
+        grams(key).forEach(gram -> ngrams.computeIfAbsent(gram, g -> new HashSet<>()).add(suggestion));
+        markDirty(path);
+    }
+
+    private void remove(Suggestion suggestion) {
+        String key = suggestion.key;
+        grams(key).forEach(gram -> ngrams.computeIfPresent(gram, (g, posting) -> {
+            posting.remove(suggestion);
+            return posting.isEmpty() ? null : posting;
+        }));
+
+        List<TrieNode> path = findPath(key);
+        if (path.isEmpty()) {
+            return;
+        }
+        path.get(path.size() - 1).suggestions.remove(suggestion);
+
+        // 빈 잎 노드를 지우고, 자식이 하나뿐인 빈 노드는 자식과 합친다
+        while (path.size() > 1) {
+            TrieNode node = path.get(path.size() - 1);
+            TrieNode parent = path.get(path.size() - 2);
+            if (!node.suggestions.isEmpty()) {
+                break;
+            }
+            if (node.children.isEmpty()) {
+                parent.children.remove(node.label.charAt(0));
+                path.remove(path.size() - 1);
+                continue;
+            }
+            if (node.children.size() == 1) {
+                TrieNode child = node.children.values().iterator().next();
+                child.label = node.label + child.label;
+                parent.children.put(child.label.charAt(0), child);
+                path.remove(path.size() - 1);
+            }
+            break;
+        }
+        markDirty(path);
+    }
+
+    // key 와 정확히 일치하는 노드까지의 경로 (없으면 빈 목록)
+    private List<TrieNode> findPath(String key) {
+        List<TrieNode> path = new ArrayList<>();
+        TrieNode node = root;
+        path.add(node);
+
+        int offset = 0;
+        while (offset < key.length()) {
+            TrieNode child = node.children.get(key.charAt(offset));
+            if (child == null || !key.startsWith(child.label, offset)) {
+                return List.of();
+            }
+            offset += child.label.length();
+            node = child;
+            path.add(node);
+        }
+        return path;
+    }
+
+    private void markDirty(List<TrieNode> path) {
+        path.forEach(node -> node.dirty = true);
+    }
+
+    // 변경된 경로의 상위 목록을 깊은 노드부터 다시 계산
+    private void recomputeDirtyNodes() {
+        if (root.dirty) {
+            recompute(root);
+        }
+    }
+
+    private void recompute(TrieNode node) {
+        node.children.values().forEach(child -> {
+            if (child.dirty) {
+                recompute(child);
+            }
+        });
+        node.recomputeTop();
+        node.dirty = false;
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int length = 0;
+        while (length < label.length() && offset + length < key.length()
+                && label.charAt(length) == key.charAt(offset + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    // ===== 토큰화 =====
+
+    static String key(String text) {
+        return WHITESPACE.matcher(PopupSearchIndex.normalize(text)).replaceAll(" ");
+    }
+
+    // 제안어: 모든 1-gram 과 2-gram
+    private static Set<String> grams(String key) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i < key.length(); i++) {
+            grams.add(key.substring(i, i + 1));
+            if (i + 2 <= key.length()) {
+                grams.add(key.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    // 검색어: 한 글자면 1-gram, 아니면 2-gram
+    private static Set<String> queryGrams(String key) {
+        if (key.length() == 1) {
+            return Set.of(key);
+        }
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 2 <= key.length(); i++) {
+            grams.add(key.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private static final class TrieNode {
+        private String label;
+        private final Map<Character, TrieNode> children = new HashMap<>();
+        private final List<Suggestion> suggestions = new ArrayList<>(2);
+        private List<Suggestion> top = List.of();
+        private boolean dirty;
+
+        private TrieNode(String label) {
+            this.label = label;
+        }
+
+        // 자기 제안어와 자식들의 상위 목록을 합쳐 상위 MAX_SUGGESTIONS 개만 남긴다
+        private void recomputeTop() {
+            List<Suggestion> merged = new ArrayList<>(suggestions);
+            children.values().forEach(child -> merged.addAll(child.top));
+            merged.sort(RANK);
+            top = Collections.unmodifiableList(new ArrayList<>(merged.subList(0, Math.min(MAX_SUGGESTIONS, merged.size()))));
+        }
+    }
+
+    private static final class Suggestion {
+        private final String type;
+        private final String key;
+        private String text;
+        private long popularity;
+        private int references;
+
+        private Suggestion(String type, String key, String text) {
+            this.type = type;
+            this.key = key;
+            this.text = text;
+        }
+
+        private AutocompleteSuggestionDto toDto() {
+            return TYPE_TITLE.equals(type)
+                    ? AutocompleteSuggestionDto.fromTitle(text, popularity)
+                    : AutocompleteSuggestionDto.fromTag(text, popularity);
+        }
+    }
+
+    private static final class Contribution {
+        private final String title;
+        private final Set<String> tagNames;
+        private final long viewCount;
+
+        private Contribution(String title, Set<String> tagNames, long viewCount) {
+            this.title = title;
+            this.tagNames = tagNames;
+            this.viewCount = viewCount;
+        }
+
+        private static Contribution of(Popup popup) {
+            Set<String> tagNames = popup.getTags() == null ? Set.of() : popup.getTags().stream()
+                    .map(Tag::getName)
+                    .filter(name -> name != null && !name.isBlank())
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            long viewCount = popup.getViewCount() != null ? popup.getViewCount() : 0L;
+            return new Contribution(popup.getTitle(), tagNames, viewCount);
+        }
+
+        private Contribution withViews(long viewCount) {
+            return new Contribution(title, tagNames, viewCount);
+        }
+
+        private long weight() {
+            return viewCount + 1;
+        }
+
+        private void forEachSuggestion(BiConsumer<String, String> action) {
+            if (title != null && !title.isBlank()) {
+                action.accept(TYPE_TITLE, title);
+            }
+            tagNames.forEach(tagName -> action.accept(TYPE_TAG, tagName));
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.snow.popin.domain.popup.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongSupplier;
+
+import static com.snow.popin.global.util.TransactionUtil.afterCommit;
+
+/**
+ * 실시간 인기(트렌딩) 팝업 랭킹
+ *
+ * 조회, 북마크, 예약, 리뷰 이벤트마다 가중치를 더하고, 점수는 반감기(6시간)에 따라 지수적으로 감소한다.
+ * 감소를 매번 계산하지 않도록 점수는 기준 시각 대비 exp(λ·Δt) 배로 키워 더하며,
+ * 1시간마다 기준 시각을 옮기면서 충분히 작아진 점수는 정리한다.
+ *
+ * 상위 K개는 5초마다 최소 힙으로 다시 계산해 스냅샷으로 두고, 조회는 스냅샷만 읽는다.
+ * 점수는 인스턴스 메모리에만 있으므로 재시작 직후에는 비어 있다.
+ */
+@Slf4j
+@Component
+public class PopupTrendingRanking {
+
+    static final int TOP_K = 50;
+
+    private static final double DECAY_RATE = Math.log(2) / Duration.ofHours(6).toMillis();
+    private static final long REBASE_INTERVAL_MILLIS = Duration.ofHours(1).toMillis();
+    private static final double MIN_SCORE = 0.01;
+
+    private final ConcurrentMap<Long, DoubleAdder> scores = new ConcurrentHashMap<>();
+    private final ReadWriteLock rebaseLock = new ReentrantReadWriteLock();
+    private final LongSupplier clock;
+
+    private volatile long epochMillis;
+    private volatile List<Long> topPopupIds = Collections.emptyList();
+
+    public PopupTrendingRanking() {
+        this(System::currentTimeMillis);
+    }
+
+    PopupTrendingRanking(LongSupplier clock) {
+        this.clock = clock;
+        this.epochMillis = clock.getAsLong();
+    }
+
+    /**
+     * 이벤트 반영 (트랜잭션 안에서 호출되면 커밋 이후 반영)
+     */
+    public void record(Long popupId, Signal signal) {
+        if (popupId == null) {
+            return;
+        }
+        afterCommit(() -> add(popupId, signal.getWeight()));
+    }
+
+    /**
+     * 트렌딩 점수 순 팝업 ID (최대 TOP_K개)
+     */
+    public List<Long> getTopPopupIds() {
+        return topPopupIds;
+    }
+
+    // 5초마다 상위 K개 스냅샷을 갱신합니다.
+    @Scheduled(fixedDelay = 5000)
+    public void refresh() {
+        if (clock.getAsLong() - epochMillis >= REBASE_INTERVAL_MILLIS) {
+            rebase();
+        }
+
+        PriorityQueue<Map.Entry<Long, Double>> heap =
+                new PriorityQueue<>(TOP_K + 1, Map.Entry.comparingByValue());
+        scores.forEach((popupId, score) -> {
+            heap.offer(Map.entry(popupId, score.sum()));
+            if (heap.size() > TOP_K) {
+                heap.poll();
+            }
+        });
+
+        List<Map.Entry<Long, Double>> ranked = new ArrayList<>(heap);
+        ranked.sort(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder()));
+
+        List<Long> ids = new ArrayList<>(ranked.size());
+        ranked.forEach(entry -> ids.add(entry.getKey()));
+        topPopupIds = Collections.unmodifiableList(ids);
+    }
+
+    private void add(Long popupId, double weight) {
+        rebaseLock.readLock().lock();
+        try {
+            double scaled = weight * Math.exp(DECAY_RATE * (clock.getAsLong() - epochMillis));
+            scores.computeIfAbsent(popupId, id -> new DoubleAdder()).add(scaled);
+        } finally {
+            rebaseLock.readLock().unlock();
+        }
+    }
+
+    // 기준 시각을 현재로 옮기고 감소가 끝난 점수를 정리
+    private void rebase() {
+        rebaseLock.writeLock().lock();
+        try {
+            long now = clock.getAsLong();
+            double factor = Math.exp(-DECAY_RATE * (now - epochMillis));
+            int before = scores.size();
+
+            scores.entrySet().removeIf(entry -> {
+                double decayed = entry.getValue().sum() * factor;
+                if (decayed < MIN_SCORE) {
+                    return true;
+                }
+                entry.getValue().reset();
+                entry.getValue().add(decayed);
+                return false;
+            });
+            epochMillis = now;
+
+            log.info("[PopupTrendingRanking] 점수 기준 시각 갱신: removed={}, remaining={}", before - scores.size(), scores.size());
+        } finally {
+            rebaseLock.writeLock().unlock();
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Signal {
+        VIEW(1.0),
+        BOOKMARK(5.0),
+        REVIEW(8.0),
+        RESERVATION(10.0);
+
+        private final double weight;
+    }
+}
@@ -0,0 +1,83 @@
+package com.snow.popin.domain.popup.service;
+
+import com.snow.popin.domain.popup.repository.PopupViewCountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 팝업 조회수 write-behind 카운터
+ *
+ * 상세 조회마다 팝업 row를 UPDATE 하지 않고 팝업별 LongAdder에 누적한 뒤,
+ * 주기적으로 증가분만 모아 한 번의 배치 UPDATE(view_count = view_count + ?)로 반영한다.
+ *
+ * 증가분은 꺼내는 순간 카운터에서 빠지고, 반영에 실패하면 다시 더해지므로
+ * 같은 증가분이 두 번 반영되지 않는다. 애플리케이션 종료 시 남은 증가분을 마지막으로 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopupViewCounter {
+
+    private final PopupViewCountRepository popupViewCountRepository;
+    private final PopupSuggestionIndex popupSuggestionIndex;
+
+    private final ConcurrentMap<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+
+    /**
+     * 조회수 1 증가 (메모리)
+     */
+    public void increment(Long popupId) {
+        pendingViews.computeIfAbsent(popupId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수
+     */
+    public long getPending(Long popupId) {
+        LongAdder adder = pendingViews.get(popupId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    // 10초마다 누적된 조회수를 DB에 반영합니다.
+    @Scheduled(fixedDelayString = "${popup.view-count.flush-interval-ms:10000}")
+    public synchronized void flush() {
+        Map<Long, Long> deltas = new HashMap<>();
+        pendingViews.forEach((popupId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                deltas.put(popupId, delta);
+            }
+        });
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            popupViewCountRepository.incrementViewCounts(deltas);
+            popupSuggestionIndex.addViews(deltas);
+            log.info("팝업 조회수 반영 완료 - 팝업 {}개, 총 {}회",
+                    deltas.size(), deltas.values().stream().mapToLong(Long::longValue).sum());
+        } catch (Exception e) {
+            // 반영 실패 시 증가분을 되돌려 다음 주기에 다시 반영
+            deltas.forEach((popupId, delta) ->
+                    pendingViews.computeIfAbsent(popupId, id -> new LongAdder()).add(delta));
+            log.error("팝업 조회수 반영 실패 - 다음 주기에 재시도 (팝업 {}개)", deltas.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("애플리케이션 종료 - 남은 팝업 조회수 반영");
+        flush();
+    }
+}
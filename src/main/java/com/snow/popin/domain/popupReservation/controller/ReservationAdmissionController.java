@@ -0,0 +1,67 @@
+package com.snow.popin.domain.popupReservation.controller;
+
+import com.snow.popin.domain.popupReservation.dto.AdmissionStatusDto;
+import com.snow.popin.domain.popupReservation.service.ReservationAdmissionService;
+import com.snow.popin.domain.user.entity.User;
+import com.snow.popin.global.util.UserUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.validation.constraints.Positive;
+
+/**
+ * 예약 대기열 REST 컨트롤러
+ *
+ * - 대기열 입장
+ * - 대기 순번 조회
+ * - 대기 순번 SSE 구독
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/reservations/popups/{popupId}/queue")
+@RequiredArgsConstructor
+@Validated
+public class ReservationAdmissionController {
+
+    private final ReservationAdmissionService admissionService;
+    private final UserUtil userUtil;
+
+    /**
+     * 대기열 입장
+     *
+     * @param popupId 예약할 팝업 ID
+     * @return 발급된 토큰과 대기 순번
+     */
+    @PostMapping
+    public ResponseEntity<AdmissionStatusDto> enterQueue(@PathVariable @Positive Long popupId) {
+        User currentUser = userUtil.getCurrentUser();
+        log.info("[ReservationAdmissionController] 대기열 입장 요청: popupId={}, userId={}", popupId, currentUser.getId());
+
+        return ResponseEntity.ok(admissionService.enter(popupId, currentUser.getId()));
+    }
+
+    /**
+     * 대기 순번 조회
+     */
+    @GetMapping("/{token}")
+    public ResponseEntity<AdmissionStatusDto> getQueueStatus(
+            @PathVariable @Positive Long popupId,
+            @PathVariable String token) {
+        return ResponseEntity.ok(admissionService.getStatus(popupId, token));
+    }
+
+    /**
+     * 대기 순번 SSE 구독 (입장 처리되면 연결 종료)
+     */
+    @GetMapping(value = "/{token}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamQueueStatus(
+            @PathVariable @Positive Long popupId,
+            @PathVariable String token) {
+        return admissionService.subscribe(popupId, token);
+    }
+}
@@ -4,6 +4,7 @@ import com.snow.popin.domain.popupReservation.dto.AvailableSlotDto;
 import com.snow.popin.domain.popupReservation.dto.ReservationRequestDto;
 import com.snow.popin.domain.popupReservation.dto.ReservationResponseDto;
 import com.snow.popin.domain.popupReservation.dto.TimeSlotDto;
+import com.snow.popin.domain.popupReservation.service.ReservationAdmissionService;
 import com.snow.popin.domain.popupReservation.service.ReservationService;
 import com.snow.popin.domain.user.entity.User;
 import com.snow.popin.global.util.UserUtil;
@@ -38,6 +39,7 @@ import java.util.Map;
 public class ReservationController {
 
     private final ReservationService reservationService;
+    private final ReservationAdmissionService admissionService;
     private final UserUtil userUtil;
 
     /**
@@ -51,6 +53,9 @@ public class ReservationController {
             @PathVariable @Positive Long popupId,
             @Valid @RequestBody ReservationRequestDto dto) {
 
+        // 대기열 진행 중이면 입장하지 않은 요청은 DB 조회 전에 차단
+        admissionService.checkAdmission(popupId, dto.getAdmissionToken());
+
         User currentUser = userUtil.getCurrentUser();
         log.info("[ReservationController] 예약 생성 요청: popupId={}, userId={}", popupId, currentUser.getId());
 
@@ -0,0 +1,29 @@
+package com.snow.popin.domain.popupReservation.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 대기열 상태 응답 DTO
+ */
+@Getter
+@Builder
+public class AdmissionStatusDto {
+    private final Long popupId;
+    private final String token;
+    private final long position;       // 내 앞의 대기 인원 (입장 시 0)
+    private final boolean admitted;    // 예약 진행 가능 여부
+    private final boolean expired;     // 입장 유효 시간 만료 여부
+    private final LocalDateTime admissionExpiresAt;
+
+    public static AdmissionStatusDto expired(Long popupId, String token) {
+        return AdmissionStatusDto.builder()
+                .popupId(popupId)
+                .token(token)
+                .admitted(false)
+                .expired(true)
+                .build();
+    }
+}
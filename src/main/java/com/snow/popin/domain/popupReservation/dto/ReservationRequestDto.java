@@ -31,4 +31,6 @@ public class ReservationRequestDto {
     @NotNull(message = "예약일자는 필수입니다.")
     @FutureOrPresent(message = "예약일자는 오늘 이후여야 합니다.")
     private LocalDateTime reservationDate;
+    /** 대기열 입장 토큰 (대기열 사용 팝업만 필수) */
+    private String admissionToken;
 }
\ No newline at end of file
@@ -73,6 +73,11 @@ public class Reservation extends BaseEntity {
     @Column(name = "payment_fail_reason", length = 500)
     private String paymentFailReason;
 
+    // 마지막으로 발송한 예약 알림 (재시작 후 중복 발송 방지)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "last_reminder", length = 20)
+    private ReservationReminder lastReminder;
+
     // ===== 결제 상태 Enum =====
 
     public enum PaymentStatus {
@@ -80,6 +85,7 @@ public class Reservation extends BaseEntity {
         COMPLETED("결제 완료"),
         FAILED("결제 실패"),
         CANCELLED("결제 취소"),
+        REFUND_REQUESTED("환불 처리중"),
         REFUNDED("환불 완료");
 
         private final String description;
@@ -114,6 +120,17 @@ public class Reservation extends BaseEntity {
         this.status = ReservationStatus.VISITED;
     }
 
+    /**
+     * 예약 알림 발송 기록. 같은 알림이나 더 늦은 알림이 이미 나갔으면 false
+     */
+    public boolean markReminded(ReservationReminder reminder) {
+        if (lastReminder != null && lastReminder.compareTo(reminder) >= 0) {
+            return false;
+        }
+        this.lastReminder = reminder;
+        return true;
+    }
+
     // ===== 결제 관련 메서드들 =====
 
     /**
@@ -168,6 +185,13 @@ public class Reservation extends BaseEntity {
         this.paidAt = null;
     }
 
+    /**
+     * 환불 요청 처리 (PG 환불은 결제 아웃박스 워커가 진행)
+     */
+    public void markRefundRequested() {
+        this.paymentStatus = PaymentStatus.REFUND_REQUESTED;
+    }
+
     /**
      * 환불 처리
      */
@@ -0,0 +1,34 @@
+package com.snow.popin.domain.popupReservation.entity;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 예약 알림 종류 (발송 순서대로 선언)
+ */
+public enum ReservationReminder {
+    DAY_BEFORE(Duration.ofDays(1), "예약 하루 전", "예약하신 일정이 내일 시작됩니다."),
+    SOON(Duration.ofMinutes(30), "예약 임박", "30분 후 예약하신 일정이 시작됩니다.");
+
+    private final Duration leadTime;
+    private final String title;
+    private final String message;
+
+    ReservationReminder(Duration leadTime, String title, String message) {
+        this.leadTime = leadTime;
+        this.title = title;
+        this.message = message;
+    }
+
+    public LocalDateTime fireAt(LocalDateTime reservationDate) {
+        return reservationDate.minus(leadTime);
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
@@ -10,8 +10,10 @@ import org.springframework.stereotype.Repository;
 
 import javax.persistence.EntityManager;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static com.snow.popin.domain.popupReservation.entity.QReservation.reservation;
 
@@ -23,20 +25,30 @@ public class ReservationQueryDslRepository {
     private final EntityManager entityManager;
 
     /**
-     * 특정 시간 범위 내의 예약 조회 (예: 예약 30분 전 확인용)
+     * 아직 시작하지 않은 예약 조회 (예약 알림 타이머 재구성용)
      */
-    public List<Reservation> findByReservationMinute(String targetMinute) {
-        LocalDateTime targetDateTime = LocalDateTime.parse(targetMinute + ":00",
-                DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+    public List<Reservation> findReservedAfter(LocalDateTime from) {
+        return queryFactory
+                .selectFrom(reservation)
+                .where(
+                        reservation.status.eq(ReservationStatus.RESERVED)
+                                .and(reservation.reservationDate.gt(from))
+                )
+                .fetch();
+    }
 
+    /**
+     * ID 목록으로 예약 조회 (알림 발송용, 사용자와 팝업을 함께 조회)
+     */
+    public List<Reservation> findAllWithUserAndPopupByIdIn(Collection<Long> ids) {
         return queryFactory
                 .selectFrom(reservation)
-                .where(reservation.reservationDate.between(
-                        targetDateTime.withSecond(0),
-                        targetDateTime.withSecond(59).withNano(999999999)
-                ))
+                .join(reservation.user).fetchJoin()
+                .join(reservation.popup).fetchJoin()
+                .where(reservation.id.in(ids))
                 .fetch();
     }
+
     /**
      * 취소되지 않은 활성 예약 존재 여부 확인
      */
@@ -89,11 +101,11 @@ public class ReservationQueryDslRepository {
     }
 
     /**
-     * 특정 팝업의 특정 시간대 예약 인원 수 조회 (파티 사이즈 합계)
+     * 특정 팝업의 기간 내 예약 일시별 예약 인원 합계 조회 (슬롯 목록 일괄 계산용)
      */
-    public long sumPartySizeByPopupAndReservationDateBetween(Popup popup, LocalDateTime startTime, LocalDateTime endTime) {
-        Integer sum = queryFactory
-                .select(reservation.partySize.sum().coalesce(0))
+    public Map<LocalDateTime, Long> sumPartySizeGroupedByReservationDate(Popup popup, LocalDateTime startTime, LocalDateTime endTime) {
+        return queryFactory
+                .select(reservation.reservationDate, reservation.partySize.sum().coalesce(0))
                 .from(reservation)
                 .where(
                         reservation.popup.eq(popup)
@@ -101,8 +113,16 @@ public class ReservationQueryDslRepository {
                                 .and(reservation.reservationDate.lt(endTime))
                                 .and(reservation.status.ne(ReservationStatus.CANCELLED))
                 )
-                .fetchOne();
-        return sum != null ? sum.longValue() : 0L;
+                .groupBy(reservation.reservationDate)
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(
+                        tuple -> tuple.get(reservation.reservationDate),
+                        tuple -> {
+                            Integer sum = tuple.get(1, Integer.class);
+                            return sum != null ? sum.longValue() : 0L;
+                        }
+                ));
     }
 
     /**
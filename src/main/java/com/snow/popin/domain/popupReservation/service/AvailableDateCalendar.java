@@ -0,0 +1,161 @@
+package com.snow.popin.domain.popupReservation.service;
+
+import com.snow.popin.domain.popup.event.PopupChangedEvent;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import static com.snow.popin.global.util.TransactionUtil.afterCommit;
+
+/**
+ * 팝업별 예약 가능 날짜 캘린더
+ *
+ * 운영 요일 비트셋, 팝업 기간, 예약 설정을 한 번 읽어 두고
+ * 날짜 선택기 요청은 메모리에서만 계산한다.
+ * 모든 슬롯이 마감된 날짜는 별도 플래그로 표시해 목록에서 제외한다.
+ * 마감 플래그는 캘린더를 만들 때 예약 기간 전체의 예약 인원으로 채우고, 이후 예약/취소 시 갱신한다.
+ *
+ * 팝업 수정/삭제, 예약 설정 변경 시 커밋 이후 무효화되고,
+ * 매일 자정에도 비워 하루 밀린 예약 기간과 마감 날짜를 DB 기준으로 다시 읽는다.
+ */
+@Slf4j
+@Component
+public class AvailableDateCalendar {
+
+    private final ConcurrentMap<Long, PopupCalendar> calendars = new ConcurrentHashMap<>();
+
+    /**
+     * 캘린더 조회 (없으면 loader로 한 번만 생성)
+     */
+    public PopupCalendar getOrLoad(Long popupId, Function<Long, PopupCalendar> loader) {
+        return calendars.computeIfAbsent(popupId, loader);
+    }
+
+    /**
+     * 해당 날짜의 모든 슬롯 마감 표시
+     */
+    public void markExhausted(Long popupId, LocalDate date) {
+        PopupCalendar calendar = calendars.get(popupId);
+        if (calendar != null && calendar.exhaustedDates.add(date)) {
+            log.info("[AvailableDateCalendar] 예약 마감 날짜 등록: popupId={}, date={}", popupId, date);
+        }
+    }
+
+    /**
+     * 마감 해제 (예약 취소 등으로 자리가 생긴 경우)
+     */
+    public void markAvailable(Long popupId, LocalDate date) {
+        PopupCalendar calendar = calendars.get(popupId);
+        if (calendar != null && calendar.exhaustedDates.remove(date)) {
+            log.info("[AvailableDateCalendar] 예약 마감 해제: popupId={}, date={}", popupId, date);
+        }
+    }
+
+    /**
+     * 팝업 변경 시 해당 팝업 캘린더 무효화 (운영 기간, 상태가 바뀔 수 있음)
+     */
+    @EventListener
+    public void onPopupChanged(PopupChangedEvent event) {
+        event.getPopupIds().forEach(this::invalidate);
+    }
+
+    /**
+     * 캘린더 무효화 (트랜잭션 안에서 호출되면 커밋 이후 반영)
+     */
+    public void invalidate(Long popupId) {
+        afterCommit(() -> evict(popupId));
+    }
+
+    private void evict(Long popupId) {
+        if (calendars.remove(popupId) != null) {
+            log.info("[AvailableDateCalendar] 캘린더 무효화: popupId={}", popupId);
+        }
+    }
+
+    // 매일 자정, 예약 기간이 하루 밀리므로 캘린더를 모두 비웁니다.
+    @Scheduled(cron = "0 5 0 * * *")
+    public void evictAll() {
+        calendars.clear();
+        log.info("[AvailableDateCalendar] 일일 캘린더 초기화");
+    }
+
+    @Getter
+    public static final class PopupCalendar {
+        private final int openWeekdays; // bit (dayOfWeek % 7), 0=일요일
+        private final boolean reservationAvailable;
+        private final LocalDate popupStart;
+        private final LocalDate popupEnd;
+        private final boolean allowSameDayBooking;
+        private final int advanceBookingDays;
+        private final Set<LocalDate> exhaustedDates = ConcurrentHashMap.newKeySet();
+
+        @Builder
+        private PopupCalendar(Collection<Integer> openDaysOfWeek, boolean reservationAvailable,
+                              LocalDate popupStart, LocalDate popupEnd,
+                              boolean allowSameDayBooking, int advanceBookingDays) {
+            int bits = 0;
+            for (Integer dayOfWeek : openDaysOfWeek) {
+                if (dayOfWeek != null) {
+                    bits |= 1 << (dayOfWeek % 7);
+                }
+            }
+            this.openWeekdays = bits;
+            this.reservationAvailable = reservationAvailable;
+            this.popupStart = popupStart;
+            this.popupEnd = popupEnd;
+            this.allowSameDayBooking = allowSameDayBooking;
+            this.advanceBookingDays = advanceBookingDays;
+        }
+
+        public boolean isOpenOn(LocalDate date) {
+            return (openWeekdays & (1 << (date.getDayOfWeek().getValue() % 7))) != 0;
+        }
+
+        /**
+         * 오늘 기준 예약 기간 시작일
+         */
+        public LocalDate bookingStart(LocalDate today) {
+            LocalDate start = popupStart != null ? popupStart : today;
+            LocalDate settingsStart = allowSameDayBooking ? today : today.plusDays(1);
+            return settingsStart.isAfter(start) ? settingsStart : start;
+        }
+
+        /**
+         * 오늘 기준 예약 기간 종료일
+         */
+        public LocalDate bookingEnd(LocalDate today) {
+            LocalDate end = popupEnd != null ? popupEnd : today.plusMonths(3);
+            LocalDate maxAdvanceDate = today.plusDays(advanceBookingDays);
+            return maxAdvanceDate.isBefore(end) ? maxAdvanceDate : end;
+        }
+
+        /**
+         * 오늘 기준 예약 가능한 날짜 목록
+         */
+        public List<LocalDate> availableDates(LocalDate today) {
+            List<LocalDate> dates = new ArrayList<>();
+            if (openWeekdays == 0) {
+                return dates;
+            }
+            LocalDate end = bookingEnd(today);
+            for (LocalDate current = bookingStart(today); !current.isAfter(end); current = current.plusDays(1)) {
+                if (isOpenOn(current) && !exhaustedDates.contains(current)) {
+                    dates.add(current);
+                }
+            }
+            return dates;
+        }
+    }
+}
@@ -28,6 +28,7 @@ public class PopupReservationSettingsService {
     private final PopupRepository popupRepository;
     private final BrandRepository brandRepository;
     private final HostRepository hostRepository;
+    private final AvailableDateCalendar availableDateCalendar;
 
     /**
      * 팝업 예약 설정 조회
@@ -96,6 +97,7 @@ public class PopupReservationSettingsService {
         settings.updateBasicSettings(dto.getMaxCapacityPerSlot(), dto.getTimeSlotInterval());
 
         settingsRepository.save(settings);
+        availableDateCalendar.invalidate(popupId);
         log.info("[PopupReservationSettingsService] 기본 예약 설정 수정 완료: popupId={}, userId={}", popupId, currentUser.getId());
     }
 
@@ -0,0 +1,392 @@
+package com.snow.popin.domain.popupReservation.service;
+
+import com.snow.popin.domain.popup.entity.Popup;
+import com.snow.popin.domain.popup.repository.PopupRepository;
+import com.snow.popin.domain.popupReservation.dto.AdmissionStatusDto;
+import com.snow.popin.global.config.ReservationAdmissionProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 인기 팝업 예약 오픈 시 대기열(가상 대기실)
+ *
+ * waitlistAvailable 팝업은 대기열에 입장해 받은 토큰이 입장 처리된 경우에만 예약할 수 있다.
+ * 팝업별로 최대 대기 인원이 정해진 대기열을 두고, 1초마다 설정된 인원만큼 순서대로 입장시킨다.
+ * 입장한 토큰은 정해진 시간 안에 한 번만 예약에 사용할 수 있다.
+ *
+ * 대기열이 진행 중인 동안에는 입장하지 않은 예약 요청을 DB 조회 없이 컨트롤러에서 돌려보낸다.
+ *
+ * 대기 순번 SSE 는 연결마다 최신 순번 하나만 보관하고 실제 전송은 전송 스레드가 맡는다.
+ * 입장 처리 주기는 상태만 바꾸고 바로 돌아가므로, 느린 클라이언트가 입장 처리나 다른 스케줄 작업을 막지 않는다.
+ * 전송이 밀린 연결은 중간 순번을 건너뛰고 가장 최근 순번만 받는다.
+ */
+@Slf4j
+@Service
+public class ReservationAdmissionService {
+
+    private static final long IDLE_QUEUE_MILLIS = 10 * 60 * 1000L;
+
+    private final PopupRepository popupRepository;
+    private final ReservationAdmissionProperties properties;
+
+    private final Map<Long, AdmissionQueue> queues = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor sender;
+
+    public ReservationAdmissionService(PopupRepository popupRepository, ReservationAdmissionProperties properties) {
+        this.popupRepository = popupRepository;
+        this.properties = properties;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.sender = new ThreadPoolExecutor(
+                properties.getSenderThreads(), properties.getSenderThreads(), 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "admission-stream-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 대기열 입장 (이미 입장한 사용자는 기존 토큰 반환)
+     */
+    public AdmissionStatusDto enter(Long popupId, Long userId) {
+        while (true) {
+            AdmissionQueue queue = queues.get(popupId);
+            if (queue == null) {
+                validateWaitlistPopup(popupId);
+                queue = queues.computeIfAbsent(popupId, AdmissionQueue::new);
+            }
+
+            synchronized (queue) {
+                if (queue.closed) {
+                    continue;
+                }
+                Ticket ticket = queue.issue(userId, properties.getMaxWaiting());
+                log.info("[ReservationAdmissionService] 대기열 입장: popupId={}, userId={}, seq={}", popupId, userId, ticket.seq);
+                return queue.statusOf(ticket);
+            }
+        }
+    }
+
+    /**
+     * 대기 순번 조회
+     */
+    public AdmissionStatusDto getStatus(Long popupId, String token) {
+        AdmissionQueue queue = queues.get(popupId);
+        Ticket ticket = queue != null ? queue.tickets.get(token) : null;
+        if (ticket == null) {
+            return AdmissionStatusDto.expired(popupId, token);
+        }
+        return queue.statusOf(ticket);
+    }
+
+    /**
+     * 대기 순번 SSE 구독 (입장 또는 만료 시 연결 종료)
+     */
+    public SseEmitter subscribe(Long popupId, String token) {
+        AdmissionQueue queue = queues.get(popupId);
+        Ticket ticket = queue != null ? queue.tickets.get(token) : null;
+        if (ticket == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "대기열 정보가 존재하지 않습니다.");
+        }
+
+        SseEmitter emitter = createEmitter(properties.getSseTimeoutMillis());
+        Subscriber subscriber = new Subscriber(token, emitter);
+        emitter.onCompletion(() -> queue.subscribers.remove(token, subscriber));
+        emitter.onTimeout(() -> queue.subscribers.remove(token, subscriber));
+        emitter.onError(e -> queue.subscribers.remove(token, subscriber));
+        queue.subscribers.put(token, subscriber);
+
+        push(queue, subscriber, queue.statusOf(ticket));
+        return emitter;
+    }
+
+    /**
+     * 대기열 진행 중인 팝업에 대해 입장하지 않은 요청 차단 (DB 조회 없음)
+     */
+    public void checkAdmission(Long popupId, String token) {
+        AdmissionQueue queue = queues.get(popupId);
+        if (queue == null || !queue.isActive()) {
+            return;
+        }
+        Ticket ticket = token != null ? queue.tickets.get(token) : null;
+        if (ticket == null || !ticket.isAdmitted(LocalDateTime.now())) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "대기열 입장 후 예약할 수 있습니다.");
+        }
+    }
+
+    /**
+     * 대기열 사용 팝업의 예약 시 입장 토큰 검증
+     */
+    public void requireAdmission(Long popupId, Long userId, String token) {
+        AdmissionQueue queue = queues.get(popupId);
+        Ticket ticket = queue != null && token != null ? queue.tickets.get(token) : null;
+
+        if (ticket == null || !ticket.userId.equals(userId) || !ticket.isAdmitted(LocalDateTime.now())) {
+            log.warn("[ReservationAdmissionService] 입장하지 않은 예약 요청: popupId={}, userId={}", popupId, userId);
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "대기열 입장 후 예약할 수 있습니다.");
+        }
+    }
+
+    /**
+     * 예약 완료된 토큰 회수 (토큰 1개당 예약 1회)
+     */
+    public void complete(Long popupId, String token) {
+        AdmissionQueue queue = queues.get(popupId);
+        if (queue == null || token == null) {
+            return;
+        }
+        synchronized (queue) {
+            queue.remove(token);
+        }
+    }
+
+    // 1초마다 대기 인원을 입장시키고 대기 순번을 전송합니다.
+    @Scheduled(fixedRate = 1000)
+    public void admitWaiting() {
+        LocalDateTime now = LocalDateTime.now();
+        long nowMillis = System.currentTimeMillis();
+
+        for (AdmissionQueue queue : queues.values()) {
+            int admitted;
+            synchronized (queue) {
+                queue.expireAdmitted(now);
+                admitted = queue.admit(properties.getPermitsPerSecond(),
+                        now.plusSeconds(properties.getAdmissionTtlSeconds()));
+
+                if (queue.isIdle(nowMillis) && queue.subscribers.isEmpty()) {
+                    queue.closed = true;
+                    queues.remove(queue.popupId, queue);
+                    log.info("[ReservationAdmissionService] 유휴 대기열 정리: popupId={}", queue.popupId);
+                    continue;
+                }
+            }
+
+            if (admitted > 0) {
+                log.info("[ReservationAdmissionService] 대기열 입장 처리: popupId={}, admitted={}, waiting={}",
+                        queue.popupId, admitted, queue.waiting.size());
+            }
+            broadcastStatus(queue);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+    }
+
+    protected SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    private void broadcastStatus(AdmissionQueue queue) {
+        queue.subscribers.values().forEach(subscriber -> {
+            Ticket ticket = queue.tickets.get(subscriber.token);
+            AdmissionStatusDto status = ticket != null
+                    ? queue.statusOf(ticket)
+                    : AdmissionStatusDto.expired(queue.popupId, subscriber.token);
+            push(queue, subscriber, status);
+        });
+    }
+
+    /**
+     * 최신 순번으로 바꿔 두고, 전송 중이 아니면 전송 스레드에 맡김 (바로 반환)
+     */
+    private void push(AdmissionQueue queue, Subscriber subscriber, AdmissionStatusDto status) {
+        subscriber.latest.set(status);
+        if (subscriber.scheduled.compareAndSet(false, true)) {
+            try {
+                sender.execute(() -> drain(queue, subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.scheduled.set(false);
+            }
+        }
+    }
+
+    // 보관된 최신 순번이 없을 때까지 전송, 연결이 끝나면 멈춘다
+    private void drain(AdmissionQueue queue, Subscriber subscriber) {
+        while (true) {
+            AdmissionStatusDto status = subscriber.latest.getAndSet(null);
+            if (status == null) {
+                subscriber.scheduled.set(false);
+                if (subscriber.latest.get() == null || !subscriber.scheduled.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+            if (!sendStatus(queue, subscriber, status)) {
+                return;
+            }
+        }
+    }
+
+    private boolean sendStatus(AdmissionQueue queue, Subscriber subscriber, AdmissionStatusDto status) {
+        try {
+            subscriber.emitter.send(SseEmitter.event().name("queue-status").data(status));
+            if (status.isAdmitted() || status.isExpired()) {
+                queue.subscribers.remove(subscriber.token, subscriber);
+                subscriber.emitter.complete();
+                return false;
+            }
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            queue.subscribers.remove(subscriber.token, subscriber);
+            return false;
+        }
+    }
+
+    private void validateWaitlistPopup(Long popupId) {
+        Popup popup = popupRepository.findById(popupId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "팝업이 존재하지 않습니다."));
+
+        if (!Boolean.TRUE.equals(popup.getWaitlistAvailable())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "대기열을 사용하지 않는 팝업입니다.");
+        }
+    }
+
+    /**
+     * 팝업별 대기열 (변경은 queue 모니터 안에서만, 조회는 잠금 없이)
+     */
+    private static final class AdmissionQueue {
+        private final Long popupId;
+        private final ConcurrentSkipListMap<Long, Ticket> waiting = new ConcurrentSkipListMap<>();
+        private final Map<String, Ticket> tickets = new ConcurrentHashMap<>();
+        private final Map<Long, Ticket> ticketByUser = new ConcurrentHashMap<>();
+        private final Deque<Ticket> admittedInOrder = new ArrayDeque<>();
+        private final Map<String, Subscriber> subscribers = new ConcurrentHashMap<>();
+
+        private long lastIssued;
+        private volatile long lastAdmitted;
+        private volatile long lastActivityMillis = System.currentTimeMillis();
+        private boolean closed;
+
+        private AdmissionQueue(Long popupId) {
+            this.popupId = popupId;
+        }
+
+        private Ticket issue(Long userId, int maxWaiting) {
+            lastActivityMillis = System.currentTimeMillis();
+
+            Ticket existing = ticketByUser.get(userId);
+            if (existing != null) {
+                return existing;
+            }
+            if (waiting.size() >= maxWaiting) {
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "대기 인원이 많아 잠시 후 다시 시도해주세요.");
+            }
+
+            Ticket ticket = new Ticket(UUID.randomUUID().toString(), userId, ++lastIssued);
+            waiting.put(ticket.seq, ticket);
+            tickets.put(ticket.token, ticket);
+            ticketByUser.put(userId, ticket);
+            return ticket;
+        }
+
+        private int admit(int permits, LocalDateTime expiresAt) {
+            int count = 0;
+            while (count < permits) {
+                Map.Entry<Long, Ticket> next = waiting.pollFirstEntry();
+                if (next == null) {
+                    break;
+                }
+                Ticket ticket = next.getValue();
+                ticket.admissionExpiresAt = expiresAt;
+                admittedInOrder.addLast(ticket);
+                lastAdmitted = ticket.seq;
+                count++;
+            }
+            return count;
+        }
+
+        // 입장 유효 시간은 모두 같으므로 입장 순서대로 앞에서부터 만료된다
+        private void expireAdmitted(LocalDateTime now) {
+            while (!admittedInOrder.isEmpty() && !admittedInOrder.peekFirst().admissionExpiresAt.isAfter(now)) {
+                Ticket expired = admittedInOrder.pollFirst();
+                tickets.remove(expired.token, expired);
+                ticketByUser.remove(expired.userId, expired);
+            }
+        }
+
+        private void remove(String token) {
+            Ticket ticket = tickets.remove(token);
+            if (ticket != null) {
+                ticketByUser.remove(ticket.userId, ticket);
+                waiting.remove(ticket.seq, ticket);
+            }
+        }
+
+        private boolean isActive() {
+            return !tickets.isEmpty();
+        }
+
+        private boolean isIdle(long nowMillis) {
+            return tickets.isEmpty() && nowMillis - lastActivityMillis > IDLE_QUEUE_MILLIS;
+        }
+
+        private AdmissionStatusDto statusOf(Ticket ticket) {
+            LocalDateTime expiresAt = ticket.admissionExpiresAt;
+            return AdmissionStatusDto.builder()
+                    .popupId(popupId)
+                    .token(ticket.token)
+                    .position(expiresAt != null ? 0 : Math.max(0, ticket.seq - lastAdmitted - 1))
+                    .admitted(expiresAt != null)
+                    .expired(false)
+                    .admissionExpiresAt(expiresAt)
+                    .build();
+        }
+    }
+
+    private static final class Ticket {
+        private final String token;
+        private final Long userId;
+        private final long seq;
+        private volatile LocalDateTime admissionExpiresAt; // 대기 중이면 null
+
+        private Ticket(String token, Long userId, long seq) {
+            this.token = token;
+            this.userId = userId;
+            this.seq = seq;
+        }
+
+        private boolean isAdmitted(LocalDateTime now) {
+            LocalDateTime expiresAt = admissionExpiresAt;
+            return expiresAt != null && expiresAt.isAfter(now);
+        }
+    }
+
+    /**
+     * 대기 순번 SSE 연결 (보낼 최신 순번 하나만 보관)
+     */
+    private static final class Subscriber {
+        private final String token;
+        private final SseEmitter emitter;
+        private final AtomicReference<AdmissionStatusDto> latest = new AtomicReference<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private Subscriber(String token, SseEmitter emitter) {
+            this.token = token;
+            this.emitter = emitter;
+        }
+    }
+}
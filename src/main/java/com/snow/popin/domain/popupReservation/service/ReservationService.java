@@ -8,27 +8,37 @@ import com.snow.popin.domain.popup.entity.Popup;
 import com.snow.popin.domain.popup.entity.PopupHours;
 import com.snow.popin.domain.popup.repository.PopupHoursRepository;
 import com.snow.popin.domain.popup.repository.PopupRepository;
+import com.snow.popin.domain.popup.service.PopupTrendingRanking;
 import com.snow.popin.domain.popupReservation.dto.*;
 import com.snow.popin.domain.popupReservation.entity.PopupReservationSettings;
 import com.snow.popin.domain.popupReservation.entity.Reservation;
 import com.snow.popin.domain.popupReservation.repository.ReservationQueryDslRepository;
 import com.snow.popin.domain.popupReservation.repository.ReservationRepository;
+import com.snow.popin.domain.popupReservation.service.AvailableDateCalendar.PopupCalendar;
 import com.snow.popin.domain.user.entity.User;
+import com.snow.popin.global.scheduler.ReservationReminderScheduler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import static com.snow.popin.global.util.TransactionUtil.afterCommit;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -42,6 +52,11 @@ public class ReservationService {
     private final BrandRepository brandRepository;
     private final PopupHoursRepository popupHoursRepository;
     private final PopupReservationSettingsService settingsService;
+    private final SlotCapacityLedger slotCapacityLedger;
+    private final ReservationAdmissionService admissionService;
+    private final AvailableDateCalendar availableDateCalendar;
+    private final PopupTrendingRanking popupTrendingRanking;
+    private final ReservationReminderScheduler reminderScheduler;
 
     @Autowired
     private PaymentService paymentService;
@@ -55,6 +70,11 @@ public class ReservationService {
 
         Popup popup = validatePopupForReservation(popupId);
 
+        boolean admissionRequired = Boolean.TRUE.equals(popup.getWaitlistAvailable());
+        if (admissionRequired) {
+            admissionService.requireAdmission(popupId, currentUser.getId(), dto.getAdmissionToken());
+        }
+
         if (reservationQueryDslRepository.existsActiveReservationByPopupAndUser(popup, currentUser)) {
             log.warn("[ReservationService] 이미 예약된 팝업: popupId={}, userId={}", popupId, currentUser.getId());
             throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 예약한 팝업입니다.");
@@ -62,7 +82,9 @@ public class ReservationService {
 
         PopupReservationSettings settings = settingsService.getSettings(popupId);
         validateReservationRequest(dto, settings);
-        validateTimeSlotAvailability(popupId, dto, settings);
+        List<TimeSlotDto> daySlots = buildTimeSlots(popup, settings, dto.getReservationDate().toLocalDate());
+        TimeSlotDto slot = validateTimeSlotAvailability(popupId, dto, daySlots);
+        reserveSlotCapacity(popupId, dto, settings, slot);
 
         Reservation reservation = Reservation.create(
                 popup, currentUser, dto.getName(), dto.getPhone(),
@@ -70,6 +92,16 @@ public class ReservationService {
         );
 
         Reservation saved = reservationRepository.save(reservation);
+        popupTrendingRanking.record(popupId, PopupTrendingRanking.Signal.RESERVATION);
+        afterCommit(() -> reminderScheduler.schedule(saved.getId(), saved.getReservationDate()));
+
+        if (admissionRequired) {
+            afterCommit(() -> admissionService.complete(popupId, dto.getAdmissionToken()));
+        }
+        if (isLastAvailableSlot(daySlots, slot, dto.getPartySize())) {
+            LocalDate date = dto.getReservationDate().toLocalDate();
+            afterCommit(() -> availableDateCalendar.markExhausted(popupId, date));
+        }
 
         log.info("[ReservationService] 예약 생성 완료: reservationId={}, popupId={}, userId={}, partySize={}",
                 saved.getId(), popupId, currentUser.getId(), dto.getPartySize());
@@ -86,23 +118,33 @@ public class ReservationService {
         Popup popup = validatePopupForReservation(popupId);
         PopupReservationSettings settings = settingsService.getSettings(popupId);
 
+        List<TimeSlotDto> timeSlots = buildTimeSlots(popup, settings, date);
+
+        log.info("[ReservationService] 예약 가능 슬롯 조회 완료: popupId={}, date={}, count={}", popupId, date, timeSlots.size());
+        return timeSlots;
+    }
+
+    /**
+     * 특정 날짜의 전체 시간 슬롯 생성 (예약 인원은 하루 1회 집계)
+     */
+    private List<TimeSlotDto> buildTimeSlots(Popup popup, PopupReservationSettings settings, LocalDate date) {
         List<PopupHours> operatingHours = popupHoursRepository.findByPopupIdAndDayOfWeek(
-                popupId, date.getDayOfWeek().getValue() % 7
+                popup.getId(), date.getDayOfWeek().getValue() % 7
         );
 
         if (operatingHours.isEmpty()) {
-            log.info("[ReservationService] 운영 시간 없음: popupId={}, date={}", popupId, date);
+            log.info("[ReservationService] 운영 시간 없음: popupId={}, date={}", popup.getId(), date);
             return new ArrayList<>();
         }
 
+        SlotOccupancy occupancy = loadDailyOccupancy(popup, date);
+
         List<TimeSlotDto> timeSlots = new ArrayList<>();
         for (PopupHours hours : operatingHours) {
             timeSlots.addAll(generateTimeSlotsForOperatingHours(
-                    popup, settings, date, hours.getOpenTime(), hours.getCloseTime()
+                    occupancy, settings, date, hours.getOpenTime(), hours.getCloseTime()
             ));
         }
-
-        log.info("[ReservationService] 예약 가능 슬롯 조회 완료: popupId={}, date={}, count={}", popupId, date, timeSlots.size());
         return timeSlots;
     }
 
@@ -110,7 +152,7 @@ public class ReservationService {
      * 운영 시간 내 시간 슬롯 생성
      */
     private List<TimeSlotDto> generateTimeSlotsForOperatingHours(
-            Popup popup, PopupReservationSettings settings,
+            SlotOccupancy occupancy, PopupReservationSettings settings,
             LocalDate date, LocalTime startTime, LocalTime endTime) {
 
         List<TimeSlotDto> slots = new ArrayList<>();
@@ -125,9 +167,7 @@ public class ReservationService {
             LocalDateTime slotStart = LocalDateTime.of(date, currentTime);
             LocalDateTime slotEnd = LocalDateTime.of(date, slotEndTime);
 
-            long currentReservations = reservationQueryDslRepository.sumPartySizeByPopupAndReservationDateBetween(
-                    popup, slotStart, slotEnd
-            );
+            long currentReservations = occupancy.sumPartySize(slotStart, slotEnd);
 
             TimeSlotDto slot = TimeSlotDto.createAvailable(
                     currentTime, slotEndTime, (int) currentReservations, maxCapacity
@@ -191,11 +231,13 @@ public class ReservationService {
                         "환불 처리 중 오류가 발생했습니다.");
             }
 
-            log.info("[ReservationService] 환불 처리 완료: reservationId={}", reservationId);
+            log.info("[ReservationService] 환불 요청 완료: reservationId={}", reservationId);
         }
 
         reservation.cancel();
         reservationRepository.save(reservation);
+        releaseSlotCapacityAfterCommit(reservation);
+        afterCommit(() -> reminderScheduler.cancel(reservationId));
 
         log.info("[ReservationService] 예약 취소 완료: reservationId={}, userId={}, refunded={}",
                 reservationId, currentUser.getId(), refundProcessed);
@@ -300,22 +342,14 @@ public class ReservationService {
     public List<LocalDate> getAvailableDates(Long popupId) {
         log.info("[ReservationService] 예약 가능 날짜 조회 요청: popupId={}", popupId);
 
-        Popup popup = validatePopupForReservation(popupId);
-        PopupReservationSettings settings = settingsService.getSettings(popupId);
-
-        LocalDate startDate = calculateStartDate(popup, settings);
-        LocalDate endDate = calculateEndDate(popup, settings);
-
-        List<LocalDate> dates = new ArrayList<>();
-        LocalDate current = startDate;
-
-        while (!current.isAfter(endDate)) {
-            if (hasOperatingHours(popupId, current)) {
-                dates.add(current);
-            }
-            current = current.plusDays(1);
+        PopupCalendar calendar = availableDateCalendar.getOrLoad(popupId, this::loadCalendar);
+        if (!calendar.isReservationAvailable()) {
+            log.warn("[ReservationService] 예약 불가 팝업: popupId={}", popupId);
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "해당 팝업은 예약을 받을 수 없습니다.");
         }
 
+        List<LocalDate> dates = calendar.availableDates(LocalDate.now());
+
         log.info("[ReservationService] 예약 가능 날짜 조회 완료: popupId={}, count={}", popupId, dates.size());
         return dates;
     }
@@ -333,6 +367,8 @@ public class ReservationService {
         List<PopupHours> hoursList = popupHoursRepository.findByPopupIdAndDayOfWeek(
                 popupId, date.getDayOfWeek().getValue() % 7);
 
+        SlotOccupancy occupancy = hoursList.isEmpty() ? SlotOccupancy.empty() : loadDailyOccupancy(popup, date);
+
         for (PopupHours hours : hoursList) {
             LocalTime current = hours.getOpenTime();
             while (current.plusMinutes(settings.getTimeSlotInterval()).isBefore(hours.getCloseTime())
@@ -341,8 +377,7 @@ public class ReservationService {
                 LocalTime slotStart = current;
                 LocalTime slotEnd = current.plusMinutes(settings.getTimeSlotInterval());
 
-                long reservedCount = reservationQueryDslRepository.sumPartySizeByPopupAndReservationDateBetween(
-                        popup, date.atTime(slotStart), date.atTime(slotEnd));
+                long reservedCount = occupancy.sumPartySize(date.atTime(slotStart), date.atTime(slotEnd));
 
                 int remaining = settings.getMaxCapacityPerSlot() - (int) reservedCount;
                 slots.add(AvailableSlotDto.of(slotStart, slotEnd, Math.max(remaining, 0)));
@@ -357,6 +392,107 @@ public class ReservationService {
 
     // ========== 유틸리티 메서드들 ==========
 
+    /**
+     * 예약 가능 날짜 캘린더 생성 (운영 요일은 한 번에 조회)
+     */
+    private PopupCalendar loadCalendar(Long popupId) {
+        Popup popup = popupRepository.findById(popupId)
+                .orElseThrow(() -> {
+                    log.error("[ReservationService] 팝업 조회 실패: popupId={}", popupId);
+                    return new ResponseStatusException(HttpStatus.NOT_FOUND, "팝업이 존재하지 않습니다.");
+                });
+        PopupReservationSettings settings = settingsService.getSettings(popupId);
+
+        PopupCalendar calendar = PopupCalendar.builder()
+                .openDaysOfWeek(popupHoursRepository.findDistinctDayOfWeekByPopupId(popupId))
+                .reservationAvailable(Boolean.TRUE.equals(popup.getReservationAvailable()))
+                .popupStart(popup.getStartDate())
+                .popupEnd(popup.getEndDate())
+                .allowSameDayBooking(settings.getAllowSameDayBooking())
+                .advanceBookingDays(settings.getAdvanceBookingDays())
+                .build();
+
+        LocalDate today = LocalDate.now();
+        calendar.getExhaustedDates().addAll(
+                loadExhaustedDates(popup, settings, calendar.bookingStart(today), calendar.bookingEnd(today)));
+
+        log.info("[ReservationService] 예약 가능 날짜 캘린더 생성: popupId={}, 마감 날짜={}",
+                popupId, calendar.getExhaustedDates().size());
+        return calendar;
+    }
+
+    /**
+     * 예약 기간 중 모든 슬롯이 정원에 찬 날짜 (기간 전체 예약 인원은 한 번에 집계)
+     */
+    private Set<LocalDate> loadExhaustedDates(Popup popup, PopupReservationSettings settings,
+                                              LocalDate from, LocalDate to) {
+        Set<LocalDate> exhausted = new HashSet<>();
+        if (from.isAfter(to)) {
+            return exhausted;
+        }
+
+        Map<Integer, List<PopupHours>> hoursByDayOfWeek = popupHoursRepository.findByPopupId(popup.getId()).stream()
+                .collect(Collectors.groupingBy(PopupHours::getDayOfWeek));
+        if (hoursByDayOfWeek.isEmpty()) {
+            return exhausted;
+        }
+
+        SlotOccupancy occupancy = SlotOccupancy.of(reservationQueryDslRepository.sumPartySizeGroupedByReservationDate(
+                popup, from.atStartOfDay(), to.plusDays(1).atStartOfDay()));
+
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            List<PopupHours> hours = hoursByDayOfWeek.get(date.getDayOfWeek().getValue() % 7);
+            if (hours != null && isFullyBooked(occupancy, settings, date, hours)) {
+                exhausted.add(date);
+            }
+        }
+        return exhausted;
+    }
+
+    /**
+     * 해당 날짜의 슬롯이 하나 이상 있고 모두 정원에 찼는지 확인
+     */
+    private boolean isFullyBooked(SlotOccupancy occupancy, PopupReservationSettings settings,
+                                  LocalDate date, List<PopupHours> hoursList) {
+        int timeInterval = settings.getTimeSlotInterval();
+        boolean hasSlot = false;
+        for (PopupHours hours : hoursList) {
+            LocalTime current = hours.getOpenTime();
+            while (current.isBefore(hours.getCloseTime())) {
+                LocalTime slotEnd = current.plusMinutes(timeInterval);
+                if (slotEnd.isAfter(hours.getCloseTime()) || !slotEnd.isAfter(current)) break;
+
+                if (occupancy.sumPartySize(date.atTime(current), date.atTime(slotEnd)) < settings.getMaxCapacityPerSlot()) {
+                    return false;
+                }
+                hasSlot = true;
+                current = slotEnd;
+            }
+        }
+        return hasSlot;
+    }
+
+    /**
+     * 이번 예약으로 해당 날짜의 모든 슬롯이 마감되는지 확인
+     */
+    private boolean isLastAvailableSlot(List<TimeSlotDto> daySlots, TimeSlotDto bookedSlot, int partySize) {
+        if (bookedSlot.getRemainingSlots() - partySize > 0) {
+            return false;
+        }
+        return daySlots.stream()
+                .filter(slot -> slot != bookedSlot)
+                .noneMatch(TimeSlotDto::isAvailable);
+    }
+
+    /**
+     * 하루치 예약 인원을 예약 일시별로 한 번에 집계
+     */
+    private SlotOccupancy loadDailyOccupancy(Popup popup, LocalDate date) {
+        LocalDateTime startOfDay = date.atStartOfDay();
+        return SlotOccupancy.of(reservationQueryDslRepository.sumPartySizeGroupedByReservationDate(
+                popup, startOfDay, startOfDay.plusDays(1)));
+    }
+
     private Popup validatePopupForReservation(Long popupId) {
         Popup popup = popupRepository.findById(popupId)
                 .orElseThrow(() -> {
@@ -385,12 +521,10 @@ public class ReservationService {
         }
     }
 
-    private void validateTimeSlotAvailability(Long popupId, ReservationRequestDto dto, PopupReservationSettings settings) {
+    private TimeSlotDto validateTimeSlotAvailability(Long popupId, ReservationRequestDto dto, List<TimeSlotDto> availableSlots) {
         LocalDate date = dto.getReservationDate().toLocalDate();
         LocalTime time = dto.getReservationDate().toLocalTime();
 
-        List<TimeSlotDto> availableSlots = getAvailableTimeSlots(popupId, date);
-
         TimeSlotDto matchedSlot = availableSlots.stream()
                 .filter(slot -> slot.getStartTime().equals(time))
                 .findFirst()
@@ -407,6 +541,52 @@ public class ReservationService {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
                     String.format("해당 시간대에는 %d명만 예약 가능합니다.", matchedSlot.getRemainingSlots()));
         }
+
+        return matchedSlot;
+    }
+
+    /**
+     * 원장에서 좌석 선점 (트랜잭션이 롤백되면 자동 반환)
+     */
+    private void reserveSlotCapacity(Long popupId, ReservationRequestDto dto,
+                                     PopupReservationSettings settings, TimeSlotDto slot) {
+        LocalDateTime slotStart = dto.getReservationDate();
+        int partySize = dto.getPartySize();
+
+        boolean reserved = slotCapacityLedger.tryReserve(
+                popupId, slotStart, partySize, settings.getMaxCapacityPerSlot(), slot::getCurrentReservations);
+
+        if (!reserved) {
+            log.warn("[ReservationService] 좌석 선점 실패: popupId={}, slot={}, 요청인원={}", popupId, slotStart, partySize);
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "선택한 시간의 잔여 인원이 부족합니다.");
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        log.info("[ReservationService] 예약 롤백 - 좌석 반환: popupId={}, slot={}, partySize={}",
+                                popupId, slotStart, partySize);
+                        slotCapacityLedger.release(popupId, slotStart, partySize);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * 예약 취소가 커밋된 뒤 원장에 좌석 반환 및 날짜 마감 해제
+     */
+    private void releaseSlotCapacityAfterCommit(Reservation reservation) {
+        Long popupId = reservation.getPopup().getId();
+        LocalDateTime slotStart = reservation.getReservationDate();
+        int partySize = reservation.getPartySize();
+
+        afterCommit(() -> {
+            slotCapacityLedger.release(popupId, slotStart, partySize);
+            availableDateCalendar.markAvailable(popupId, slotStart.toLocalDate());
+        });
     }
 
     private void validateHostPermission(Long popupId, User currentUser) {
@@ -428,25 +608,4 @@ public class ReservationService {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "권한이 없습니다.");
         }
     }
-
-    private LocalDate calculateStartDate(Popup popup, PopupReservationSettings settings) {
-        LocalDate popupStart = popup.getStartDate() != null ? popup.getStartDate() : LocalDate.now();
-        LocalDate today = LocalDate.now();
-        LocalDate settingsStart = settings.getAllowSameDayBooking() ? today : today.plusDays(1);
-
-        return popupStart.isAfter(settingsStart) ? popupStart : settingsStart;
-    }
-
-    private LocalDate calculateEndDate(Popup popup, PopupReservationSettings settings) {
-        LocalDate popupEnd = popup.getEndDate() != null ? popup.getEndDate() : LocalDate.now().plusMonths(3);
-        LocalDate maxAdvanceDate = LocalDate.now().plusDays(settings.getAdvanceBookingDays());
-
-        return popupEnd.isBefore(maxAdvanceDate) ? popupEnd : maxAdvanceDate;
-    }
-
-    private boolean hasOperatingHours(Long popupId, LocalDate date) {
-        return !popupHoursRepository.findByPopupIdAndDayOfWeek(
-                popupId, date.getDayOfWeek().getValue() % 7
-        ).isEmpty();
-    }
 }
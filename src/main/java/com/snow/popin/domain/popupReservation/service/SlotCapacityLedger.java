@@ -0,0 +1,90 @@
+package com.snow.popin.domain.popupReservation.service;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+/**
+ * 슬롯 단위 예약 인원 원장
+ *
+ * (popupId, slotStart) 별로 점유 인원을 AtomicInteger로 보관하고,
+ * 예약 저장 전에 CAS로 좌석을 선점한다. 같은 슬롯에 대한 동시 예약도
+ * 최대 인원을 넘겨서 확정되지 않으며, 서로 다른 슬롯끼리는 경합하지 않는다.
+ *
+ * 최대 인원은 호출 시점의 설정값을 그대로 받기 때문에 설정 변경 시 별도 무효화가 필요 없다.
+ * 슬롯이 처음 조회될 때 기존 예약 인원으로 초기화되며, 지난 날짜의 슬롯은 매일 정리된다.
+ */
+@Slf4j
+@Component
+public class SlotCapacityLedger {
+
+    private final ConcurrentMap<SlotKey, AtomicInteger> occupiedBySlot = new ConcurrentHashMap<>();
+
+    /**
+     * 좌석 선점 시도
+     *
+     * @param seed 원장에 슬롯이 없을 때 사용할 현재 예약 인원
+     * @return 최대 인원 이내에서 선점에 성공하면 true
+     */
+    public boolean tryReserve(Long popupId, LocalDateTime slotStart, int partySize, int maxCapacity, IntSupplier seed) {
+        AtomicInteger occupied = occupiedBySlot.computeIfAbsent(
+                new SlotKey(popupId, slotStart), key -> new AtomicInteger(seed.getAsInt()));
+
+        while (true) {
+            int current = occupied.get();
+            if (current + partySize > maxCapacity) {
+                log.warn("[SlotCapacityLedger] 좌석 선점 실패: popupId={}, slot={}, occupied={}, requested={}, max={}",
+                        popupId, slotStart, current, partySize, maxCapacity);
+                return false;
+            }
+            if (occupied.compareAndSet(current, current + partySize)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 선점한 좌석 반환 (롤백, 예약 취소 시)
+     */
+    public void release(Long popupId, LocalDateTime slotStart, int partySize) {
+        AtomicInteger occupied = occupiedBySlot.get(new SlotKey(popupId, slotStart));
+        if (occupied == null) {
+            // 아직 원장에 올라오지 않은 슬롯은 다음 조회 시 DB 기준으로 초기화된다
+            return;
+        }
+        occupied.updateAndGet(current -> Math.max(0, current - partySize));
+    }
+
+    /**
+     * 원장에 기록된 점유 인원 (없으면 -1)
+     */
+    public int getOccupied(Long popupId, LocalDateTime slotStart) {
+        AtomicInteger occupied = occupiedBySlot.get(new SlotKey(popupId, slotStart));
+        return occupied != null ? occupied.get() : -1;
+    }
+
+    // 매일 자정, 지난 날짜의 슬롯을 정리합니다.
+    @Scheduled(cron = "0 5 0 * * *")
+    public void evictPastSlots() {
+        LocalDateTime startOfToday = LocalDate.now().atStartOfDay();
+        int before = occupiedBySlot.size();
+        occupiedBySlot.keySet().removeIf(key -> key.slotStart.isBefore(startOfToday));
+        log.info("[SlotCapacityLedger] 지난 슬롯 정리: removed={}, remaining={}", before - occupiedBySlot.size(), occupiedBySlot.size());
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static final class SlotKey {
+        private final Long popupId;
+        private final LocalDateTime slotStart;
+    }
+}
@@ -0,0 +1,49 @@
+package com.snow.popin.domain.popupReservation.service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 하루 단위 예약 인원 집계 스냅샷
+ *
+ * 예약 일시별 인원 합계를 한 번의 그룹 쿼리로 받아 두고,
+ * 각 슬롯의 [시작, 종료) 구간 합계는 메모리에서 계산한다.
+ * 슬롯 개수와 관계없이 DB 조회는 하루 1회로 고정된다.
+ */
+public final class SlotOccupancy {
+
+    private static final SlotOccupancy EMPTY = new SlotOccupancy(new TreeMap<>());
+
+    private final NavigableMap<LocalDateTime, Long> partySizeByTime;
+
+    private SlotOccupancy(NavigableMap<LocalDateTime, Long> partySizeByTime) {
+        this.partySizeByTime = partySizeByTime;
+    }
+
+    public static SlotOccupancy of(Map<LocalDateTime, Long> partySizeByTime) {
+        if (partySizeByTime == null || partySizeByTime.isEmpty()) {
+            return EMPTY;
+        }
+        return new SlotOccupancy(new TreeMap<>(partySizeByTime));
+    }
+
+    public static SlotOccupancy empty() {
+        return EMPTY;
+    }
+
+    /**
+     * [start, end) 구간의 예약 인원 합계
+     */
+    public long sumPartySize(LocalDateTime start, LocalDateTime end) {
+        if (!start.isBefore(end)) {
+            return 0L;
+        }
+        long sum = 0L;
+        for (Long partySize : partySizeByTime.subMap(start, true, end, false).values()) {
+            sum += partySize;
+        }
+        return sum;
+    }
+}
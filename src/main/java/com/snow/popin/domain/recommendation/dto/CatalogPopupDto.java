@@ -0,0 +1,17 @@
+package com.snow.popin.domain.recommendation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 추천 카탈로그용 진행중 팝업 (프롬프트에 쓰는 컬럼만)
+ */
+@Getter
+@AllArgsConstructor
+public class CatalogPopupDto {
+    private Long popupId;
+    private String title;
+    private String categoryName;
+    private Long brandId;
+    private String region;
+}
@@ -0,0 +1,15 @@
+package com.snow.popin.domain.recommendation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 추천 후보 팝업 (카테고리, 조회수)
+ */
+@Getter
+@AllArgsConstructor
+public class PopupSignalDto {
+    private Long popupId;
+    private Long categoryId;
+    private Long viewCount;
+}
@@ -0,0 +1,19 @@
+package com.snow.popin.domain.recommendation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 행동 신호 (예약, 북마크, 관심 카테고리)
+ * 관심 카테고리는 popupId 가 없다.
+ */
+@Getter
+@AllArgsConstructor
+public class UserSignalDto {
+    private Long userId;
+    private Long popupId;
+    private Long categoryId;
+    private LocalDateTime createdAt;
+}
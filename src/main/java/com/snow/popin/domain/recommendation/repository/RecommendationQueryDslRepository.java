@@ -0,0 +1,156 @@
+package com.snow.popin.domain.recommendation.repository;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.snow.popin.domain.popup.entity.PopupStatus;
+import com.snow.popin.domain.popupReservation.entity.ReservationStatus;
+import com.snow.popin.domain.recommendation.dto.CatalogPopupDto;
+import com.snow.popin.domain.recommendation.dto.PopupSignalDto;
+import com.snow.popin.domain.recommendation.dto.UserSignalDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.snow.popin.domain.bookmark.entity.QBookMark.bookMark;
+import static com.snow.popin.domain.category.entity.QCategory.category;
+import static com.snow.popin.domain.category.entity.QUserInterest.userInterest;
+import static com.snow.popin.domain.map.entity.QVenue.venue;
+import static com.snow.popin.domain.popup.entity.QPopup.popup;
+import static com.snow.popin.domain.popupReservation.entity.QReservation.reservation;
+
+/**
+ * 로컬 추천 모델, 추천 카탈로그 적재용 조회
+ *
+ * 엔티티 대신 필요한 컬럼만 읽는다. userIds 가 null 이면 전체 사용자를 읽는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecommendationQueryDslRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 진행중 팝업 (추천 후보)
+     */
+    public List<PopupSignalDto> findOngoingPopups() {
+        return queryFactory
+                .select(popup.id, category.id, popup.viewCount)
+                .from(popup)
+                .leftJoin(popup.category, category)
+                .where(popup.status.eq(PopupStatus.ONGOING))
+                .fetch()
+                .stream()
+                .map(row -> new PopupSignalDto(row.get(popup.id), row.get(category.id), row.get(popup.viewCount)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 진행중 팝업 (추천 카탈로그)
+     */
+    public List<CatalogPopupDto> findOngoingCatalog() {
+        return queryFactory
+                .select(popup.id, popup.title, category.name, popup.brandId, venue.region)
+                .from(popup)
+                .leftJoin(popup.category, category)
+                .leftJoin(popup.venue, venue)
+                .where(popup.status.eq(PopupStatus.ONGOING))
+                .orderBy(popup.id.asc())
+                .fetch()
+                .stream()
+                .map(row -> new CatalogPopupDto(row.get(popup.id), row.get(popup.title), row.get(category.name),
+                        row.get(popup.brandId), row.get(venue.region)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 취소되지 않은 예약
+     */
+    public List<UserSignalDto> findReservationSignals(Collection<Long> userIds) {
+        BooleanBuilder where = new BooleanBuilder(reservation.status.ne(ReservationStatus.CANCELLED));
+        if (userIds != null) {
+            where.and(reservation.user.id.in(userIds));
+        }
+
+        return queryFactory
+                .select(reservation.user.id, popup.id, category.id, reservation.createdAt)
+                .from(reservation)
+                .join(reservation.popup, popup)
+                .leftJoin(popup.category, category)
+                .where(where)
+                .fetch()
+                .stream()
+                .map(row -> new UserSignalDto(row.get(reservation.user.id), row.get(popup.id),
+                        row.get(category.id), row.get(reservation.createdAt)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 북마크
+     */
+    public List<UserSignalDto> findBookmarkSignals(Collection<Long> userIds) {
+        BooleanBuilder where = new BooleanBuilder();
+        if (userIds != null) {
+            where.and(bookMark.userId.in(userIds));
+        }
+
+        return queryFactory
+                .select(bookMark.userId, popup.id, category.id, bookMark.createdAt)
+                .from(bookMark)
+                .join(bookMark.popup, popup)
+                .leftJoin(popup.category, category)
+                .where(where)
+                .fetch()
+                .stream()
+                .map(row -> new UserSignalDto(row.get(bookMark.userId), row.get(popup.id),
+                        row.get(category.id), row.get(bookMark.createdAt)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 관심 카테고리 (popupId 없음)
+     */
+    public List<UserSignalDto> findInterestSignals(Collection<Long> userIds) {
+        BooleanBuilder where = new BooleanBuilder();
+        if (userIds != null) {
+            where.and(userInterest.user.id.in(userIds));
+        }
+
+        return queryFactory
+                .select(userInterest.user.id, userInterest.category.id, userInterest.createdAt)
+                .from(userInterest)
+                .where(where)
+                .fetch()
+                .stream()
+                .map(row -> new UserSignalDto(row.get(userInterest.user.id), null,
+                        row.get(userInterest.category.id), row.get(userInterest.createdAt)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * since 이후 예약, 북마크, 관심사가 생기거나 바뀐 사용자
+     */
+    public Set<Long> findUserIdsChangedSince(LocalDateTime since) {
+        Set<Long> userIds = new LinkedHashSet<>(queryFactory
+                .select(reservation.user.id)
+                .from(reservation)
+                .where(reservation.createdAt.after(since).or(reservation.updatedAt.after(since)))
+                .fetch());
+        userIds.addAll(queryFactory
+                .select(bookMark.userId)
+                .from(bookMark)
+                .where(bookMark.createdAt.after(since))
+                .fetch());
+        userIds.addAll(queryFactory
+                .select(userInterest.user.id)
+                .from(userInterest)
+                .where(userInterest.createdAt.after(since))
+                .fetch());
+        return userIds;
+    }
+}
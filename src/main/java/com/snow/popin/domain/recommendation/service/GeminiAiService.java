@@ -1,72 +1,161 @@
 package com.snow.popin.domain.recommendation.service;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.snow.popin.domain.recommendation.dto.GeminiRequestDto;
 import com.snow.popin.domain.recommendation.dto.GeminiResponseDto;
 import com.snow.popin.global.config.GeminiProperties;
-import lombok.RequiredArgsConstructor;
+import com.snow.popin.global.http.BulkheadFullException;
+import com.snow.popin.global.http.OutboundHttpClient;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.web.client.RestTemplateBuilder;
-import org.springframework.http.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.util.StringUtils;
 
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Gemini API 비동기 클라이언트
+ *
+ * HTTP 호출은 공용 OutboundHttpClient 로 비동기 처리하고 결과는 CompletableFuture 로 돌려준다.
+ * - 같은 프롬프트가 동시에 들어오면 진행 중인 호출 하나를 함께 기다린다.
+ * - 동시에 진행하는 호출 수는 http.outbound.destinations.gemini.max-concurrent 로 제한하고, 넘치면 기다리지 않고 바로 실패한다.
+ * - 연속 실패가 failure-threshold 에 이르면 open-duration 동안 호출하지 않고 바로 실패하며,
+ *   그 뒤 한 번 시험 호출해 성공하면 다시 연다.
+ *
+ * 실패는 예외 대신 null 로 완료된다. 호출 측은 null 이면 인기 팝업 등으로 대체한다.
+ */
 @Slf4j
 @Service
 public class GeminiAiService {
 
     private final GeminiProperties geminiProperties;
     private final ObjectMapper objectMapper;
-    private final RestTemplate restTemplate;
+    private final ObjectReader responseReader;
+    private final OutboundHttpClient outboundHttpClient;
+    private final CircuitBreaker circuitBreaker;
+    private final Map<String, CompletableFuture<String>> inFlightRequests = new ConcurrentHashMap<>();
 
-    // RestTemplate Bean이 없는 경우 생성자에서 직접 생성
-    public GeminiAiService(GeminiProperties geminiProperties, ObjectMapper objectMapper) {
+    public GeminiAiService(GeminiProperties geminiProperties, ObjectMapper objectMapper,
+                           OutboundHttpClient outboundHttpClient) {
         this.geminiProperties = geminiProperties;
         this.objectMapper = objectMapper;
-        this.restTemplate = new RestTemplateBuilder()
-                .setConnectTimeout(Duration.ofMillis(geminiProperties.getTimeout()))
-                .setReadTimeout(Duration.ofMillis(geminiProperties.getTimeout()))
-                .build();
+        this.responseReader = objectMapper.readerFor(GeminiResponseDto.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.outboundHttpClient = outboundHttpClient;
+        this.circuitBreaker = new CircuitBreaker(
+                geminiProperties.getCircuitBreaker().getFailureThreshold(),
+                geminiProperties.getCircuitBreaker().getOpenDuration());
     }
 
     /**
-     * Gemini API를 호출하여 텍스트 생성
+     * Gemini API를 호출하여 텍스트 생성 (최대 waitMillis 만큼만 기다리고, 넘으면 null)
+     *
+     * 기다림을 포기해도 호출 자체는 끝까지 진행되며, 같은 프롬프트로 합류한 다른 호출자에게는 영향을 주지 않는다.
      */
-    public String generateText(String prompt) {
-        try {
-            // 요청 DTO 생성
-            GeminiRequestDto request = createRequest(prompt);
+    public String generateText(String prompt, long waitMillis) {
+        return generateTextAsync(prompt).copy()
+                .completeOnTimeout(null, waitMillis, TimeUnit.MILLISECONDS)
+                .join();
+    }
 
-            // HTTP 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.set("x-goog-api-key", geminiProperties.getApi().getKey());
+    /**
+     * Gemini API를 호출하여 텍스트 생성 (비동기, 실패 시 null 로 완료)
+     */
+    public CompletableFuture<String> generateTextAsync(String prompt) {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        CompletableFuture<String> inFlight = inFlightRequests.putIfAbsent(prompt, result);
+        if (inFlight != null) {
+            log.debug("진행 중인 동일 프롬프트 호출에 합류");
+            return inFlight;
+        }
 
-            // 요청 엔티티 생성
-            HttpEntity<GeminiRequestDto> entity = new HttpEntity<>(request, headers);
+        if (!circuitBreaker.tryAcquirePermission()) {
+            log.warn("Gemini API 차단 중 - 호출 생략");
+            return complete(prompt, result, null);
+        }
 
+        try {
             log.info("Gemini API 호출 시작 - prompt length: {}", prompt.length());
+            outboundHttpClient.sendAsync(OutboundHttpClient.GEMINI, createHttpRequest(prompt),
+                            HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8))
+                    .handle(this::extractText)
+                    .whenComplete((text, error) -> complete(prompt, result, text));
+        } catch (Exception e) {
+            log.error("Gemini API 요청 생성 중 오류 발생", e);
+            circuitBreaker.onFailure();
+            complete(prompt, result, null);
+        }
+        return result;
+    }
 
-            // API 호출
-            ResponseEntity<GeminiResponseDto> response = restTemplate.exchange(
-                    geminiProperties.getApi().getUrl(),
-                    HttpMethod.POST,
-                    entity,
-                    GeminiResponseDto.class
-            );
-
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                return extractTextFromResponse(response.getBody());
-            } else {
-                log.error("Gemini API 호출 실패 - status: {}", response.getStatusCode());
-                return null;
-            }
+    /**
+     * 차단 중이라 호출해도 바로 실패하는지 여부
+     */
+    public boolean isCircuitOpen() {
+        return !circuitBreaker.isCallPermitted();
+    }
+
+    private CompletableFuture<String> complete(String prompt, CompletableFuture<String> result, String text) {
+        inFlightRequests.remove(prompt, result);
+        result.complete(text);
+        return result;
+    }
+
+    private HttpRequest createHttpRequest(String prompt) throws Exception {
+        HttpRequest.Builder builder = outboundHttpClient
+                .requestBuilder(OutboundHttpClient.GEMINI, URI.create(geminiProperties.getApi().getUrl()))
+                .timeout(Duration.ofMillis(geminiProperties.getTimeout()))
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        objectMapper.writeValueAsString(createRequest(prompt)), StandardCharsets.UTF_8));
+
+        String apiKey = geminiProperties.getApi().getKey();
+        if (StringUtils.hasText(apiKey)) {
+            builder.header("x-goog-api-key", apiKey);
+        }
+        return builder.build();
+    }
+
+    private String extractText(HttpResponse<String> response, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof BulkheadFullException) {
+            log.warn("Gemini API 동시 호출 한도 초과 - 호출 생략");
+            circuitBreaker.onRejected();
+            return null;
+        }
+        if (error != null) {
+            log.error("Gemini API 호출 중 오류 발생", error);
+            circuitBreaker.onFailure();
+            return null;
+        }
+        if (response.statusCode() != HttpStatus.OK.value()) {
+            log.error("Gemini API 호출 실패 - status: {}", response.statusCode());
+            circuitBreaker.onFailure();
+            return null;
+        }
 
+        circuitBreaker.onSuccess();
+        if (!StringUtils.hasText(response.body())) {
+            return null;
+        }
+        try {
+            return extractTextFromResponse(responseReader.readValue(response.body()));
         } catch (Exception e) {
-            log.error("Gemini API 호출 중 오류 발생", e);
+            log.error("Gemini API 응답 파싱 실패", e);
             return null;
         }
     }
@@ -112,4 +201,67 @@ public class GeminiAiService {
         }
         return null;
     }
+
+    /**
+     * 연속 실패 기반 서킷 브레이커 (CLOSED → OPEN → HALF_OPEN)
+     */
+    private static final class CircuitBreaker {
+
+        private enum State { CLOSED, OPEN, HALF_OPEN }
+
+        private final int failureThreshold;
+        private final long openMillis;
+
+        private State state = State.CLOSED;
+        private int consecutiveFailures;
+        private long openedAt;
+
+        private CircuitBreaker(int failureThreshold, long openMillis) {
+            this.failureThreshold = failureThreshold;
+            this.openMillis = openMillis;
+        }
+
+        private synchronized boolean isCallPermitted() {
+            return state == State.CLOSED
+                    || (state == State.OPEN && System.currentTimeMillis() - openedAt >= openMillis);
+        }
+
+        // 차단 시간이 지나면 시험 호출 하나만 허용
+        private synchronized boolean tryAcquirePermission() {
+            if (!isCallPermitted()) {
+                return false;
+            }
+            if (state == State.OPEN) {
+                state = State.HALF_OPEN;
+                log.info("Gemini API 차단 시간 경과 - 시험 호출");
+            }
+            return true;
+        }
+
+        private synchronized void onSuccess() {
+            if (state != State.CLOSED) {
+                log.info("Gemini API 차단 해제");
+            }
+            state = State.CLOSED;
+            consecutiveFailures = 0;
+        }
+
+        // 호출하지 못했으면 시험 호출 기회를 돌려준다
+        private synchronized void onRejected() {
+            if (state == State.HALF_OPEN) {
+                state = State.OPEN;
+            }
+        }
+
+        private synchronized void onFailure() {
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+                if (state != State.OPEN) {
+                    log.warn("Gemini API 차단 - 연속 실패 {}회, {}ms 동안 호출 생략", consecutiveFailures, openMillis);
+                }
+                state = State.OPEN;
+                openedAt = System.currentTimeMillis();
+            }
+        }
+    }
 }
@@ -0,0 +1,128 @@
+package com.snow.popin.domain.recommendation.service;
+
+import com.snow.popin.domain.recommendation.dto.PopupSignalDto;
+import com.snow.popin.domain.recommendation.dto.UserSignalDto;
+import com.snow.popin.domain.recommendation.repository.RecommendationQueryDslRepository;
+import com.snow.popin.global.config.RecommendationProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 로컬 추천기
+ *
+ * 관심 카테고리, 예약, 북마크로 만든 RecommendationModel 로 진행중 팝업을 순위화한다.
+ * 모델은 요청 스레드가 아닌 스케줄러에서만 만든다.
+ * - 전체 재구성: 최초 1회와 full-rebuild-interval 마다. 재구성 직후 오프라인 평가 결과를 로그로 남긴다.
+ * - 변경분 반영: refresh-interval 마다 그 사이 신호가 바뀐 사용자만 다시 읽고, 후보 팝업 목록을 갱신한다.
+ *
+ * 관심사를 모두 지우거나 북마크를 해제한 것은 변경분으로 잡히지 않아 다음 전체 재구성 때 반영된다.
+ * 모델이 아직 없으면 빈 목록을 돌려주고, 호출 측은 인기 팝업으로 대체한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocalRecommender {
+
+    static final int EVALUATION_K = 10;
+
+    // 변경분 조회 시 이전 조회 시작 시각보다 조금 앞부터 읽어 경계의 누락을 막는다
+    private static final Duration CHANGE_OVERLAP = Duration.ofMinutes(1);
+    private static final int USER_CHUNK_SIZE = 500;
+
+    private final RecommendationQueryDslRepository recommendationQueryDslRepository;
+    private final RecommendationProperties recommendationProperties;
+
+    private volatile RecommendationModel model;
+    private volatile LocalDateTime changedSince;
+    private volatile long lastRebuiltAt;
+
+    /**
+     * 사용자 추천 팝업 ID (점수순)
+     */
+    public List<Long> recommend(Long userId, int limit) {
+        RecommendationModel current = model;
+        return current != null ? current.rank(userId, limit) : List.of();
+    }
+
+    /**
+     * 선호도가 높은 카테고리 ID
+     */
+    public List<Long> preferredCategoryIds(Long userId, int limit) {
+        RecommendationModel current = model;
+        return current != null ? current.preferredCategoryIds(userId, limit) : List.of();
+    }
+
+    @Scheduled(fixedDelayString = "${ai.recommendation.model.refresh-interval:60000}")
+    public void refresh() {
+        try {
+            long rebuildInterval = recommendationProperties.getModel().getFullRebuildInterval();
+            if (model == null || System.currentTimeMillis() - lastRebuiltAt >= rebuildInterval) {
+                rebuild();
+            } else {
+                applyChanges();
+            }
+        } catch (Exception e) {
+            log.error("[LocalRecommender] 추천 모델 갱신 실패", e);
+        }
+    }
+
+    void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime since = LocalDateTime.now().minus(CHANGE_OVERLAP);
+
+        List<PopupSignalDto> popups = recommendationQueryDslRepository.findOngoingPopups();
+        List<UserSignalDto> interests = recommendationQueryDslRepository.findInterestSignals(null);
+        List<UserSignalDto> reservations = recommendationQueryDslRepository.findReservationSignals(null);
+        List<UserSignalDto> bookmarks = recommendationQueryDslRepository.findBookmarkSignals(null);
+
+        RecommendationModel built = RecommendationModel.build(popups, interests, reservations, bookmarks);
+        model = built;
+        changedSince = since;
+        lastRebuiltAt = startedAt;
+        log.info("[LocalRecommender] 추천 모델 재구성 완료: users={}, candidates={}, {}ms",
+                built.userCount(), built.candidateCount(), System.currentTimeMillis() - startedAt);
+
+        log.info("[LocalRecommender] 오프라인 평가: {}",
+                RecommendationEvaluator.evaluate(popups, interests, reservations, bookmarks, EVALUATION_K));
+    }
+
+    void applyChanges() {
+        RecommendationModel current = model;
+        LocalDateTime since = LocalDateTime.now().minus(CHANGE_OVERLAP);
+
+        current.replaceCandidates(recommendationQueryDslRepository.findOngoingPopups());
+
+        Set<Long> changedUserIds = recommendationQueryDslRepository.findUserIdsChangedSince(changedSince);
+        List<Long> userIds = new ArrayList<>(changedUserIds);
+        for (int from = 0; from < userIds.size(); from += USER_CHUNK_SIZE) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + USER_CHUNK_SIZE, userIds.size()));
+            Map<Long, List<UserSignalDto>> interests =
+                    RecommendationModel.groupByUser(recommendationQueryDslRepository.findInterestSignals(chunk));
+            Map<Long, List<UserSignalDto>> reservations =
+                    RecommendationModel.groupByUser(recommendationQueryDslRepository.findReservationSignals(chunk));
+            Map<Long, List<UserSignalDto>> bookmarks =
+                    RecommendationModel.groupByUser(recommendationQueryDslRepository.findBookmarkSignals(chunk));
+
+            for (Long userId : chunk) {
+                current.replaceUser(userId,
+                        interests.getOrDefault(userId, List.of()),
+                        reservations.getOrDefault(userId, List.of()),
+                        bookmarks.getOrDefault(userId, List.of()));
+            }
+        }
+        changedSince = since;
+
+        if (!changedUserIds.isEmpty()) {
+            log.debug("[LocalRecommender] 변경분 반영: users={}", changedUserIds.size());
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.snow.popin.domain.recommendation.service;
+
+import com.snow.popin.domain.mypage.host.entity.Brand;
+import com.snow.popin.domain.mypage.host.repository.BrandRepository;
+import com.snow.popin.domain.recommendation.dto.CatalogPopupDto;
+import com.snow.popin.domain.recommendation.repository.RecommendationQueryDslRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 추천 프롬프트용 진행중 팝업 카탈로그
+ *
+ * 진행중 팝업의 ID, 제목, 카테고리, 브랜드, 지역을 한 번의 조회와 한 번의 브랜드 일괄 조회로 읽어
+ * 팝업마다 프롬프트 한 줄("ID:1 | 제목 | 카테고리 | 브랜드 | 지역")을 미리 만들어 둔다.
+ * 스냅샷은 만든 뒤 바뀌지 않으며 refresh-interval 마다 통째로 교체되어 모든 추천 요청이 함께 읽는다.
+ *
+ * 스냅샷이 아직 없으면 최초 요청에서 한 번 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendationCatalog {
+
+    private final RecommendationQueryDslRepository recommendationQueryDslRepository;
+    private final BrandRepository brandRepository;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 현재 스냅샷
+     */
+    public Snapshot getSnapshot() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                refresh();
+            }
+            return snapshot != null ? snapshot : Snapshot.EMPTY;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${ai.recommendation.catalog.refresh-interval:60000}")
+    public void refresh() {
+        try {
+            List<CatalogPopupDto> popups = recommendationQueryDslRepository.findOngoingCatalog();
+            Set<Long> brandIds = popups.stream()
+                    .map(CatalogPopupDto::getBrandId)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet());
+            Map<Long, String> brandNames = brandIds.isEmpty() ? Collections.emptyMap() : brandRepository.findAllById(brandIds).stream()
+                    .collect(Collectors.toMap(Brand::getId, Brand::getName, (existing, replacement) -> existing));
+
+            Map<Long, String> promptLines = new LinkedHashMap<>();
+            for (CatalogPopupDto popup : popups) {
+                promptLines.put(popup.getPopupId(), String.format("ID:%d | %s | %s | %s | %s\n",
+                        popup.getPopupId(),
+                        popup.getTitle(),
+                        StringUtils.hasText(popup.getCategoryName()) ? popup.getCategoryName() : "기타",
+                        brandNames.getOrDefault(popup.getBrandId(), "브랜드"),
+                        StringUtils.hasText(popup.getRegion()) ? popup.getRegion() : "지역미정"));
+            }
+            snapshot = new Snapshot(Collections.unmodifiableMap(promptLines));
+            log.debug("[RecommendationCatalog] 카탈로그 갱신: popups={}", promptLines.size());
+        } catch (Exception e) {
+            log.error("[RecommendationCatalog] 카탈로그 갱신 실패", e);
+        }
+    }
+
+    /**
+     * 진행중 팝업 카탈로그 스냅샷 (불변)
+     */
+    public static final class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot(Map.of());
+
+        private final Map<Long, String> promptLines;
+
+        Snapshot(Map<Long, String> promptLines) {
+            this.promptLines = promptLines;
+        }
+
+        public boolean contains(Long popupId) {
+            return promptLines.containsKey(popupId);
+        }
+
+        public int size() {
+            return promptLines.size();
+        }
+
+        /**
+         * 후보 팝업들의 프롬프트 줄 (주어진 순서, 카탈로그에 없는 팝업은 제외)
+         */
+        public String promptLines(List<Long> popupIds) {
+            StringBuilder lines = new StringBuilder();
+            for (Long popupId : popupIds) {
+                String line = promptLines.get(popupId);
+                if (line != null) {
+                    lines.append(line);
+                }
+            }
+            return lines.toString();
+        }
+    }
+}
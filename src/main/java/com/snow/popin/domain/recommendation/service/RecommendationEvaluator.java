@@ -0,0 +1,111 @@
+package com.snow.popin.domain.recommendation.service;
+
+import com.snow.popin.domain.recommendation.dto.PopupSignalDto;
+import com.snow.popin.domain.recommendation.dto.UserSignalDto;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 로컬 추천 모델 오프라인 평가 (leave-last-out)
+ *
+ * 서로 다른 팝업을 2개 이상 예약한 사용자마다 가장 최근 예약 하나를 숨기고 나머지로 모델을 만든 뒤,
+ * 숨긴 팝업이 상위 K개 안에 드는 비율(HitRate@K)과 NDCG@K 를 인기도 순 기준선과 함께 계산한다.
+ * 숨긴 팝업은 이미 끝났을 수 있으므로 후보에는 신호에 나온 모든 팝업을 넣는다.
+ */
+final class RecommendationEvaluator {
+
+    private RecommendationEvaluator() {
+    }
+
+    static EvaluationResult evaluate(Collection<PopupSignalDto> popups, List<UserSignalDto> interests,
+                                     List<UserSignalDto> reservations, List<UserSignalDto> bookmarks, int k) {
+        Map<Long, UserSignalDto> heldOut = new LinkedHashMap<>();
+        RecommendationModel.groupByUser(reservations).forEach((userId, signals) -> {
+            UserSignalDto latest = signals.stream()
+                    .max(Comparator.comparing(UserSignalDto::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder())))
+                    .orElseThrow();
+            long sameTarget = signals.stream().filter(s -> s.getPopupId().equals(latest.getPopupId())).count();
+            if (signals.size() >= 2 && sameTarget == 1) {
+                heldOut.put(userId, latest);
+            }
+        });
+        if (heldOut.isEmpty()) {
+            return new EvaluationResult(k, 0, 0, 0, 0, 0);
+        }
+
+        List<UserSignalDto> trainReservations = new ArrayList<>(reservations);
+        trainReservations.removeAll(new HashSet<>(heldOut.values()));
+        List<UserSignalDto> trainBookmarks = new ArrayList<>(bookmarks);
+        trainBookmarks.removeIf(bookmark -> isHeldOut(heldOut, bookmark));
+
+        RecommendationModel model = RecommendationModel.build(
+                allPopups(popups, reservations, bookmarks), interests, trainReservations, trainBookmarks);
+
+        double hits = 0, ndcg = 0, baselineHits = 0, baselineNdcg = 0;
+        for (Map.Entry<Long, UserSignalDto> entry : heldOut.entrySet()) {
+            Long target = entry.getValue().getPopupId();
+
+            int rank = model.rank(entry.getKey(), k).indexOf(target);
+            if (rank >= 0) {
+                hits++;
+                ndcg += 1 / log2(rank + 2);
+            }
+            int baselineRank = model.rankByPopularity(entry.getKey(), k).indexOf(target);
+            if (baselineRank >= 0) {
+                baselineHits++;
+                baselineNdcg += 1 / log2(baselineRank + 2);
+            }
+        }
+
+        int users = heldOut.size();
+        return new EvaluationResult(k, users, hits / users, ndcg / users, baselineHits / users, baselineNdcg / users);
+    }
+
+    private static boolean isHeldOut(Map<Long, UserSignalDto> heldOut, UserSignalDto bookmark) {
+        UserSignalDto target = heldOut.get(bookmark.getUserId());
+        return target != null && target.getPopupId().equals(bookmark.getPopupId());
+    }
+
+    // 진행중 팝업에 신호에만 나온(종료된) 팝업을 조회수 0으로 더한다
+    private static Collection<PopupSignalDto> allPopups(Collection<PopupSignalDto> popups,
+                                                        List<UserSignalDto> reservations, List<UserSignalDto> bookmarks) {
+        Map<Long, PopupSignalDto> all = new LinkedHashMap<>();
+        popups.forEach(popup -> all.put(popup.getPopupId(), popup));
+
+        List<UserSignalDto> signals = new ArrayList<>(reservations);
+        signals.addAll(bookmarks);
+        for (UserSignalDto signal : signals) {
+            all.putIfAbsent(signal.getPopupId(), new PopupSignalDto(signal.getPopupId(), signal.getCategoryId(), 0L));
+        }
+        return all.values();
+    }
+
+    private static double log2(int value) {
+        return Math.log(value) / Math.log(2);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    static final class EvaluationResult {
+        private final int k;
+        private final int users;
+        private final double hitRate;
+        private final double ndcg;
+        private final double baselineHitRate;
+        private final double baselineNdcg;
+
+        @Override
+        public String toString() {
+            return String.format("users=%d, HitRate@%d=%.3f (인기도 %.3f), NDCG@%d=%.3f (인기도 %.3f)",
+                    users, k, hitRate, baselineHitRate, k, ndcg, baselineNdcg);
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package com.snow.popin.domain.recommendation.service;
+
+import com.snow.popin.domain.recommendation.dto.PopupSignalDto;
+import com.snow.popin.domain.recommendation.dto.UserSignalDto;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 로컬 추천 모델
+ *
+ * - 사용자-카테고리 선호 벡터: 관심 카테고리(1), 북마크(2), 예약(3) 가중치를 카테고리별로 더하고 최댓값이 1이 되도록 나눈다.
+ * - 팝업-팝업 동시 예약 수: 같은 사용자가 함께 예약한 팝업 쌍을 센다.
+ *
+ * 점수 = 0.5 × 카테고리 선호 + 0.35 × 동시 예약 유사도 + 0.15 × 인기도(log 조회수) 이며,
+ * 동시 예약 유사도는 cooc(q, p) / sqrt(예약수(q) × 예약수(p)) 를 사용자가 예약한 q 에 대해 더한 뒤 후보 중 최댓값으로 나눈다.
+ * 이미 예약한 팝업은 추천하지 않는다.
+ *
+ * 사용자 단위로 통째로 교체(replaceUser)하므로 같은 사용자를 여러 번 반영해도 결과가 같다.
+ */
+final class RecommendationModel {
+
+    static final double INTEREST_WEIGHT = 1.0;
+    static final double BOOKMARK_WEIGHT = 2.0;
+    static final double RESERVATION_WEIGHT = 3.0;
+
+    private static final double AFFINITY_SHARE = 0.5;
+    private static final double COOCCURRENCE_SHARE = 0.35;
+    private static final double POPULARITY_SHARE = 0.15;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<Long, PopupSignalDto> candidates = Collections.emptyMap();
+    private double maxLogViews;
+    private final Map<Long, UserProfile> users = new HashMap<>();
+    private final Map<Long, Map<Long, Integer>> cooccurrences = new HashMap<>();
+    private final Map<Long, Integer> reservationCounts = new HashMap<>();
+
+    static RecommendationModel build(Collection<PopupSignalDto> popups, List<UserSignalDto> interests,
+                                     List<UserSignalDto> reservations, List<UserSignalDto> bookmarks) {
+        RecommendationModel model = new RecommendationModel();
+        model.replaceCandidates(popups);
+
+        Map<Long, List<UserSignalDto>> interestsByUser = groupByUser(interests);
+        Map<Long, List<UserSignalDto>> reservationsByUser = groupByUser(reservations);
+        Map<Long, List<UserSignalDto>> bookmarksByUser = groupByUser(bookmarks);
+
+        Set<Long> userIds = new HashSet<>(interestsByUser.keySet());
+        userIds.addAll(reservationsByUser.keySet());
+        userIds.addAll(bookmarksByUser.keySet());
+        for (Long userId : userIds) {
+            model.replaceUser(userId,
+                    interestsByUser.getOrDefault(userId, List.of()),
+                    reservationsByUser.getOrDefault(userId, List.of()),
+                    bookmarksByUser.getOrDefault(userId, List.of()));
+        }
+        return model;
+    }
+
+    static Map<Long, List<UserSignalDto>> groupByUser(List<UserSignalDto> signals) {
+        return signals.stream().collect(Collectors.groupingBy(UserSignalDto::getUserId));
+    }
+
+    /**
+     * 추천 후보(진행중 팝업) 교체
+     */
+    void replaceCandidates(Collection<PopupSignalDto> popups) {
+        Map<Long, PopupSignalDto> next = new LinkedHashMap<>();
+        double maxLog = 0;
+        for (PopupSignalDto popup : popups) {
+            next.put(popup.getPopupId(), popup);
+            maxLog = Math.max(maxLog, logViews(popup));
+        }
+
+        lock.writeLock().lock();
+        try {
+            candidates = next;
+            maxLogViews = maxLog;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 사용자 신호 교체 (신호가 모두 비면 사용자 제거)
+     */
+    void replaceUser(Long userId, List<UserSignalDto> interests,
+                     List<UserSignalDto> reservations, List<UserSignalDto> bookmarks) {
+        UserProfile next = UserProfile.of(interests, reservations, bookmarks);
+
+        lock.writeLock().lock();
+        try {
+            UserProfile previous = users.remove(userId);
+            if (previous != null) {
+                addPairs(previous.reservedPopupIds, -1);
+            }
+            if (next != null) {
+                users.put(userId, next);
+                addPairs(next.reservedPopupIds, 1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 사용자 추천 팝업 ID (점수순, 신호가 없는 사용자는 빈 목록)
+     */
+    List<Long> rank(Long userId, int limit) {
+        lock.readLock().lock();
+        try {
+            UserProfile profile = users.get(userId);
+            if (profile == null || limit <= 0) {
+                return List.of();
+            }
+
+            Map<Long, Double> similarities = new HashMap<>();
+            for (Long reserved : profile.reservedPopupIds) {
+                Map<Long, Integer> neighbors = cooccurrences.getOrDefault(reserved, Map.of());
+                int reservedCount = reservationCounts.getOrDefault(reserved, 1);
+                neighbors.forEach((popupId, count) -> similarities.merge(popupId,
+                        count / Math.sqrt((double) reservedCount * reservationCounts.getOrDefault(popupId, 1)),
+                        Double::sum));
+            }
+            double maxSimilarity = similarities.values().stream().mapToDouble(Double::doubleValue).max().orElse(0);
+
+            return topK(limit, profile, popup -> {
+                double affinity = popup.getCategoryId() != null
+                        ? profile.affinities.getOrDefault(popup.getCategoryId(), 0.0) : 0.0;
+                double similarity = maxSimilarity > 0
+                        ? similarities.getOrDefault(popup.getPopupId(), 0.0) / maxSimilarity : 0.0;
+                return AFFINITY_SHARE * affinity + COOCCURRENCE_SHARE * similarity + POPULARITY_SHARE * popularity(popup);
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 인기도만으로 고른 팝업 ID (평가 기준선)
+     */
+    List<Long> rankByPopularity(Long userId, int limit) {
+        lock.readLock().lock();
+        try {
+            return topK(limit, users.get(userId), this::popularity);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 선호도가 높은 카테고리 ID
+     */
+    List<Long> preferredCategoryIds(Long userId, int limit) {
+        lock.readLock().lock();
+        try {
+            UserProfile profile = users.get(userId);
+            if (profile == null) {
+                return List.of();
+            }
+            return profile.affinities.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Double>comparingByValue().reversed())
+                    .limit(limit)
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int userCount() {
+        lock.readLock().lock();
+        try {
+            return users.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int candidateCount() {
+        lock.readLock().lock();
+        try {
+            return candidates.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Long> topK(int limit, UserProfile profile, Scorer scorer) {
+        Comparator<Map.Entry<Long, Double>> order = Map.Entry.<Long, Double>comparingByValue()
+                .thenComparing(Map.Entry.comparingByKey());
+        PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>(limit + 1, order);
+        for (PopupSignalDto popup : candidates.values()) {
+            if (profile != null && profile.reservedPopupIds.contains(popup.getPopupId())) {
+                continue;
+            }
+            heap.offer(Map.entry(popup.getPopupId(), scorer.score(popup)));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+
+        List<Map.Entry<Long, Double>> ranked = new ArrayList<>(heap);
+        ranked.sort(order.reversed());
+        return ranked.stream().map(Map.Entry::getKey).collect(Collectors.toList());
+    }
+
+    private double popularity(PopupSignalDto popup) {
+        return maxLogViews > 0 ? logViews(popup) / maxLogViews : 0.0;
+    }
+
+    private static double logViews(PopupSignalDto popup) {
+        return Math.log1p(popup.getViewCount() != null ? popup.getViewCount() : 0L);
+    }
+
+    private void addPairs(Set<Long> popupIds, int delta) {
+        for (Long popupId : popupIds) {
+            reservationCounts.merge(popupId, delta, (a, b) -> a + b == 0 ? null : a + b);
+            for (Long other : popupIds) {
+                if (popupId.equals(other)) {
+                    continue;
+                }
+                Map<Long, Integer> neighbors = cooccurrences.computeIfAbsent(popupId, id -> new HashMap<>());
+                neighbors.merge(other, delta, (a, b) -> a + b == 0 ? null : a + b);
+                if (neighbors.isEmpty()) {
+                    cooccurrences.remove(popupId);
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Scorer {
+        double score(PopupSignalDto popup);
+    }
+
+    private static final class UserProfile {
+        private final Map<Long, Double> affinities;
+        private final Set<Long> reservedPopupIds;
+
+        private UserProfile(Map<Long, Double> affinities, Set<Long> reservedPopupIds) {
+            this.affinities = affinities;
+            this.reservedPopupIds = reservedPopupIds;
+        }
+
+        private static UserProfile of(List<UserSignalDto> interests,
+                                      List<UserSignalDto> reservations, List<UserSignalDto> bookmarks) {
+            if (interests.isEmpty() && reservations.isEmpty() && bookmarks.isEmpty()) {
+                return null;
+            }
+
+            Map<Long, Double> affinities = new HashMap<>();
+            addAffinities(affinities, interests, INTEREST_WEIGHT);
+            addAffinities(affinities, bookmarks, BOOKMARK_WEIGHT);
+            addAffinities(affinities, reservations, RESERVATION_WEIGHT);
+            double max = affinities.values().stream().mapToDouble(Double::doubleValue).max().orElse(0);
+            if (max > 0) {
+                affinities.replaceAll((categoryId, affinity) -> affinity / max);
+            }
+
+            Set<Long> reservedPopupIds = reservations.stream()
+                    .map(UserSignalDto::getPopupId)
+                    .collect(Collectors.toSet());
+            return new UserProfile(affinities, reservedPopupIds);
+        }
+
+        private static void addAffinities(Map<Long, Double> affinities, List<UserSignalDto> signals, double weight) {
+            for (UserSignalDto signal : signals) {
+                if (signal.getCategoryId() != null) {
+                    affinities.merge(signal.getCategoryId(), weight, Double::sum);
+                }
+            }
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.snow.popin.domain.review.service;
 
 import com.snow.popin.domain.popup.entity.Popup;
 import com.snow.popin.domain.popup.repository.PopupRepository;
+import com.snow.popin.domain.popup.service.PopupTrendingRanking;
 import com.snow.popin.domain.review.dto.*;
 import com.snow.popin.domain.review.entity.Review;
 import com.snow.popin.domain.review.repository.ReviewRepository;
@@ -28,6 +29,7 @@ public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final PopupRepository popupRepository;
     private final UserRepository userRepository;
+    private final PopupTrendingRanking popupTrendingRanking;
 
     /**
      * 리뷰 작성
@@ -51,6 +53,8 @@ public class ReviewService {
             throw new ReviewException.DuplicateReview(request.getPopupId());
         }
 
+        popupTrendingRanking.record(popup.getId(), PopupTrendingRanking.Signal.REVIEW);
+
         // 연관관계 설정 (조회용)
         savedReview = reviewRepository.findById(savedReview.getId()).orElseThrow();
 
@@ -2,6 +2,7 @@ package com.snow.popin.domain.space.service;
 
 import com.snow.popin.domain.map.entity.Venue;
 import com.snow.popin.domain.map.repository.MapRepository;
+import com.snow.popin.domain.popup.event.PopupChangedEvent;
 import com.snow.popin.domain.space.dto.SpaceCreateRequestDto;
 import com.snow.popin.domain.space.dto.SpaceListResponseDto;
 import com.snow.popin.domain.space.dto.SpaceResponseDto;
@@ -11,6 +12,7 @@ import com.snow.popin.domain.space.repository.SpaceRepository;
 import com.snow.popin.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
@@ -28,6 +30,7 @@ public class SpaceService {
     private final SpaceRepository spaceRepository;
     private final FileStorageService fileStorageService;
     private final MapRepository venueRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 공간 등록
@@ -155,6 +158,8 @@ public class SpaceService {
                     dto.getLongitude(),
                     dto.getParkingAvailable()
             );
+            // 이 장소를 쓰는 팝업의 지도 좌표와 검색용 장소명이 바뀔 수 있음
+            eventPublisher.publishEvent(PopupChangedEvent.venueUpdated(venue.getId()));
         }
         venue.setRegionFromAddress();
         venueRepository.save(venue);
@@ -43,6 +43,12 @@ public interface SpaceReservationRepository extends JpaRepository<SpaceReservati
     // 특정 공간의 모든 예약 목록
     List<SpaceReservation> findBySpaceAndIsHiddenFalseOrderByStartDateDesc(Space space);
 
+    // 채팅방 참여자(호스트, 공간 소유자)와 함께 조회
+    @Query("SELECT sr FROM SpaceReservation sr " +
+            "JOIN FETCH sr.host JOIN FETCH sr.space s JOIN FETCH s.owner " +
+            "WHERE sr.id = :id")
+    Optional<SpaceReservation> findWithMembersById(@Param("id") Long id);
+
     // 특정 상태의 예약 목록
     List<SpaceReservation> findByStatusAndIsHiddenFalseOrderByCreatedAtDesc(ReservationStatus status);
 }
@@ -1,5 +1,6 @@
 package com.snow.popin.domain.spacereservation.service;
 
+import com.snow.popin.domain.chat.service.ChatRoomRegistry;
 import com.snow.popin.domain.map.entity.Venue;
 import com.snow.popin.domain.mypage.host.entity.Brand;
 import com.snow.popin.domain.mypage.host.entity.Host;
@@ -8,6 +9,7 @@ import com.snow.popin.domain.notification.constant.NotificationType;
 import com.snow.popin.domain.notification.service.NotificationService;
 import com.snow.popin.domain.popup.entity.Popup;
 import com.snow.popin.domain.popup.entity.PopupStatus;
+import com.snow.popin.domain.popup.event.PopupChangedEvent;
 import com.snow.popin.domain.popup.repository.PopupRepository;
 import com.snow.popin.domain.space.entity.Space;
 import com.snow.popin.domain.space.repository.SpaceRepository;
@@ -21,6 +23,7 @@ import com.snow.popin.domain.user.entity.User;
 import com.snow.popin.global.util.UserUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -44,6 +47,8 @@ public class SpaceReservationService {
     private final HostRepository hostRepository;
     private final UserUtil userUtil;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChatRoomRegistry chatRoomRegistry;
 
     /**
      * 공간 예약 생성 (HOST)
@@ -177,6 +182,7 @@ public class SpaceReservationService {
         }
 
         reservation.accept();
+        chatRoomRegistry.invalidate(reservationId);
 
         notificationService.createNotification(
                 reservation.getHost().getId(),
@@ -191,6 +197,7 @@ public class SpaceReservationService {
             Venue venue = reservation.getSpace().getVenue();
             if (venue != null) {
                 popup.setVenue(venue);
+                eventPublisher.publishEvent(PopupChangedEvent.updated(popup));
             }
         }
 
@@ -211,6 +218,7 @@ public class SpaceReservationService {
                 .orElseThrow(() -> new IllegalArgumentException("예약이 존재하지 않거나 거절 권한이 없습니다."));
 
         reservation.reject();
+        chatRoomRegistry.invalidate(reservationId);
 
         notificationService.createNotification(
                 reservation.getHost().getId(),
@@ -237,6 +245,7 @@ public class SpaceReservationService {
                 .orElseThrow(() -> new IllegalArgumentException("예약이 존재하지 않거나 취소 권한이 없습니다."));
 
         reservation.cancel();
+        chatRoomRegistry.invalidate(reservationId);
 
         notificationService.createNotification(
                 reservation.getSpace().getOwner().getId(),
@@ -6,6 +6,7 @@ import com.snow.popin.domain.user.entity.User;
 import com.snow.popin.domain.user.repository.UserRepository;
 import com.snow.popin.global.constant.ErrorCode;
 import com.snow.popin.global.exception.GeneralException;
+import com.snow.popin.global.jwt.UserPrincipalCache;
 import com.snow.popin.global.util.UserUtil;
 import lombok.*;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -21,6 +22,7 @@ public class UserService {
     private final UserRepository userRepository;
     private final UserUtil userUtil;
     private final PasswordEncoder passwordEncoder;
+    private final UserPrincipalCache userPrincipalCache;
 
     public User findById(Long id){
         return userRepository.findById(id)
@@ -46,6 +48,7 @@ public class UserService {
     public UserResponseDto updateCurrentUser(UserUpdateRequestDto dto) {
         User user = userUtil.getCurrentUser();
         user.updateProfile(dto.getName(), dto.getNickname(), dto.getPhone());
+        userPrincipalCache.invalidate(user);
         return new UserResponseDto(user);
     }
 
@@ -57,6 +60,7 @@ public class UserService {
         User user = findById(userId);
         String encodedPassword = passwordEncoder.encode(newPassword);
         user.changePassword(encodedPassword);
+        userPrincipalCache.invalidate(user);
 
     }
 
@@ -0,0 +1,72 @@
+package com.snow.popin.global.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Component
+@ConfigurationProperties(prefix = "chat")
+public class ChatProperties {
+
+    private Persistence persistence = new Persistence();
+    private History history = new History();
+
+    @Getter
+    public static class Persistence {
+        private Integer queueCapacity = 10000;  // 저장 대기 메시지 수, 가득 차면 offer-timeout 동안 기다린 뒤 전송 실패
+        private Long offerTimeout = 50L;        // 대기열이 가득 찼을 때 전송 스레드가 기다리는 최대 시간
+        private Integer batchSize = 200;        // 한 번에 INSERT 하는 최대 메시지 수
+        private Long flushInterval = 200L;      // 메시지가 적을 때 모아서 저장하는 최대 간격
+        private Integer maxAttempts = 3;        // 배치 저장 재시도 횟수, 모두 실패하면 한 건씩 저장
+        private Long shutdownTimeout = 10000L;  // 종료 시 남은 메시지를 저장하며 기다리는 최대 시간
+
+        public void setQueueCapacity(Integer queueCapacity) {
+            this.queueCapacity = queueCapacity != null ? queueCapacity : 10000;
+        }
+
+        public void setOfferTimeout(Long offerTimeout) {
+            this.offerTimeout = offerTimeout != null ? offerTimeout : 50L;
+        }
+
+        public void setBatchSize(Integer batchSize) {
+            this.batchSize = batchSize != null ? batchSize : 200;
+        }
+
+        public void setFlushInterval(Long flushInterval) {
+            this.flushInterval = flushInterval != null ? flushInterval : 200L;
+        }
+
+        public void setMaxAttempts(Integer maxAttempts) {
+            this.maxAttempts = maxAttempts != null ? maxAttempts : 3;
+        }
+
+        public void setShutdownTimeout(Long shutdownTimeout) {
+            this.shutdownTimeout = shutdownTimeout != null ? shutdownTimeout : 10000L;
+        }
+    }
+
+    @Getter
+    public static class History {
+        private Integer recentSize = 50;    // 방별로 메모리에 보관하는 최근 메시지 수 (입장 시 DB 조회 없이 응답)
+        private Integer maxRooms = 10000;   // 최근 메시지를 보관하는 최대 방 수, 넘으면 오래 쓰이지 않은 방부터 제거
+        private Integer pageSize = 50;      // 이전 메시지 조회 기본 개수
+        private Integer maxPageSize = 200;  // 이전 메시지 조회 최대 개수
+
+        public void setRecentSize(Integer recentSize) {
+            this.recentSize = recentSize != null ? recentSize : 50;
+        }
+
+        public void setMaxRooms(Integer maxRooms) {
+            this.maxRooms = maxRooms != null ? maxRooms : 10000;
+        }
+
+        public void setPageSize(Integer pageSize) {
+            this.pageSize = pageSize != null ? pageSize : 50;
+        }
+
+        public void setMaxPageSize(Integer maxPageSize) {
+            this.maxPageSize = maxPageSize != null ? maxPageSize : 200;
+        }
+    }
+}
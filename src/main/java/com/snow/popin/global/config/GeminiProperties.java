@@ -11,6 +11,7 @@ public class GeminiProperties {
 
     private Api api = new Api();
     private Integer timeout = 30000; // 기본값 30초
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
 
     public void setTimeout(Integer timeout) {
         this.timeout = timeout != null ? timeout : 30000;
@@ -29,4 +30,18 @@ public class GeminiProperties {
             this.url = url != null ? url : "https://generativelanguage.googleapis.com/v1beta/models/gemini-2.0-flash:generateContent";
         }
     }
-}
\ No newline at end of file
+
+    @Getter
+    public static class CircuitBreaker {
+        private Integer failureThreshold = 5; // 연속 실패 횟수
+        private Integer openDuration = 30000; // 차단 유지 시간 (기본값 30초)
+
+        public void setFailureThreshold(Integer failureThreshold) {
+            this.failureThreshold = failureThreshold != null ? failureThreshold : 5;
+        }
+
+        public void setOpenDuration(Integer openDuration) {
+            this.openDuration = openDuration != null ? openDuration : 30000;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.snow.popin.global.config;
 
+import com.snow.popin.global.http.OutboundHttpClient;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
@@ -7,8 +8,11 @@ import org.springframework.web.client.RestTemplate;
 @Configuration
 public class HttpClientConfig {
 
+    /**
+     * 목적지를 따로 지정하지 않은 외부 호출용 (공용 연결 풀, default 동시 호출 한도)
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(OutboundHttpClient outboundHttpClient) {
+        return outboundHttpClient.restTemplate(OutboundHttpClient.DEFAULT);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,47 @@
+package com.snow.popin.global.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Component
+@ConfigurationProperties(prefix = "notification.stream")
+public class NotificationStreamProperties {
+
+    private Long timeoutMillis = 1800000L;        // 연결 유지 시간 (끊기면 브라우저가 Last-Event-ID 로 재연결)
+    private Long heartbeatInterval = 15000L;      // 하트비트 주기 (프록시 유휴 타임아웃 방지, 끊긴 연결 정리)
+    private Integer maxConnectionsPerUser = 5;    // 유저당 동시 연결 수 (탭, 기기), 넘으면 가장 오래된 연결 종료
+    private Integer queueCapacity = 64;           // 연결별 전송 대기 이벤트 수, 넘으면 느린 연결로 보고 종료
+    private Integer replaySize = 50;              // 유저별 재전송용으로 보관하는 최근 이벤트 수
+    private Long replayRetention = 300000L;       // 연결이 없는 유저의 재전송 버퍼 보관 시간
+    private Integer senderThreads = 4;            // 이벤트 전송 스레드 수
+
+    public void setTimeoutMillis(Long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis != null ? timeoutMillis : 1800000L;
+    }
+
+    public void setHeartbeatInterval(Long heartbeatInterval) {
+        this.heartbeatInterval = heartbeatInterval != null ? heartbeatInterval : 15000L;
+    }
+
+    public void setMaxConnectionsPerUser(Integer maxConnectionsPerUser) {
+        this.maxConnectionsPerUser = maxConnectionsPerUser != null ? maxConnectionsPerUser : 5;
+    }
+
+    public void setQueueCapacity(Integer queueCapacity) {
+        this.queueCapacity = queueCapacity != null ? queueCapacity : 64;
+    }
+
+    public void setReplaySize(Integer replaySize) {
+        this.replaySize = replaySize != null ? replaySize : 50;
+    }
+
+    public void setReplayRetention(Long replayRetention) {
+        this.replayRetention = replayRetention != null ? replayRetention : 300000L;
+    }
+
+    public void setSenderThreads(Integer senderThreads) {
+        this.senderThreads = senderThreads != null ? senderThreads : 4;
+    }
+}
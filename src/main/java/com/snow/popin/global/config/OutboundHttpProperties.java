@@ -0,0 +1,58 @@
+package com.snow.popin.global.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Component
+@ConfigurationProperties(prefix = "http.outbound")
+public class OutboundHttpProperties {
+
+    private Integer connectTimeout = 3000; // 연결 수립 제한 시간 (기본값 3초)
+    private final Map<String, Destination> destinations = new HashMap<>();
+
+    public OutboundHttpProperties() {
+        destinations.put("kakao-pay", new Destination(20, 10000));
+        destinations.put("naver-pay", new Destination(20, 10000));
+        destinations.put("gemini", new Destination(4, 30000));
+        destinations.put("default", new Destination(20, 10000));
+    }
+
+    public void setConnectTimeout(Integer connectTimeout) {
+        this.connectTimeout = connectTimeout != null ? connectTimeout : 3000;
+    }
+
+    /**
+     * 등록되지 않은 목적지는 default 설정을 쓴다.
+     */
+    public Destination destination(String name) {
+        Destination destination = destinations.get(name);
+        return destination != null ? destination : destinations.getOrDefault("default", new Destination());
+    }
+
+    @Getter
+    public static class Destination {
+        private Integer maxConcurrent = 20; // 목적지별 동시 호출 수, 넘치면 기다리지 않고 바로 실패
+        private Integer timeout = 10000; // 요청 제한 시간 (기본값 10초)
+
+        public Destination() {
+        }
+
+        Destination(Integer maxConcurrent, Integer timeout) {
+            this.maxConcurrent = maxConcurrent;
+            this.timeout = timeout;
+        }
+
+        public void setMaxConcurrent(Integer maxConcurrent) {
+            this.maxConcurrent = maxConcurrent != null ? maxConcurrent : 20;
+        }
+
+        public void setTimeout(Integer timeout) {
+            this.timeout = timeout != null ? timeout : 10000;
+        }
+    }
+}
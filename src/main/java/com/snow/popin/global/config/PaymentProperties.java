@@ -0,0 +1,70 @@
+package com.snow.popin.global.config;
+
+import com.snow.popin.global.http.OutboundHttpClient;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Component
+@ConfigurationProperties(prefix = "payment")
+public class PaymentProperties {
+
+    private String kakaoUrl = "https://kapi.kakao.com";
+    private String naverUrl = "https://dev.apis.naver.com/naverpay-partner/naverpay/payments/v2.2";
+    private Outbox outbox = new Outbox();
+
+    public void setKakaoUrl(String kakaoUrl) {
+        this.kakaoUrl = kakaoUrl != null ? kakaoUrl : "https://kapi.kakao.com";
+    }
+
+    public void setNaverUrl(String naverUrl) {
+        this.naverUrl = naverUrl != null ? naverUrl : "https://dev.apis.naver.com/naverpay-partner/naverpay/payments/v2.2";
+    }
+
+    @Getter
+    public static class Outbox {
+        private Long pollInterval = 3000L; // 재시도 대상 조회 주기 (기본값 3초)
+        private Integer batchSize = 20;
+        private Integer maxAttempts = 8;
+        private Long retryDelay = 5000L; // 첫 재시도 간격, 실패할 때마다 2배 (최대 10분)
+        private Long lease = 60000L; // PG 호출 중인 건을 다른 워커가 가져가지 않는 시간 (기본값 1분), PG 호출 제한 시간보다 길어야 함
+
+        public void setPollInterval(Long pollInterval) {
+            this.pollInterval = pollInterval != null ? pollInterval : 3000L;
+        }
+
+        public void setBatchSize(Integer batchSize) {
+            this.batchSize = batchSize != null ? batchSize : 20;
+        }
+
+        public void setMaxAttempts(Integer maxAttempts) {
+            this.maxAttempts = maxAttempts != null ? maxAttempts : 8;
+        }
+
+        public void setRetryDelay(Long retryDelay) {
+            this.retryDelay = retryDelay != null ? retryDelay : 5000L;
+        }
+
+        public void setLease(Long lease) {
+            this.lease = lease != null ? lease : 60000L;
+        }
+
+        /**
+         * lease 가 한 건 처리에 드는 최대 시간(재시도 전 주문 상태 확인 + PG 호출)보다 짧으면
+         * 호출이 끝나기 전에 워커가 같은 건을 다시 가져가 PG 를 중복 호출하므로 시작하지 않는다.
+         */
+        public void validateLease(OutboundHttpProperties outboundHttpProperties) {
+            long callMillis = 0;
+            for (String destination : new String[]{OutboundHttpClient.KAKAO_PAY, OutboundHttpClient.NAVER_PAY}) {
+                long timeout = outboundHttpProperties.getConnectTimeout()
+                        + outboundHttpProperties.destination(destination).getTimeout();
+                callMillis = Math.max(callMillis, timeout * 2);
+            }
+            if (lease <= callMillis) {
+                throw new IllegalStateException("payment.outbox.lease(" + lease + "ms) 는 PG 호출 제한 시간("
+                        + callMillis + "ms)보다 길어야 합니다.");
+            }
+        }
+    }
+}
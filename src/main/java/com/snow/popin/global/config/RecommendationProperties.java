@@ -0,0 +1,57 @@
+package com.snow.popin.global.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Component
+@ConfigurationProperties(prefix = "ai.recommendation")
+public class RecommendationProperties {
+
+    private Model model = new Model();
+    private Catalog catalog = new Catalog();
+    private Rerank rerank = new Rerank();
+
+    @Getter
+    public static class Model {
+        private Long refreshInterval = 60000L; // 변경분 반영 주기 (기본값 1분)
+        private Long fullRebuildInterval = 3600000L; // 전체 재구성 주기 (기본값 1시간)
+
+        public void setRefreshInterval(Long refreshInterval) {
+            this.refreshInterval = refreshInterval != null ? refreshInterval : 60000L;
+        }
+
+        public void setFullRebuildInterval(Long fullRebuildInterval) {
+            this.fullRebuildInterval = fullRebuildInterval != null ? fullRebuildInterval : 3600000L;
+        }
+    }
+
+    @Getter
+    public static class Catalog {
+        private Long refreshInterval = 60000L; // 진행중 팝업 카탈로그 갱신 주기 (기본값 1분)
+
+        public void setRefreshInterval(Long refreshInterval) {
+            this.refreshInterval = refreshInterval != null ? refreshInterval : 60000L;
+        }
+    }
+
+    @Getter
+    public static class Rerank {
+        private Boolean enabled = false; // 로컬 추천 상위 N개를 Gemini 로 재정렬할지 여부
+        private Integer topN = 20;
+        private Long budget = 1500L; // 재정렬 응답을 기다리는 최대 시간, 넘으면 로컬 순위로 응답
+
+        public void setEnabled(Boolean enabled) {
+            this.enabled = enabled != null ? enabled : false;
+        }
+
+        public void setTopN(Integer topN) {
+            this.topN = topN != null ? topN : 20;
+        }
+
+        public void setBudget(Long budget) {
+            this.budget = budget != null ? budget : 1500L;
+        }
+    }
+}
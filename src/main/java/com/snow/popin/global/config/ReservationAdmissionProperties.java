@@ -0,0 +1,37 @@
+package com.snow.popin.global.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Component
+@ConfigurationProperties(prefix = "reservation.admission")
+public class ReservationAdmissionProperties {
+
+    private Integer permitsPerSecond = 20;      // 초당 입장 허용 인원
+    private Integer maxWaiting = 10000;         // 팝업별 최대 대기 인원
+    private Integer admissionTtlSeconds = 300;  // 입장 후 예약 가능 시간
+    private Long sseTimeoutMillis = 600000L;    // 대기 순번 SSE 연결 유지 시간
+    private Integer senderThreads = 4;          // 대기 순번 전송 스레드 수
+
+    public void setPermitsPerSecond(Integer permitsPerSecond) {
+        this.permitsPerSecond = permitsPerSecond != null ? permitsPerSecond : 20;
+    }
+
+    public void setMaxWaiting(Integer maxWaiting) {
+        this.maxWaiting = maxWaiting != null ? maxWaiting : 10000;
+    }
+
+    public void setAdmissionTtlSeconds(Integer admissionTtlSeconds) {
+        this.admissionTtlSeconds = admissionTtlSeconds != null ? admissionTtlSeconds : 300;
+    }
+
+    public void setSseTimeoutMillis(Long sseTimeoutMillis) {
+        this.sseTimeoutMillis = sseTimeoutMillis != null ? sseTimeoutMillis : 600000L;
+    }
+
+    public void setSenderThreads(Integer senderThreads) {
+        this.senderThreads = senderThreads != null ? senderThreads : 4;
+    }
+}
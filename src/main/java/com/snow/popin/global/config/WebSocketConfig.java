@@ -1,26 +1,96 @@
 package com.snow.popin.global.config;
 
+import com.snow.popin.global.websocket.StompBrokerMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.SimpleBrokerRegistration;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
+/**
+ * STOMP 브로커 설정
+ *
+ * 채널 스레드 풀 크기와 세션별 전송 한도는 websocket.* 설정을 따른다.
+ * 느린 클라이언트로 보내는 메시지는 세션 버퍼에 쌓이다가 send-buffer-size-limit 나 send-time-limit 를 넘으면
+ * 그 세션만 끊기고 (close status 4500), 다른 세션과 아웃바운드 스레드는 계속 진행한다.
+ */
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final WebSocketProperties webSocketProperties;
+    private final StompBrokerMetrics stompBrokerMetrics;
+
+    private TaskScheduler messageBrokerTaskScheduler;
+
+    @Autowired
+    public void setMessageBrokerTaskScheduler(@Lazy TaskScheduler messageBrokerTaskScheduler) {
+        this.messageBrokerTaskScheduler = messageBrokerTaskScheduler;
+    }
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        registry.enableSimpleBroker("/queue", "/topic"); // 구독 prefix
+        SimpleBrokerRegistration broker = registry.enableSimpleBroker("/queue", "/topic"); // 구독 prefix
+        long heartbeat = webSocketProperties.getHeartbeatInterval();
+        if (heartbeat > 0) {
+            broker.setHeartbeatValue(new long[]{heartbeat, heartbeat})
+                    .setTaskScheduler(messageBrokerTaskScheduler);
+        }
         registry.setApplicationDestinationPrefixes("/app");
         registry.setUserDestinationPrefix("/user"); // 개인 유저 알림
+        registry.configureBrokerChannel().interceptors(stompBrokerMetrics.brokerInterceptor());
     }
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
+        WebSocketProperties.SockJs sockJs = webSocketProperties.getSockJs();
         registry.addEndpoint("/ws") // 클라이언트 연결 주소
                 .setAllowedOriginPatterns("*")
-                .withSockJS();
+                .withSockJS()
+                .setStreamBytesLimit(sockJs.getStreamBytesLimit())
+                .setHttpMessageCacheSize(sockJs.getHttpMessageCacheSize())
+                .setDisconnectDelay(sockJs.getDisconnectDelay());
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        WebSocketProperties.Session session = webSocketProperties.getSession();
+        registration.setSendTimeLimit(session.getSendTimeLimit())
+                .setSendBufferSizeLimit(session.getSendBufferSizeLimit())
+                .setMessageSizeLimit(session.getMessageSizeLimit());
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor(executor("inbound", webSocketProperties.getInbound()));
+        registration.interceptors(stompBrokerMetrics.inboundInterceptor());
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor(executor("outbound", webSocketProperties.getOutbound()));
+        registration.interceptors(stompBrokerMetrics.outboundInterceptor());
+    }
+
+    /**
+     * 채널 스레드 풀 (스레드 이름과 초기화는 채널 실행기 빈을 만들 때 스프링이 정한다)
+     */
+    private ThreadPoolTaskExecutor executor(String name, WebSocketProperties.Channel channel) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(channel.getCorePoolSize());
+        executor.setMaxPoolSize(channel.getMaxPoolSize());
+        executor.setQueueCapacity(channel.getQueueCapacity());
+        executor.setKeepAliveSeconds(channel.getKeepAliveSeconds());
+        stompBrokerMetrics.monitor(name, executor);
+        return executor;
     }
 }
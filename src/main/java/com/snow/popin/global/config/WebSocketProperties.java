@@ -0,0 +1,140 @@
+package com.snow.popin.global.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Component
+@ConfigurationProperties(prefix = "websocket")
+public class WebSocketProperties {
+
+    private Channel inbound = new Channel(8, 16, 1000);      // 클라이언트 → 서버 (SEND, SUBSCRIBE 처리)
+    private Channel outbound = new Channel(16, 32, 10000);   // 서버 → 클라이언트 (세션별 전송)
+    private Session session = new Session();
+    private SockJs sockJs = new SockJs();
+    private Coalesce coalesce = new Coalesce();
+    private Long heartbeatInterval = 10000L; // 브로커 ↔ 클라이언트 하트비트 주기, 응답 없는 연결 정리 (0 이면 끔)
+
+    public void setInbound(Channel inbound) {
+        this.inbound = inbound != null ? inbound : new Channel(8, 16, 1000);
+    }
+
+    public void setOutbound(Channel outbound) {
+        this.outbound = outbound != null ? outbound : new Channel(16, 32, 10000);
+    }
+
+    public void setHeartbeatInterval(Long heartbeatInterval) {
+        this.heartbeatInterval = heartbeatInterval != null ? heartbeatInterval : 10000L;
+    }
+
+    /**
+     * 채널 스레드 풀. 코어 스레드가 모두 바쁘면 대기열에 쌓고, 대기열이 차면 최대 스레드까지 늘린 뒤 거절한다.
+     */
+    @Getter
+    public static class Channel {
+        private Integer corePoolSize;
+        private Integer maxPoolSize;
+        private Integer queueCapacity;
+        private Integer keepAliveSeconds = 60; // 코어 수를 넘겨 만든 스레드의 유휴 유지 시간
+
+        public Channel() {
+            this(8, 16, 1000);
+        }
+
+        Channel(Integer corePoolSize, Integer maxPoolSize, Integer queueCapacity) {
+            this.corePoolSize = corePoolSize;
+            this.maxPoolSize = maxPoolSize;
+            this.queueCapacity = queueCapacity;
+        }
+
+        public void setCorePoolSize(Integer corePoolSize) {
+            this.corePoolSize = corePoolSize != null ? corePoolSize : this.corePoolSize;
+        }
+
+        public void setMaxPoolSize(Integer maxPoolSize) {
+            this.maxPoolSize = maxPoolSize != null ? maxPoolSize : this.maxPoolSize;
+        }
+
+        public void setQueueCapacity(Integer queueCapacity) {
+            this.queueCapacity = queueCapacity != null ? queueCapacity : this.queueCapacity;
+        }
+
+        public void setKeepAliveSeconds(Integer keepAliveSeconds) {
+            this.keepAliveSeconds = keepAliveSeconds != null ? keepAliveSeconds : 60;
+        }
+    }
+
+    /**
+     * 세션별 전송 한도. 한 세션으로 보내는 중에 쌓인 메시지가 send-buffer-size-limit 를 넘거나
+     * 한 번의 전송이 send-time-limit 를 넘기면 그 세션을 느린 클라이언트로 보고 끊는다 (close status 4500).
+     */
+    @Getter
+    public static class Session {
+        private Integer sendTimeLimit = 10000;          // 한 번의 전송이 끝나기를 기다리는 최대 시간
+        private Integer sendBufferSizeLimit = 524288;   // 전송을 기다리는 메시지의 최대 바이트 수 (512KB)
+        private Integer messageSizeLimit = 65536;       // 받는 STOMP 메시지 최대 크기 (64KB)
+
+        public void setSendTimeLimit(Integer sendTimeLimit) {
+            this.sendTimeLimit = sendTimeLimit != null ? sendTimeLimit : 10000;
+        }
+
+        public void setSendBufferSizeLimit(Integer sendBufferSizeLimit) {
+            this.sendBufferSizeLimit = sendBufferSizeLimit != null ? sendBufferSizeLimit : 524288;
+        }
+
+        public void setMessageSizeLimit(Integer messageSizeLimit) {
+            this.messageSizeLimit = messageSizeLimit != null ? messageSizeLimit : 65536;
+        }
+    }
+
+    @Getter
+    public static class SockJs {
+        private Integer streamBytesLimit = 131072;  // 스트리밍 연결 하나로 보낼 최대 바이트, 넘으면 클라이언트가 새로 연결 (128KB)
+        private Integer httpMessageCacheSize = 100; // 폴링 요청 사이에 세션별로 보관하는 메시지 수
+        private Long disconnectDelay = 5000L;       // 폴링 요청이 끊긴 뒤 세션을 닫기까지 기다리는 시간
+
+        public void setStreamBytesLimit(Integer streamBytesLimit) {
+            this.streamBytesLimit = streamBytesLimit != null ? streamBytesLimit : 131072;
+        }
+
+        public void setHttpMessageCacheSize(Integer httpMessageCacheSize) {
+            this.httpMessageCacheSize = httpMessageCacheSize != null ? httpMessageCacheSize : 100;
+        }
+
+        public void setDisconnectDelay(Long disconnectDelay) {
+            this.disconnectDelay = disconnectDelay != null ? disconnectDelay : 5000L;
+        }
+    }
+
+    /**
+     * 몰린 메시지 묶어 보내기. 같은 목적지로 window 안에 이어서 들어온 메시지를 JSON 배열 하나로 보낸다.
+     * 조용하던 목적지의 첫 메시지는 바로 보내므로 지연은 몰릴 때만 생긴다.
+     */
+    @Getter
+    public static class Coalesce {
+        private Boolean enabled = false;
+        private Long window = 50L;          // 묶는 간격
+        private Integer maxBatchSize = 50;  // 한 묶음의 최대 메시지 수, 차면 window 를 기다리지 않고 보냄
+        private List<String> destinations = new ArrayList<>(List.of("/topic/reservation/**")); // 묶을 목적지 패턴
+
+        public void setEnabled(Boolean enabled) {
+            this.enabled = enabled != null ? enabled : false;
+        }
+
+        public void setWindow(Long window) {
+            this.window = window != null ? window : 50L;
+        }
+
+        public void setMaxBatchSize(Integer maxBatchSize) {
+            this.maxBatchSize = maxBatchSize != null ? maxBatchSize : 50;
+        }
+
+        public void setDestinations(List<String> destinations) {
+            this.destinations = destinations != null ? destinations : new ArrayList<>();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.snow.popin.global.http;
+
+import java.io.IOException;
+
+/**
+ * 목적지별 동시 호출 한도 초과
+ *
+ * IOException 이므로 RestTemplate 에서는 ResourceAccessException 으로 감싸져 일시적 장애로 처리된다.
+ */
+public class BulkheadFullException extends IOException {
+
+    public BulkheadFullException(String destination) {
+        super("외부 호출 동시 실행 한도 초과: " + destination);
+    }
+}
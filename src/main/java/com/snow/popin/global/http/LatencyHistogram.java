@@ -0,0 +1,107 @@
+package com.snow.popin.global.http;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 고정 구간 지연 시간 히스토그램
+ *
+ * 호출마다 구간 카운터 하나만 올리므로 락 없이 기록한다. 백분위는 해당 구간의 상한으로 근사한다.
+ */
+public class LatencyHistogram {
+
+    static final long[] BUCKET_BOUNDS_MILLIS = {5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000, 30000};
+
+    private final String endpoint;
+    private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS_MILLIS.length + 1];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    public LatencyHistogram(String endpoint) {
+        this.endpoint = endpoint;
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long elapsedNanos, boolean error) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        int index = 0;
+        while (index < BUCKET_BOUNDS_MILLIS.length && millis > BUCKET_BOUNDS_MILLIS[index]) {
+            index++;
+        }
+        buckets[index].increment();
+        count.increment();
+        totalNanos.add(elapsedNanos);
+        maxNanos.accumulate(elapsedNanos);
+        if (error) {
+            errors.increment();
+        }
+    }
+
+    /**
+     * 동시 호출 한도 초과로 보내지 못한 요청
+     */
+    public void recordRejected() {
+        rejected.increment();
+    }
+
+    public Snapshot snapshot() {
+        long[] counts = new long[buckets.length];
+        long total = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+
+        long maxMillis = TimeUnit.NANOSECONDS.toMillis(maxNanos.get());
+        Map<String, Long> bucketCounts = new LinkedHashMap<>();
+        for (int i = 0; i < counts.length; i++) {
+            bucketCounts.put(i < BUCKET_BOUNDS_MILLIS.length ? "le_" + BUCKET_BOUNDS_MILLIS[i] : "le_inf", counts[i]);
+        }
+
+        double meanMillis = total > 0 ? totalNanos.sum() / (double) total / 1_000_000 : 0;
+        return new Snapshot(endpoint, total, errors.sum(), rejected.sum(), Math.round(meanMillis * 10) / 10.0,
+                maxMillis, percentile(counts, total, 0.50, maxMillis), percentile(counts, total, 0.95, maxMillis),
+                percentile(counts, total, 0.99, maxMillis), bucketCounts);
+    }
+
+    private long percentile(long[] counts, long total, double quantile, long maxMillis) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(total * quantile);
+        long cumulative = 0;
+        for (int i = 0; i < BUCKET_BOUNDS_MILLIS.length; i++) {
+            cumulative += counts[i];
+            if (cumulative >= rank) {
+                return Math.min(BUCKET_BOUNDS_MILLIS[i], maxMillis);
+            }
+        }
+        return maxMillis;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Snapshot {
+        private final String endpoint;
+        private final long count;
+        private final long errors;
+        private final long rejected;
+        private final double meanMillis;
+        private final long maxMillis;
+        private final long p50Millis;
+        private final long p95Millis;
+        private final long p99Millis;
+        private final Map<String, Long> buckets;
+    }
+}
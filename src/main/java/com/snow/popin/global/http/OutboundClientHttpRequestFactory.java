@@ -0,0 +1,157 @@
+package com.snow.popin.global.http;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * RestTemplate 요청을 OutboundHttpClient 로 보내는 어댑터
+ *
+ * 본문은 메모리에 모았다가 한 번에 보내고, 응답 본문도 한 번에 읽는다 (결제 API 처럼 작은 요청, 응답용).
+ */
+class OutboundClientHttpRequestFactory implements ClientHttpRequestFactory {
+
+    // java.net.http 가 직접 관리해 지정할 수 없는 헤더
+    private static final Set<String> RESTRICTED_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        RESTRICTED_HEADERS.addAll(List.of("Connection", "Content-Length", "Expect", "Host", "Upgrade"));
+    }
+
+    private final OutboundHttpClient outboundHttpClient;
+    private final String destination;
+
+    OutboundClientHttpRequestFactory(OutboundHttpClient outboundHttpClient, String destination) {
+        this.outboundHttpClient = outboundHttpClient;
+        this.destination = destination;
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) {
+        return new OutboundRequest(uri, httpMethod);
+    }
+
+    private class OutboundRequest implements ClientHttpRequest {
+
+        private final URI uri;
+        private final HttpMethod method;
+        private final HttpHeaders headers = new HttpHeaders();
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(256);
+
+        private OutboundRequest(URI uri, HttpMethod method) {
+            this.uri = uri;
+            this.method = method;
+        }
+
+        @Override
+        public HttpMethod getMethod() {
+            return method;
+        }
+
+        @Override
+        public String getMethodValue() {
+            return method.name();
+        }
+
+        @Override
+        public URI getURI() {
+            return uri;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public ClientHttpResponse execute() throws IOException {
+            HttpRequest.Builder builder = outboundHttpClient.requestBuilder(destination, uri);
+            for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+                if (RESTRICTED_HEADERS.contains(header.getKey())) {
+                    continue;
+                }
+                for (String value : header.getValue()) {
+                    if (value != null) {
+                        builder.header(header.getKey(), value);
+                    }
+                }
+            }
+
+            byte[] bytes = body.toByteArray();
+            builder.method(method.name(), bytes.length > 0
+                    ? HttpRequest.BodyPublishers.ofByteArray(bytes)
+                    : HttpRequest.BodyPublishers.noBody());
+
+            try {
+                return new OutboundResponse(outboundHttpClient.send(destination, builder.build(),
+                        HttpResponse.BodyHandlers.ofByteArray()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("외부 호출 중 인터럽트: " + uri);
+            }
+        }
+    }
+
+    private static class OutboundResponse implements ClientHttpResponse {
+
+        private final HttpResponse<byte[]> response;
+        private final HttpHeaders headers = new HttpHeaders();
+
+        private OutboundResponse(HttpResponse<byte[]> response) {
+            this.response = response;
+            response.headers().map().forEach(headers::addAll);
+        }
+
+        @Override
+        public HttpStatus getStatusCode() {
+            return HttpStatus.valueOf(response.statusCode());
+        }
+
+        @Override
+        public int getRawStatusCode() {
+            return response.statusCode();
+        }
+
+        @Override
+        public String getStatusText() {
+            HttpStatus status = HttpStatus.resolve(response.statusCode());
+            return status != null ? status.getReasonPhrase() : "";
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(response.body() != null ? response.body() : new byte[0]);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.snow.popin.global.http;
+
+import com.snow.popin.global.config.OutboundHttpProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+/**
+ * 외부 API 공용 HTTP 클라이언트
+ *
+ * 카카오페이, 네이버페이, Gemini 호출이 하나의 java.net.http.HttpClient 를 함께 써서
+ * 호스트별 연결 풀과 TLS 세션을 재사용한다.
+ * - 목적지(destination)마다 동시 호출 수를 제한해, 느린 외부 서비스가 다른 목적지의 호출까지 막지 않게 한다.
+ *   한도를 넘으면 기다리지 않고 BulkheadFullException 으로 바로 실패한다.
+ * - 목적지, 메서드, 경로별로 지연 시간 히스토그램을 남긴다.
+ *
+ * 유휴 연결 유지 시간은 HttpClient 가 JVM 전역 설정으로만 받으므로 기동 옵션으로 지정한다.
+ * (예: -Djdk.httpclient.keepalive.timeout=300, 지정하지 않으면 JDK 기본값 1200초)
+ */
+@Slf4j
+@Component
+public class OutboundHttpClient {
+
+    public static final String KAKAO_PAY = "kakao-pay";
+    public static final String NAVER_PAY = "naver-pay";
+    public static final String GEMINI = "gemini";
+    public static final String DEFAULT = "default";
+
+    private final OutboundHttpProperties outboundHttpProperties;
+    private final HttpClient httpClient;
+    private final Map<String, Semaphore> bulkheads = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, RestTemplate> restTemplates = new ConcurrentHashMap<>();
+
+    public OutboundHttpClient(OutboundHttpProperties outboundHttpProperties) {
+        this.outboundHttpProperties = outboundHttpProperties;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(outboundHttpProperties.getConnectTimeout()))
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    /**
+     * 목적지의 요청 제한 시간을 미리 넣은 요청 빌더
+     */
+    public HttpRequest.Builder requestBuilder(String destination, URI uri) {
+        return HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofMillis(outboundHttpProperties.destination(destination).getTimeout()));
+    }
+
+    public <T> HttpResponse<T> send(String destination, HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler)
+            throws IOException, InterruptedException {
+        Semaphore bulkhead = acquire(destination, request);
+        long startedAt = System.nanoTime();
+        boolean error = true;
+        try {
+            HttpResponse<T> response = httpClient.send(request, bodyHandler);
+            error = response.statusCode() >= 500;
+            return response;
+        } finally {
+            bulkhead.release();
+            histogram(destination, request).record(System.nanoTime() - startedAt, error);
+        }
+    }
+
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(String destination, HttpRequest request,
+                                                            HttpResponse.BodyHandler<T> bodyHandler) {
+        Semaphore bulkhead;
+        try {
+            bulkhead = acquire(destination, request);
+        } catch (BulkheadFullException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            return httpClient.sendAsync(request, bodyHandler).whenComplete((response, throwable) -> {
+                bulkhead.release();
+                histogram(destination, request).record(System.nanoTime() - startedAt,
+                        throwable != null || response.statusCode() >= 500);
+            });
+        } catch (RuntimeException e) {
+            bulkhead.release();
+            histogram(destination, request).record(System.nanoTime() - startedAt, true);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 이 클라이언트로 요청을 보내는 목적지별 RestTemplate
+     */
+    public RestTemplate restTemplate(String destination) {
+        return restTemplates.computeIfAbsent(destination,
+                name -> new RestTemplate(new OutboundClientHttpRequestFactory(this, name)));
+    }
+
+    /**
+     * 엔드포인트별 지연 시간 (호출 수 내림차순)
+     */
+    public List<LatencyHistogram.Snapshot> metrics() {
+        return histograms.values().stream()
+                .map(LatencyHistogram::snapshot)
+                .sorted(Comparator.comparingLong(LatencyHistogram.Snapshot::getCount).reversed())
+                .collect(Collectors.toList());
+    }
+
+    private Semaphore acquire(String destination, HttpRequest request) throws BulkheadFullException {
+        Semaphore bulkhead = bulkheads.computeIfAbsent(destination,
+                name -> new Semaphore(outboundHttpProperties.destination(name).getMaxConcurrent()));
+        if (!bulkhead.tryAcquire()) {
+            histogram(destination, request).recordRejected();
+            log.warn("외부 호출 동시 실행 한도 초과 - destination: {}, uri: {}", destination, request.uri().getPath());
+            throw new BulkheadFullException(destination);
+        }
+        return bulkhead;
+    }
+
+    private LatencyHistogram histogram(String destination, HttpRequest request) {
+        String endpoint = destination + " " + request.method() + " " + request.uri().getHost() + request.uri().getPath();
+        return histograms.computeIfAbsent(endpoint, LatencyHistogram::new);
+    }
+}
@@ -0,0 +1,44 @@
+package com.snow.popin.global.jwt;
+
+import com.snow.popin.domain.user.constant.Role;
+import com.snow.popin.domain.user.entity.User;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * JWT 인증 주체
+ *
+ * Spring Security 의 User 에 사용자 ID, 이름, 역할을 함께 담아
+ * 현재 사용자 정보를 읽을 때 DB를 다시 조회하지 않도록 한다.
+ */
+@Getter
+public class AuthenticatedUser extends org.springframework.security.core.userdetails.User {
+
+    private final Long userId;
+    private final String displayName;
+    private final Role role;
+
+    private AuthenticatedUser(User user, Collection<? extends GrantedAuthority> authorities) {
+        super(user.getEmail(), user.getPassword(), authorities);
+        this.userId = user.getId();
+        this.displayName = user.getName();
+        this.role = user.getRole();
+    }
+
+    public static AuthenticatedUser from(User user) {
+        Collection<GrantedAuthority> authorities = new ArrayList<>();
+        if (user.getRole() != null) {
+            authorities.add(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()));
+        }
+        return new AuthenticatedUser(user, authorities);
+    }
+
+    // 캐시에서 여러 요청이 같은 객체를 공유하므로 인증 후에도 비밀번호 해시를 지우지 않는다
+    @Override
+    public void eraseCredentials() {
+    }
+}
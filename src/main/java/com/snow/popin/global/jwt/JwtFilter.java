@@ -1,5 +1,6 @@
 package com.snow.popin.global.jwt;
 
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.ObjectProvider;
@@ -38,8 +39,10 @@ public class JwtFilter extends OncePerRequestFilter {
         try {
             final String token = jwtTokenResolver.resolve(req);
 
-            if (StringUtils.hasText(token) && jwtUtil.validateToken(token)) {
-                final String email = jwtUtil.getEmail(token);
+            final Claims claims = StringUtils.hasText(token) ? jwtUtil.verify(token) : null;
+
+            if (claims != null) {
+                final String email = claims.getSubject();
 
                 if (StringUtils.hasText(email)
                         && SecurityContextHolder.getContext().getAuthentication() == null) {
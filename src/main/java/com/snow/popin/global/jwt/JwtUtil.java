@@ -8,18 +8,50 @@ import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.Date;
-
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JWT 생성/검증
+ *
+ * 서명 검증을 통과한 토큰의 claims 는 토큰 해시(SHA-256)를 키로 만료 시각까지 보관해,
+ * 같은 토큰을 다시 받아도 파싱과 서명 검증은 한 번만 한다.
+ * 요청마다 토큰을 확인하는 쪽은 verify 를 쓰면 해시 계산 한 번으로 폐기 여부와 claims 를 함께 얻는다.
+ * 보관 개수가 MAX_VERIFIED_TOKENS 를 넘으면 가장 오래 쓰지 않은 토큰부터 내보내고,
+ * 호출하는 쪽에는 보관한 claims 의 복사본을 돌려준다.
+ * 로그아웃한 토큰은 만료 시각까지 폐기 목록에 두고 validateToken 에서 거부한다.
+ * 두 목록 모두 인스턴스 메모리에만 있으며 만료된 항목은 주기적으로 정리한다.
+ */
 @Slf4j
 @Component
 public class JwtUtil {
 
+    private static final int MAX_VERIFIED_TOKENS = 10_000;
+
     private final SecretKey secretKey;
     private final long expirationMs = 6 * 60 * 60 * 1000; // 6시간
 
+    private final Map<String, Map<String, Object>> verifiedClaims = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Map<String, Object>> eldest) {
+                    return size() > MAX_VERIFIED_TOKENS;
+                }
+            });
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+
     public JwtUtil(@Value("${jwt.secret}") String secret) {
         if (secret == null || secret.length() < 32) {
             throw new IllegalArgumentException("JWT secret must be at least 32 characters long for HS256");
@@ -35,6 +67,7 @@ public class JwtUtil {
                 .setSubject(email)
                 .claim("name", name)
                 .claim("role", role)
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
                 .signWith(secretKey, SignatureAlgorithm.HS256)
@@ -50,19 +83,63 @@ public class JwtUtil {
                 .claim("userId", userId)
                 .claim("name", name)
                 .claim("role", role)
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
                 .signWith(secretKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    /**
+     * 토큰 확인 (해시 한 번으로 폐기 여부 확인과 claims 조회)
+     *
+     * 비어 있거나, 서명이 틀리거나, 만료되었거나, 폐기된 토큰이면 null 을 반환한다.
+     */
+    public Claims verify(String token) {
+        if (token == null || token.trim().isEmpty()) {
+            log.debug("토큰이 null이거나 비어있음");
+            return null;
+        }
+        try {
+            String tokenHash = hash(token);
+            if (revokedTokens.containsKey(tokenHash)) {
+                log.debug("폐기된 토큰");
+                return null;
+            }
+
+            Claims claims = extractClaims(token, tokenHash);
+            Date expiration = claims.getExpiration();
+            if (expiration == null || expiration.before(new Date())) {
+                log.debug("토큰이 만료됨");
+                return null;
+            }
+            return claims;
+        } catch (Exception e) {
+            log.error("토큰 검증 실패 : {}", e.getMessage());
+            return null;
+        }
+    }
+
     public Claims extractClaims(String token) {
+        return extractClaims(token, hash(token));
+    }
+
+    private Claims extractClaims(String token, String tokenHash) {
+        Map<String, Object> cached = verifiedClaims.get(tokenHash);
+        if (cached != null) {
+            return Jwts.claims(new LinkedHashMap<>(cached));
+        }
+
         try {
-            return Jwts.parserBuilder()
+            Claims claims = Jwts.parserBuilder()
                     .setSigningKey(secretKey)
                     .build()
                     .parseClaimsJws(token)
                     .getBody();
+            if (claims.getExpiration() != null) {
+                verifiedClaims.put(tokenHash, Collections.unmodifiableMap(new LinkedHashMap<>(claims)));
+            }
+            return claims;
         } catch (ExpiredJwtException e) {
             // 만료된 토큰도 payload(claims)는 꺼낼 수 있으니 필요하면 반환
             return e.getClaims();
@@ -129,23 +206,45 @@ public class JwtUtil {
     }
 
     public boolean validateToken(String token){
-        try {
-            if (token == null || token.trim().isEmpty()) {
-                log.debug("토큰이 null이거나 비어있음");
-                return false;
-            }
-
-            boolean expired = isTokenExpired(token);
-            boolean valid = !expired;
-            log.debug("토큰 검증 결과 : {}", valid);
-            return valid;
-        } catch (Exception e) {
-            log.error("토큰 검증 실패 : {}", e.getMessage());
-            return false;
-        }
+        boolean valid = verify(token) != null;
+        log.debug("토큰 검증 결과 : {}", valid);
+        return valid;
     }
 
     public String createToken(String email, Role role) {
         return createToken(email, "SocialUser", role.name());
     }
+
+    /**
+     * 토큰 폐기 (로그아웃) - 서명이 유효하고 아직 만료되지 않은 토큰만 만료 시각까지 보관
+     */
+    public void revoke(String token) {
+        Claims claims = verify(token);
+        if (claims == null) {
+            return;
+        }
+        String tokenHash = hash(token);
+        revokedTokens.put(tokenHash, claims.getExpiration().getTime());
+        verifiedClaims.remove(tokenHash);
+        log.debug("토큰 폐기 완료");
+    }
+
+    // 1분마다 만료된 검증 캐시와 폐기 목록을 정리합니다.
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpiredTokens() {
+        long now = System.currentTimeMillis();
+        synchronized (verifiedClaims) {
+            verifiedClaims.values().removeIf(claims -> Jwts.claims(claims).getExpiration().getTime() <= now);
+        }
+        revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+    }
+
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
 }
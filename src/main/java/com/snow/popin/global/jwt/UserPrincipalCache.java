@@ -0,0 +1,125 @@
+package com.snow.popin.global.jwt;
+
+import com.snow.popin.domain.user.entity.User;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import static com.snow.popin.global.util.TransactionUtil.afterCommit;
+
+/**
+ * JWT 인증 주체 캐시 (이메일 기준)
+ *
+ * JWT 필터가 요청마다 사용자를 조회하지 않도록 인증 주체를 최대 max-size 개, ttl 동안 보관한다.
+ * 가장 오래 쓰이지 않은 항목부터 밀려나고, 만료된 항목은 다음 조회 때 다시 적재한다.
+ *
+ * 상태, 역할, 프로필, 비밀번호가 바뀌면 커밋 이후 해당 사용자를 무효화한다.
+ * 적재 중에 무효화가 일어나면 읽어 온 값은 캐시하지 않는다.
+ */
+@Slf4j
+@Component
+public class UserPrincipalCache {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+
+    private final LinkedHashMap<String, CachedPrincipal> principalsByEmail = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Long, String> emailsByUserId = new HashMap<>();
+    private long invalidations;
+
+    @Autowired
+    public UserPrincipalCache(@Value("${security.principal-cache.max-size:10000}") int maxSize,
+                              @Value("${security.principal-cache.ttl:PT5M}") Duration ttl) {
+        this(maxSize, ttl, System::currentTimeMillis);
+    }
+
+    UserPrincipalCache(int maxSize, Duration ttl, LongSupplier clock) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * 인증 주체 조회 (없거나 만료되었으면 loader로 적재)
+     */
+    public AuthenticatedUser get(String email, Function<String, AuthenticatedUser> loader) {
+        long generation;
+        synchronized (this) {
+            CachedPrincipal cached = principalsByEmail.get(email);
+            if (cached != null && cached.expiresAt > clock.getAsLong()) {
+                return cached.principal;
+            }
+            generation = invalidations;
+        }
+
+        // DB 조회는 락 밖에서
+        AuthenticatedUser principal = loader.apply(email);
+
+        synchronized (this) {
+            if (generation == invalidations) {
+                put(email, principal);
+            }
+        }
+        return principal;
+    }
+
+    /**
+     * 사용자 무효화 (트랜잭션 안에서 호출되면 커밋 이후 반영)
+     */
+    public void invalidate(User user) {
+        Long userId = user.getId();
+        String email = user.getEmail();
+        afterCommit(() -> evict(userId, email));
+    }
+
+    synchronized int size() {
+        return principalsByEmail.size();
+    }
+
+    private void put(String email, AuthenticatedUser principal) {
+        CachedPrincipal previous = principalsByEmail.put(email,
+                new CachedPrincipal(principal, clock.getAsLong() + ttlMillis));
+        if (previous != null && !previous.principal.getUserId().equals(principal.getUserId())) {
+            emailsByUserId.remove(previous.principal.getUserId());
+        }
+        emailsByUserId.put(principal.getUserId(), email);
+
+        Iterator<Map.Entry<String, CachedPrincipal>> eldest = principalsByEmail.entrySet().iterator();
+        while (principalsByEmail.size() > maxSize && eldest.hasNext()) {
+            emailsByUserId.remove(eldest.next().getValue().principal.getUserId());
+            eldest.remove();
+        }
+    }
+
+    private synchronized void evict(Long userId, String email) {
+        invalidations++;
+        String cachedEmail = userId != null ? emailsByUserId.remove(userId) : null;
+        if (cachedEmail != null) {
+            principalsByEmail.remove(cachedEmail);
+        }
+        if (email != null) {
+            principalsByEmail.remove(email);
+        }
+        log.debug("[UserPrincipalCache] 인증 주체 무효화: userId={}, email={}", userId, email);
+    }
+
+    private static final class CachedPrincipal {
+        private final AuthenticatedUser principal;
+        private final long expiresAt;
+
+        private CachedPrincipal(AuthenticatedUser principal, long expiresAt) {
+            this.principal = principal;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.snow.popin.global.oauth;
 
 import com.snow.popin.domain.user.entity.User;
 import com.snow.popin.domain.user.repository.UserRepository;
+import com.snow.popin.global.jwt.UserPrincipalCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
@@ -19,6 +20,7 @@ import java.util.Map;
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest)
@@ -67,6 +69,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
                 .map(existing -> {
                     log.info("기존 사용자 발견 - ID: {}", existing.getId());
                     existing.updateProfile(attributes.getName(), attributes.getName(), null);
+                    userPrincipalCache.invalidate(existing);
                     return existing;
                 })
                 .orElseGet(() -> {
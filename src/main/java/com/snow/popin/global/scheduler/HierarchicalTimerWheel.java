@@ -0,0 +1,226 @@
+package com.snow.popin.global.scheduler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계층형 타이머 휠
+ *
+ * 가장 아래 휠은 tickMs 간격 버킷 wheelSize 개로 tickMs * wheelSize 범위를 담고,
+ * 그보다 먼 항목은 한 칸이 아래 휠 전체 범위인 상위 휠에 담았다가 시간이 다가오면 아래 휠로 내려보낸다.
+ * 비어 있지 않은 버킷만 DelayQueue 에 올라가므로 대기 스레드는 다음 버킷 만료 시각까지 잠들어 있다 (빈 틱을 돌지 않음).
+ *
+ * 항목 자체가 키다 (equals, hashCode). 같은 항목을 다시 등록하면 이전 등록을 대체한다.
+ * 만료 시각은 tickMs 단위로 맞춰지며, 틱 경계에 놓인 시각은 정확히 그 시각에 만료된다.
+ */
+public class HierarchicalTimerWheel<T> {
+
+    private final DelayQueue<Bucket<T>> queue = new DelayQueue<>();
+    private final Map<T, Entry<T>> entries = new HashMap<>();
+    private final Level<T> root;
+    // 이미 만료된 항목을 등록했을 때 바로 꺼내기 위한 버킷
+    private final Bucket<T> overdue = new Bucket<>();
+
+    public HierarchicalTimerWheel(long tickMs, int wheelSize) {
+        this(tickMs, wheelSize, System.currentTimeMillis());
+    }
+
+    HierarchicalTimerWheel(long tickMs, int wheelSize, long startMs) {
+        if (tickMs <= 0 || wheelSize <= 1) {
+            throw new IllegalArgumentException("tickMs 는 양수, wheelSize 는 2 이상이어야 합니다.");
+        }
+        this.root = new Level<>(tickMs, wheelSize, startMs, queue);
+    }
+
+    /**
+     * 항목 등록 (epoch millis). 이미 지난 시각이면 다음 대기에서 바로 만료된다.
+     */
+    public synchronized void schedule(T item, long expirationMs) {
+        cancel(item);
+
+        Entry<T> entry = new Entry<>(item, expirationMs);
+        entries.put(item, entry);
+        if (!root.add(entry)) {
+            overdue.add(entry);
+            if (overdue.setExpiration(0L)) {
+                queue.offer(overdue);
+            }
+        }
+    }
+
+    /**
+     * 항목 취소. 등록돼 있었으면 true
+     */
+    public synchronized boolean cancel(T item) {
+        Entry<T> entry = entries.remove(item);
+        if (entry == null) {
+            return false;
+        }
+        if (entry.bucket != null) {
+            entry.bucket.remove(entry);
+        }
+        return true;
+    }
+
+    public synchronized boolean contains(T item) {
+        return entries.containsKey(item);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * 다음 버킷이 만료될 때까지 최대 timeoutMs 대기한 뒤, 그 시점까지 만료된 항목을 한 번에 꺼낸다.
+     *
+     * 만료된 항목이 없으면 빈 목록. 상위 휠 버킷이 만료되면 항목을 아래 휠로 내려보내기만 하고 돌려주지 않는다.
+     */
+    public List<T> awaitExpired(long timeoutMs) throws InterruptedException {
+        Bucket<T> bucket = queue.poll(timeoutMs, TimeUnit.MILLISECONDS);
+        if (bucket == null) {
+            return List.of();
+        }
+
+        synchronized (this) {
+            root.advance(System.currentTimeMillis());
+
+            List<T> expired = new ArrayList<>();
+            while (bucket != null) {
+                bucket.flush(entry -> {
+                    if (!root.add(entry)) {
+                        entries.remove(entry.item);
+                        expired.add(entry.item);
+                    }
+                });
+                bucket = queue.poll();
+            }
+            return expired;
+        }
+    }
+
+    private static final class Entry<T> {
+
+        private final T item;
+        private final long expirationMs;
+        private Bucket<T> bucket;
+
+        private Entry(T item, long expirationMs) {
+            this.item = item;
+            this.expirationMs = expirationMs;
+        }
+    }
+
+    private interface EntryConsumer<T> {
+        void accept(Entry<T> entry);
+    }
+
+    private static final class Bucket<T> implements Delayed {
+
+        private final Set<Entry<T>> entries = new LinkedHashSet<>();
+        private volatile long expirationMs = -1L;
+
+        private void add(Entry<T> entry) {
+            entries.add(entry);
+            entry.bucket = this;
+        }
+
+        private void remove(Entry<T> entry) {
+            entries.remove(entry);
+            entry.bucket = null;
+        }
+
+        /**
+         * 만료 시각 변경. 바뀌었으면 (= 큐에 다시 올려야 하면) true
+         */
+        private boolean setExpiration(long expirationMs) {
+            if (this.expirationMs == expirationMs) {
+                return false;
+            }
+            this.expirationMs = expirationMs;
+            return true;
+        }
+
+        private void flush(EntryConsumer<T> consumer) {
+            List<Entry<T>> flushed = new ArrayList<>(entries);
+            entries.clear();
+            expirationMs = -1L;
+            for (Entry<T> entry : flushed) {
+                entry.bucket = null;
+                consumer.accept(entry);
+            }
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(expirationMs - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(expirationMs, ((Bucket<?>) other).expirationMs);
+        }
+    }
+
+    private static final class Level<T> {
+
+        private final long tickMs;
+        private final int wheelSize;
+        private final long intervalMs;
+        private final Bucket<T>[] buckets;
+        private final DelayQueue<Bucket<T>> queue;
+        private long currentTimeMs;
+        private Level<T> overflow;
+
+        @SuppressWarnings("unchecked")
+        private Level(long tickMs, int wheelSize, long startMs, DelayQueue<Bucket<T>> queue) {
+            this.tickMs = tickMs;
+            this.wheelSize = wheelSize;
+            this.intervalMs = tickMs * wheelSize;
+            this.buckets = new Bucket[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new Bucket<>();
+            }
+            this.queue = queue;
+            this.currentTimeMs = startMs - (startMs % tickMs);
+        }
+
+        /**
+         * 이 휠 또는 상위 휠에 담는다. 이미 만료됐으면 false
+         */
+        private boolean add(Entry<T> entry) {
+            long expirationMs = entry.expirationMs;
+            if (expirationMs < currentTimeMs + tickMs) {
+                return false;
+            }
+            if (expirationMs < currentTimeMs + intervalMs) {
+                long virtualId = expirationMs / tickMs;
+                Bucket<T> bucket = buckets[(int) (virtualId % wheelSize)];
+                bucket.add(entry);
+                if (bucket.setExpiration(virtualId * tickMs)) {
+                    queue.offer(bucket);
+                }
+                return true;
+            }
+            if (overflow == null) {
+                overflow = new Level<>(intervalMs, wheelSize, currentTimeMs, queue);
+            }
+            return overflow.add(entry);
+        }
+
+        private void advance(long timeMs) {
+            if (timeMs >= currentTimeMs + tickMs) {
+                currentTimeMs = timeMs - (timeMs % tickMs);
+                if (overflow != null) {
+                    overflow.advance(currentTimeMs);
+                }
+            }
+        }
+    }
+}
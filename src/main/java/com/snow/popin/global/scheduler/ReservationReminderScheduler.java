@@ -1,79 +1,230 @@
 package com.snow.popin.global.scheduler;
 
 import com.snow.popin.domain.notification.constant.NotificationType;
+import com.snow.popin.domain.notification.dto.request.NotificationCreateDto;
 import com.snow.popin.domain.notification.service.NotificationService;
 import com.snow.popin.domain.popupReservation.entity.Reservation;
-import com.snow.popin.domain.popupReservation.entity.ReservationStatus;
+import com.snow.popin.domain.popupReservation.entity.ReservationReminder;
 import com.snow.popin.domain.popupReservation.repository.ReservationQueryDslRepository;
 import com.snow.popin.domain.popupReservation.repository.ReservationRepository;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.annotation.PreDestroy;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
+/**
+ * 예약 알림 (하루 전, 30분 전) 발송
+ *
+ * 매 분 DB 를 조회하지 않고, 예약 생성 시 알림 시각을 타이머 휠에 등록하고 취소 시 지운다.
+ * 애플리케이션 시작 시 아직 시작하지 않은 예약으로 타이머 휠을 다시 채우며,
+ * 서버가 내려가 있는 동안 놓친 알림은 가장 최근 것 하나만 바로 보낸다.
+ *
+ * 같은 시각에 만료된 알림은 한 번에 모아 예약을 한 번의 쿼리로 조회하고 알림도 한 번에 생성하며,
+ * 발송 전에 예약의 마지막 알림(last_reminder)을 먼저 커밋해 재시작 후에도 같은 알림을 두 번 보내지 않는다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ReservationReminderScheduler {
 
+    private static final long TICK_MS = 1000L;
+    private static final int WHEEL_SIZE = 60;
+    // 등록된 알림이 없어도 이 간격으로 깨어나 종료 여부를 확인
+    private static final long MAX_WAIT_MS = 60_000L;
+    private static final String RESERVATION_LINK = "/users/user-popup-reservation";
+
     private final ReservationRepository reservationRepository;
     private final ReservationQueryDslRepository reservationQueryDslRepository;
     private final NotificationService notificationService;
+    private final TransactionTemplate transactionTemplate;
 
-    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private final HierarchicalTimerWheel<ReminderEvent> timerWheel = new HierarchicalTimerWheel<>(TICK_MS, WHEEL_SIZE);
+    private volatile Thread worker;
 
     /**
-     * 매 분 0초마다 예약 임박 사용자에게 알림 발송
+     * 새 예약의 알림 등록 (예약 커밋 후 호출). 이미 지난 알림은 보내지 않는다.
      */
-    @Scheduled(cron = "0 * * * * *") // 매 분 0초 실행
-    public void sendReservationReminders() {
+    public void schedule(Long reservationId, LocalDateTime reservationDate) {
         LocalDateTime now = LocalDateTime.now();
+        scheduleReminders(reservationId, reservationDate, now, null, now);
+    }
 
-        // 예약 30분 전
-        LocalDateTime target30m = now.plusMinutes(30);
-        String target30mStr = target30m.format(FORMATTER);
+    /**
+     * 예약 취소 시 남은 알림 제거
+     */
+    public void cancel(Long reservationId) {
+        for (ReservationReminder reminder : ReservationReminder.values()) {
+            timerWheel.cancel(new ReminderEvent(reservationId, reminder));
+        }
+    }
 
-        // 예약 하루 전
-        LocalDateTime target1d = now.plusDays(1);
-        String target1dStr = target1d.format(FORMATTER);
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (worker != null) {
+            return;
+        }
+        rebuild(LocalDateTime.now());
 
-        // 30분 전 알림
-        List<Reservation> reservations30m = reservationQueryDslRepository.findByReservationMinute(target30mStr);
-        sendNotifications(reservations30m, "예약 임박", "30분 후 예약하신 일정이 시작됩니다.");
+        worker = new Thread(this::run, "reservation-reminder");
+        worker.setDaemon(true);
+        worker.start();
+    }
 
-        // 하루 전 알림
-        List<Reservation> reservations1d = reservationQueryDslRepository.findByReservationMinute(target1dStr);
-        sendNotifications(reservations1d, "예약 하루 전", "예약하신 일정이 내일 시작됩니다.");
+    @PreDestroy
+    public synchronized void stop() {
+        Thread current = worker;
+        worker = null;
+        if (current != null) {
+            current.interrupt();
+        }
     }
 
-    private void sendNotifications(List<Reservation> reservations, String title, String defaultMessage) {
+    /**
+     * 아직 시작하지 않은 예약으로 타이머 휠 재구성
+     */
+    void rebuild(LocalDateTime now) {
+        List<Reservation> upcoming = reservationQueryDslRepository.findReservedAfter(now);
+        for (Reservation reservation : upcoming) {
+            scheduleReminders(reservation.getId(), reservation.getReservationDate(),
+                    reservation.getReservedAt(), reservation.getLastReminder(), now);
+        }
+        log.info("[ReservationReminderScheduler] 예약 알림 재구성 완료: reservations={}, reminders={}",
+                upcoming.size(), timerWheel.size());
+    }
+
+    int pendingCount() {
+        return timerWheel.size();
+    }
+
+    /**
+     * 만료된 알림 묶음 발송
+     */
+    void fire(List<ReminderEvent> events) {
+        // 같은 예약의 알림이 함께 만료되면 늦은 알림 하나만 보낸다
+        Map<Long, ReservationReminder> due = new LinkedHashMap<>();
+        for (ReminderEvent event : events) {
+            due.merge(event.getReservationId(), event.getReminder(),
+                    (previous, next) -> previous.compareTo(next) >= 0 ? previous : next);
+        }
+
+        List<Notice> notices = transactionTemplate.execute(status -> claim(due));
+        if (notices == null || notices.isEmpty()) {
+            return;
+        }
+
+        List<NotificationCreateDto> requests = notices.stream()
+                .map(notice -> NotificationCreateDto.of(
+                        notice.userId,
+                        notice.reminder.getTitle(),
+                        String.format("[%s] %s", notice.popupTitle, notice.reminder.getMessage()),
+                        NotificationType.RESERVATION,
+                        RESERVATION_LINK))
+                .collect(Collectors.toList());
+        List<Long> reservationIds = notices.stream()
+                .map(notice -> notice.reservationId)
+                .collect(Collectors.toList());
+        try {
+            notificationService.createNotifications(requests);
+            log.info("알림 발송 완료 - count={}, reservationIds={}", notices.size(), reservationIds);
+        } catch (Exception e) {
+            log.error("알림 발송 실패 - count={}, reservationIds={}", notices.size(), reservationIds, e);
+        }
+    }
+
+    /**
+     * 아직 예약 상태이고 이 알림을 보낸 적 없는 예약만 골라 발송 기록을 남긴다
+     */
+    private List<Notice> claim(Map<Long, ReservationReminder> due) {
+        List<Reservation> reservations = reservationQueryDslRepository.findAllWithUserAndPopupByIdIn(due.keySet());
+
+        List<Reservation> claimed = new ArrayList<>();
+        List<Notice> notices = new ArrayList<>();
         for (Reservation reservation : reservations) {
-            if (reservation.getStatus() != ReservationStatus.RESERVED) {
-                continue; // RESERVED 상태만 알림 발송
+            ReservationReminder reminder = due.get(reservation.getId());
+            if (!reservation.isActive() || !reservation.markReminded(reminder)) {
+                continue; // RESERVED 상태만, 보낸 적 없는 알림만 발송
+            }
+            claimed.add(reservation);
+            notices.add(new Notice(reservation.getId(), reservation.getUser().getId(),
+                    reservation.getPopup().getTitle(), reminder));
+        }
+
+        if (!claimed.isEmpty()) {
+            reservationRepository.saveAll(claimed);
+        }
+        return notices;
+    }
+
+    /**
+     * 앞으로 보낼 알림을 등록하고, 예약 이후에 지나간 알림 중 아직 보내지 않은 가장 최근 것은 바로 보낸다
+     */
+    private void scheduleReminders(Long reservationId, LocalDateTime reservationDate, LocalDateTime reservedAt,
+                                   ReservationReminder lastReminder, LocalDateTime now) {
+        if (reservationDate == null || !reservationDate.isAfter(now)) {
+            return;
+        }
+
+        ReservationReminder missed = null;
+        for (ReservationReminder reminder : ReservationReminder.values()) {
+            LocalDateTime fireAt = reminder.fireAt(reservationDate);
+            if (fireAt.isAfter(now)) {
+                timerWheel.schedule(new ReminderEvent(reservationId, reminder), toEpochMilli(fireAt));
+            } else if (reservedAt != null && reservedAt.isBefore(fireAt)) {
+                missed = reminder;
             }
+        }
 
-            Long userId = reservation.getUser().getId();
-            String popupTitle = reservation.getPopup().getTitle(); // 팝업 이름
-            String message = String.format("[%s] %s", popupTitle, defaultMessage);
+        if (missed != null && (lastReminder == null || lastReminder.compareTo(missed) < 0)) {
+            timerWheel.schedule(new ReminderEvent(reservationId, missed), toEpochMilli(now));
+        }
+    }
 
+    private void run() {
+        while (worker == Thread.currentThread()) {
             try {
-                notificationService.createNotification(
-                        userId,
-                        title,
-                        message,
-                        NotificationType.RESERVATION,
-                        "/users/user-popup-reservation"
-                );
-                log.info("알림 발송 완료 - type={}, userId={}, reservationId={}, popupTitle={}",
-                        title, userId, reservation.getId(), popupTitle);
+                List<ReminderEvent> expired = timerWheel.awaitExpired(MAX_WAIT_MS);
+                if (!expired.isEmpty()) {
+                    fire(expired);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
             } catch (Exception e) {
-                log.error("알림 발송 실패 - type={}, userId={}, reservationId={}",
-                        title, userId, reservation.getId(), e);
+                log.error("[ReservationReminderScheduler] 예약 알림 처리 실패", e);
             }
         }
     }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    static final class ReminderEvent {
+        private final Long reservationId;
+        private final ReservationReminder reminder;
+    }
+
+    @RequiredArgsConstructor
+    private static final class Notice {
+        private final Long reservationId;
+        private final Long userId;
+        private final String popupTitle;
+        private final ReservationReminder reminder;
+    }
 }
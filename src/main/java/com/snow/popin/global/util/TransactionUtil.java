@@ -0,0 +1,32 @@
+package com.snow.popin.global.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 이후 실행
+ *
+ * 메모리 캐시와 인덱스는 DB 변경이 커밋된 뒤에 반영해야 롤백된 변경이 남지 않는다.
+ */
+public final class TransactionUtil {
+
+    private TransactionUtil() {
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 실행 (트랜잭션 밖이면 바로 실행, 롤백되면 실행하지 않음)
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -4,13 +4,17 @@ import com.snow.popin.domain.user.entity.User;
 import com.snow.popin.domain.user.repository.UserRepository;
 import com.snow.popin.global.constant.ErrorCode;
 import com.snow.popin.global.exception.GeneralException;
+import com.snow.popin.global.jwt.AuthenticatedUser;
 import com.snow.popin.global.jwt.JwtUtil;
 import com.snow.popin.global.jwt.JwtTokenResolver;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import javax.servlet.http.HttpServletRequest;
 import java.util.Optional;
@@ -20,12 +24,18 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class UserUtil {
 
+    private static final String CURRENT_USER_ATTRIBUTE = UserUtil.class.getName() + ".CURRENT_USER";
+
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
     private final JwtTokenResolver jwtTokenResolver;
 
     // 현재 로그인한 사용자의 ID를 반환
     public Long getCurrentUserId() {
+        AuthenticatedUser principal = getAuthenticatedPrincipal();
+        if (principal != null) {
+            return principal.getUserId();
+        }
         User currentUser = getCurrentUser();
         return currentUser.getId();
     }
@@ -36,24 +46,38 @@ public class UserUtil {
         return authentication.getName(); // JWT에서 subject가 email
     }
 
-    // 현재 로그인한 사용자의 Entity를 반환
+    // 현재 로그인한 사용자의 Entity를 반환 (요청 안에서는 한 번만 조회)
     public User getCurrentUser() {
-        String email = getCurrentUserEmail();
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> {
-                    log.error("인증된 사용자를 DB에서 찾을 수 없음: {}", email);
-                    return new GeneralException(ErrorCode.USER_NOT_FOUND);
-                });
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return findCurrentUser();
+        }
+
+        Object cached = requestAttributes.getAttribute(CURRENT_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cached instanceof User) {
+            return (User) cached;
+        }
+        User user = findCurrentUser();
+        requestAttributes.setAttribute(CURRENT_USER_ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+        return user;
     }
 
     // 현재 로그인한 사용자의 이름을 반환
     public String getCurrentUserName() {
+        AuthenticatedUser principal = getAuthenticatedPrincipal();
+        if (principal != null) {
+            return principal.getDisplayName();
+        }
         User currentUser = getCurrentUser();
         return currentUser.getName();
     }
 
     // 현재 로그인한 사용자의 역할을 반환
     public String getCurrentUserRole() {
+        AuthenticatedUser principal = getAuthenticatedPrincipal();
+        if (principal != null && principal.getRole() != null) {
+            return principal.getRole().name();
+        }
         User currentUser = getCurrentUser();
         return currentUser.getRole().name();
     }
@@ -110,10 +134,8 @@ public class UserUtil {
     public Optional<String> getUserEmailFromToken(HttpServletRequest request) {
         try {
             String token = jwtTokenResolver.resolve(request);
-            if (token != null && jwtUtil.validateToken(token)) {
-                return Optional.ofNullable(jwtUtil.getEmail(token));
-            }
-            return Optional.empty();
+            Claims claims = token != null ? jwtUtil.verify(token) : null;
+            return claims != null ? Optional.ofNullable(claims.getSubject()) : Optional.empty();
         } catch (Exception e) {
             log.debug("토큰에서 사용자 이메일 추출 실패: {}", e.getMessage());
             return Optional.empty();
@@ -154,6 +176,31 @@ public class UserUtil {
         return userInfo;
     }
 
+    // JWT 인증 주체면 ID로, 그 외에는 이메일로 조회
+    private User findCurrentUser() {
+        AuthenticatedUser principal = getAuthenticatedPrincipal();
+        if (principal != null) {
+            return userRepository.findById(principal.getUserId())
+                    .orElseThrow(() -> {
+                        log.error("인증된 사용자를 DB에서 찾을 수 없음: {}", principal.getUsername());
+                        return new GeneralException(ErrorCode.USER_NOT_FOUND);
+                    });
+        }
+
+        String email = getCurrentUserEmail();
+        return userRepository.findByEmail(email)
+                .orElseThrow(() -> {
+                    log.error("인증된 사용자를 DB에서 찾을 수 없음: {}", email);
+                    return new GeneralException(ErrorCode.USER_NOT_FOUND);
+                });
+    }
+
+    // 캐시된 JWT 인증 주체 (다른 방식으로 인증되었으면 null)
+    private AuthenticatedUser getAuthenticatedPrincipal() {
+        Object principal = getCurrentAuthentication().getPrincipal();
+        return principal instanceof AuthenticatedUser ? (AuthenticatedUser) principal : null;
+    }
+
     // 현재 인증 객체를 반환
     private Authentication getCurrentAuthentication() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
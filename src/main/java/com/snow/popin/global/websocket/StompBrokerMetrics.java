@@ -0,0 +1,359 @@
+package com.snow.popin.global.websocket;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * STOMP 브로커 목적지별 지표
+ *
+ * 목적지의 숫자 경로와 유저 세션 접미사는 * 로 묶어 (/topic/reservation/12 → /topic/reservation/*) 패턴별로 센다.
+ * - 발행: 브로커로 들어온 메시지 수와 초당 수, 묶어 보낸 메시지 수
+ * - 전달: 세션별로 나간 메시지 수와 초당 수, 아웃바운드 채널에서 전송을 기다리는 수 (queue depth), 거절된 수
+ * - 구독 수, 전송 한도를 넘겨 끊긴 세션 수
+ * 채널 스레드 풀의 활성 스레드 수와 대기열 길이도 함께 보여 준다.
+ */
+@Slf4j
+@Component
+public class StompBrokerMetrics {
+
+    static final int MAX_DESTINATIONS = 200; // 패턴 수 상한, 넘으면 other 로 센다
+    static final String OTHER = "other";
+    static final int RATE_WINDOW_SECONDS = 10;
+
+    private final LongSupplier clock;
+    private final Map<String, DestinationStats> destinations = new ConcurrentHashMap<>();
+    // 세션 → (구독 ID → 목적지)
+    private final Map<String, Map<String, DestinationStats>> sessions = new ConcurrentHashMap<>();
+    private final Map<String, ThreadPoolTaskExecutor> executors = new ConcurrentHashMap<>();
+    private final LongAdder droppedSessions = new LongAdder();
+
+    @Autowired
+    public StompBrokerMetrics() {
+        this(System::currentTimeMillis);
+    }
+
+    StompBrokerMetrics(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * 채널 스레드 풀 등록 (활성 스레드 수, 대기열 길이 표시용)
+     */
+    public void monitor(String channel, ThreadPoolTaskExecutor executor) {
+        executors.put(channel, executor);
+    }
+
+    /**
+     * 클라이언트 → 서버 채널: 접속, 구독, 구독 해제
+     */
+    public ChannelInterceptor inboundInterceptor() {
+        return new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                trackSession(message.getHeaders());
+                return message;
+            }
+        };
+    }
+
+    /**
+     * 브로커 채널: 목적지로 발행된 메시지
+     */
+    public ChannelInterceptor brokerInterceptor() {
+        return new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                DestinationStats stats = messageStats(message.getHeaders());
+                if (stats != null) {
+                    stats.published.record(clock.getAsLong(), 1);
+                }
+                return message;
+            }
+        };
+    }
+
+    /**
+     * 서버 → 클라이언트 채널: 세션별 전달. 대기열에 들어가서 세션으로 보낼 때까지를 전송 대기로 센다.
+     */
+    public ChannelInterceptor outboundInterceptor() {
+        return new ExecutorChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                DestinationStats stats = messageStats(message.getHeaders());
+                if (stats != null) {
+                    stats.pending.incrementAndGet();
+                }
+                return message;
+            }
+
+            @Override
+            public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+                DestinationStats stats = messageStats(message.getHeaders());
+                if (stats != null && (!sent || ex != null)) {
+                    stats.pending.decrementAndGet();
+                    stats.rejected.increment();
+                }
+            }
+
+            @Override
+            public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler,
+                                            Exception ex) {
+                DestinationStats stats = messageStats(message.getHeaders());
+                if (stats != null) {
+                    stats.pending.decrementAndGet();
+                    stats.delivered.record(clock.getAsLong(), 1);
+                }
+            }
+        };
+    }
+
+    /**
+     * 여러 메시지를 하나로 묶어 보냈을 때 (묶인 메시지 수)
+     */
+    public void recordCoalesced(String destination, int merged) {
+        stats(destination).coalesced.add(merged);
+    }
+
+    /**
+     * 세션 종료. 전송 한도를 넘겨 서버가 끊은 세션(4500)은 구독 중이던 목적지마다 끊긴 세션으로 센다.
+     */
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, DestinationStats> subscriptions = sessions.remove(event.getSessionId());
+        if (subscriptions == null) {
+            return; // 이미 센 세션 (한도 초과가 여러 스레드에서 동시에 나면 종료 이벤트가 두 번 올 수 있음)
+        }
+        CloseStatus status = event.getCloseStatus();
+        boolean dropped = status != null && status.getCode() == CloseStatus.SESSION_NOT_RELIABLE.getCode();
+        if (dropped) {
+            droppedSessions.increment();
+            log.warn("[StompBrokerMetrics] 전송 한도 초과로 세션 종료: sessionId={}, subscriptions={}",
+                    event.getSessionId(), subscriptions.size());
+        }
+        for (DestinationStats stats : subscriptions.values()) {
+            stats.subscriptions.decrementAndGet();
+            if (dropped) {
+                stats.droppedSessions.increment();
+            }
+        }
+    }
+
+    public Snapshot snapshot() {
+        long now = clock.getAsLong();
+        List<ChannelSnapshot> channels = executors.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> channelSnapshot(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+        List<DestinationSnapshot> destinationSnapshots = destinations.values().stream()
+                .map(stats -> stats.snapshot(now))
+                .sorted(Comparator.comparingLong(DestinationSnapshot::getDelivered).reversed())
+                .collect(Collectors.toList());
+        return new Snapshot(sessions.size(), droppedSessions.sum(), channels, destinationSnapshots);
+    }
+
+    /**
+     * 목적지 패턴: 숫자 경로는 *, 유저 목적지의 세션 접미사(-user{sessionId})도 * 로 바꾼다
+     */
+    static String pattern(String destination) {
+        String[] segments = destination.split("/", -1);
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if (!segment.isEmpty() && segment.chars().allMatch(Character::isDigit)) {
+                segments[i] = "*";
+            } else {
+                int user = segment.lastIndexOf("-user");
+                if (user > 0 && user + 5 < segment.length()) {
+                    segments[i] = segment.substring(0, user) + "-user*";
+                }
+            }
+        }
+        return String.join("/", segments);
+    }
+
+    private void trackSession(MessageHeaders headers) {
+        SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(headers);
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+        if (type == null || sessionId == null) {
+            return;
+        }
+
+        if (type == SimpMessageType.CONNECT) {
+            sessions.putIfAbsent(sessionId, new ConcurrentHashMap<>());
+        } else if (type == SimpMessageType.SUBSCRIBE) {
+            String subscriptionId = SimpMessageHeaderAccessor.getSubscriptionId(headers);
+            String destination = SimpMessageHeaderAccessor.getDestination(headers);
+            if (subscriptionId == null || destination == null) {
+                return;
+            }
+            DestinationStats stats = stats(destination);
+            DestinationStats previous = sessions.computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>())
+                    .put(subscriptionId, stats);
+            if (previous != null) {
+                previous.subscriptions.decrementAndGet();
+            }
+            stats.subscriptions.incrementAndGet();
+        } else if (type == SimpMessageType.UNSUBSCRIBE) {
+            Map<String, DestinationStats> subscriptions = sessions.get(sessionId);
+            String subscriptionId = SimpMessageHeaderAccessor.getSubscriptionId(headers);
+            DestinationStats stats = subscriptions != null && subscriptionId != null
+                    ? subscriptions.remove(subscriptionId) : null;
+            if (stats != null) {
+                stats.subscriptions.decrementAndGet();
+            }
+        }
+    }
+
+    private DestinationStats messageStats(MessageHeaders headers) {
+        if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE) {
+            return null;
+        }
+        String destination = SimpMessageHeaderAccessor.getDestination(headers);
+        return destination != null ? stats(destination) : null;
+    }
+
+    private DestinationStats stats(String destination) {
+        String pattern = pattern(destination);
+        DestinationStats stats = destinations.get(pattern);
+        if (stats != null) {
+            return stats;
+        }
+        if (destinations.size() >= MAX_DESTINATIONS) {
+            pattern = OTHER;
+        }
+        return destinations.computeIfAbsent(pattern, DestinationStats::new);
+    }
+
+    private static ChannelSnapshot channelSnapshot(String channel, ThreadPoolTaskExecutor executor) {
+        ThreadPoolExecutor pool;
+        try {
+            pool = executor.getThreadPoolExecutor();
+        } catch (IllegalStateException e) {
+            return new ChannelSnapshot(channel, 0, 0, 0, 0, 0);
+        }
+        return new ChannelSnapshot(channel, pool.getPoolSize(), pool.getMaximumPoolSize(), pool.getActiveCount(),
+                pool.getQueue().size(), pool.getQueue().remainingCapacity());
+    }
+
+    private static final class DestinationStats {
+
+        private final String destination;
+        private final RateCounter published = new RateCounter();
+        private final RateCounter delivered = new RateCounter();
+        private final AtomicLong pending = new AtomicLong();
+        private final AtomicLong subscriptions = new AtomicLong();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder coalesced = new LongAdder();
+        private final LongAdder droppedSessions = new LongAdder();
+
+        private DestinationStats(String destination) {
+            this.destination = destination;
+        }
+
+        private DestinationSnapshot snapshot(long now) {
+            return new DestinationSnapshot(destination, Math.max(0, subscriptions.get()),
+                    published.total(), published.perSecond(now), delivered.total(), delivered.perSecond(now),
+                    Math.max(0, pending.get()), rejected.sum(), coalesced.sum(), droppedSessions.sum());
+        }
+    }
+
+    /**
+     * 초 단위 칸에 세어 직전 RATE_WINDOW_SECONDS 초(진행 중인 초 제외)의 평균을 낸다.
+     * 칸을 비우는 순간 함께 들어온 기록은 빠질 수 있다 (지표용 근사).
+     */
+    static final class RateCounter {
+
+        private static final int SLOTS = RATE_WINDOW_SECONDS + 1;
+
+        private final LongAdder total = new LongAdder();
+        private final AtomicLongArray counts = new AtomicLongArray(SLOTS);
+        private final AtomicLongArray seconds = new AtomicLongArray(SLOTS);
+
+        void record(long nowMillis, long count) {
+            long second = nowMillis / 1000;
+            int slot = (int) (second % SLOTS);
+            long stamped = seconds.get(slot);
+            if (stamped != second && seconds.compareAndSet(slot, stamped, second)) {
+                counts.set(slot, 0);
+            }
+            counts.addAndGet(slot, count);
+            total.add(count);
+        }
+
+        long total() {
+            return total.sum();
+        }
+
+        double perSecond(long nowMillis) {
+            long current = nowMillis / 1000;
+            long sum = 0;
+            for (int slot = 0; slot < SLOTS; slot++) {
+                long second = seconds.get(slot);
+                if (second < current && second >= current - RATE_WINDOW_SECONDS) {
+                    sum += counts.get(slot);
+                }
+            }
+            return Math.round(sum * 10.0 / RATE_WINDOW_SECONDS) / 10.0;
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Snapshot {
+        private final long sessions;
+        private final long droppedSessions;
+        private final List<ChannelSnapshot> channels;
+        private final List<DestinationSnapshot> destinations;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ChannelSnapshot {
+        private final String channel;
+        private final int poolSize;
+        private final int maxPoolSize;
+        private final int activeThreads;
+        private final int queueDepth;
+        private final int queueRemaining;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class DestinationSnapshot {
+        private final String destination;
+        private final long subscriptions;
+        private final long published;
+        private final double publishedPerSecond;
+        private final long delivered;
+        private final double deliveredPerSecond;
+        private final long queueDepth;
+        private final long rejected;
+        private final long coalesced;
+        private final long droppedSessions;
+    }
+}
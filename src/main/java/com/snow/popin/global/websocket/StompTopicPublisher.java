@@ -0,0 +1,162 @@
+package com.snow.popin.global.websocket;
+
+import com.snow.popin.global.config.WebSocketProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * STOMP 목적지 발행 (몰린 메시지 묶어 보내기)
+ *
+ * websocket.coalesce 가 켜져 있고 목적지가 패턴에 맞으면, window 안에 이어서 발행된 메시지를 JSON 배열 하나로 보낸다.
+ * 구독자마다 나가는 프레임 수가 줄어 느린 클라이언트의 전송 버퍼가 덜 쌓인다.
+ * - 조용하던 목적지의 첫 메시지는 그대로 바로 보내고, 이후 window 동안 들어온 메시지를 모은다.
+ * - window 가 끝날 때 모인 메시지가 있으면 보내고 (하나면 그대로, 여럿이면 배열로) 다음 window 를 연다.
+ *   모인 메시지가 없으면 window 를 닫는다. max-batch-size 만큼 모이면 window 를 기다리지 않고 보낸다.
+ * - 목적지별 발행 순서는 유지된다. 구독하는 클라이언트는 본문이 배열이면 원소마다 처리해야 한다.
+ * 꺼져 있거나 패턴에 맞지 않는 목적지는 바로 보낸다.
+ */
+@Slf4j
+@Component
+public class StompTopicPublisher {
+
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final StompBrokerMetrics stompBrokerMetrics;
+    private final WebSocketProperties.Coalesce properties;
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<String, Burst> bursts = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+
+    public StompTopicPublisher(SimpMessageSendingOperations messagingTemplate,
+                               StompBrokerMetrics stompBrokerMetrics,
+                               WebSocketProperties webSocketProperties) {
+        this.messagingTemplate = messagingTemplate;
+        this.stompBrokerMetrics = stompBrokerMetrics;
+        this.properties = webSocketProperties.getCoalesce();
+        this.scheduler = properties.getEnabled()
+                ? Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "stomp-coalescer");
+                    thread.setDaemon(true);
+                    return thread;
+                })
+                : null;
+    }
+
+    public void publish(String destination, Object payload) {
+        if (scheduler == null || !coalesces(destination)) {
+            messagingTemplate.convertAndSend(destination, payload);
+            return;
+        }
+
+        while (true) {
+            Burst burst = bursts.computeIfAbsent(destination, Burst::new);
+            synchronized (burst) {
+                if (burst.closed) {
+                    continue; // 방금 닫힌 window, 새로 연다
+                }
+                if (!burst.open) {
+                    burst.open = true;
+                    messagingTemplate.convertAndSend(destination, payload);
+                    schedule(burst);
+                    return;
+                }
+                burst.pending.add(payload);
+                if (burst.pending.size() >= properties.getMaxBatchSize()) {
+                    send(burst);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * 종료 시 모아 둔 메시지를 모두 보낸다
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        for (Burst burst : bursts.values()) {
+            synchronized (burst) {
+                sendQuietly(burst);
+                burst.closed = true;
+            }
+        }
+        bursts.clear();
+    }
+
+    private boolean coalesces(String destination) {
+        for (String pattern : properties.getDestinations()) {
+            if (pathMatcher.match(pattern, destination)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void schedule(Burst burst) {
+        scheduler.schedule(() -> flush(burst), properties.getWindow(), TimeUnit.MILLISECONDS);
+    }
+
+    private void flush(Burst burst) {
+        synchronized (burst) {
+            if (burst.closed) {
+                return;
+            }
+            if (burst.pending.isEmpty()) {
+                burst.closed = true;
+                bursts.remove(burst.destination, burst);
+                return;
+            }
+            sendQuietly(burst);
+            schedule(burst);
+        }
+    }
+
+    private void sendQuietly(Burst burst) {
+        try {
+            send(burst);
+        } catch (RuntimeException e) {
+            log.error("[StompTopicPublisher] 묶은 메시지 전송 실패: destination={}", burst.destination, e);
+        }
+    }
+
+    private void send(Burst burst) {
+        if (burst.pending.isEmpty()) {
+            return;
+        }
+        List<Object> batch = new ArrayList<>(burst.pending);
+        burst.pending.clear();
+        if (batch.size() == 1) {
+            messagingTemplate.convertAndSend(burst.destination, batch.get(0));
+            return;
+        }
+        messagingTemplate.convertAndSend(burst.destination, batch);
+        stompBrokerMetrics.recordCoalesced(burst.destination, batch.size());
+    }
+
+    private static final class Burst {
+
+        private final String destination;
+        private final List<Object> pending = new ArrayList<>();
+        private boolean open;       // window 진행 중 (이후 메시지는 모아서 보냄)
+        private boolean closed;     // 조용해져 맵에서 빠짐
+
+        private Burst(String destination) {
+            this.destination = destination;
+        }
+    }
+}
@@ -546,6 +546,18 @@ apiService.getPopupsInBounds = async function(southWestLat, southWestLng, northE
     return await this.get(`/map/popups/bounds?${params}`);
 };
 
+// 범위 내 팝업 클러스터 조회 (level: 카카오맵 레벨)
+apiService.getMapClusters = async function(southWestLat, southWestLng, northEastLat, northEastLng, level) {
+    const params = new URLSearchParams({
+        southWestLat,
+        southWestLng,
+        northEastLat,
+        northEastLng,
+        level
+    });
+    return await this.get(`/map/popups/clusters?${params}`);
+};
+
 // 주변 팝업 조회
 apiService.getNearbyPopups = async function(lat, lng, radiusKm = 10) {
     const params = new URLSearchParams({
@@ -710,8 +722,18 @@ apiService.rejectPopupReport = async function(reportId) {
 };
 
 // === 알림 관련 API ===
-apiService.getNotifications = async function() {
-    return await this.get('/notifications/me');
+// 알림함 (커서 기반) - cursor 는 이전 응답의 { cursorCreatedAt, cursorId }
+apiService.getNotifications = async function(cursor = {}, size = 20) {
+    const query = createQueryString({ ...cursor, size });
+    return await this.get(`/notifications/me${query}`);
+};
+
+apiService.getUnreadNotificationCount = async function() {
+    return await this.get('/notifications/me/unread-count');
+};
+
+apiService.markAllNotificationsRead = async function() {
+    return await this.post('/notifications/me/read-all');
 };
 
 apiService.markNotificationAsRead = async function(notificationId) {
@@ -775,8 +797,10 @@ apiService.getPopupStats = async function(popupId, params = {}) {
 };
 
 // === 채팅 api ===
-apiService.getChatMessages = async function(reservationId) {
-    return await this.get(`/chat/${encodeURIComponent(reservationId)}/messages`);
+// beforeId 없이 호출하면 최근 메시지, 이전 응답의 nextBeforeId 를 넘기면 그 이전 메시지
+apiService.getChatMessages = async function(reservationId, beforeId = null) {
+    const query = createQueryString({ beforeId });
+    return await this.get(`/chat/${encodeURIComponent(reservationId)}/messages${query}`);
 };
 
 // 채팅자 정보 조회 함수 추가
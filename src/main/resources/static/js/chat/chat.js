@@ -3,6 +3,8 @@ const ChatPage = {
     reservationId: null,
     userId: null,
     userNickname: null,
+    seenSeqs: new Set(), // 기록 조회와 실시간 메시지가 겹칠 때 중복 표시 방지 (방별 순번)
+    connectedOnce: false,
 
     async init() {
         const urlParams = new URLSearchParams(window.location.search);
@@ -130,17 +132,61 @@ const ChatPage = {
 
     async loadMessages() {
         try {
-            const messages = await apiService.getChatMessages(this.reservationId);
+            const page = await apiService.getChatMessages(this.reservationId);
 
-            messages.forEach(m => {
-                this.addMessage(m.senderId, m.content, m.sentAt);
+            page.messages.forEach(m => {
+                this.addMessage(m.senderId, m.content, m.sentAt, m.seq);
             });
+            this.updateLoadOlderButton(page);
             this.scrollToBottom();
         } catch (err) {
             console.error("메시지 불러오기 실패:", err);
         }
     },
 
+    // 최근 메시지 중 아직 표시하지 않은 것만 추가 (순번으로 중복 제거)
+    async loadMissedMessages() {
+        try {
+            const page = await apiService.getChatMessages(this.reservationId);
+            page.messages.forEach(m => {
+                this.addMessage(m.senderId, m.content, m.sentAt, m.seq);
+            });
+            this.scrollToBottom();
+        } catch (err) {
+            console.error("놓친 메시지 불러오기 실패:", err);
+        }
+    },
+
+    // 이전 메시지 불러오기 (커서 기반) - 위쪽에 붙이고 스크롤 위치 유지
+    async loadOlderMessages(beforeId) {
+        try {
+            const page = await apiService.getChatMessages(this.reservationId, beforeId);
+            const previousHeight = this.el.messages.scrollHeight;
+
+            page.messages.slice().reverse().forEach(m => {
+                this.addMessage(m.senderId, m.content, m.sentAt, m.seq, true);
+            });
+            this.updateLoadOlderButton(page);
+            this.el.messages.scrollTop += this.el.messages.scrollHeight - previousHeight;
+        } catch (err) {
+            console.error("이전 메시지 불러오기 실패:", err);
+        }
+    },
+
+    updateLoadOlderButton(page) {
+        this.el.messages.querySelector(".btn-load-older")?.remove();
+        if (!page.hasMore) return;
+
+        const btn = document.createElement("button");
+        btn.className = "btn-load-older";
+        btn.textContent = "이전 메시지 보기";
+        btn.addEventListener("click", () => {
+            btn.disabled = true;
+            this.loadOlderMessages(page.nextBeforeId);
+        });
+        this.el.messages.prepend(btn);
+    },
+
     connectWebSocket() {
         const socket = new SockJS("/ws");
         this.stompClient = Stomp.over(socket);
@@ -158,21 +204,34 @@ const ChatPage = {
                 this.stompClient.subscribe(
                     `/topic/reservation/${this.reservationId}`,
                     (msg) => {
-                        const payload = JSON.parse(msg.body);
-                        if (payload.error) {
-                            alert(payload.error);
-                            this.el.input.disabled = true;
-                            this.el.sendBtn.disabled = true;
-                        } else {
+                        const body = JSON.parse(msg.body);
+                        // 짧은 시간에 몰린 메시지는 서버가 배열 하나로 묶어 보낼 수 있음
+                        (Array.isArray(body) ? body : [body]).forEach(payload => {
                             this.addMessage(
                                 payload.senderId,
                                 payload.content,
-                                payload.sentAt
+                                payload.sentAt,
+                                payload.seq
                             );
-                            this.scrollToBottom();
-                        }
+                        });
+                        this.scrollToBottom();
                     }
                 );
+
+                // 전송 실패는 보낸 사람에게만 옴, 입력은 막지 않고 보내려던 내용을 되돌려 다시 보낼 수 있게 함
+                this.stompClient.subscribe("/user/queue/chat-errors", (msg) => {
+                    const payload = JSON.parse(msg.body);
+                    alert(payload.error);
+                    if (!this.el.input.value && this.lastSent) {
+                        this.el.input.value = this.lastSent;
+                    }
+                });
+
+                // 재연결이면 끊겨 있던 동안의 메시지를 채움 (느린 연결로 서버가 끊은 경우 포함)
+                if (this.connectedOnce) {
+                    this.loadMissedMessages();
+                }
+                this.connectedOnce = true;
             },
             (error) => {
                 console.error('WebSocket 연결 실패:', error);
@@ -217,11 +276,17 @@ const ChatPage = {
 
         console.log("전송:", dto);
         this.stompClient.send("/app/chat.send", {}, JSON.stringify(dto));
+        this.lastSent = content;
         this.el.input.value = "";
     },
 
     // 닉네임 제거 - 1대1 채팅이므로 메시지 내용과 시간만 표시
-    addMessage(senderId, content, sentAt) {
+    addMessage(senderId, content, sentAt, seq, prepend = false) {
+        if (seq != null) {
+            if (this.seenSeqs.has(seq)) return;
+            this.seenSeqs.add(seq);
+        }
+
         const div = document.createElement("div");
         div.className = senderId === this.userId ? "chat-message me" : "chat-message";
 
@@ -232,8 +297,12 @@ const ChatPage = {
             <div class="time">${timeText}</div>
         `;
 
-        this.el.messages.appendChild(div);
-        console.log("메시지 추가 완료:", content);
+        if (prepend) {
+            const btn = this.el.messages.querySelector(".btn-load-older");
+            btn ? btn.after(div) : this.el.messages.prepend(div);
+        } else {
+            this.el.messages.appendChild(div);
+        }
     },
 
     scrollToBottom() {
@@ -445,19 +445,39 @@ document.addEventListener('DOMContentLoaded', async () => {
             const userInfo = getUserInfo();
             if (userInfo?.userId) {
                 try {
-                    // 초기 알림 목록 조회 → 뱃지 상태 업데이트
-                    const notifications = await apiService.getNotifications();
-                    const hasUnread = notifications.some(n => !n.read);
-                    updateNotificationBadge(hasUnread);
+                    // 읽지 않은 알림 수 조회 → 뱃지 상태 업데이트
+                    await refreshNotificationBadge();
                 } catch (err) {
                     console.warn("초기 알림 조회 실패 (무시):", err);
                     // 에러 무시 - 토큰이 만료되었거나 권한이 없을 수 있음
                 }
+
+                connectNotificationStream();
             }
         }
     }
 });
 
+// === 실시간 알림 구독 (SSE) ===
+// 끊기면 브라우저가 Last-Event-ID 를 붙여 자동 재연결하고, 서버가 놓친 알림을 다시 보낸다.
+function connectNotificationStream() {
+    if (!window.EventSource) return;
+
+    const source = new EventSource('/api/notifications/subscribe', { withCredentials: true });
+    source.addEventListener('notification', () => {
+        updateNotificationBadge(true);
+    });
+    // 재전송 버퍼에 없는 알림이 있으면 읽지 않은 알림 수로 다시 확인
+    source.addEventListener('replay-gap', async () => {
+        try {
+            await refreshNotificationBadge();
+        } catch (err) {
+            console.warn("알림 재조회 실패 (무시):", err);
+        }
+    });
+    window.addEventListener('beforeunload', () => source.close());
+}
+
 // === 알림 목록 불러오기 ===
 async function showNotifications() {
     const dropdown = document.getElementById("notificationDropdown");
@@ -476,33 +496,60 @@ async function showNotifications() {
             return;
         }
 
-        try {
-            const notifications = await apiService.getNotifications();
-            listEl.innerHTML = "";
+        listEl.innerHTML = "";
+        await loadNotificationPage(listEl, {});
+    }
+}
 
-            if (!notifications || notifications.length === 0) {
-                listEl.innerHTML = "<li class='no-data'>알림이 없습니다.</li>";
-                updateNotificationBadge(false);
-                return;
-            }
+// === 알림함 페이지 불러오기 (커서 기반, "더 보기"로 다음 페이지) ===
+async function loadNotificationPage(listEl, cursor) {
+    try {
+        const page = await apiService.getNotifications(cursor);
+        const notifications = page.notifications || [];
 
-            notifications.forEach(n => {
-                const li = buildNotificationItem(n);
-                listEl.appendChild(li);
-            });
+        if (notifications.length === 0 && !cursor.cursorId) {
+            listEl.innerHTML = "<li class='no-data'>알림이 없습니다.</li>";
+            updateNotificationBadge(false);
+            return;
+        }
 
-            // 뱃지 상태 갱신
-            const hasUnread = notifications.some(n => !n.read);
-            updateNotificationBadge(hasUnread);
+        notifications.forEach(n => {
+            const li = buildNotificationItem(n);
+            listEl.appendChild(li);
+        });
 
-        } catch (err) {
-            console.error("알림 불러오기 실패:", err);
-            listEl.innerHTML =
-                "<li class='error'>알림을 불러오는 중 오류가 발생했습니다.</li>";
+        if (page.hasNext) {
+            const more = document.createElement("li");
+            more.className = "no-data";
+            more.textContent = "더 보기";
+            more.style.cursor = "pointer";
+            more.addEventListener("click", async (e) => {
+                e.stopPropagation();
+                more.remove();
+                await loadNotificationPage(listEl, {
+                    cursorCreatedAt: page.nextCursorCreatedAt,
+                    cursorId: page.nextCursorId
+                });
+            });
+            listEl.appendChild(more);
         }
+
+        // 뱃지 상태 갱신
+        updateNotificationBadge(page.unreadCount > 0);
+
+    } catch (err) {
+        console.error("알림 불러오기 실패:", err);
+        listEl.innerHTML =
+            "<li class='error'>알림을 불러오는 중 오류가 발생했습니다.</li>";
     }
 }
 
+// === 읽지 않은 알림 수로 뱃지 갱신 ===
+async function refreshNotificationBadge() {
+    const { unreadCount } = await apiService.getUnreadNotificationCount();
+    updateNotificationBadge(unreadCount > 0);
+}
+
 // === 알림 아이템 HTML 생성 ===
 function buildNotificationItem(n) {
     const li = document.createElement("li");
@@ -530,9 +577,9 @@ function buildNotificationItem(n) {
             li.classList.remove("unread");
             li.classList.add("read");
             btn.remove();
-            updateNotificationBadge(false);
 
             await apiService.markNotificationRead(n.id);
+            await refreshNotificationBadge();
         });
 
         li.appendChild(btn);
@@ -548,6 +595,7 @@ function buildNotificationItem(n) {
 
             try {
                 await apiService.markNotificationRead(n.id);
+                await refreshNotificationBadge();
             } catch (err) {
                 console.error("알림 읽음 처리 실패:", err);
             }
@@ -148,10 +148,21 @@ class MapPageManager {
         try {
             const bounds = this.map.getBounds();
             const sw = bounds.getSouthWest(), ne = bounds.getNorthEast();
-            const popups = await apiService.getPopupsInBounds(sw.getLat(), sw.getLng(), ne.getLat(), ne.getLng());
+            const result = await apiService.getMapClusters(sw.getLat(), sw.getLng(), ne.getLat(), ne.getLng(), this.map.getLevel());
 
             if (reqId !== this._reqSeq) return; // stale response
-            this.popups = popups || [];
+            if (result && result.clustered) {
+                // 축소 상태: 서버에서 집계한 클러스터만 표시
+                this.popups = [];
+                this.renderClusters(result.clusters || []);
+                if (popupList) {
+                    popupList.innerHTML = result.totalCount > 0
+                        ? `<div class="empty-state">이 지역에 팝업 ${result.totalCount}개가 있어요. 지도를 확대해 보세요</div>`
+                        : '<div class="empty-state">주변에 팝업이 없습니다</div>';
+                }
+                return;
+            }
+            this.popups = (result && result.popups) || [];
             this.renderMapMarkers(this.popups);
             // API 응답 후, 로딩 인디케이터를 새로운 팝업 리스트로 교체
             this.renderBottomSheetList(this.popups);
@@ -188,6 +199,29 @@ class MapPageManager {
         });
     }
 
+    // 클러스터 렌더링 (클릭 시 해당 위치로 확대)
+    renderClusters(clusters) {
+        if (!this.map) return;
+        this.markers.forEach(marker => marker.setMap(null));
+        this.overlays.forEach(overlay => overlay.setMap(null));
+        this.markers = []; this.overlays = [];
+
+        clusters.forEach(cluster => {
+            const position = new window.kakao.maps.LatLng(cluster.latitude, cluster.longitude);
+            const el = document.createElement('div');
+            el.className = 'popup-cluster';
+            el.title = cluster.dominantCategoryName || '';
+            el.textContent = cluster.count;
+            el.addEventListener('click', () => {
+                this.map.setLevel(Math.max(1, this.map.getLevel() - 2), { anchor: position });
+            });
+
+            const overlay = new window.kakao.maps.CustomOverlay({ position, content: el, yAnchor: 0.5 });
+            overlay.setMap(this.map);
+            this.overlays.push(overlay);
+        });
+    }
+
     // 선택된 팝업 정보 표시
     showSelectedPopup(popup) {
         const section = document.getElementById('selected-popup-section');
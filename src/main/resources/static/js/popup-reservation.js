@@ -272,12 +272,20 @@ class PopupReservationManager {
             }
             const reservationDateTime = `${this.selectedDate}T${timeString}`;
 
+            // 대기열 사용 팝업: 입장 순서가 될 때까지 대기
+            let admissionToken = null;
+            if (this.popupData.waitlistAvailable) {
+                admissionToken = await this.waitForAdmission(submitBtn);
+                submitBtn.textContent = '예약 중...';
+            }
+
             // 예약 데이터 구성
             const reservationData = {
                 name: document.getElementById('name').value.trim(),
                 phone: document.getElementById('phone').value.trim(),
                 partySize: parseInt(document.getElementById('party-size').value),
-                reservationDate: reservationDateTime
+                reservationDate: reservationDateTime,
+                admissionToken: admissionToken
             };
 
             // 예약 API 호출
@@ -317,6 +325,74 @@ class PopupReservationManager {
         }
     }
 
+    // ===== 예약 대기열 =====
+    async waitForAdmission(submitBtn) {
+        const response = await fetch(`/api/reservations/popups/${this.popupId}/queue`, {
+            method: 'POST',
+            headers: { 'Authorization': `Bearer ${apiService.getStoredToken()}` },
+            credentials: 'include'
+        });
+        if (!response.ok) {
+            const errorData = await response.json().catch(() => ({}));
+            throw new Error(errorData.message || '대기열 입장에 실패했습니다.');
+        }
+
+        const status = await response.json();
+        if (status.admitted) {
+            return status.token;
+        }
+        const queueUrl = `/api/reservations/popups/${this.popupId}/queue/${status.token}`;
+        return this.watchQueue(queueUrl, status, submitBtn);
+    }
+
+    // 대기 동안 SSE 연결 하나로 순번을 받고, 입장하거나 만료되면 닫음
+    // (끊기면 브라우저가 다시 연결하고 서버가 현재 순번부터 보냄, 서버가 거절해 닫히면 조회 API로 대체)
+    watchQueue(queueUrl, initial, submitBtn) {
+        return new Promise((resolve, reject) => {
+            const source = new EventSource(`${queueUrl}/stream`, { withCredentials: true });
+            let done = false;
+
+            const update = (status) => {
+                if (done) return;
+                if (status.admitted) {
+                    done = true;
+                    source.close();
+                    resolve(status.token);
+                } else if (status.expired) {
+                    done = true;
+                    source.close();
+                    reject(new Error('대기 시간이 만료되었습니다. 다시 시도해주세요.'));
+                } else {
+                    submitBtn.textContent = `대기 중... (앞에 ${status.position}명)`;
+                }
+            };
+
+            const poll = async () => {
+                if (done) return;
+                try {
+                    const res = await fetch(queueUrl, {
+                        headers: { 'Authorization': `Bearer ${apiService.getStoredToken()}` },
+                        credentials: 'include'
+                    });
+                    update(res.ok ? await res.json() : { expired: true });
+                } catch (e) {
+                    console.warn('대기 순번 조회 실패:', e);
+                }
+                if (!done) {
+                    setTimeout(poll, 2000);
+                }
+            };
+
+            update(initial);
+            source.addEventListener('queue-status', (e) => update(JSON.parse(e.data)));
+            source.onerror = () => {
+                if (source.readyState === EventSource.CLOSED) {
+                    poll();
+                }
+            };
+        });
+    }
+
     // ===== 결제 시작 (Payment.js 연동) =====
     initiatePayment(reservationResult, reservationData) {
         // 기존 예약 폼 숨기기
@@ -0,0 +1,101 @@
+package com.snow.popin.domain.chat.service;
+
+import com.snow.popin.domain.chat.dto.ChatHistoryResponseDto;
+import com.snow.popin.domain.chat.dto.ChatMessageDto;
+import com.snow.popin.global.config.ChatProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("채팅 최근 메시지 버퍼 테스트")
+class ChatHistoryBufferTest {
+
+    private static final Long ROOM = 10L;
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private ChatHistoryBuffer sut;
+
+    @BeforeEach
+    void setUp() {
+        ChatProperties properties = new ChatProperties();
+        properties.getHistory().setRecentSize(3);
+        properties.getHistory().setMaxRooms(2);
+        sut = new ChatHistoryBuffer(properties);
+    }
+
+    @DisplayName("DB 에서 읽은 메시지와 아직 저장되지 않은 메시지를 순번으로 합치고 중복은 한 번만")
+    @Test
+    void givenLiveMessages_whenFirstRecent_thenMergedBySeq() {
+        // Given - 4번은 저장 전, 3번은 저장되어 DB 에도 있음
+        sut.append(message(null, 3L));
+        sut.append(message(null, 4L));
+
+        // When - DB 는 최신순으로 3, 2, 1 번과 더 오래된 메시지가 있음을 알려 줌
+        ChatHistoryResponseDto recent = sut.recent(ROOM, limit -> load(
+                message(103L, 3L), message(102L, 2L), message(101L, 1L), message(100L, null)));
+
+        // Then
+        assertThat(recent.getMessages()).extracting(ChatMessageDto::getSeq).containsExactly(2L, 3L, 4L);
+        assertThat(recent.getMessages()).extracting(ChatMessageDto::getId).containsExactly(102L, 103L, null);
+        assertThat(recent.isHasMore()).isTrue();
+        assertThat(recent.getNextBeforeId()).isEqualTo(102L);
+    }
+
+    @DisplayName("한 번 채운 뒤에는 DB 를 읽지 않고, 가득 차면 오래된 메시지부터 밀려남")
+    @Test
+    void givenLoaded_whenAppend_thenRingKeepsLatest() {
+        // Given
+        sut.recent(ROOM, limit -> load(message(101L, 1L)));
+
+        // When
+        for (long seq = 2; seq <= 5; seq++) {
+            sut.append(message(null, seq));
+        }
+        sut.markPersisted(ROOM, 3L, 103L);
+        ChatHistoryResponseDto recent = sut.recent(ROOM, limit -> load());
+
+        // Then
+        assertThat(recent.getMessages()).extracting(ChatMessageDto::getSeq).containsExactly(3L, 4L, 5L);
+        assertThat(recent.isHasMore()).isTrue();
+        assertThat(recent.getNextBeforeId()).isEqualTo(103L);
+        assertThat(loads).hasValue(1);
+    }
+
+    @DisplayName("순번 도입 전 메시지는 가장 오래된 것으로 취급, 방 수를 넘으면 오래 쓰이지 않은 방부터 제거")
+    @Test
+    void givenLegacyMessages_whenRecent_thenOldestFirst() {
+        // Given
+        sut.append(message(null, 1L));
+
+        // When
+        ChatHistoryResponseDto recent = sut.recent(ROOM, limit -> load(message(51L, null), message(50L, null)));
+        sut.recent(20L, limit -> load());
+        sut.recent(30L, limit -> load());
+
+        // Then
+        assertThat(recent.getMessages()).extracting(ChatMessageDto::getId).containsExactly(50L, 51L, null);
+        assertThat(recent.isHasMore()).isFalse();
+        assertThat(sut.size()).isEqualTo(2);
+    }
+
+    private List<ChatMessageDto> load(ChatMessageDto... stored) {
+        loads.incrementAndGet();
+        return List.of(stored);
+    }
+
+    private ChatMessageDto message(Long id, Long seq) {
+        return ChatMessageDto.builder()
+                .id(id)
+                .reservationId(ROOM)
+                .senderId(1L)
+                .senderName("호스트")
+                .content("메시지")
+                .seq(seq)
+                .build();
+    }
+}
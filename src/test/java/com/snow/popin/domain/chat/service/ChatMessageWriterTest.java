@@ -0,0 +1,170 @@
+package com.snow.popin.domain.chat.service;
+
+import com.snow.popin.domain.chat.dto.PendingChatMessage;
+import com.snow.popin.domain.chat.repository.ChatMessageBatchRepository;
+import com.snow.popin.global.config.ChatProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("채팅 메시지 지연 저장 테스트")
+class ChatMessageWriterTest {
+
+    private final List<List<PendingChatMessage>> batches = new CopyOnWriteArrayList<>();
+    private ChatProperties properties;
+    private ChatMessageWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ChatProperties();
+        properties.getPersistence().setQueueCapacity(100);
+        properties.getPersistence().setBatchSize(50);
+        properties.getPersistence().setFlushInterval(20L);
+        properties.getPersistence().setOfferTimeout(10L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) {
+            writer.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("종료 시 대기열에 남은 메시지를 배치로 모두 저장하고 새 메시지는 거절")
+    void shutdown_FlushesPendingMessages() {
+        // Given - 저장 스레드를 시작하기 전에 쌓인 메시지
+        writer = writer(batches::add);
+        for (long seq = 1; seq <= 100; seq++) {
+            writer.enqueue(message(seq));
+        }
+
+        // When
+        writer.start();
+        writer.shutdown();
+
+        // Then
+        assertThat(batches).hasSizeGreaterThanOrEqualTo(2).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(50));
+        assertThat(batches.stream().mapToInt(List::size).sum()).isEqualTo(100);
+        assertThat(writer.pendingCount()).isZero();
+        assertThatThrownBy(() -> writer.enqueue(message(101)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 잠깐 기다린 뒤 실패 (메모리가 무한히 늘지 않음)")
+    void enqueue_QueueFull() {
+        // Given
+        properties.getPersistence().setQueueCapacity(2);
+        writer = writer(batches::add);
+        writer.enqueue(message(1));
+        writer.enqueue(message(2));
+
+        // When & Then
+        long started = System.nanoTime();
+        assertThatThrownBy(() -> writer.enqueue(message(3)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isLessThan(1000);
+    }
+
+    @Test
+    @DisplayName("호출한 쪽은 저장을 기다리지 않음")
+    void enqueue_DoesNotWaitForInsert() throws InterruptedException {
+        // Given - INSERT 가 멈춰 있는 상황
+        CountDownLatch slowDb = new CountDownLatch(1);
+        writer = writer(batch -> {
+            await(slowDb);
+            batches.add(batch);
+        });
+        writer.start();
+
+        // When
+        long started = System.nanoTime();
+        for (long seq = 1; seq <= 30; seq++) {
+            writer.enqueue(message(seq));
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        slowDb.countDown();
+
+        // Then
+        assertThat(elapsedMillis).isLessThan(200);
+        writer.shutdown();
+        assertThat(batches.stream().mapToInt(List::size).sum()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("배치 저장이 계속 실패하면 한 건씩 저장해 문제 있는 메시지만 버리고, 이미 저장된 메시지는 성공으로 봄")
+    void flush_FallsBackToSingleInserts() throws InterruptedException {
+        // Given
+        properties.getPersistence().setMaxAttempts(2);
+        List<Long> saved = new ArrayList<>();
+        writer = writer(batch -> {
+            if (batch.size() > 1) {
+                throw new DataIntegrityViolationException("batch failed");
+            }
+            long seq = batch.get(0).getSeq();
+            if (seq == 2) {
+                throw new DuplicateKeyException("already saved");
+            }
+            if (seq == 3) {
+                throw new DataIntegrityViolationException("content too long");
+            }
+            saved.add(seq);
+        });
+
+        // When
+        writer.flush(List.of(message(1), message(2), message(3), message(4)));
+
+        // Then
+        assertThat(saved).containsExactly(1L, 4L);
+    }
+
+    private ChatMessageWriter writer(ChatMessageBatchRepository repository) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        return new ChatMessageWriter(repository, new ChatHistoryBuffer(properties), transactionTemplate, properties);
+    }
+
+    private ChatMessageWriter writer(BatchInsert insert) {
+        ChatMessageBatchRepository repository = new ChatMessageBatchRepository(null, null) {
+            @Override
+            public List<Long> insertAll(List<PendingChatMessage> messages) {
+                insert.insertAll(new ArrayList<>(messages));
+                return List.of();
+            }
+        };
+        return writer(repository);
+    }
+
+    private PendingChatMessage message(long seq) {
+        return PendingChatMessage.of(10L, 1L, "메시지 " + seq, LocalDateTime.now(), seq);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @FunctionalInterface
+    private interface BatchInsert {
+        void insertAll(List<PendingChatMessage> messages);
+    }
+}
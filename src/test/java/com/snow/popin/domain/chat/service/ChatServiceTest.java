@@ -0,0 +1,238 @@
+package com.snow.popin.domain.chat.service;
+
+import com.snow.popin.domain.auth.constant.AuthProvider;
+import com.snow.popin.domain.chat.dto.ChatHistoryResponseDto;
+import com.snow.popin.domain.chat.dto.ChatMessageDto;
+import com.snow.popin.domain.chat.dto.PendingChatMessage;
+import com.snow.popin.domain.chat.entity.ChatMessage;
+import com.snow.popin.domain.chat.repository.ChatMessageRepository;
+import com.snow.popin.domain.space.entity.Space;
+import com.snow.popin.domain.spacereservation.entity.ReservationStatus;
+import com.snow.popin.domain.spacereservation.entity.SpaceReservation;
+import com.snow.popin.domain.spacereservation.repository.SpaceReservationRepository;
+import com.snow.popin.domain.user.constant.Role;
+import com.snow.popin.domain.user.entity.User;
+import com.snow.popin.global.config.ChatProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("채팅 서비스 테스트")
+class ChatServiceTest {
+
+    private static final Long RESERVATION_ID = 10L;
+    private static final Long HOST_ID = 1L;
+    private static final Long PROVIDER_ID = 2L;
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    @Mock
+    private SpaceReservationRepository spaceReservationRepository;
+
+    @Mock
+    private ChatMessageWriter chatMessageWriter;
+
+    private final ChatProperties chatProperties = new ChatProperties();
+    private ChatRoomRegistry chatRoomRegistry;
+    private ChatHistoryBuffer chatHistoryBuffer;
+    private ChatService chatService;
+
+    @BeforeEach
+    void setUp() {
+        chatRoomRegistry = new ChatRoomRegistry(spaceReservationRepository, chatMessageRepository);
+        chatHistoryBuffer = new ChatHistoryBuffer(chatProperties);
+        chatService = new ChatService(chatMessageRepository, chatRoomRegistry, chatMessageWriter,
+                chatHistoryBuffer, chatProperties);
+    }
+
+    @Test
+    @DisplayName("전송 - 방 정보는 한 번만 조회하고, 순번은 DB 최대 순번에서 이어서 매김")
+    void send_CachedRoomAndSequence() {
+        // Given
+        given(spaceReservationRepository.findWithMembersById(RESERVATION_ID))
+                .willReturn(Optional.of(reservation(ReservationStatus.ACCEPTED)));
+        given(chatMessageRepository.findMaxSeqByReservationId(RESERVATION_ID)).willReturn(41L);
+
+        // When
+        ChatMessageDto first = chatService.send(RESERVATION_ID, "안녕하세요", HOST_ID);
+        ChatMessageDto second = chatService.send(RESERVATION_ID, "네 반갑습니다", PROVIDER_ID);
+
+        // Then
+        assertThat(first.getSeq()).isEqualTo(42L);
+        assertThat(second.getSeq()).isEqualTo(43L);
+        assertThat(first.getSenderName()).isEqualTo("호스트");
+        assertThat(second.getSenderName()).isEqualTo("공간주인");
+        verify(spaceReservationRepository, times(1)).findWithMembersById(RESERVATION_ID);
+        verify(chatMessageRepository, times(1)).findMaxSeqByReservationId(RESERVATION_ID);
+
+        ArgumentCaptor<PendingChatMessage> queued = ArgumentCaptor.forClass(PendingChatMessage.class);
+        verify(chatMessageWriter, times(2)).enqueue(queued.capture());
+        assertThat(queued.getAllValues()).extracting(PendingChatMessage::getSeq).containsExactly(42L, 43L);
+    }
+
+    @Test
+    @DisplayName("전송 - 참여자가 아니면 실패, 순번을 쓰지 않음")
+    void send_NotMember() {
+        // Given
+        given(spaceReservationRepository.findWithMembersById(RESERVATION_ID))
+                .willReturn(Optional.of(reservation(ReservationStatus.ACCEPTED)));
+
+        // When & Then
+        assertThatThrownBy(() -> chatService.send(RESERVATION_ID, "끼어들기", 99L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("채팅방 참여자가 아닙니다.");
+        assertThat(chatService.send(RESERVATION_ID, "안녕하세요", HOST_ID).getSeq()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("전송 - 대기열이 가득 차 실패하면 순번을 건너뛰지 않음")
+    void send_QueueFullKeepsSequenceGapless() {
+        // Given
+        given(spaceReservationRepository.findWithMembersById(RESERVATION_ID))
+                .willReturn(Optional.of(reservation(ReservationStatus.ACCEPTED)));
+        willThrow(new IllegalStateException("메시지가 많아 잠시 후 다시 시도해 주세요."))
+                .willDoNothing()
+                .given(chatMessageWriter).enqueue(any());
+
+        // When & Then
+        assertThatThrownBy(() -> chatService.send(RESERVATION_ID, "첫 메시지", HOST_ID))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(chatService.send(RESERVATION_ID, "다시 보냄", HOST_ID).getSeq()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("전송 - 예약이 취소되어 무효화되면 다시 읽어 채팅 불가, 순번은 유지")
+    void send_InvalidatedRoomReloaded() {
+        // Given
+        given(spaceReservationRepository.findWithMembersById(RESERVATION_ID))
+                .willReturn(Optional.of(reservation(ReservationStatus.ACCEPTED)))
+                .willReturn(Optional.of(reservation(ReservationStatus.CANCELLED)));
+        chatService.send(RESERVATION_ID, "안녕하세요", HOST_ID);
+
+        // When
+        chatRoomRegistry.invalidate(RESERVATION_ID);
+
+        // Then
+        assertThatThrownBy(() -> chatService.send(RESERVATION_ID, "취소 후 메시지", HOST_ID))
+                .isInstanceOf(IllegalStateException.class);
+        verify(spaceReservationRepository, times(2)).findWithMembersById(RESERVATION_ID);
+        verify(chatMessageRepository, times(1)).findMaxSeqByReservationId(RESERVATION_ID);
+    }
+
+    @Test
+    @DisplayName("전송 - 없는 예약은 캐시에 남기지 않음")
+    void send_UnknownReservation() {
+        // Given
+        given(spaceReservationRepository.findWithMembersById(99L)).willReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> chatService.send(99L, "안녕하세요", HOST_ID))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(chatRoomRegistry.size()).isZero();
+        verify(chatMessageWriter, never()).enqueue(any());
+    }
+
+    @Test
+    @DisplayName("기록 - 처음 한 번만 DB 에서 최근 메시지를 읽고, 이후 입장은 버퍼에서 (보낸 메시지 포함)")
+    void getMessages_RecentFromBuffer() {
+        // Given
+        given(spaceReservationRepository.findWithMembersById(RESERVATION_ID))
+                .willReturn(Optional.of(reservation(ReservationStatus.ACCEPTED)));
+        List<ChatMessage> stored = List.of(stored(102L, PROVIDER_ID, 2L), stored(101L, HOST_ID, 1L));
+        given(chatMessageRepository.findByReservationIdOrderByIdDesc(eq(RESERVATION_ID), any(Pageable.class)))
+                .willReturn(stored);
+        given(chatMessageRepository.findMaxSeqByReservationId(RESERVATION_ID)).willReturn(2L);
+
+        // When
+        ChatHistoryResponseDto first = chatService.getMessages(RESERVATION_ID, null, null);
+        chatService.send(RESERVATION_ID, "새 메시지", HOST_ID);
+        ChatHistoryResponseDto second = chatService.getMessages(RESERVATION_ID, null, null);
+
+        // Then
+        assertThat(first.getMessages()).extracting(ChatMessageDto::getSeq).containsExactly(1L, 2L);
+        assertThat(first.getMessages()).extracting(ChatMessageDto::getSenderName).containsExactly("호스트", "공간주인");
+        assertThat(first.isHasMore()).isFalse();
+        assertThat(second.getMessages()).extracting(ChatMessageDto::getSeq).containsExactly(1L, 2L, 3L);
+        verify(chatMessageRepository, times(1)).findByReservationIdOrderByIdDesc(eq(RESERVATION_ID), any(Pageable.class));
+        verify(spaceReservationRepository, times(1)).findWithMembersById(RESERVATION_ID);
+    }
+
+    @Test
+    @DisplayName("기록 - 이전 메시지는 커서 이전 size + 1 개만 읽어 오래된 순으로")
+    void getMessages_OlderPage() {
+        // Given
+        given(spaceReservationRepository.findWithMembersById(RESERVATION_ID))
+                .willReturn(Optional.of(reservation(ReservationStatus.ACCEPTED)));
+        List<ChatMessage> rows = List.of(stored(99L, HOST_ID, null), stored(98L, PROVIDER_ID, null), stored(97L, HOST_ID, null));
+        given(chatMessageRepository.findByReservationIdAndIdLessThanOrderByIdDesc(eq(RESERVATION_ID), eq(100L), any(Pageable.class)))
+                .willReturn(rows);
+
+        // When
+        ChatHistoryResponseDto page = chatService.getMessages(RESERVATION_ID, 100L, 2);
+
+        // Then
+        ArgumentCaptor<Pageable> limit = ArgumentCaptor.forClass(Pageable.class);
+        verify(chatMessageRepository).findByReservationIdAndIdLessThanOrderByIdDesc(eq(RESERVATION_ID), eq(100L), limit.capture());
+        assertThat(limit.getValue().getPageSize()).isEqualTo(3);
+        assertThat(page.getMessages()).extracting(ChatMessageDto::getId).containsExactly(98L, 99L);
+        assertThat(page.isHasMore()).isTrue();
+        assertThat(page.getNextBeforeId()).isEqualTo(98L);
+    }
+
+    private ChatMessage stored(Long id, Long senderId, Long seq) {
+        return ChatMessage.builder()
+                .id(id)
+                .senderId(senderId)
+                .content("메시지 " + id)
+                .sentAt(LocalDateTime.of(2025, 9, 1, 12, 0).plusMinutes(id))
+                .seq(seq)
+                .build();
+    }
+
+    private SpaceReservation reservation(ReservationStatus status) {
+        User host = user(HOST_ID, "host@example.com", "호스트");
+        User provider = user(PROVIDER_ID, "provider@example.com", "공간주인");
+        Space space = Space.builder().owner(provider).title("성수 팝업 공간").build();
+        return SpaceReservation.builder()
+                .id(RESERVATION_ID)
+                .host(host)
+                .space(space)
+                .status(status)
+                .build();
+    }
+
+    private User user(Long id, String email, String nickname) {
+        User user = User.builder()
+                .email(email)
+                .password("encodedPassword")
+                .name("테스트유저")
+                .nickname(nickname)
+                .authProvider(AuthProvider.LOCAL)
+                .role(Role.USER)
+                .build();
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+}
@@ -0,0 +1,83 @@
+package com.snow.popin.domain.map;
+
+import com.snow.popin.domain.category.entity.Category;
+import com.snow.popin.domain.map.entity.Venue;
+import com.snow.popin.domain.map.service.MapPopupStatistics;
+import com.snow.popin.domain.popup.entity.Popup;
+import com.snow.popin.domain.popup.entity.PopupStatus;
+import com.snow.popin.domain.popup.repository.PopupQueryDslRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("지도 팝업 통계 테스트")
+class MapPopupStatisticsTest {
+
+    @Mock
+    private PopupQueryDslRepository popupQueryDslRepository;
+
+    @InjectMocks
+    private MapPopupStatistics mapPopupStatistics;
+
+    @Test
+    @DisplayName("최초 1회 적재 후 카테고리/지역 통계를 쿼리 없이 반환")
+    void 통계_최초적재후_메모리조회() {
+        // given
+        when(popupQueryDslRepository.findActivePopupsWithVenue()).thenReturn(List.of(
+                createPopup(1L, "서울", "패션", PopupStatus.ONGOING),
+                createPopup(2L, "서울", "뷰티", PopupStatus.PLANNED),
+                createPopup(3L, "부산", "패션", PopupStatus.ONGOING)
+        ));
+
+        // when & then
+        assertThat(mapPopupStatistics.getCategoryCounts(null)).isEqualTo(Map.of("패션", 2L, "뷰티", 1L));
+        assertThat(mapPopupStatistics.getCategoryCounts("서울")).isEqualTo(Map.of("패션", 1L, "뷰티", 1L));
+        assertThat(mapPopupStatistics.getRegionCounts()).isEqualTo(Map.of("서울", 2L, "부산", 1L));
+        assertThat(mapPopupStatistics.getActiveRegions()).containsExactly("부산", "서울");
+        verify(popupQueryDslRepository, times(1)).findActivePopupsWithVenue();
+    }
+
+    @Test
+    @DisplayName("상태 변경, 장소 이동, 삭제 시 해당 팝업 기여분만 갱신")
+    void 통계_증분갱신() {
+        // given
+        when(popupQueryDslRepository.findActivePopupsWithVenue()).thenReturn(List.of(
+                createPopup(1L, "서울", "패션", PopupStatus.ONGOING),
+                createPopup(2L, "부산", "패션", PopupStatus.ONGOING)
+        ));
+        mapPopupStatistics.getRegionCounts();
+
+        // when
+        mapPopupStatistics.upsert(createPopup(1L, "서울", "패션", PopupStatus.ENDED)); // 종료
+        mapPopupStatistics.upsert(createPopup(2L, "대구", "뷰티", PopupStatus.ONGOING)); // 이동 + 카테고리 변경
+        mapPopupStatistics.upsert(createPopup(3L, "대구", "뷰티", PopupStatus.PLANNED)); // 신규
+        mapPopupStatistics.delete(3L);
+
+        // then
+        assertThat(mapPopupStatistics.getRegionCounts()).isEqualTo(Map.of("대구", 1L));
+        assertThat(mapPopupStatistics.getCategoryCounts("전체")).isEqualTo(Map.of("뷰티", 1L));
+        assertThat(mapPopupStatistics.getCategoryCounts("서울")).isEmpty();
+        assertThat(mapPopupStatistics.getActiveRegions()).containsExactly("대구");
+    }
+
+    private Popup createPopup(Long id, String region, String categoryName, PopupStatus status) {
+        Popup popup = Popup.createForTest("팝업" + id, status, Venue.createForTest(region));
+        ReflectionTestUtils.setField(popup, "id", id);
+        Category category = Category.of(categoryName, categoryName);
+        popup.setCategory(category);
+        return popup;
+    }
+}
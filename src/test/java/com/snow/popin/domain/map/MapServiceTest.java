@@ -0,0 +1,96 @@
+package com.snow.popin.domain.map;
+
+import com.snow.popin.domain.map.dto.MapClusterResponseDto;
+import com.snow.popin.domain.map.dto.PopupMapResponseDto;
+import com.snow.popin.domain.map.repository.MapQueryDslRepository;
+import com.snow.popin.domain.map.service.MapPopupStatistics;
+import com.snow.popin.domain.map.service.MapService;
+import com.snow.popin.domain.map.service.PopupSpatialIndex;
+import com.snow.popin.domain.popup.repository.PopupQueryDslRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("지도 서비스 테스트")
+class MapServiceTest {
+
+    @Mock
+    private MapQueryDslRepository mapQueryDslRepository;
+
+    @Mock
+    private PopupQueryDslRepository popupQueryDslRepository;
+
+    @Mock
+    private PopupSpatialIndex popupSpatialIndex;
+
+    @Mock
+    private MapPopupStatistics mapPopupStatistics;
+
+    @InjectMocks
+    private MapService mapService;
+
+    @Test
+    @DisplayName("축소 레벨에서는 셀 단위 클러스터(개수, 중심, 대표 카테고리)로 집계")
+    void getClustersInBounds_클러스터집계() {
+        // given - 강남 3개(패션 2, 뷰티 1), 부산 1개
+        when(popupSpatialIndex.findInBounds(anyDouble(), anyDouble(), anyDouble(), anyDouble())).thenReturn(List.of(
+                popup(1L, 37.4979, 127.0276, "패션"),
+                popup(2L, 37.4990, 127.0280, "패션"),
+                popup(3L, 37.4985, 127.0270, "뷰티"),
+                popup(4L, 35.1796, 129.0756, "푸드")
+        ));
+
+        // when
+        MapClusterResponseDto result = mapService.getClustersInBounds(33, 124, 39, 132, 12);
+
+        // then
+        assertThat(result.isClustered()).isTrue();
+        assertThat(result.getTotalCount()).isEqualTo(4);
+        assertThat(result.getPopups()).isEmpty();
+
+        List<MapClusterResponseDto.Cluster> clusters = result.getClusters();
+        clusters.sort(Comparator.comparingInt(MapClusterResponseDto.Cluster::getCount).reversed());
+        assertThat(clusters).hasSize(2);
+        assertThat(clusters.get(0).getCount()).isEqualTo(3);
+        assertThat(clusters.get(0).getDominantCategoryName()).isEqualTo("패션");
+        assertThat(clusters.get(0).getLatitude()).isBetween(37.4979, 37.4990);
+        assertThat(clusters.get(0).getPopupId()).isNull();
+        assertThat(clusters.get(1).getPopupId()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("확대 레벨에서는 개별 마커 반환")
+    void getClustersInBounds_개별마커() {
+        // given
+        when(popupSpatialIndex.findInBounds(anyDouble(), anyDouble(), anyDouble(), anyDouble()))
+                .thenReturn(List.of(popup(1L, 37.4979, 127.0276, "패션")));
+
+        // when
+        MapClusterResponseDto result = mapService.getClustersInBounds(37.49, 127.02, 37.51, 127.04, 3);
+
+        // then
+        assertThat(result.isClustered()).isFalse();
+        assertThat(result.getClusters()).isEmpty();
+        assertThat(result.getPopups()).extracting(PopupMapResponseDto::getId).containsExactly(1L);
+    }
+
+    private PopupMapResponseDto popup(Long id, double latitude, double longitude, String categoryName) {
+        return PopupMapResponseDto.builder()
+                .id(id)
+                .latitude(latitude)
+                .longitude(longitude)
+                .categoryName(categoryName)
+                .build();
+    }
+}
@@ -0,0 +1,103 @@
+package com.snow.popin.domain.map;
+
+import com.snow.popin.domain.map.dto.PopupMapResponseDto;
+import com.snow.popin.domain.map.entity.Venue;
+import com.snow.popin.domain.map.service.PopupSpatialIndex;
+import com.snow.popin.domain.popup.entity.Popup;
+import com.snow.popin.domain.popup.entity.PopupStatus;
+import com.snow.popin.domain.popup.repository.PopupQueryDslRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("지도 공간 인덱스 테스트")
+class PopupSpatialIndexTest {
+
+    @Mock
+    private PopupQueryDslRepository popupQueryDslRepository;
+
+    @InjectMocks
+    private PopupSpatialIndex popupSpatialIndex;
+
+    @Test
+    @DisplayName("범위 조회는 최초 1회만 적재하고 이후 DB 조회 없이 응답")
+    void findInBounds_최초적재후_메모리조회() {
+        // given
+        Popup gangnam = createPopup(1L, 37.4979, 127.0276);
+        Popup hongdae = createPopup(2L, 37.5563, 126.9236);
+        Popup busan = createPopup(3L, 35.1796, 129.0756);
+        when(popupQueryDslRepository.findActivePopupsWithCoordinates()).thenReturn(List.of(gangnam, hongdae, busan));
+
+        // when
+        List<PopupMapResponseDto> seoul = popupSpatialIndex.findInBounds(37.4, 126.8, 37.7, 127.2);
+        List<PopupMapResponseDto> gangnamOnly = popupSpatialIndex.findInBounds(37.45, 127.0, 37.52, 127.05);
+
+        // then
+        assertThat(seoul).extracting(PopupMapResponseDto::getId).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(gangnamOnly).extracting(PopupMapResponseDto::getId).containsExactly(1L);
+        verify(popupQueryDslRepository, times(1)).findActivePopupsWithCoordinates();
+    }
+
+    @Test
+    @DisplayName("반경 조회는 반경 밖을 제외하고 가까운 순으로 정렬")
+    void findWithinRadius_거리순() {
+        // given - 시청 기준: 광화문(약 0.7km), 강남역(약 9km), 부산(약 325km)
+        Popup gwanghwamun = createPopup(1L, 37.5759, 126.9769);
+        Popup gangnam = createPopup(2L, 37.4979, 127.0276);
+        Popup busan = createPopup(3L, 35.1796, 129.0756);
+        when(popupQueryDslRepository.findActivePopupsWithCoordinates()).thenReturn(List.of(gangnam, busan, gwanghwamun));
+
+        // when
+        List<PopupMapResponseDto> result = popupSpatialIndex.findWithinRadius(37.5665, 126.9780, 10);
+
+        // then
+        assertThat(result).extracting(PopupMapResponseDto::getId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("상태 변경, 장소 이동, 삭제가 인덱스에 반영")
+    void upsert_delete_증분반영() {
+        // given
+        Popup popup = createPopup(1L, 37.4979, 127.0276);
+        when(popupQueryDslRepository.findActivePopupsWithCoordinates()).thenReturn(List.of(popup));
+        assertThat(popupSpatialIndex.findInBounds(37.4, 126.8, 37.7, 127.2)).hasSize(1);
+
+        // when - 부산으로 이동
+        Popup moved = createPopup(1L, 35.1796, 129.0756);
+        popupSpatialIndex.upsert(moved);
+
+        // then
+        assertThat(popupSpatialIndex.findInBounds(37.4, 126.8, 37.7, 127.2)).isEmpty();
+        assertThat(popupSpatialIndex.findWithinRadius(35.18, 129.07, 5)).hasSize(1);
+
+        // when - 종료 후 새 팝업 등록 및 삭제
+        popupSpatialIndex.upsert(createPopup(1L, 35.1796, 129.0756, PopupStatus.ENDED));
+        popupSpatialIndex.upsert(createPopup(2L, 37.5563, 126.9236));
+        popupSpatialIndex.delete(2L);
+
+        // then
+        assertThat(popupSpatialIndex.findInBounds(-90, -180, 90, 180)).isEmpty();
+    }
+
+    private Popup createPopup(Long id, double latitude, double longitude) {
+        return createPopup(id, latitude, longitude, PopupStatus.ONGOING);
+    }
+
+    private Popup createPopup(Long id, double latitude, double longitude, PopupStatus status) {
+        Popup popup = Popup.createForTest("팝업" + id, status, Venue.createForTestWithLocation("서울", latitude, longitude));
+        ReflectionTestUtils.setField(popup, "id", id);
+        return popup;
+    }
+}
@@ -0,0 +1,255 @@
+package com.snow.popin.domain.notification.service;
+
+import com.snow.popin.domain.notification.constant.NotificationType;
+import com.snow.popin.domain.notification.dto.request.NotificationCreateDto;
+import com.snow.popin.domain.notification.dto.response.NotificationPageResponseDto;
+import com.snow.popin.domain.notification.dto.response.NotificationResponseDto;
+import com.snow.popin.domain.notification.entity.Notification;
+import com.snow.popin.domain.notification.entity.NotificationSetting;
+import com.snow.popin.domain.notification.repository.NotificationBatchRepository;
+import com.snow.popin.domain.notification.repository.NotificationRepository;
+import com.snow.popin.domain.notification.repository.NotificationSettingRepository;
+import com.snow.popin.domain.user.entity.User;
+import com.snow.popin.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("알림 서비스 테스트")
+class NotificationServiceTest {
+
+    @InjectMocks
+    private NotificationService notificationService;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private NotificationSettingRepository notificationSettingRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private NotificationBatchRepository notificationBatchRepository;
+
+    @Mock
+    private NotificationDispatcher notificationDispatcher;
+
+    @Mock
+    private NotificationUnreadCounter notificationUnreadCounter;
+
+    @Test
+    @DisplayName("일괄 생성 - 설정은 한 번에 조회, 받지 않는 유저는 제외하고 한 번에 저장 후 전달")
+    void createNotifications_FiltersBySettingsInOneQuery() {
+        // Given - 1번: 예약 알림 OFF, 2번: 모두 ON, 3번: 설정 없음 (기본값)
+        NotificationSetting reservationOff = setting(1L);
+        reservationOff.disableReservation();
+        NotificationSetting allOn = setting(2L);
+        given(notificationSettingRepository.findByUserIdIn(anyCollection())).willReturn(List.of(reservationOff, allOn));
+        given(notificationBatchRepository.insertAll(anyList(), any(LocalDateTime.class))).willReturn(List.of(10L, 11L));
+
+        // When
+        List<NotificationResponseDto> created = notificationService.createNotifications(List.of(
+                request(1L, NotificationType.RESERVATION),
+                request(2L, NotificationType.RESERVATION),
+                request(3L, NotificationType.RESERVATION)));
+
+        // Then
+        verify(notificationSettingRepository, times(1)).findByUserIdIn(anyCollection());
+        verify(userRepository, never()).findById(any());
+
+        ArgumentCaptor<List<NotificationCreateDto>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(notificationBatchRepository, times(1)).insertAll(inserted.capture(), any(LocalDateTime.class));
+        assertThat(inserted.getValue()).extracting(NotificationCreateDto::getUserId).containsExactly(2L, 3L);
+
+        assertThat(created).extracting(NotificationResponseDto::getId).containsExactly(10L, 11L);
+        assertThat(created).allSatisfy(dto -> assertThat(dto.isRead()).isFalse());
+
+        ArgumentCaptor<List<NotificationDispatcher.Delivery>> deliveries = ArgumentCaptor.forClass(List.class);
+        verify(notificationDispatcher).dispatchAfterCommit(deliveries.capture());
+        assertThat(deliveries.getValue()).extracting(NotificationDispatcher.Delivery::getUserId).containsExactly(2L, 3L);
+        verify(notificationUnreadCounter).increment(List.of(2L, 3L));
+    }
+
+    @Test
+    @DisplayName("같은 알림 여러 명에게 - 중복 수신자는 한 번만")
+    void fanOut_DistinctRecipients() {
+        // Given
+        given(notificationSettingRepository.findByUserIdIn(anyCollection())).willReturn(List.of());
+        given(notificationBatchRepository.insertAll(anyList(), any(LocalDateTime.class))).willReturn(List.of(1L, 2L));
+
+        // When
+        List<NotificationResponseDto> created = notificationService.fanOut(List.of(5L, 6L, 5L),
+                "공지", "시스템 점검 안내", NotificationType.SYSTEM, "/notice");
+
+        // Then
+        ArgumentCaptor<Collection<Long>> userIds = ArgumentCaptor.forClass(Collection.class);
+        verify(notificationSettingRepository).findByUserIdIn(userIds.capture());
+        assertThat(userIds.getValue()).containsExactlyInAnyOrder(5L, 6L);
+        assertThat(created).hasSize(2);
+        assertThat(created).extracting(NotificationResponseDto::getTitle).containsOnly("공지");
+    }
+
+    @Test
+    @DisplayName("전체 알림 OFF 면 저장, 전달하지 않음")
+    void createNotification_Disabled() {
+        // Given
+        NotificationSetting disabled = setting(1L);
+        disabled.disableAll();
+        given(notificationSettingRepository.findByUserIdIn(anyCollection())).willReturn(List.of(disabled));
+
+        // When
+        NotificationResponseDto created = notificationService.createNotification(1L, "예약 확정", "예약이 확정되었습니다!",
+                NotificationType.RESERVATION, "/users/user-popup-reservation");
+
+        // Then
+        assertThat(created).isNull();
+        verify(notificationBatchRepository, never()).insertAll(anyList(), any(LocalDateTime.class));
+        verify(notificationDispatcher, never()).dispatchAfterCommit(anyList());
+    }
+
+    @Test
+    @DisplayName("알림함 첫 페이지 - size + 1 개를 읽어 다음 페이지 여부와 커서 계산")
+    void getUserNotifications_FirstPage() {
+        // Given
+        LocalDateTime base = LocalDateTime.of(2025, 9, 1, 12, 0);
+        List<Notification> rows = notifications(base, 30L, 29L, 28L, 27L);
+        given(notificationRepository.findByUserIdOrderByCreatedAtDescIdDesc(eq(1L), any(Pageable.class)))
+                .willReturn(rows);
+        given(notificationUnreadCounter.get(eq(1L), any())).willReturn(4L);
+
+        // When
+        NotificationPageResponseDto page = notificationService.getUserNotifications(1L, null, null, 3);
+
+        // Then
+        ArgumentCaptor<Pageable> limit = ArgumentCaptor.forClass(Pageable.class);
+        verify(notificationRepository).findByUserIdOrderByCreatedAtDescIdDesc(eq(1L), limit.capture());
+        assertThat(limit.getValue().getPageSize()).isEqualTo(4);
+        assertThat(limit.getValue().getOffset()).isZero();
+
+        assertThat(page.getNotifications()).extracting(NotificationResponseDto::getId).containsExactly(30L, 29L, 28L);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getNextCursorId()).isEqualTo(28L);
+        assertThat(page.getNextCursorCreatedAt()).isEqualTo(base.minusMinutes(2));
+        assertThat(page.getUnreadCount()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("알림함 다음 페이지 - 커서 이후를 offset 없이 조회, 마지막 페이지면 커서 없음")
+    void getUserNotifications_NextPage() {
+        // Given
+        LocalDateTime cursor = LocalDateTime.of(2025, 9, 1, 11, 58);
+        List<Notification> rows = notifications(cursor.minusMinutes(1), 27L);
+        given(notificationRepository.findByUserIdBefore(eq(1L), eq(cursor), eq(28L), any(Pageable.class)))
+                .willReturn(rows);
+
+        // When
+        NotificationPageResponseDto page = notificationService.getUserNotifications(1L, cursor, 28L, 3);
+
+        // Then
+        ArgumentCaptor<Pageable> limit = ArgumentCaptor.forClass(Pageable.class);
+        verify(notificationRepository).findByUserIdBefore(eq(1L), eq(cursor), eq(28L), limit.capture());
+        assertThat(limit.getValue().getOffset()).isZero();
+        assertThat(page.getNotifications()).extracting(NotificationResponseDto::getId).containsExactly(27L);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursorId()).isNull();
+        verify(notificationRepository, never()).findByUserIdOrderByCreatedAtDescIdDesc(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("알림함 - 커서는 createdAt, id 를 함께 지정해야 함")
+    void getUserNotifications_PartialCursor() {
+        assertThatThrownBy(() -> notificationService.getUserNotifications(1L, null, 28L, 20))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("읽음 처리 - 읽지 않은 알림일 때만 카운터 감소")
+    void markAsRead_DecrementsOnlyOnce() {
+        // Given
+        Notification notification = notifications(LocalDateTime.now(), 7L).get(0);
+        given(notificationRepository.findById(7L)).willReturn(Optional.of(notification));
+
+        // When
+        notificationService.markAsRead(7L);
+        notificationService.markAsRead(7L);
+
+        // Then
+        assertThat(notification.isRead()).isTrue();
+        verify(notificationUnreadCounter, times(1)).decrement(1L);
+    }
+
+    @Test
+    @DisplayName("모두 읽음 - UPDATE 한 번, 카운터 초기화")
+    void markAllAsRead_SingleUpdate() {
+        // Given
+        given(notificationRepository.markAllAsReadByUserId(eq(1L), any(LocalDateTime.class))).willReturn(12);
+
+        // When
+        int updated = notificationService.markAllAsRead(1L);
+
+        // Then
+        assertThat(updated).isEqualTo(12);
+        verify(notificationRepository, times(1)).markAllAsReadByUserId(eq(1L), any(LocalDateTime.class));
+        verify(notificationUnreadCounter).reset(1L);
+    }
+
+    private List<Notification> notifications(LocalDateTime newest, Long... ids) {
+        User user = mock(User.class);
+        lenient().when(user.getId()).thenReturn(1L);
+        return LongStream.range(0, ids.length)
+                .mapToObj(i -> {
+                    Notification notification = Notification.builder()
+                            .user(user)
+                            .title("예약 임박")
+                            .message("30분 후 예약하신 일정이 시작됩니다.")
+                            .type(NotificationType.RESERVATION)
+                            .build();
+                    ReflectionTestUtils.setField(notification, "id", ids[(int) i]);
+                    notification.setCreatedAt(newest.minusMinutes(i));
+                    return notification;
+                })
+                .collect(Collectors.toList());
+    }
+
+    private NotificationSetting setting(Long userId) {
+        User user = mock(User.class);
+        when(user.getId()).thenReturn(userId);
+        return NotificationSetting.createDefault(user);
+    }
+
+    private NotificationCreateDto request(Long userId, NotificationType type) {
+        return NotificationCreateDto.of(userId, "예약 임박", "30분 후 예약하신 일정이 시작됩니다.", type,
+                "/users/user-popup-reservation");
+    }
+}
@@ -0,0 +1,297 @@
+package com.snow.popin.domain.notification.service;
+
+import com.snow.popin.domain.notification.dto.response.NotificationResponseDto;
+import com.snow.popin.global.config.NotificationStreamProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("알림 SSE 허브 테스트")
+class NotificationStreamHubTest {
+
+    private NotificationStreamProperties properties;
+    private NotificationStreamHub hub;
+
+    // 다음에 만들 연결을 막을지, 실패시킬지
+    private volatile CountDownLatch nextBlocker;
+    private volatile boolean nextFails;
+
+    @BeforeEach
+    void setUp() {
+        properties = new NotificationStreamProperties();
+        properties.setMaxConnectionsPerUser(2);
+        properties.setQueueCapacity(4);
+        properties.setReplaySize(3);
+        createHub();
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Test
+    @DisplayName("여러 기기 - 같은 유저의 모든 연결에 전송")
+    void publish_AllConnectionsOfUser() {
+        // Given
+        RecordingEmitter tab = subscribe(1L, null);
+        RecordingEmitter phone = subscribe(1L, null);
+        RecordingEmitter other = subscribe(2L, null);
+
+        // When
+        hub.publish(1L, notification(100L));
+
+        // Then
+        await(() -> tab.notificationIds().size() == 1 && phone.notificationIds().size() == 1);
+        assertThat(tab.payloads()).extracting(NotificationResponseDto::getId).containsExactly(100L);
+        assertThat(other.notificationIds()).isEmpty();
+        assertThat(tab.comments()).contains("connected");
+    }
+
+    @Test
+    @DisplayName("재연결 - Last-Event-ID 이후 이벤트만 다시 전송")
+    void subscribe_ReplaysAfterLastEventId() {
+        // Given
+        RecordingEmitter first = subscribe(1L, null);
+        hub.publish(1L, notification(1L));
+        hub.publish(1L, notification(2L));
+        hub.publish(1L, notification(3L));
+        await(() -> first.notificationIds().size() == 3);
+        String lastSeen = first.notificationIds().get(0);
+
+        // When
+        RecordingEmitter reconnected = subscribe(1L, lastSeen);
+
+        // Then
+        await(() -> reconnected.notificationIds().size() == 2);
+        assertThat(reconnected.payloads()).extracting(NotificationResponseDto::getId).containsExactly(2L, 3L);
+        assertThat(reconnected.events()).doesNotContain(NotificationStreamHub.REPLAY_GAP_EVENT);
+    }
+
+    @Test
+    @DisplayName("재연결 - 버퍼에서 밀려난 이벤트가 있으면 replay-gap 후 남은 이벤트 전송")
+    void subscribe_ReplayGap() {
+        // Given - 마지막으로 받은 이후 버퍼 크기(3)보다 많은 알림
+        RecordingEmitter first = subscribe(1L, null);
+        hub.publish(1L, notification(1L));
+        await(() -> first.notificationIds().size() == 1);
+        String lastSeen = first.notificationIds().get(0);
+        for (long id = 2; id <= 6; id++) {
+            hub.publish(1L, notification(id));
+        }
+
+        // When
+        RecordingEmitter reconnected = subscribe(1L, lastSeen);
+
+        // Then
+        await(() -> reconnected.notificationIds().size() == 3);
+        assertThat(reconnected.events()).first().isEqualTo(NotificationStreamHub.REPLAY_GAP_EVENT);
+        assertThat(reconnected.payloads()).extracting(NotificationResponseDto::getId).containsExactly(4L, 5L, 6L);
+    }
+
+    @Test
+    @DisplayName("느린 연결 - 대기열이 차면 그 연결만 종료, 다른 연결과 호출한 쪽은 막히지 않음")
+    void publish_SlowConnectionDropped() {
+        // Given
+        CountDownLatch blocker = new CountDownLatch(1);
+        nextBlocker = blocker;
+        RecordingEmitter slow = subscribe(1L, null);
+        RecordingEmitter fast = subscribe(2L, null);
+
+        // When
+        long started = System.nanoTime();
+        for (long id = 1; id <= 10; id++) {
+            hub.publish(1L, notification(id));
+        }
+        hub.publish(2L, notification(99L));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        // Then
+        assertThat(elapsedMillis).isLessThan(500);
+        await(() -> slow.completed);
+        await(() -> fast.notificationIds().size() == 1);
+        assertThat(hub.getConnectionCount()).isEqualTo(1);
+        blocker.countDown();
+    }
+
+    @Test
+    @DisplayName("유저당 연결 수 초과 - 가장 오래된 연결 종료")
+    void subscribe_EvictsOldestConnection() {
+        // Given
+        RecordingEmitter oldest = subscribe(1L, null);
+        subscribe(1L, null);
+
+        // When
+        subscribe(1L, null);
+
+        // Then
+        assertThat(oldest.completed).isTrue();
+        assertThat(hub.getConnectionCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("하트비트 - 유휴 연결에 주석 전송, 끊긴 연결 정리")
+    void heartbeat_PingsAndCleansUp() {
+        // Given
+        RecordingEmitter alive = subscribe(1L, null);
+        await(() -> alive.comments().contains("connected"));
+        nextFails = true;
+        subscribe(2L, null);
+        await(() -> hub.getConnectionCount() == 1);
+
+        // When
+        hub.heartbeat();
+
+        // Then
+        await(() -> alive.comments().contains("ping"));
+        assertThat(hub.getConnectionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("유휴 연결 2만 개 - 구독, 하트비트, 전송이 한 노드에서 처리됨")
+    void manyIdleConnections() {
+        // Given
+        int users = 20_000;
+        List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+        for (long userId = 1; userId <= users; userId++) {
+            emitters.add(subscribe(userId, null));
+        }
+
+        // When
+        long started = System.nanoTime();
+        hub.heartbeat();
+        hub.publish(7L, notification(7L));
+        await(() -> emitters.stream().allMatch(emitter -> emitter.comments().contains("ping")));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        // Then
+        assertThat(hub.getConnectionCount()).isEqualTo(users);
+        assertThat(emitters.get(6).notificationIds()).hasSize(1);
+        assertThat(elapsedMillis).isLessThan(10_000);
+    }
+
+    private void createHub() {
+        hub = new NotificationStreamHub(properties) {
+            @Override
+            SseEmitter createEmitter(long timeoutMillis) {
+                RecordingEmitter emitter = new RecordingEmitter(nextBlocker, nextFails);
+                nextBlocker = null;
+                nextFails = false;
+                return emitter;
+            }
+        };
+    }
+
+    private RecordingEmitter subscribe(Long userId, String lastEventId) {
+        return (RecordingEmitter) hub.subscribe(userId, lastEventId);
+    }
+
+    private NotificationResponseDto notification(Long id) {
+        return NotificationResponseDto.builder()
+                .id(id)
+                .title("예약 임박")
+                .message("30분 후 예약하신 일정이 시작됩니다.")
+                .type("RESERVATION")
+                .build();
+    }
+
+    private void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("조건을 만족하지 않음");
+            }
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(e);
+            }
+        }
+    }
+
+    /**
+     * 보낸 SSE 이벤트를 텍스트로 기록하는 테스트용 Emitter
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> lines = new CopyOnWriteArrayList<>();
+        private final List<NotificationResponseDto> payloads = new CopyOnWriteArrayList<>();
+        private final CountDownLatch blocker;
+        private final boolean fails;
+        private volatile boolean completed;
+
+        private RecordingEmitter(CountDownLatch blocker, boolean fails) {
+            this.blocker = blocker;
+            this.fails = fails;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (fails) {
+                throw new IOException("Broken pipe");
+            }
+            if (blocker != null) {
+                try {
+                    blocker.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            for (ResponseBodyEmitter.DataWithMediaType data : builder.build()) {
+                if (data.getData() instanceof NotificationResponseDto) {
+                    payloads.add((NotificationResponseDto) data.getData());
+                } else {
+                    for (String line : data.getData().toString().split("\n")) {
+                        if (!line.isEmpty()) {
+                            lines.add(line);
+                        }
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        private List<String> notificationIds() {
+            return lines.stream()
+                    .filter(line -> line.startsWith("id:"))
+                    .map(line -> line.substring(3))
+                    .collect(Collectors.toList());
+        }
+
+        private List<String> events() {
+            return lines.stream()
+                    .filter(line -> line.startsWith("event:"))
+                    .map(line -> line.substring(6))
+                    .collect(Collectors.toList());
+        }
+
+        private List<String> comments() {
+            return lines.stream()
+                    .filter(line -> line.startsWith(":"))
+                    .map(line -> line.substring(1))
+                    .collect(Collectors.toList());
+        }
+
+        private List<NotificationResponseDto> payloads() {
+            return payloads;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.snow.popin.domain.notification.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("읽지 않은 알림 수 카운터 테스트")
+class NotificationUnreadCounterTest {
+
+    private final AtomicLong now = new AtomicLong(0);
+    private final AtomicInteger loads = new AtomicInteger();
+    private NotificationUnreadCounter sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new NotificationUnreadCounter(2, Duration.ofMinutes(10), now::get);
+    }
+
+    @DisplayName("한 번 센 뒤에는 생성, 읽음, 모두 읽음을 메모리에서만 반영한다")
+    @Test
+    void givenLoaded_whenChanged_thenNoReload() {
+        // Given
+        sut.get(1L, userId -> load(3));
+
+        // When & Then
+        sut.increment(List.of(1L, 1L));
+        assertThat(sut.get(1L, userId -> load(-1))).isEqualTo(5);
+
+        sut.decrement(1L);
+        assertThat(sut.get(1L, userId -> load(-1))).isEqualTo(4);
+
+        sut.reset(1L);
+        sut.decrement(1L);
+        assertThat(sut.get(1L, userId -> load(-1))).isZero();
+        assertThat(loads).hasValue(1);
+    }
+
+    @DisplayName("적재 중에 값이 바뀌면 읽어 온 값은 캐시하지 않는다")
+    @Test
+    void givenChangeDuringLoad_whenGet_thenNotCached() {
+        // When
+        long first = sut.get(1L, userId -> {
+            sut.increment(List.of(1L));
+            return load(3);
+        });
+        long second = sut.get(1L, userId -> load(4));
+
+        // Then
+        assertThat(first).isEqualTo(3);
+        assertThat(second).isEqualTo(4);
+        assertThat(loads).hasValue(2);
+    }
+
+    @DisplayName("TTL 이 지나면 다시 세고, 최대 크기를 넘으면 오래 쓰이지 않은 유저부터 밀려난다")
+    @Test
+    void givenExpiredOrEvicted_whenGet_thenReload() {
+        // Given
+        sut.get(1L, userId -> load(1));
+        sut.get(2L, userId -> load(2));
+        sut.get(1L, userId -> load(-1));
+
+        // When
+        sut.get(3L, userId -> load(3));
+        now.addAndGet(Duration.ofMinutes(10).toMillis());
+        long reloaded = sut.get(1L, userId -> load(7));
+
+        // Then
+        assertThat(sut.size()).isEqualTo(2);
+        assertThat(reloaded).isEqualTo(7);
+        assertThat(loads).hasValue(4);
+    }
+
+    private long load(long unread) {
+        loads.incrementAndGet();
+        return unread;
+    }
+}
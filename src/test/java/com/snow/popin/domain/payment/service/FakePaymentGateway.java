@@ -0,0 +1,91 @@
+package com.snow.popin.domain.payment.service;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+
+/**
+ * 테스트용 로컬 PG 서버
+ *
+ * 경로별로 돌려줄 응답을 정해 두고, 받은 요청(경로, 헤더, 본문)을 기록한다.
+ */
+class FakePaymentGateway {
+
+    private final Map<String, Integer> statuses = new ConcurrentHashMap<>();
+    private final Map<String, String> bodies = new ConcurrentHashMap<>();
+    private final List<Request> requests = new CopyOnWriteArrayList<>();
+
+    private HttpServer server;
+
+    static class Request {
+        final String path;
+        final Headers headers;
+        final String body;
+
+        Request(String path, Headers headers, String body) {
+            this.path = path;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        String header(String name) {
+            return headers.getFirst(name);
+        }
+    }
+
+    void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+
+    void stop() {
+        server.stop(0);
+    }
+
+    String url() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    void respond(String path, int status, String body) {
+        statuses.put(path, status);
+        bodies.put(path, body);
+    }
+
+    long hits(String path) {
+        return requests.stream().filter(request -> request.path.equals(path)).count();
+    }
+
+    Request lastRequest(String path) {
+        Request last = null;
+        for (Request request : requests) {
+            if (request.path.equals(path)) {
+                last = request;
+            }
+        }
+        return last;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String requestBody = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        requests.add(new Request(path, exchange.getRequestHeaders(), requestBody));
+
+        int status = statuses.getOrDefault(path, 404);
+        byte[] response = bodies.getOrDefault(path, "{}").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, response.length);
+        exchange.getResponseBody().write(response);
+        exchange.close();
+    }
+}
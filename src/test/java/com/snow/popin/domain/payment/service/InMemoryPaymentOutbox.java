@@ -0,0 +1,86 @@
+package com.snow.popin.domain.payment.service;
+
+import com.snow.popin.domain.payment.entity.PaymentOutbox;
+import com.snow.popin.domain.payment.repository.PaymentOutboxRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.lenient;
+
+/**
+ * PaymentOutboxRepository 목을 메모리 저장소처럼 동작하게 만든다.
+ */
+class InMemoryPaymentOutbox {
+
+    private final Map<Long, PaymentOutbox> rows = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    InMemoryPaymentOutbox(PaymentOutboxRepository repository) {
+        lenient().when(repository.save(any(PaymentOutbox.class)))
+                .thenAnswer(invocation -> store(invocation.getArgument(0)));
+        lenient().when(repository.saveAllAndFlush(anyList()))
+                .thenAnswer(invocation -> {
+                    List<PaymentOutbox> outboxes = invocation.getArgument(0);
+                    outboxes.forEach(this::store);
+                    return outboxes;
+                });
+        lenient().when(repository.findById(anyLong()))
+                .thenAnswer(invocation -> Optional.ofNullable(rows.get(invocation.<Long>getArgument(0))));
+        lenient().when(repository.findByIdempotencyKey(anyString()))
+                .thenAnswer(invocation -> rows.values().stream()
+                        .filter(outbox -> outbox.getIdempotencyKey().equals(invocation.getArgument(0)))
+                        .findFirst());
+        lenient().when(repository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+                        any(PaymentOutbox.Status.class), any(LocalDateTime.class), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    PaymentOutbox.Status status = invocation.getArgument(0);
+                    LocalDateTime now = invocation.getArgument(1);
+                    Pageable pageable = invocation.getArgument(2);
+                    return rows.values().stream()
+                            .filter(outbox -> outbox.getStatus() == status && !outbox.getNextAttemptAt().isAfter(now))
+                            .sorted(Comparator.comparing(PaymentOutbox::getNextAttemptAt))
+                            .limit(pageable.getPageSize())
+                            .collect(Collectors.toList());
+                });
+    }
+
+    List<PaymentOutbox> all() {
+        return new ArrayList<>(rows.values());
+    }
+
+    PaymentOutbox only(PaymentOutbox.Type type) {
+        List<PaymentOutbox> matched = rows.values().stream()
+                .filter(outbox -> outbox.getType() == type)
+                .collect(Collectors.toList());
+        if (matched.size() != 1) {
+            throw new AssertionError(type + " 아웃박스가 " + matched.size() + "건입니다.");
+        }
+        return matched.get(0);
+    }
+
+    /**
+     * 재시도 시각을 지금으로 당긴다.
+     */
+    void makeDue(PaymentOutbox outbox) {
+        ReflectionTestUtils.setField(outbox, "nextAttemptAt", LocalDateTime.now().minusSeconds(1));
+    }
+
+    private PaymentOutbox store(PaymentOutbox outbox) {
+        if (outbox.getId() == null) {
+            ReflectionTestUtils.setField(outbox, "id", sequence.incrementAndGet());
+        }
+        rows.put(outbox.getId(), outbox);
+        return outbox;
+    }
+}
@@ -0,0 +1,208 @@
+package com.snow.popin.domain.payment.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.snow.popin.domain.payment.entity.PaymentOutbox;
+import com.snow.popin.domain.payment.repository.PaymentOutboxRepository;
+import com.snow.popin.domain.popup.entity.Popup;
+import com.snow.popin.domain.popupReservation.entity.Reservation;
+import com.snow.popin.domain.popupReservation.entity.ReservationStatus;
+import com.snow.popin.domain.popupReservation.repository.ReservationRepository;
+import com.snow.popin.domain.user.entity.User;
+import com.snow.popin.global.config.OutboundHttpProperties;
+import com.snow.popin.global.config.PaymentProperties;
+import com.snow.popin.global.http.OutboundHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("결제 아웃박스 워커 테스트")
+class PaymentOutboxWorkerTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private PaymentOutboxRepository paymentOutboxRepository;
+
+    private final FakePaymentGateway gateway = new FakePaymentGateway();
+    private InMemoryPaymentOutbox outboxes;
+    private PaymentProperties paymentProperties;
+    private PaymentService paymentService;
+    private PaymentOutboxWorker worker;
+
+    private Reservation reservation;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        gateway.start();
+        outboxes = new InMemoryPaymentOutbox(paymentOutboxRepository);
+
+        paymentProperties = new PaymentProperties();
+        paymentProperties.setKakaoUrl(gateway.url());
+        paymentProperties.setNaverUrl(gateway.url() + "/naver");
+
+        OutboundHttpProperties outboundHttpProperties = new OutboundHttpProperties();
+        PaymentGatewayClient gatewayClient = new PaymentGatewayClient(
+                new OutboundHttpClient(outboundHttpProperties), paymentProperties);
+        ReflectionTestUtils.setField(gatewayClient, "kakaoPayAdminKey", "test_admin_key");
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        PaymentOutboxProcessor processor = new PaymentOutboxProcessor(paymentOutboxRepository, reservationRepository,
+                gatewayClient, paymentProperties, outboundHttpProperties, transactionTemplate, new ObjectMapper());
+        paymentService = new PaymentService(reservationRepository, paymentOutboxRepository, processor,
+                gatewayClient, transactionTemplate);
+        worker = new PaymentOutboxWorker(paymentOutboxRepository, processor, paymentProperties, transactionTemplate);
+
+        reservation = createReservation();
+        given(reservationRepository.findById(1L)).willReturn(Optional.of(reservation));
+        lenient().when(reservationRepository.save(any(Reservation.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        gateway.stop();
+    }
+
+    @Test
+    @DisplayName("환불 - 커밋 후 워커가 PG 를 호출하고 환불 완료로 변경")
+    void drain_Refund() {
+        // Given
+        reservation.markAsPaid("KAKAO_PAY", "T123456789");
+        paymentService.processRefund(1L);
+        gateway.respond("/v1/payment/cancel", 200, "{\"aid\":\"A1\",\"status\":\"CANCEL_PAYMENT\"}");
+
+        // When
+        worker.drain();
+        worker.drain();
+
+        // Then
+        assertThat(gateway.hits("/v1/payment/cancel")).isEqualTo(1);
+        assertThat(reservation.getPaymentStatus()).isEqualTo(Reservation.PaymentStatus.REFUNDED);
+
+        PaymentOutbox outbox = outboxes.only(PaymentOutbox.Type.REFUND);
+        assertThat(outbox.getStatus()).isEqualTo(PaymentOutbox.Status.COMPLETED);
+        assertThat(outbox.getResult()).isEqualTo("A1");
+    }
+
+    @Test
+    @DisplayName("승인 재시도 - PG 에 이미 반영됐으면 다시 승인하지 않고 결제 완료 처리")
+    void drain_ApproveRetry_ReconcilesWithOrderStatus() {
+        // Given - 첫 승인 호출은 결과를 알 수 없음
+        gateway.respond("/v1/payment/approve", 503, "{}");
+        paymentService.approveKakaoPayment("T123456789", "pg_token_123", 1L);
+
+        PaymentOutbox outbox = outboxes.only(PaymentOutbox.Type.APPROVE);
+        outboxes.makeDue(outbox);
+        gateway.respond("/v1/payment/order", 200, "{\"tid\":\"T123456789\",\"status\":\"SUCCESS_PAYMENT\"}");
+
+        // When
+        worker.drain();
+
+        // Then
+        assertThat(gateway.hits("/v1/payment/approve")).isEqualTo(1);
+        assertThat(gateway.hits("/v1/payment/order")).isEqualTo(1);
+        assertThat(outbox.getStatus()).isEqualTo(PaymentOutbox.Status.COMPLETED);
+        assertThat(outbox.getAttempts()).isEqualTo(2);
+        assertThat(reservation.getPaymentStatus()).isEqualTo(Reservation.PaymentStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("재시도 한도 초과 - 아웃박스 실패, 예약 결제 실패 처리")
+    void drain_MaxAttemptsExceeded() {
+        // Given
+        paymentProperties.getOutbox().setMaxAttempts(2);
+        gateway.respond("/v1/payment/approve", 503, "{}");
+        gateway.respond("/v1/payment/order", 200, "{\"status\":\"READY\"}");
+        paymentService.approveKakaoPayment("T123456789", "pg_token_123", 1L);
+
+        PaymentOutbox outbox = outboxes.only(PaymentOutbox.Type.APPROVE);
+        outboxes.makeDue(outbox);
+
+        // When
+        worker.drain();
+
+        // Then
+        assertThat(gateway.hits("/v1/payment/approve")).isEqualTo(2);
+        assertThat(outbox.getStatus()).isEqualTo(PaymentOutbox.Status.FAILED);
+        assertThat(reservation.getPaymentStatus()).isEqualTo(Reservation.PaymentStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("중단된 결제 준비 - PG 를 다시 호출하지 않고 종료, 이후 진행된 결제 상태는 유지")
+    void drain_AbandonedPrepare() {
+        // Given - 요청이 중단된 준비 건이 남아 있고, 사용자는 새 결제를 끝냄
+        reservation.markAsPaid("KAKAO_PAY", "T123456789");
+        PaymentOutbox prepare = paymentOutboxRepository.save(PaymentOutbox.claimed("PREPARE:1:test",
+                PaymentOutbox.Type.PREPARE, "KAKAO_PAY", 1L, "{}", LocalDateTime.now().minusSeconds(1)));
+
+        // When
+        worker.drain();
+
+        // Then
+        assertThat(gateway.hits("/v1/payment/ready")).isZero();
+        assertThat(prepare.getStatus()).isEqualTo(PaymentOutbox.Status.FAILED);
+        assertThat(reservation.getPaymentStatus()).isEqualTo(Reservation.PaymentStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("한 주기 처리 - 한 건씩 선점하고 처리한 뒤 다음 건을 선점")
+    void drain_ClaimsOneAtATime() {
+        // Given
+        PaymentOutbox first = paymentOutboxRepository.save(PaymentOutbox.claimed("PREPARE:1:first",
+                PaymentOutbox.Type.PREPARE, "KAKAO_PAY", 1L, "{}", LocalDateTime.now().minusSeconds(2)));
+        PaymentOutbox second = paymentOutboxRepository.save(PaymentOutbox.claimed("PREPARE:1:second",
+                PaymentOutbox.Type.PREPARE, "KAKAO_PAY", 1L, "{}", LocalDateTime.now().minusSeconds(1)));
+
+        // When
+        worker.drain();
+
+        // Then
+        assertThat(first.getStatus()).isEqualTo(PaymentOutbox.Status.FAILED);
+        assertThat(second.getStatus()).isEqualTo(PaymentOutbox.Status.FAILED);
+        verify(paymentOutboxRepository, times(3)).findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+                eq(PaymentOutbox.Status.PENDING), any(LocalDateTime.class), eq(PageRequest.of(0, 1)));
+    }
+
+    private Reservation createReservation() {
+        User mockUser = mock(User.class);
+        Popup mockPopup = mock(Popup.class);
+        lenient().when(mockUser.getId()).thenReturn(1L);
+
+        Reservation created = Reservation.builder()
+                .id(1L)
+                .popup(mockPopup)
+                .user(mockUser)
+                .name("김테스트")
+                .phone("010-1234-5678")
+                .partySize(2)
+                .reservationDate(LocalDateTime.now().plusDays(1))
+                .reservedAt(LocalDateTime.now())
+                .status(ReservationStatus.RESERVED)
+                .paymentStatus(Reservation.PaymentStatus.PENDING)
+                .paymentAmount(20000)
+                .build();
+        return created;
+    }
+}
@@ -1,32 +1,34 @@
 package com.snow.popin.domain.payment.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.snow.popin.domain.payment.dto.PaymentResponseDto;
+import com.snow.popin.domain.payment.entity.PaymentOutbox;
+import com.snow.popin.domain.payment.repository.PaymentOutboxRepository;
 import com.snow.popin.domain.popup.entity.Popup;
 import com.snow.popin.domain.popupReservation.entity.Reservation;
 import com.snow.popin.domain.popupReservation.entity.ReservationStatus;
 import com.snow.popin.domain.popupReservation.repository.ReservationRepository;
 import com.snow.popin.domain.user.entity.User;
+import com.snow.popin.global.config.OutboundHttpProperties;
+import com.snow.popin.global.config.PaymentProperties;
+import com.snow.popin.global.http.OutboundHttpClient;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.util.ReflectionTestUtils;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.lenient;
@@ -39,280 +41,297 @@ class PaymentServiceTest {
     private ReservationRepository reservationRepository;
 
     @Mock
-    private RestTemplate restTemplate;
+    private PaymentOutboxRepository paymentOutboxRepository;
 
-    @InjectMocks
+    private final FakePaymentGateway gateway = new FakePaymentGateway();
+    private InMemoryPaymentOutbox outboxes;
     private PaymentService paymentService;
 
     @BeforeEach
-    void setUp() {
-        ReflectionTestUtils.setField(paymentService, "kakaoPayAdminKey", "test_admin_key");
+    void setUp() throws IOException {
+        gateway.start();
+        outboxes = new InMemoryPaymentOutbox(paymentOutboxRepository);
+
+        PaymentProperties paymentProperties = new PaymentProperties();
+        paymentProperties.setKakaoUrl(gateway.url());
+        paymentProperties.setNaverUrl(gateway.url() + "/naver");
+
+        OutboundHttpProperties outboundHttpProperties = new OutboundHttpProperties();
+        PaymentGatewayClient gatewayClient = new PaymentGatewayClient(
+                new OutboundHttpClient(outboundHttpProperties), paymentProperties);
+        ReflectionTestUtils.setField(gatewayClient, "kakaoPayAdminKey", "test_admin_key");
+        ReflectionTestUtils.setField(gatewayClient, "naverPayClientId", "test_client_id");
+        ReflectionTestUtils.setField(gatewayClient, "naverPayClientSecret", "test_client_secret");
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        PaymentOutboxProcessor processor = new PaymentOutboxProcessor(paymentOutboxRepository, reservationRepository,
+                gatewayClient, paymentProperties, outboundHttpProperties, transactionTemplate, new ObjectMapper());
+        paymentService = new PaymentService(reservationRepository, paymentOutboxRepository, processor,
+                gatewayClient, transactionTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        gateway.stop();
     }
 
     @Test
     @DisplayName("카카오페이 결제 준비 - 성공")
     void prepareKakaoPayment_Success() {
         // Given
-        Long reservationId = 1L;
-
-        // Mock 객체들 생성
-        User mockUser = mock(User.class);
-        Popup mockPopup = mock(Popup.class);
-
-        lenient().when(mockUser.getId()).thenReturn(1L);
-        lenient().when(mockPopup.getEntryFee()).thenReturn(10000);
-        lenient().when(mockPopup.getTitle()).thenReturn("테스트 팝업");
-
-        Reservation mockReservation = Reservation.builder()
-                .id(1L)
-                .popup(mockPopup)
-                .user(mockUser)
-                .name("김테스트")
-                .phone("010-1234-5678")
-                .partySize(2)
-                .reservationDate(LocalDateTime.now().plusDays(1))
-                .reservedAt(LocalDateTime.now())
-                .status(ReservationStatus.RESERVED)
-                .paymentStatus(Reservation.PaymentStatus.PENDING)
-                .build();
-
-        // 예약 조회 Mock
-        given(reservationRepository.findById(reservationId))
-                .willReturn(Optional.of(mockReservation));
-
-        // 카카오페이 API 응답 Mock
-        Map<String, Object> kakaoResponse = new HashMap<>();
-        kakaoResponse.put("tid", "T123456789");
-        kakaoResponse.put("next_redirect_pc_url", "https://mockpay.kakao.com/redirect");
-
-        ResponseEntity<Map> responseEntity = new ResponseEntity<>(kakaoResponse, HttpStatus.OK);
-
-        given(restTemplate.exchange(
-                anyString(),
-                eq(HttpMethod.POST),
-                any(HttpEntity.class),
-                eq(Map.class)
-        )).willReturn(responseEntity);
-
-        // ReservationRepository.save() Mock
-        given(reservationRepository.save(any(Reservation.class)))
-                .willReturn(mockReservation);
+        Reservation reservation = givenReservation(1L, 10000, Reservation.PaymentStatus.PENDING);
+        gateway.respond("/v1/payment/ready", 200,
+                "{\"tid\":\"T123456789\",\"next_redirect_pc_url\":\"https://mockpay.kakao.com/redirect\"}");
 
         // When
-        PaymentResponseDto result = paymentService.prepareKakaoPayment(reservationId);
+        PaymentResponseDto result = paymentService.prepareKakaoPayment(1L);
 
         // Then
-        assertThat(result).isNotNull();
         assertThat(result.getSuccess()).isTrue();
         assertThat(result.getTid()).isEqualTo("T123456789");
         assertThat(result.getRedirectUrl()).isEqualTo("https://mockpay.kakao.com/redirect");
-        assertThat(result.getMessage()).isEqualTo("결제 준비 완료");
+        assertThat(result.getMessage()).isEqualTo("카카오페이 결제 준비 완료");
+
+        assertThat(reservation.getPaymentAmount()).isEqualTo(20000);
+        assertThat(reservation.getPaymentTid()).isEqualTo("T123456789");
+        assertThat(outboxes.only(PaymentOutbox.Type.PREPARE).getStatus()).isEqualTo(PaymentOutbox.Status.COMPLETED);
 
-        // Mock 호출 검증
-        verify(reservationRepository).findById(reservationId);
-        verify(restTemplate).exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class));
-        verify(reservationRepository, times(2)).save(any(Reservation.class));
+        FakePaymentGateway.Request request = gateway.lastRequest("/v1/payment/ready");
+        assertThat(request.header("Authorization")).isEqualTo("KakaoAK test_admin_key");
+        assertThat(request.body).contains("total_amount=20000");
     }
 
     @Test
     @DisplayName("카카오페이 결제 준비 - 예약을 찾을 수 없음")
     void prepareKakaoPayment_ReservationNotFound() {
         // Given
-        Long reservationId = 999L;
-        given(reservationRepository.findById(reservationId))
-                .willReturn(Optional.empty());
+        given(reservationRepository.findById(999L)).willReturn(Optional.empty());
 
         // When & Then
-        assertThatThrownBy(() -> paymentService.prepareKakaoPayment(reservationId))
+        assertThatThrownBy(() -> paymentService.prepareKakaoPayment(999L))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("예약을 찾을 수 없습니다.");
 
-        verify(reservationRepository).findById(reservationId);
-        verify(restTemplate, never()).exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class), any(Class.class));
+        assertThat(gateway.hits("/v1/payment/ready")).isZero();
+        assertThat(outboxes.all()).isEmpty();
     }
 
     @Test
     @DisplayName("카카오페이 결제 준비 - 무료 팝업")
     void prepareKakaoPayment_FreePopup() {
         // Given
-        Long reservationId = 1L;
-
-        // Mock 객체들 생성
-        User mockUser = mock(User.class);
-        Popup freePopup = mock(Popup.class);
-
-        given(freePopup.getEntryFee()).willReturn(0);
-
-        Reservation freeReservation = Reservation.builder()
-                .id(1L)
-                .popup(freePopup)
-                .user(mockUser)
-                .name("김테스트")
-                .phone("010-1234-5678")
-                .partySize(2)
-                .reservationDate(LocalDateTime.now().plusDays(1))
-                .reservedAt(LocalDateTime.now())
-                .status(ReservationStatus.RESERVED)
-                .paymentStatus(Reservation.PaymentStatus.PENDING)
-                .build();
-
-        given(reservationRepository.findById(reservationId))
-                .willReturn(Optional.of(freeReservation));
+        givenReservation(1L, 0, Reservation.PaymentStatus.PENDING);
 
         // When & Then
-        assertThatThrownBy(() -> paymentService.prepareKakaoPayment(reservationId))
+        assertThatThrownBy(() -> paymentService.prepareKakaoPayment(1L))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("무료 팝업은 결제가 필요하지 않습니다.");
 
-        verify(reservationRepository).findById(reservationId);
-        verify(restTemplate, never()).exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class), any(Class.class));
+        assertThat(gateway.hits("/v1/payment/ready")).isZero();
     }
 
     @Test
-    @DisplayName("카카오페이 결제 준비 - 카카오페이 API 호출 실패")
+    @DisplayName("카카오페이 결제 준비 - 카카오페이 API 거절")
     void prepareKakaoPayment_KakaoApiFailure() {
         // Given
-        Long reservationId = 1L;
-
-        // Mock 객체들 생성
-        User mockUser = mock(User.class);
-        Popup mockPopup = mock(Popup.class);
-
-        lenient().when(mockUser.getId()).thenReturn(1L);
-        lenient().when(mockPopup.getEntryFee()).thenReturn(10000);
-        lenient().when(mockPopup.getTitle()).thenReturn("테스트 팝업");
-
-        Reservation mockReservation = Reservation.builder()
-                .id(1L)
-                .popup(mockPopup)
-                .user(mockUser)
-                .name("김테스트")
-                .phone("010-1234-5678")
-                .partySize(2)
-                .reservationDate(LocalDateTime.now().plusDays(1))
-                .reservedAt(LocalDateTime.now())
-                .status(ReservationStatus.RESERVED)
-                .paymentStatus(Reservation.PaymentStatus.PENDING)
-                .build();
+        Reservation reservation = givenReservation(1L, 10000, Reservation.PaymentStatus.PENDING);
+        gateway.respond("/v1/payment/ready", 400, "{\"code\":-2,\"msg\":\"invalid request\"}");
 
-        given(reservationRepository.findById(reservationId))
-                .willReturn(Optional.of(mockReservation));
+        // When
+        PaymentResponseDto result = paymentService.prepareKakaoPayment(1L);
 
-        // 카카오페이 API 호출 시 예외 발생
-        given(restTemplate.exchange(
-                anyString(),
-                eq(HttpMethod.POST),
-                any(HttpEntity.class),
-                eq(Map.class)
-        )).willThrow(new RuntimeException("카카오페이 API 오류"));
+        // Then
+        assertThat(result.getSuccess()).isFalse();
+        assertThat(result.getMessage()).contains("결제 준비 실패");
+        assertThat(reservation.getPaymentStatus()).isEqualTo(Reservation.PaymentStatus.FAILED);
+        assertThat(outboxes.only(PaymentOutbox.Type.PREPARE).getStatus()).isEqualTo(PaymentOutbox.Status.FAILED);
+    }
 
-        given(reservationRepository.save(any(Reservation.class)))
-                .willReturn(mockReservation);
+    @Test
+    @DisplayName("카카오페이 결제 준비 - PG 응답 없음, 재시도 없이 바로 실패")
+    void prepareKakaoPayment_GatewayUnavailable() {
+        // Given
+        givenReservation(1L, 10000, Reservation.PaymentStatus.PENDING);
+        gateway.respond("/v1/payment/ready", 503, "{}");
 
         // When
-        PaymentResponseDto result = paymentService.prepareKakaoPayment(reservationId);
+        PaymentResponseDto result = paymentService.prepareKakaoPayment(1L);
 
         // Then
-        assertThat(result).isNotNull();
         assertThat(result.getSuccess()).isFalse();
-        assertThat(result.getMessage()).contains("결제 준비 실패");
-
-        verify(reservationRepository).findById(reservationId);
-        verify(restTemplate).exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class));
-        verify(reservationRepository, times(2)).save(any(Reservation.class));
+        PaymentOutbox outbox = outboxes.only(PaymentOutbox.Type.PREPARE);
+        assertThat(outbox.getStatus()).isEqualTo(PaymentOutbox.Status.FAILED);
+        assertThat(outbox.getAttempts()).isEqualTo(1);
     }
 
     @Test
-    @DisplayName("카카오페이 결제 승인 - 성공")
+    @DisplayName("카카오페이 결제 승인 - 성공, 같은 콜백이 다시 와도 PG 를 한 번만 호출")
     void approveKakaoPayment_Success() {
         // Given
-        String tid = "T123456789";
-        String pgToken = "pg_token_123";
-        Long reservationId = 1L;
+        Reservation reservation = givenReservation(1L, 10000, Reservation.PaymentStatus.PENDING);
+        gateway.respond("/v1/payment/approve", 200, "{\"aid\":\"A123456789\",\"amount\":{\"total\":20000}}");
 
-        // Mock 객체들 생성
-        User mockUser = mock(User.class);
-        Popup mockPopup = mock(Popup.class);
+        // When
+        boolean first = paymentService.approveKakaoPayment("T123456789", "pg_token_123", 1L);
+        boolean duplicate = paymentService.approveKakaoPayment("T123456789", "pg_token_123", 1L);
 
-        lenient().when(mockUser.getId()).thenReturn(1L);
+        // Then
+        assertThat(first).isTrue();
+        assertThat(duplicate).isTrue();
+        assertThat(gateway.hits("/v1/payment/approve")).isEqualTo(1);
+        assertThat(reservation.getPaymentStatus()).isEqualTo(Reservation.PaymentStatus.COMPLETED);
+        assertThat(reservation.getPaymentMethod()).isEqualTo("KAKAO_PAY");
+        assertThat(reservation.getPaymentTid()).isEqualTo("T123456789");
+    }
 
-        Reservation mockReservation = Reservation.builder()
-                .id(1L)
-                .popup(mockPopup)
-                .user(mockUser)
-                .name("김테스트")
-                .phone("010-1234-5678")
-                .partySize(2)
-                .reservationDate(LocalDateTime.now().plusDays(1))
-                .reservedAt(LocalDateTime.now())
-                .status(ReservationStatus.RESERVED)
-                .paymentStatus(Reservation.PaymentStatus.PENDING)
-                .build();
+    @Test
+    @DisplayName("카카오페이 결제 승인 - 예약을 찾을 수 없음")
+    void approveKakaoPayment_ReservationNotFound() {
+        // Given
+        given(reservationRepository.findById(999L)).willReturn(Optional.empty());
+
+        // When
+        boolean result = paymentService.approveKakaoPayment("T123456789", "pg_token_123", 999L);
+
+        // Then - 예외 대신 false 반환 검증
+        assertThat(result).isFalse();
+        assertThat(gateway.hits("/v1/payment/approve")).isZero();
+    }
 
-        given(reservationRepository.findById(reservationId))
-                .willReturn(Optional.of(mockReservation));
+    @Test
+    @DisplayName("카카오페이 결제 승인 - PG 장애면 결제 상태를 유지하고 재시도로 남김")
+    void approveKakaoPayment_GatewayUnavailable() {
+        // Given
+        Reservation reservation = givenReservation(1L, 10000, Reservation.PaymentStatus.PENDING);
+        gateway.respond("/v1/payment/approve", 503, "{}");
 
-        // 카카오페이 승인 API 응답 Mock
-        Map<String, Object> approveResponse = new HashMap<>();
-        approveResponse.put("aid", "A123456789");
-        approveResponse.put("amount", Map.of("total", 20000));
+        // When
+        boolean result = paymentService.approveKakaoPayment("T123456789", "pg_token_123", 1L);
 
-        ResponseEntity<Map> responseEntity = new ResponseEntity<>(approveResponse, HttpStatus.OK);
+        // Then
+        assertThat(result).isFalse();
+        assertThat(reservation.getPaymentStatus()).isEqualTo(Reservation.PaymentStatus.PENDING);
 
-        given(restTemplate.exchange(
-                anyString(),
-                eq(HttpMethod.POST),
-                any(HttpEntity.class),
-                eq(Map.class)
-        )).willReturn(responseEntity);
+        PaymentOutbox outbox = outboxes.only(PaymentOutbox.Type.APPROVE);
+        assertThat(outbox.getStatus()).isEqualTo(PaymentOutbox.Status.PENDING);
+        assertThat(outbox.getAttempts()).isEqualTo(1);
+        assertThat(outbox.getNextAttemptAt()).isAfter(LocalDateTime.now());
+    }
 
-        given(reservationRepository.save(any(Reservation.class)))
-                .willReturn(mockReservation);
+    @Test
+    @DisplayName("카카오페이 결제 승인 - 기록 중 워커가 먼저 완료했으면 그 결과를 반환")
+    void approveKakaoPayment_ConcurrentRecord_ReturnsWinningResult() {
+        // Given - 이쪽 호출은 응답이 없었지만, 그사이 워커가 같은 건을 승인 완료로 기록
+        givenReservation(1L, 10000, Reservation.PaymentStatus.PENDING);
+        gateway.respond("/v1/payment/approve", 503, "{}");
+        willAnswer(invocation -> {
+            PaymentOutbox outbox = invocation.getArgument(0);
+            ReflectionTestUtils.setField(outbox, "status", PaymentOutbox.Status.COMPLETED);
+            ReflectionTestUtils.setField(outbox, "result", "A123456789");
+            throw new ObjectOptimisticLockingFailureException(PaymentOutbox.class, outbox.getId());
+        }).given(paymentOutboxRepository).save(argThat(outbox -> outbox.getId() != null));
 
         // When
-        boolean result = paymentService.approveKakaoPayment(tid, pgToken, reservationId);
+        boolean result = paymentService.approveKakaoPayment("T123456789", "pg_token_123", 1L);
 
         // Then
         assertThat(result).isTrue();
-
-        verify(reservationRepository).findById(reservationId);
-        verify(restTemplate).exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class));
-        verify(reservationRepository).save(any(Reservation.class));
+        assertThat(outboxes.only(PaymentOutbox.Type.APPROVE).getStatus()).isEqualTo(PaymentOutbox.Status.COMPLETED);
     }
 
     @Test
-    @DisplayName("카카오페이 결제 승인 - 예약을 찾을 수 없음")
-    void approveKakaoPayment_ReservationNotFound() {
+    @DisplayName("네이버페이 결제 승인 - 멱등키 헤더 전송")
+    void approveNaverPayment_SendsIdempotencyKey() {
         // Given
-        String tid = "T123456789";
-        String pgToken = "pg_token_123";
-        Long reservationId = 999L;
+        Reservation reservation = givenReservation(1L, 10000, Reservation.PaymentStatus.PENDING);
+        gateway.respond("/naver/apply/payment", 200, "{\"code\":\"Success\",\"body\":{}}");
+
+        // When
+        boolean result = paymentService.approveNaverPayment("NP123", 1L);
 
-        given(reservationRepository.findById(reservationId))
-                .willReturn(Optional.empty());
+        // Then
+        assertThat(result).isTrue();
+        assertThat(reservation.getPaymentMethod()).isEqualTo("NAVER_PAY");
+        assertThat(gateway.lastRequest("/naver/apply/payment").header(PaymentGatewayClient.NAVER_IDEMPOTENCY_HEADER))
+                .isEqualTo("APPROVE:NP123");
+    }
+
+    @Test
+    @DisplayName("환불 요청 - PG 호출 없이 아웃박스에 기록하고 환불 처리중으로 변경")
+    void processRefund_QueuesOutbox() {
+        // Given
+        Reservation reservation = givenReservation(1L, 10000, Reservation.PaymentStatus.PENDING);
+        reservation.setPaymentAmount(20000);
+        reservation.markAsPaid("KAKAO_PAY", "T123456789");
 
         // When
-        boolean result = paymentService.approveKakaoPayment(tid, pgToken, reservationId);
+        boolean result = paymentService.processRefund(1L);
 
-        // Then - 예외 대신 false 반환 검증
-        assertThat(result).isFalse();
+        // Then
+        assertThat(result).isTrue();
+        assertThat(reservation.getPaymentStatus()).isEqualTo(Reservation.PaymentStatus.REFUND_REQUESTED);
+        assertThat(gateway.hits("/v1/payment/cancel")).isZero();
 
-        verify(reservationRepository).findById(reservationId);
-        verify(restTemplate, never()).exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class), any(Class.class));
+        PaymentOutbox outbox = outboxes.only(PaymentOutbox.Type.REFUND);
+        assertThat(outbox.getIdempotencyKey()).isEqualTo("REFUND:T123456789");
+        assertThat(outbox.getAttempts()).isZero();
+        assertThat(outbox.getPayload()).contains("\"cancel_amount\":20000");
     }
 
     @Test
-    @DisplayName("결제 금액 계산 - 정상")
-    void calculatePaymentAmount() {
+    @DisplayName("환불 요청 - 결제되지 않은 예약은 환불 없이 성공")
+    void processRefund_NotPaid() {
         // Given
-        Integer entryFee = 10000;
-        Integer partySize = 3;
-        Integer expectedAmount = 30000;
+        givenReservation(1L, 10000, Reservation.PaymentStatus.PENDING);
 
         // When
-        int totalAmount = entryFee * partySize;
+        boolean result = paymentService.processRefund(1L);
 
         // Then
-        assertThat(totalAmount).isEqualTo(expectedAmount);
+        assertThat(result).isTrue();
+        assertThat(outboxes.all()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("lease 가 PG 호출 제한 시간보다 짧으면 시작하지 않음")
+    void validateLease_ShorterThanGatewayTimeout() {
+        // Given
+        OutboundHttpProperties outboundHttpProperties = new OutboundHttpProperties();
+        PaymentProperties paymentProperties = new PaymentProperties();
+        paymentProperties.getOutbox().setLease(15000L);
+
+        // When & Then
+        assertThatThrownBy(() -> paymentProperties.getOutbox().validateLease(outboundHttpProperties))
+                .isInstanceOf(IllegalStateException.class);
+
+        paymentProperties.getOutbox().setLease(60000L);
+        paymentProperties.getOutbox().validateLease(outboundHttpProperties);
+    }
+
+    private Reservation givenReservation(Long reservationId, int entryFee, Reservation.PaymentStatus paymentStatus) {
+        User mockUser = mock(User.class);
+        Popup mockPopup = mock(Popup.class);
+
+        lenient().when(mockUser.getId()).thenReturn(1L);
+        lenient().when(mockPopup.getId()).thenReturn(10L);
+        lenient().when(mockPopup.getEntryFee()).thenReturn(entryFee);
+        lenient().when(mockPopup.getTitle()).thenReturn("테스트 팝업");
+
+        Reservation reservation = Reservation.builder()
+                .id(reservationId)
+                .popup(mockPopup)
+                .user(mockUser)
+                .name("김테스트")
+                .phone("010-1234-5678")
+                .partySize(2)
+                .reservationDate(LocalDateTime.now().plusDays(1))
+                .reservedAt(LocalDateTime.now())
+                .status(ReservationStatus.RESERVED)
+                .paymentStatus(paymentStatus)
+                .build();
+
+        given(reservationRepository.findById(reservationId)).willReturn(Optional.of(reservation));
+        lenient().when(reservationRepository.save(any(Reservation.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        return reservation;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,195 @@
+package com.snow.popin.domain.popup.service;
+
+import com.snow.popin.domain.map.entity.Venue;
+import com.snow.popin.domain.mypage.host.entity.Brand;
+import com.snow.popin.domain.mypage.host.repository.BrandRepository;
+import com.snow.popin.domain.popup.entity.Popup;
+import com.snow.popin.domain.popup.entity.PopupStatus;
+import com.snow.popin.domain.popup.entity.Tag;
+import com.snow.popin.domain.popup.event.PopupChangedEvent;
+import com.snow.popin.domain.popup.repository.PopupSearchQueryDslRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.BeanUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("팝업 검색 인덱스 테스트")
+class PopupSearchIndexTest {
+
+    @Mock
+    private PopupSearchQueryDslRepository popupSearchQueryDslRepository;
+
+    @Mock
+    private BrandRepository brandRepository;
+
+    @InjectMocks
+    private PopupSearchIndex popupSearchIndex;
+
+    @Test
+    @DisplayName("띄어쓰기가 달라도 부분 일치로 검색되고 최초 1회만 적재")
+    void search_부분일치_최초적재() {
+        // given
+        Popup nike = createPopup(1L, "나이키 팝업스토어", PopupStatus.ONGOING);
+        Popup adidas = createPopup(2L, "아디다스 팝업", PopupStatus.ONGOING);
+        givenIndexed(nike, adidas);
+
+        // when
+        List<Long> joined = popupSearchIndex.search("나이키팝업");
+        List<Long> partial = popupSearchIndex.search("팝업스토");
+        List<Long> none = popupSearchIndex.search("뉴발란스");
+
+        // then
+        assertThat(joined).containsExactly(1L);
+        assertThat(partial).containsExactly(1L);
+        assertThat(none).isEmpty();
+        verify(popupSearchQueryDslRepository, times(1)).findAllForSearchIndex();
+    }
+
+    @Test
+    @DisplayName("제목 일치가 태그 일치보다 먼저, 동점이면 진행중이 먼저")
+    void search_필드가중치_정렬() {
+        // given
+        Popup tagged = createPopup(1L, "여름 한정 전시", PopupStatus.ONGOING, "캐릭터");
+        Popup titledPlanned = createPopup(2L, "캐릭터 굿즈전", PopupStatus.PLANNED);
+        Popup titledOngoing = createPopup(3L, "캐릭터 굿즈전", PopupStatus.ONGOING);
+        givenIndexed(tagged, titledPlanned, titledOngoing);
+
+        // when
+        List<Long> result = popupSearchIndex.search("캐릭터");
+
+        // then
+        assertThat(result).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("제목 수정과 삭제가 인덱스에 반영")
+    void upsert_delete_증분반영() {
+        // given
+        Popup popup = createPopup(1L, "나이키 팝업스토어", PopupStatus.ONGOING);
+        givenIndexed(popup);
+        assertThat(popupSearchIndex.search("나이키")).containsExactly(1L);
+
+        // when - 제목 변경
+        popupSearchIndex.upsert(createPopup(1L, "뉴발란스 팝업스토어", PopupStatus.ONGOING));
+
+        // then
+        assertThat(popupSearchIndex.search("나이키")).isEmpty();
+        assertThat(popupSearchIndex.search("뉴발란스")).containsExactly(1L);
+
+        // when - 삭제
+        popupSearchIndex.delete(1L);
+
+        // then
+        assertThat(popupSearchIndex.search("팝업")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("여러 팝업을 한 번에 색인하면 브랜드명은 한 번만 조회")
+    void upsertAll_브랜드일괄조회() {
+        // given
+        givenIndexed();
+        popupSearchIndex.search("팝업");
+
+        Brand nike = Brand.builder().name("나이키").build();
+        ReflectionTestUtils.setField(nike, "id", 10L);
+        Brand adidas = Brand.builder().name("아디다스").build();
+        ReflectionTestUtils.setField(adidas, "id", 20L);
+        when(brandRepository.findAllById(Set.of(10L, 20L))).thenReturn(List.of(nike, adidas));
+
+        Popup first = createPopup(1L, "여름 팝업", PopupStatus.ONGOING);
+        ReflectionTestUtils.setField(first, "brandId", 10L);
+        Popup second = createPopup(2L, "겨울 팝업", PopupStatus.ONGOING);
+        ReflectionTestUtils.setField(second, "brandId", 20L);
+
+        // when
+        popupSearchIndex.upsertAll(List.of(first, second));
+
+        // then
+        assertThat(popupSearchIndex.search("나이키")).containsExactly(1L);
+        assertThat(popupSearchIndex.search("아디다스")).containsExactly(2L);
+        verify(brandRepository, times(1)).findAllById(Set.of(10L, 20L));
+    }
+
+    @Test
+    @DisplayName("장소명이 바뀌면 그 장소의 팝업이 새 장소명으로 검색")
+    void reindexVenue_장소명변경() {
+        // given
+        Venue venue = Venue.of("성수 갤러리", null, null, null, null, null, false);
+        ReflectionTestUtils.setField(venue, "id", 7L);
+        Popup popup = createPopup(1L, "여름 팝업", PopupStatus.ONGOING);
+        ReflectionTestUtils.setField(popup, "venue", venue);
+        givenIndexed(popup);
+        assertThat(popupSearchIndex.search("성수")).containsExactly(1L);
+
+        // when
+        venue.update("한남 스튜디오", null, null, null, null, null, false);
+        when(popupSearchQueryDslRepository.findAllForSearchIndexByVenueId(7L)).thenReturn(List.of(popup));
+        popupSearchIndex.reindexVenue(7L);
+
+        // then
+        assertThat(popupSearchIndex.search("성수")).isEmpty();
+        assertThat(popupSearchIndex.search("한남")).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("팝업 변경 이벤트로 수정과 삭제가 반영")
+    void onPopupChanged_이벤트반영() {
+        // given
+        givenIndexed(createPopup(1L, "나이키 팝업스토어", PopupStatus.ONGOING),
+                createPopup(2L, "아디다스 팝업", PopupStatus.ONGOING));
+        assertThat(popupSearchIndex.search("팝업")).hasSize(2);
+
+        // when
+        popupSearchIndex.onPopupChanged(PopupChangedEvent.updated(createPopup(1L, "뉴발란스 팝업스토어", PopupStatus.ONGOING)));
+        popupSearchIndex.onPopupChanged(PopupChangedEvent.deleted(2L));
+
+        // then
+        assertThat(popupSearchIndex.search("나이키")).isEmpty();
+        assertThat(popupSearchIndex.search("팝업")).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("검색어는 단어별 2-gram, 한 글자 단어는 단독일 때만 사용")
+    void queryTerms_토큰화() {
+        assertThat(PopupSearchIndex.queryTerms("나이키 팝업")).containsExactly("나이", "이키", "팝업");
+        assertThat(PopupSearchIndex.queryTerms("팝 나이키")).containsExactly("나이", "이키");
+        assertThat(PopupSearchIndex.queryTerms("팝")).containsExactly("팝");
+        assertThat(PopupSearchIndex.queryTerms("  ")).isEmpty();
+    }
+
+    private void givenIndexed(Popup... popups) {
+        when(popupSearchQueryDslRepository.findAllForSearchIndex()).thenReturn(List.of(popups));
+        lenient().when(brandRepository.findAllById(anyIterable())).thenReturn(List.of());
+    }
+
+    private Popup createPopup(Long id, String title, PopupStatus status, String... tagNames) {
+        Popup popup = Popup.createForTest(title, status, null);
+        ReflectionTestUtils.setField(popup, "id", id);
+        ReflectionTestUtils.setField(popup, "summary", null);
+
+        Set<Tag> tags = new LinkedHashSet<>();
+        for (String tagName : tagNames) {
+            Tag tag = BeanUtils.instantiateClass(Tag.class);
+            tag.setName(tagName);
+            tags.add(tag);
+        }
+        ReflectionTestUtils.setField(popup, "tags", tags);
+        return popup;
+    }
+}
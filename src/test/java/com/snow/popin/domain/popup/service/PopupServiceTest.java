@@ -29,6 +29,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -53,6 +54,15 @@ class PopupServiceTest {
     @Mock
     private UserUtil userUtil;
 
+    @Mock
+    private PopupViewCounter popupViewCounter;
+
+    @Mock
+    private PopupTrendingRanking popupTrendingRanking;
+
+    @Mock
+    private PopularPopupSnapshot popularPopupSnapshot;
+
     @InjectMocks
     private PopupService popupService;
 
@@ -81,25 +91,50 @@ class PopupServiceTest {
     }
 
     @Test
-    @DisplayName("인기 팝업 조회 - 조회수 기준")
+    @DisplayName("인기 팝업 조회 - 트렌딩 점수가 없으면 누적 조회수 스냅샷 순, 정렬 쿼리 없음")
     void getPopularPopups_조회수기준_테스트() {
         // given
-        PopupStatus status = PopupStatus.ONGOING;
         List<Popup> popups = Arrays.asList(
-                createMockPopupWithViewCount(1L, "인기 팝업1", 1000L),
-                createMockPopupWithViewCount(2L, "인기 팝업2", 500L)
+                createMockPopupWithViewCount(2L, "인기 팝업2", 500L),
+                createMockPopupWithViewCount(1L, "인기 팝업1", 1000L)
         );
-        Page<Popup> pageResult = new PageImpl<>(popups);
 
-        when(popupQueryDslRepository.findPopularActivePopups(any(Pageable.class)))
-                .thenReturn(pageResult);
+        when(popupTrendingRanking.getTopPopupIds()).thenReturn(List.of());
+        when(popularPopupSnapshot.getPopupIds()).thenReturn(List.of(1L, 2L));
+        when(popupQueryDslRepository.findByIdIn(List.of(1L, 2L))).thenReturn(popups);
 
         // when
         PopupListResponseDto result = popupService.getPopularPopups(0, 20);
 
         // then
-        assertThat(result.getPopups()).hasSize(2);
-        verify(popupQueryDslRepository).findPopularActivePopups(any(Pageable.class));
+        assertThat(result.getPopups()).extracting(PopupSummaryResponseDto::getId)
+                .containsExactly(1L, 2L);
+        verify(popupQueryDslRepository, never()).findPopularActivePopups(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("인기 팝업 조회 - 트렌딩 랭킹 순, 종료 팝업 제외 후 누적 조회수로 보충")
+    void getPopularPopups_트렌딩랭킹_테스트() {
+        // given
+        Popup trending1 = createMockPopupForSummary(3L, "트렌딩1", PopupStatus.ONGOING);
+        Popup trending2 = createMockPopupForSummary(1L, "트렌딩2", PopupStatus.PLANNED);
+        Popup ended = mock(Popup.class);
+        when(ended.getId()).thenReturn(7L);
+        when(ended.getStatus()).thenReturn(PopupStatus.ENDED);
+        Popup backfill = createMockPopupForSummary(9L, "누적 인기", PopupStatus.ONGOING);
+
+        when(popupTrendingRanking.getTopPopupIds()).thenReturn(List.of(3L, 7L, 1L));
+        when(popularPopupSnapshot.getPopupIds()).thenReturn(List.of(1L, 9L));
+        when(popupQueryDslRepository.findByIdIn(List.of(3L, 7L, 1L, 9L)))
+                .thenReturn(Arrays.asList(trending2, backfill, ended, trending1));
+
+        // when
+        PopupListResponseDto result = popupService.getPopularPopups(0, 20);
+
+        // then
+        assertThat(result.getPopups()).extracting(PopupSummaryResponseDto::getId)
+                .containsExactly(3L, 1L, 9L);
+        assertThat(result.getTotalElements()).isEqualTo(3);
     }
 
     @Test
@@ -234,9 +269,9 @@ class PopupServiceTest {
                 createMockPopupWithViewCount(1L, "인기 팝업1", 1000L),
                 createMockPopupWithViewCount(2L, "인기 팝업2", 500L)
         );
-        Page<Popup> pageResult = new PageImpl<>(popularPopups);
-        when(popupQueryDslRepository.findPopularActivePopups(any(Pageable.class)))
-                .thenReturn(pageResult);
+        List<Long> popularIds = popularPopups.stream().map(Popup::getId).collect(Collectors.toList());
+        when(popularPopupSnapshot.getPopupIds()).thenReturn(popularIds);
+        when(popupQueryDslRepository.findByIdIn(popularIds)).thenReturn(popularPopups);
 
         // when
         PopupListResponseDto result = popupService.getAIRecommendedPopups(0, 10);
@@ -246,7 +281,7 @@ class PopupServiceTest {
         verify(userUtil).isAuthenticated();
         verify(userUtil, never()).getCurrentUserId();
         verify(aiRecommendationService, never()).getPersonalizedRecommendations(anyLong(), anyInt());
-        verify(popupQueryDslRepository).findPopularActivePopups(any(Pageable.class));
+        verify(popupQueryDslRepository).findByIdIn(anyList());
     }
 
     @Test
@@ -266,9 +301,9 @@ class PopupServiceTest {
         List<Popup> popularPopups = Arrays.asList(
                 createMockPopupWithViewCount(1L, "인기 팝업", 1000L)
         );
-        Page<Popup> pageResult = new PageImpl<>(popularPopups);
-        when(popupQueryDslRepository.findPopularActivePopups(any(Pageable.class)))
-                .thenReturn(pageResult);
+        List<Long> popularIds = popularPopups.stream().map(Popup::getId).collect(Collectors.toList());
+        when(popularPopupSnapshot.getPopupIds()).thenReturn(popularIds);
+        when(popupQueryDslRepository.findByIdIn(popularIds)).thenReturn(popularPopups);
 
         // when
         PopupListResponseDto result = popupService.getAIRecommendedPopups(0, 10);
@@ -276,7 +311,7 @@ class PopupServiceTest {
         // then
         assertThat(result.getPopups()).hasSize(1);
         verify(aiRecommendationService).getPersonalizedRecommendations(userId, 10);
-        verify(popupQueryDslRepository).findPopularActivePopups(any(Pageable.class));
+        verify(popupQueryDslRepository).findByIdIn(anyList());
     }
 
     @Test
@@ -295,16 +330,16 @@ class PopupServiceTest {
         List<Popup> popularPopups = Arrays.asList(
                 createMockPopupWithViewCount(1L, "대체 인기 팝업", 1000L)
         );
-        Page<Popup> pageResult = new PageImpl<>(popularPopups);
-        when(popupQueryDslRepository.findPopularActivePopups(any(Pageable.class)))
-                .thenReturn(pageResult);
+        List<Long> popularIds = popularPopups.stream().map(Popup::getId).collect(Collectors.toList());
+        when(popularPopupSnapshot.getPopupIds()).thenReturn(popularIds);
+        when(popupQueryDslRepository.findByIdIn(popularIds)).thenReturn(popularPopups);
 
         // when
         PopupListResponseDto result = popupService.getAIRecommendedPopups(0, 10);
 
         // then
         assertThat(result.getPopups()).hasSize(1);
-        verify(popupQueryDslRepository).findPopularActivePopups(any(Pageable.class));
+        verify(popupQueryDslRepository).findByIdIn(anyList());
     }
 
     @Test
@@ -356,6 +391,7 @@ class PopupServiceTest {
 
         when(popupRepository.findByIdWithDetails(popupId))
                 .thenReturn(Optional.of(popup));
+        when(popupViewCounter.getPending(popupId)).thenReturn(3L);
 
         // when
         PopupDetailResponseDto result = popupService.getPopupDetail(popupId);
@@ -363,7 +399,10 @@ class PopupServiceTest {
         // then
         assertThat(result.getId()).isEqualTo(popupId);
         assertThat(result.getTitle()).isEqualTo("상세 팝업");
-        verify(popup).incrementViewCount(); // 조회수 증가 확인
+        assertThat(result.getViewCount()).isEqualTo(253L); // DB 조회수 + 반영 대기 조회수
+        verify(popupViewCounter).increment(popupId); // 조회수 증가 확인
+        verify(popup, never()).incrementViewCount();
+        verify(popupRepository, never()).save(any());
         verify(popupRepository).findByIdWithDetails(popupId);
     }
 
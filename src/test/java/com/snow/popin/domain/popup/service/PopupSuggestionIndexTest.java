@@ -0,0 +1,126 @@
+package com.snow.popin.domain.popup.service;
+
+import com.snow.popin.domain.popup.dto.response.AutocompleteSuggestionDto;
+import com.snow.popin.domain.popup.entity.Popup;
+import com.snow.popin.domain.popup.entity.PopupStatus;
+import com.snow.popin.domain.popup.entity.Tag;
+import com.snow.popin.domain.popup.repository.PopupSearchQueryDslRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.BeanUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("자동완성 인덱스 테스트")
+class PopupSuggestionIndexTest {
+
+    @Mock
+    private PopupSearchQueryDslRepository popupSearchQueryDslRepository;
+
+    @InjectMocks
+    private PopupSuggestionIndex popupSuggestionIndex;
+
+    @Test
+    @DisplayName("접두어 일치를 인기도순으로 먼저, 중간 일치를 뒤에 제안하고 최초 1회만 적재")
+    void suggest_접두어_중간일치() {
+        // given
+        Popup nikeStore = createPopup(1L, "나이키 스토어", 10L);
+        Popup nikeRun = createPopup(2L, "나이키 런닝 팝업", 300L);
+        Popup special = createPopup(3L, "스페셜 나이키 굿즈", 1000L);
+        Popup nikon = createPopup(4L, "나이스 카메라", 0L);
+        when(popupSearchQueryDslRepository.findAllForSearchIndex()).thenReturn(List.of(nikeStore, nikeRun, special, nikon));
+
+        // when
+        List<AutocompleteSuggestionDto> nike = popupSuggestionIndex.suggest("나이키", 8);
+        List<AutocompleteSuggestionDto> nai = popupSuggestionIndex.suggest("나이", 8);
+
+        // then
+        assertThat(nike).extracting(AutocompleteSuggestionDto::getText)
+                .containsExactly("나이키 런닝 팝업", "나이키 스토어", "스페셜 나이키 굿즈");
+        assertThat(nai).extracting(AutocompleteSuggestionDto::getText)
+                .containsExactly("나이키 런닝 팝업", "나이키 스토어", "나이스 카메라", "스페셜 나이키 굿즈");
+        verify(popupSearchQueryDslRepository, times(1)).findAllForSearchIndex();
+    }
+
+    @Test
+    @DisplayName("태그는 사용하는 팝업의 인기도를 합산하고, 제목과 같은 글자는 한 번만 제안")
+    void suggest_태그_인기도합산() {
+        // given
+        Popup first = createPopup(1L, "여름 전시", 5L, "캐릭터");
+        Popup second = createPopup(2L, "가을 전시", 5L, "캐릭터");
+        Popup title = createPopup(3L, "캐릭터 굿즈", 8L, "캐릭터 굿즈");
+        when(popupSearchQueryDslRepository.findAllForSearchIndex()).thenReturn(List.of(first, second, title));
+
+        // when
+        List<AutocompleteSuggestionDto> result = popupSuggestionIndex.suggest("캐릭", 8);
+
+        // then
+        assertThat(result).extracting(AutocompleteSuggestionDto::getText).containsExactly("캐릭터", "캐릭터 굿즈");
+        assertThat(result.get(0).getType()).isEqualTo("tag");
+        assertThat(result.get(0).getPopularity()).isEqualTo(12L);
+    }
+
+    @Test
+    @DisplayName("제목 변경, 조회수 반영, 삭제가 제안에 반영")
+    void upsert_addViews_delete_증분반영() {
+        // given
+        Popup store = createPopup(1L, "나이키 스토어", 10L);
+        Popup run = createPopup(2L, "나이키 런닝", 50L);
+        when(popupSearchQueryDslRepository.findAllForSearchIndex()).thenReturn(List.of(store, run));
+        assertThat(popupSuggestionIndex.suggest("나이키", 8)).extracting(AutocompleteSuggestionDto::getText)
+                .containsExactly("나이키 런닝", "나이키 스토어");
+
+        // when - 조회수 반영으로 순위 역전
+        popupSuggestionIndex.addViews(Map.of(1L, 100L));
+
+        // then
+        assertThat(popupSuggestionIndex.suggest("나이키", 8)).extracting(AutocompleteSuggestionDto::getText)
+                .containsExactly("나이키 스토어", "나이키 런닝");
+
+        // when - 제목 변경
+        popupSuggestionIndex.upsert(createPopup(1L, "나이스 스토어", 110L));
+
+        // then
+        assertThat(popupSuggestionIndex.suggest("나이키", 8)).extracting(AutocompleteSuggestionDto::getText)
+                .containsExactly("나이키 런닝");
+        assertThat(popupSuggestionIndex.suggest("나이", 8)).extracting(AutocompleteSuggestionDto::getText)
+                .containsExactly("나이스 스토어", "나이키 런닝");
+
+        // when - 삭제
+        popupSuggestionIndex.delete(2L);
+
+        // then
+        assertThat(popupSuggestionIndex.suggest("나이", 8)).extracting(AutocompleteSuggestionDto::getText)
+                .containsExactly("나이스 스토어");
+        assertThat(popupSuggestionIndex.suggest("런닝", 8)).isEmpty();
+    }
+
+    private Popup createPopup(Long id, String title, Long viewCount, String... tagNames) {
+        Popup popup = Popup.createForTest(title, PopupStatus.ONGOING, null);
+        ReflectionTestUtils.setField(popup, "id", id);
+        popup.setViewCountForTest(viewCount);
+
+        Set<Tag> tags = new LinkedHashSet<>();
+        for (String tagName : tagNames) {
+            Tag tag = BeanUtils.instantiateClass(Tag.class);
+            tag.setName(tagName);
+            tags.add(tag);
+        }
+        ReflectionTestUtils.setField(popup, "tags", tags);
+        return popup;
+    }
+}
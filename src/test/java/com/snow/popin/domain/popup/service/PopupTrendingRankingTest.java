@@ -0,0 +1,75 @@
+package com.snow.popin.domain.popup.service;
+
+import com.snow.popin.domain.popup.service.PopupTrendingRanking.Signal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PopupTrendingRankingTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private PopupTrendingRanking ranking;
+
+    @BeforeEach
+    void setUp() {
+        ranking = new PopupTrendingRanking(now::get);
+    }
+
+    @Test
+    @DisplayName("이벤트 가중치 합계 순으로 정렬")
+    void refresh_가중치순_정렬() {
+        // given
+        ranking.record(1L, Signal.VIEW);
+        ranking.record(1L, Signal.VIEW);
+        ranking.record(2L, Signal.RESERVATION);
+        ranking.record(3L, Signal.BOOKMARK);
+
+        // when
+        ranking.refresh();
+
+        // then
+        assertThat(ranking.getTopPopupIds()).containsExactly(2L, 3L, 1L);
+    }
+
+    @Test
+    @DisplayName("오래된 이벤트는 감소해 최근 이벤트보다 낮게 평가")
+    void refresh_시간감소_반영() {
+        // given - 12시간 전 예약 1건(반감기 2회 → 2.5) vs 현재 북마크 1건(5)
+        ranking.record(1L, Signal.RESERVATION);
+        now.addAndGet(Duration.ofHours(12).toMillis());
+        ranking.record(2L, Signal.BOOKMARK);
+
+        // when
+        ranking.refresh();
+
+        // then
+        assertThat(ranking.getTopPopupIds()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("상위 K개만 유지하고 감소가 끝난 점수는 정리")
+    void refresh_상위K_및_정리() {
+        // given
+        LongStream.rangeClosed(1, PopupTrendingRanking.TOP_K + 10)
+                .forEach(popupId -> ranking.record(popupId, Signal.VIEW));
+        ranking.record(999L, Signal.RESERVATION);
+
+        // when
+        ranking.refresh();
+
+        // then
+        assertThat(ranking.getTopPopupIds()).hasSize(PopupTrendingRanking.TOP_K);
+        assertThat(ranking.getTopPopupIds().get(0)).isEqualTo(999L);
+
+        // 3일 뒤에는 모든 점수가 정리됨
+        now.addAndGet(Duration.ofDays(3).toMillis());
+        ranking.refresh();
+        assertThat(ranking.getTopPopupIds()).isEmpty();
+    }
+}
@@ -0,0 +1,75 @@
+package com.snow.popin.domain.popup.service;
+
+import com.snow.popin.domain.popup.repository.PopupViewCountRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PopupViewCounterTest {
+
+    @Mock
+    private PopupViewCountRepository popupViewCountRepository;
+
+    @Mock
+    private PopupSuggestionIndex popupSuggestionIndex;
+
+    @InjectMocks
+    private PopupViewCounter popupViewCounter;
+
+    @Test
+    @DisplayName("누적된 조회수를 팝업별 증가분으로 한 번에 반영")
+    @SuppressWarnings("unchecked")
+    void flush_증가분_일괄반영() {
+        // given
+        popupViewCounter.increment(1L);
+        popupViewCounter.increment(1L);
+        popupViewCounter.increment(2L);
+
+        // when
+        popupViewCounter.flush();
+
+        // then
+        ArgumentCaptor<Map<Long, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(popupViewCountRepository).incrementViewCounts(captor.capture());
+        assertThat(captor.getValue()).containsOnly(entry(1L, 2L), entry(2L, 1L));
+        verify(popupSuggestionIndex).addViews(captor.getValue());
+        assertThat(popupViewCounter.getPending(1L)).isZero();
+
+        // 반영 후 새 조회가 없으면 UPDATE 하지 않음
+        popupViewCounter.flush();
+        verifyNoMoreInteractions(popupViewCountRepository);
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 증가분을 유지해 다음 주기에 재시도")
+    void flush_실패시_증가분_유지() {
+        // given
+        popupViewCounter.increment(1L);
+        when(popupViewCountRepository.incrementViewCounts(anyMap()))
+                .thenThrow(new DataAccessResourceFailureException("db down"));
+
+        // when
+        popupViewCounter.flush();
+        popupViewCounter.increment(1L);
+
+        // then
+        assertThat(popupViewCounter.getPending(1L)).isEqualTo(2L);
+        verifyNoInteractions(popupSuggestionIndex);
+    }
+
+    private static Map.Entry<Long, Long> entry(Long key, Long value) {
+        return Map.entry(key, value);
+    }
+}
@@ -1,35 +1,29 @@
 package com.snow.popin.domain.recommendation;
 
-import com.snow.popin.domain.mypage.host.entity.Brand;
 import com.snow.popin.domain.mypage.host.repository.BrandRepository;
-import com.snow.popin.domain.popup.entity.Popup;
-import com.snow.popin.domain.popup.entity.PopupStatus;
-import com.snow.popin.domain.popup.repository.PopupQueryDslRepository;
-import com.snow.popin.domain.popup.repository.PopupRepository;
-import com.snow.popin.domain.popupReservation.repository.ReservationRepository;
 import com.snow.popin.domain.recommendation.dto.AiRecommendationResponseDto;
+import com.snow.popin.domain.recommendation.dto.CatalogPopupDto;
+import com.snow.popin.domain.recommendation.repository.RecommendationQueryDslRepository;
 import com.snow.popin.domain.recommendation.service.AiRecommendationService;
 import com.snow.popin.domain.recommendation.service.GeminiAiService;
-import com.snow.popin.domain.user.entity.User;
-import com.snow.popin.domain.user.repository.UserRepository;
+import com.snow.popin.domain.recommendation.service.LocalRecommender;
+import com.snow.popin.domain.recommendation.service.RecommendationCatalog;
+import com.snow.popin.global.config.RecommendationProperties;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
 
-import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,201 +34,151 @@ class AiRecommendationServiceTest {
     private GeminiAiService geminiAiService;
 
     @Mock
-    private PopupRepository popupRepository;
+    private LocalRecommender localRecommender;
 
     @Mock
-    private PopupQueryDslRepository popupQueryDslRepository;
-
-    @Mock
-    private ReservationRepository reservationRepository;
-
-    @Mock
-    private UserRepository userRepository;
+    private RecommendationQueryDslRepository recommendationQueryDslRepository;
 
     @Mock
     private BrandRepository brandRepository;
 
-    @InjectMocks
+    private RecommendationProperties recommendationProperties;
     private AiRecommendationService aiRecommendationService;
 
-    private User testUser;
-    private List<Popup> testPopups;
+    private List<CatalogPopupDto> testPopups;
 
     @BeforeEach
     void setUp() {
-        // 테스트 사용자 (Builder 사용, ID는 자동생성이므로 제외)
-        testUser = User.builder()
-                .email("test@example.com")
-                .name("테스트유저")
-                .nickname("testUser")
-                .password("password123")
-                .build();
-
-        // ID는 테스트에서 직접 설정 (리플렉션 사용)
-        setFieldValue(testUser, "id", 1L);
-
-        // 테스트 팝업들 (static factory method 사용)
+        recommendationProperties = new RecommendationProperties();
+        aiRecommendationService = new AiRecommendationService(geminiAiService, localRecommender,
+                new RecommendationCatalog(recommendationQueryDslRepository, brandRepository), recommendationProperties);
+
+        // 진행중 팝업 카탈로그
         testPopups = Arrays.asList(
-                createPopup(1L, "패션 팝업", PopupStatus.ONGOING),
-                createPopup(2L, "게임 팝업", PopupStatus.ONGOING),
-                createPopup(3L, "음식 팝업", PopupStatus.ONGOING)
+                createPopup(1L, "패션 팝업"),
+                createPopup(2L, "게임 팝업"),
+                createPopup(3L, "음식 팝업"),
+                createPopup(4L, "캐릭터 팝업")
         );
     }
 
     @Test
-    @DisplayName("정상적인 AI 추천 - 성공")
+    @DisplayName("로컬 추천 - 성공 (최소 4개로 보정, 선호 분야로 이유 생성)")
     void getPersonalizedRecommendations_Success() {
         // Given
         Long userId = 1L;
         int limit = 3;
-        String aiResponse = "추천 팝업 ID: [1,2,3]\n추천 이유: 사용자 취향에 맞는 팝업들입니다.";
 
-        when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
-        when(reservationRepository.findByUser(testUser)).thenReturn(Collections.emptyList());
-        when(popupRepository.findByStatus(PopupStatus.ONGOING)).thenReturn(testPopups);
-        when(geminiAiService.generateText(anyString())).thenReturn(aiResponse);
+        when(localRecommender.recommend(userId, 4)).thenReturn(List.of(3L, 1L, 2L, 4L));
+        when(localRecommender.preferredCategoryIds(userId, 3)).thenReturn(List.of(1L, 3L));
 
         // When
         AiRecommendationResponseDto result = aiRecommendationService.getPersonalizedRecommendations(userId, limit);
 
         // Then
         assertThat(result.isSuccess()).isTrue();
-        assertThat(result.getRecommendedPopupIds()).hasSize(3);
-        assertThat(result.getRecommendedPopupIds()).containsExactly(1L, 2L, 3L);
-        assertThat(result.getReasoning()).contains("사용자 취향에 맞는");
+        assertThat(result.getRecommendedPopupIds()).containsExactly(3L, 1L, 2L, 4L);
+        assertThat(result.getReasoning()).startsWith("패션, 게임 분야");
+        verify(geminiAiService, never()).generateText(anyString(), anyLong());
     }
 
     @Test
-    @DisplayName("사용자 없음 - 빈 사용자 정보로 처리")
+    @DisplayName("신호가 없는 사용자 - 실패 응답 (인기 팝업으로 대체)")
     void getPersonalizedRecommendations_UserNotFound() {
         // Given
-        Long userId = 999L;
-        int limit = 3;
-
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
-        when(popupRepository.findByStatus(PopupStatus.ONGOING)).thenReturn(testPopups);
-        when(geminiAiService.generateText(anyString())).thenReturn("추천 팝업 ID: [1,2,3]\n추천 이유: 기본 추천입니다.");
-        when(popupQueryDslRepository.findPopularActivePopups(any())).thenReturn(
-                new PageImpl<>(testPopups, PageRequest.of(0, limit), testPopups.size())
-        );
+        when(localRecommender.recommend(999L, 4)).thenReturn(Collections.emptyList());
 
         // When
-        AiRecommendationResponseDto result = aiRecommendationService.getPersonalizedRecommendations(userId, limit);
+        AiRecommendationResponseDto result = aiRecommendationService.getPersonalizedRecommendations(999L, 3);
 
         // Then
-        assertThat(result.isSuccess()).isTrue();
-        assertThat(result.getRecommendedPopupIds()).isNotEmpty();
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getError()).contains("선호도 데이터가 부족");
     }
 
     @Test
-    @DisplayName("Gemini API 실패 - 인기 팝업으로 fallback")
-    void getPersonalizedRecommendations_GeminiApiFailed() {
+    @DisplayName("재정렬 - AI가 고른 순서를 앞에 두고 나머지를 로컬 순위로 채움")
+    void getPersonalizedRecommendations_Rerank() {
         // Given
         Long userId = 1L;
-        int limit = 3;
+        recommendationProperties.getRerank().setEnabled(true);
+        recommendationProperties.getRerank().setTopN(6);
+        String aiResponse = "추천 팝업 ID: [4,99,3]\n추천 이유: 최근 예약한 캐릭터 팝업과 함께 많이 예약된 팝업을 먼저 배치했고, 선호하는 패션 분야 팝업을 이어서 추천드립니다.";
 
-        when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
-        when(reservationRepository.findByUser(testUser)).thenReturn(Collections.emptyList());
-        when(popupRepository.findByStatus(PopupStatus.ONGOING)).thenReturn(testPopups);
-        when(geminiAiService.generateText(anyString())).thenReturn(null); // API 실패
-        when(popupQueryDslRepository.findPopularActivePopups(any())).thenReturn(
-                new PageImpl<>(testPopups, PageRequest.of(0, limit), testPopups.size())
-        );
+        when(geminiAiService.isCircuitOpen()).thenReturn(false);
+        when(localRecommender.recommend(userId, 6)).thenReturn(List.of(1L, 2L, 3L, 4L));
+        when(localRecommender.preferredCategoryIds(userId, 3)).thenReturn(List.of(1L));
+        when(recommendationQueryDslRepository.findOngoingCatalog()).thenReturn(testPopups);
+        when(brandRepository.findAllById(anySet())).thenReturn(Collections.emptyList());
+        when(geminiAiService.generateText(contains("ID:4 | 캐릭터 팝업 | 기타 | 브랜드 | 서울"), anyLong())).thenReturn(aiResponse);
 
         // When
-        AiRecommendationResponseDto result = aiRecommendationService.getPersonalizedRecommendations(userId, limit);
+        AiRecommendationResponseDto result = aiRecommendationService.getPersonalizedRecommendations(userId, 4);
 
         // Then
         assertThat(result.isSuccess()).isTrue();
-        assertThat(result.getReasoning()).contains("현재 인기있는 팝업들을 추천드립니다.");
+        assertThat(result.getRecommendedPopupIds()).containsExactly(4L, 3L, 1L, 2L);
+        assertThat(result.getReasoning()).contains("캐릭터 팝업과 함께");
     }
 
     @Test
-    @DisplayName("잘못된 AI 응답 형식 - 인기 팝업으로 fallback")
-    void getPersonalizedRecommendations_InvalidAiResponse() {
+    @DisplayName("재정렬 중 Gemini API 실패 - 로컬 순위 사용")
+    void getPersonalizedRecommendations_GeminiApiFailed() {
         // Given
         Long userId = 1L;
-        int limit = 3;
-        String invalidResponse = "잘못된 형식의 응답입니다.";
-
-        when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
-        when(reservationRepository.findByUser(testUser)).thenReturn(Collections.emptyList());
-        when(popupRepository.findByStatus(PopupStatus.ONGOING)).thenReturn(testPopups);
-        when(geminiAiService.generateText(anyString())).thenReturn(invalidResponse);
-        when(popupQueryDslRepository.findPopularActivePopups(any())).thenReturn(
-                new PageImpl<>(testPopups, PageRequest.of(0, limit), testPopups.size())
-        );
+        recommendationProperties.getRerank().setEnabled(true);
+
+        when(geminiAiService.isCircuitOpen()).thenReturn(false);
+        when(localRecommender.recommend(userId, 20)).thenReturn(List.of(2L, 1L, 4L, 3L));
+        when(localRecommender.preferredCategoryIds(userId, 3)).thenReturn(Collections.emptyList());
+        when(recommendationQueryDslRepository.findOngoingCatalog()).thenReturn(testPopups);
+        when(brandRepository.findAllById(anySet())).thenReturn(Collections.emptyList());
+        when(geminiAiService.generateText(anyString(), anyLong())).thenReturn(null); // API 실패
 
         // When
-        AiRecommendationResponseDto result = aiRecommendationService.getPersonalizedRecommendations(userId, limit);
+        AiRecommendationResponseDto result = aiRecommendationService.getPersonalizedRecommendations(userId, 4);
 
         // Then
         assertThat(result.isSuccess()).isTrue();
-        assertThat(result.getReasoning()).contains("현재 인기있는 팝업들을 추천드립니다.");
+        assertThat(result.getRecommendedPopupIds()).containsExactly(2L, 1L, 4L, 3L);
+        assertThat(result.getReasoning()).contains("개인 취향에 맞게");
     }
 
     @Test
-    @DisplayName("빈 팝업 목록 - fallback 처리")
-    void getPersonalizedRecommendations_EmptyPopupList() {
+    @DisplayName("AI 호출 차단 중 - 재정렬 없이 로컬 순위 사용")
+    void getPersonalizedRecommendations_CircuitOpen() {
         // Given
         Long userId = 1L;
-        int limit = 3;
+        recommendationProperties.getRerank().setEnabled(true);
 
-        when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
-        when(reservationRepository.findByUser(testUser)).thenReturn(Collections.emptyList());
-        when(popupRepository.findByStatus(PopupStatus.ONGOING)).thenReturn(Collections.emptyList());
-        when(popupQueryDslRepository.findPopularActivePopups(any())).thenReturn(
-                new PageImpl<>(Collections.emptyList(), PageRequest.of(0, limit), 0)
-        );
+        when(geminiAiService.isCircuitOpen()).thenReturn(true);
+        when(localRecommender.recommend(userId, 4)).thenReturn(List.of(1L, 2L, 3L, 4L));
+        when(localRecommender.preferredCategoryIds(userId, 3)).thenReturn(List.of(3L));
 
         // When
-        AiRecommendationResponseDto result = aiRecommendationService.getPersonalizedRecommendations(userId, limit);
+        AiRecommendationResponseDto result = aiRecommendationService.getPersonalizedRecommendations(userId, 4);
 
         // Then
         assertThat(result.isSuccess()).isTrue();
-        assertThat(result.getRecommendedPopupIds()).isEmpty();
+        assertThat(result.getRecommendedPopupIds()).containsExactly(1L, 2L, 3L, 4L);
+        verify(geminiAiService, never()).generateText(anyString(), anyLong());
     }
 
     @Test
-    @DisplayName("예외 발생 - fallback 처리")
+    @DisplayName("예외 발생 - 실패 응답")
     void getPersonalizedRecommendations_ExceptionOccurred() {
         // Given
-        Long userId = 1L;
-        int limit = 3;
-
-        when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
-        when(popupRepository.findByStatus(PopupStatus.ONGOING)).thenThrow(new RuntimeException("DB 오류"));
-        when(popupQueryDslRepository.findPopularActivePopups(any())).thenReturn(
-                new PageImpl<>(testPopups, PageRequest.of(0, limit), testPopups.size())
-        );
+        when(localRecommender.recommend(1L, 4)).thenThrow(new RuntimeException("모델 오류"));
 
         // When
-        AiRecommendationResponseDto result = aiRecommendationService.getPersonalizedRecommendations(userId, limit);
+        AiRecommendationResponseDto result = aiRecommendationService.getPersonalizedRecommendations(1L, 3);
 
         // Then
-        assertThat(result.isSuccess()).isTrue();
-        assertThat(result.getReasoning()).contains("현재 인기있는 팝업들을 추천드립니다.");
-    }
-
-    private Popup createPopup(Long id, String title, PopupStatus status) {
-        // Popup entity의 static factory method 사용
-        Popup popup = Popup.createForTest(title, status, null);
-
-        // ID와 brandId 설정 (리플렉션 사용)
-        setFieldValue(popup, "id", id);
-        setFieldValue(popup, "brandId", 1L);
-
-        return popup;
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getError()).contains("오류가 발생");
     }
 
-    // 리플렉션을 사용한 필드 값 설정 헬퍼 메서드
-    private void setFieldValue(Object object, String fieldName, Object value) {
-        try {
-            var field = object.getClass().getDeclaredField(fieldName);
-            field.setAccessible(true);
-            field.set(object, value);
-        } catch (Exception e) {
-            throw new RuntimeException("필드 설정 실패: " + fieldName, e);
-        }
+    private CatalogPopupDto createPopup(Long id, String title) {
+        return new CatalogPopupDto(id, title, null, 1L, "서울");
     }
-}
\ No newline at end of file
+}
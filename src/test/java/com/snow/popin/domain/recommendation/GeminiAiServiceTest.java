@@ -4,104 +4,90 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.snow.popin.domain.recommendation.dto.GeminiResponseDto;
 import com.snow.popin.domain.recommendation.service.GeminiAiService;
 import com.snow.popin.global.config.GeminiProperties;
+import com.snow.popin.global.config.OutboundHttpProperties;
+import com.snow.popin.global.http.OutboundHttpClient;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
-import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.when;
 
-@ExtendWith(MockitoExtension.class)
 @DisplayName("Gemini AI 서비스 테스트")
 class GeminiAiServiceTest {
 
-    @Mock
-    private RestTemplate restTemplate;
+    private static final long WAIT_MILLIS = 5000L;
 
-    @Mock
-    private GeminiProperties geminiProperties;
+    private final AtomicInteger hits = new AtomicInteger();
+    private final ObjectMapper objectMapper = new ObjectMapper();
 
-    @Mock
-    private GeminiProperties.Api apiProperties;
+    private HttpServer server;
+    private GeminiProperties geminiProperties;
+    private OutboundHttpProperties outboundHttpProperties;
 
-    private ObjectMapper objectMapper;
-    private GeminiAiService geminiAiService;
+    // 스텁 서버가 돌려줄 응답
+    private volatile int status;
+    private volatile String body;
+    private volatile String receivedApiKey;
+    private volatile CountDownLatch release;
 
     @BeforeEach
-    void setUp() {
-        objectMapper = new ObjectMapper();
-
-        // GeminiProperties 기본 설정
-        when(geminiProperties.getApi()).thenReturn(apiProperties);
-        when(geminiProperties.getTimeout()).thenReturn(30000);
-        when(apiProperties.getKey()).thenReturn("test-api-key");
-        when(apiProperties.getUrl()).thenReturn("https://test-api.com/generate");
-
-        geminiAiService = new GeminiAiService(geminiProperties, objectMapper);
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/generate", this::handle);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        geminiProperties = new GeminiProperties();
+        geminiProperties.setTimeout(5000);
+        geminiProperties.getApi().setKey("test-api-key");
+        geminiProperties.getApi().setUrl("http://localhost:" + server.getAddress().getPort() + "/generate");
+
+        outboundHttpProperties = new OutboundHttpProperties();
+    }
 
-        // RestTemplate 주입 (리플렉션 사용)
-        try {
-            var field = GeminiAiService.class.getDeclaredField("restTemplate");
-            field.setAccessible(true);
-            field.set(geminiAiService, restTemplate);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
     }
 
     @Test
     @DisplayName("정상적인 AI 텍스트 생성 - 성공")
-    void generateText_Success() {
+    void generateText_Success() throws Exception {
         // Given
-        String prompt = "팝업 추천해주세요";
         String expectedText = "추천 팝업: [1, 2, 3]";
-
-        GeminiResponseDto response = createSuccessResponse(expectedText);
-        ResponseEntity<GeminiResponseDto> responseEntity = new ResponseEntity<>(response, HttpStatus.OK);
-
-        when(restTemplate.exchange(
-                eq("https://test-api.com/generate"),
-                eq(HttpMethod.POST),
-                any(HttpEntity.class),
-                eq(GeminiResponseDto.class)
-        )).thenReturn(responseEntity);
+        respond(200, objectMapper.writeValueAsString(createSuccessResponse(expectedText)));
 
         // When
-        String result = geminiAiService.generateText(prompt);
+        String result = createService().generateText("팝업 추천해주세요", WAIT_MILLIS);
 
         // Then
         assertThat(result).isEqualTo(expectedText);
+        assertThat(receivedApiKey).isEqualTo("test-api-key");
     }
 
     @Test
     @DisplayName("API 호출 실패 - null 반환")
     void generateText_ApiCallFailed_ReturnNull() {
         // Given
-        String prompt = "팝업 추천해주세요";
-
-        when(restTemplate.exchange(
-                any(String.class),
-                eq(HttpMethod.POST),
-                any(HttpEntity.class),
-                eq(GeminiResponseDto.class)
-        )).thenThrow(new RestClientException("API 호출 실패"));
+        GeminiAiService geminiAiService = createService();
+        server.stop(0);
 
         // When
-        String result = geminiAiService.generateText(prompt);
+        String result = geminiAiService.generateText("팝업 추천해주세요", WAIT_MILLIS);
 
         // Then
         assertThat(result).isNull();
@@ -111,19 +97,10 @@ class GeminiAiServiceTest {
     @DisplayName("HTTP 오류 응답 - null 반환")
     void generateText_HttpError_ReturnNull() {
         // Given
-        String prompt = "팝업 추천해주세요";
-
-        ResponseEntity<GeminiResponseDto> errorResponse = new ResponseEntity<>(null, HttpStatus.INTERNAL_SERVER_ERROR);
-
-        when(restTemplate.exchange(
-                any(String.class),
-                eq(HttpMethod.POST),
-                any(HttpEntity.class),
-                eq(GeminiResponseDto.class)
-        )).thenReturn(errorResponse);
+        respond(500, "");
 
         // When
-        String result = geminiAiService.generateText(prompt);
+        String result = createService().generateText("팝업 추천해주세요", WAIT_MILLIS);
 
         // Then
         assertThat(result).isNull();
@@ -133,68 +110,147 @@ class GeminiAiServiceTest {
     @DisplayName("빈 응답 본문 - null 반환")
     void generateText_EmptyBody_ReturnNull() {
         // Given
-        String prompt = "팝업 추천해주세요";
+        respond(200, "");
 
-        ResponseEntity<GeminiResponseDto> emptyResponse = new ResponseEntity<>(null, HttpStatus.OK);
+        // When
+        String result = createService().generateText("팝업 추천해주세요", WAIT_MILLIS);
 
-        when(restTemplate.exchange(
-                any(String.class),
-                eq(HttpMethod.POST),
-                any(HttpEntity.class),
-                eq(GeminiResponseDto.class)
-        )).thenReturn(emptyResponse);
+        // Then
+        assertThat(result).isNull();
+    }
+
+    @Test
+    @DisplayName("후보자가 없는 응답 - null 반환")
+    void generateText_NoCandidates_ReturnNull() throws Exception {
+        // Given
+        respond(200, objectMapper.writeValueAsString(createEmptyResponse()));
 
         // When
-        String result = geminiAiService.generateText(prompt);
+        String result = createService().generateText("팝업 추천해주세요", WAIT_MILLIS);
 
         // Then
         assertThat(result).isNull();
     }
 
     @Test
-    @DisplayName("후보자가 없는 응답 - null 반환")
-    void generateText_NoCandidates_ReturnNull() {
+    @DisplayName("내용이 없는 응답 - null 반환")
+    void generateText_NoContent_ReturnNull() throws Exception {
         // Given
-        String prompt = "팝업 추천해주세요";
+        respond(200, objectMapper.writeValueAsString(createResponseWithNoContent()));
 
-        GeminiResponseDto response = createEmptyResponse();
-        ResponseEntity<GeminiResponseDto> responseEntity = new ResponseEntity<>(response, HttpStatus.OK);
+        // When
+        String result = createService().generateText("팝업 추천해주세요", WAIT_MILLIS);
+
+        // Then
+        assertThat(result).isNull();
+    }
 
-        when(restTemplate.exchange(
-                any(String.class),
-                eq(HttpMethod.POST),
-                any(HttpEntity.class),
-                eq(GeminiResponseDto.class)
-        )).thenReturn(responseEntity);
+    @Test
+    @DisplayName("응답이 기다리는 시간보다 늦으면 null 반환, 진행 중인 호출은 그대로 완료")
+    void generateText_SlowResponse_ReturnsNullWithinWait() throws Exception {
+        // Given
+        respond(200, objectMapper.writeValueAsString(createSuccessResponse("추천")));
+        release = new CountDownLatch(1);
+        GeminiAiService geminiAiService = createService();
+        CompletableFuture<String> inFlight = geminiAiService.generateTextAsync("팝업 추천해주세요");
 
         // When
-        String result = geminiAiService.generateText(prompt);
+        String result = geminiAiService.generateText("팝업 추천해주세요", 100L);
 
         // Then
         assertThat(result).isNull();
+        release.countDown();
+        assertThat(inFlight.get(5, TimeUnit.SECONDS)).isEqualTo("추천");
     }
 
     @Test
-    @DisplayName("내용이 없는 응답 - null 반환")
-    void generateText_NoContent_ReturnNull() {
+    @DisplayName("같은 프롬프트 동시 요청 - API는 한 번만 호출")
+    void generateTextAsync_SamePrompt_Coalesced() throws Exception {
+        // Given
+        respond(200, objectMapper.writeValueAsString(createSuccessResponse("추천")));
+        release = new CountDownLatch(1);
+        GeminiAiService geminiAiService = createService();
+
+        // When
+        CompletableFuture<String> first = geminiAiService.generateTextAsync("팝업 추천해주세요");
+        CompletableFuture<String> second = geminiAiService.generateTextAsync("팝업 추천해주세요");
+        release.countDown();
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("추천");
+        assertThat(hits).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("동시 호출 한도 초과 - 기다리지 않고 null 반환, 차단 판정에는 넣지 않음")
+    void generateTextAsync_BulkheadFull_ReturnsNull() throws Exception {
         // Given
-        String prompt = "팝업 추천해주세요";
+        respond(200, objectMapper.writeValueAsString(createSuccessResponse("추천")));
+        release = new CountDownLatch(1);
+        outboundHttpProperties.destination(OutboundHttpClient.GEMINI).setMaxConcurrent(1);
+        geminiProperties.getCircuitBreaker().setFailureThreshold(1);
+        GeminiAiService geminiAiService = createService();
+
+        // When
+        CompletableFuture<String> first = geminiAiService.generateTextAsync("첫 번째");
+        CompletableFuture<String> second = geminiAiService.generateTextAsync("두 번째");
 
-        GeminiResponseDto response = createResponseWithNoContent();
-        ResponseEntity<GeminiResponseDto> responseEntity = new ResponseEntity<>(response, HttpStatus.OK);
+        // Then
+        assertThat(second.get(1, TimeUnit.SECONDS)).isNull();
+        assertThat(geminiAiService.isCircuitOpen()).isFalse();
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("추천");
+        assertThat(hits).hasValue(1);
+    }
 
-        when(restTemplate.exchange(
-                any(String.class),
-                eq(HttpMethod.POST),
-                any(HttpEntity.class),
-                eq(GeminiResponseDto.class)
-        )).thenReturn(responseEntity);
+    @Test
+    @DisplayName("연속 실패로 차단되면 API를 호출하지 않고 null 반환")
+    void generateText_CircuitOpen_SkipsCall() {
+        // Given
+        respond(500, "");
+        geminiProperties.getCircuitBreaker().setFailureThreshold(2);
+        geminiProperties.getCircuitBreaker().setOpenDuration(60000);
+        GeminiAiService geminiAiService = createService();
+        geminiAiService.generateText("첫 번째", WAIT_MILLIS);
+        geminiAiService.generateText("두 번째", WAIT_MILLIS);
 
         // When
-        String result = geminiAiService.generateText(prompt);
+        String result = geminiAiService.generateText("세 번째", WAIT_MILLIS);
 
         // Then
         assertThat(result).isNull();
+        assertThat(geminiAiService.isCircuitOpen()).isTrue();
+        assertThat(hits).hasValue(2);
+    }
+
+    private GeminiAiService createService() {
+        return new GeminiAiService(geminiProperties, objectMapper, new OutboundHttpClient(outboundHttpProperties));
+    }
+
+    private void respond(int status, String body) {
+        this.status = status;
+        this.body = body;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        hits.incrementAndGet();
+        receivedApiKey = exchange.getRequestHeaders().getFirst("x-goog-api-key");
+        exchange.getRequestBody().readAllBytes();
+        try {
+            if (release != null) {
+                release.await(5, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        if (bytes.length > 0) {
+            exchange.getResponseBody().write(bytes);
+        }
+        exchange.close();
     }
 
     // 헬퍼 메서드들
@@ -0,0 +1,82 @@
+package com.snow.popin.domain.recommendation.service;
+
+import com.snow.popin.domain.mypage.host.entity.Brand;
+import com.snow.popin.domain.mypage.host.repository.BrandRepository;
+import com.snow.popin.domain.recommendation.dto.CatalogPopupDto;
+import com.snow.popin.domain.recommendation.repository.RecommendationQueryDslRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.BeanUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("추천 카탈로그 테스트")
+class RecommendationCatalogTest {
+
+    @Mock
+    private RecommendationQueryDslRepository recommendationQueryDslRepository;
+
+    @Mock
+    private BrandRepository brandRepository;
+
+    @InjectMocks
+    private RecommendationCatalog recommendationCatalog;
+
+    @Test
+    @DisplayName("최초 1회 적재해 공유하고, 후보 순서대로 미리 만든 프롬프트 줄을 이어 붙임")
+    void getSnapshot_프롬프트줄() {
+        // given
+        when(recommendationQueryDslRepository.findOngoingCatalog()).thenReturn(List.of(
+                new CatalogPopupDto(1L, "나이키 팝업", "패션", 7L, "서울"),
+                new CatalogPopupDto(2L, "게임 팝업", null, null, null)));
+        when(brandRepository.findAllById(Set.of(7L))).thenReturn(List.of(createBrand(7L, "나이키")));
+
+        // when
+        RecommendationCatalog.Snapshot first = recommendationCatalog.getSnapshot();
+        RecommendationCatalog.Snapshot second = recommendationCatalog.getSnapshot();
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.size()).isEqualTo(2);
+        assertThat(first.promptLines(List.of(2L, 99L, 1L))).isEqualTo(
+                "ID:2 | 게임 팝업 | 기타 | 브랜드 | 지역미정\n" +
+                "ID:1 | 나이키 팝업 | 패션 | 나이키 | 서울\n");
+        verify(recommendationQueryDslRepository, times(1)).findOngoingCatalog();
+    }
+
+    @Test
+    @DisplayName("갱신에 실패하면 이전 스냅샷을 유지")
+    void refresh_실패시유지() {
+        // given
+        when(recommendationQueryDslRepository.findOngoingCatalog())
+                .thenReturn(List.of(new CatalogPopupDto(1L, "게임 팝업", "게임", null, "부산")))
+                .thenThrow(new RuntimeException("DB 오류"));
+        RecommendationCatalog.Snapshot before = recommendationCatalog.getSnapshot();
+
+        // when
+        recommendationCatalog.refresh();
+
+        // then
+        assertThat(recommendationCatalog.getSnapshot()).isSameAs(before);
+        assertThat(before.contains(1L)).isTrue();
+    }
+
+    private Brand createBrand(Long id, String name) {
+        Brand brand = BeanUtils.instantiateClass(Brand.class);
+        ReflectionTestUtils.setField(brand, "id", id);
+        ReflectionTestUtils.setField(brand, "name", name);
+        return brand;
+    }
+}
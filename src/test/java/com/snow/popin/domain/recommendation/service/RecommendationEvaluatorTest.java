@@ -0,0 +1,56 @@
+package com.snow.popin.domain.recommendation.service;
+
+import com.snow.popin.domain.recommendation.dto.PopupSignalDto;
+import com.snow.popin.domain.recommendation.dto.UserSignalDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.snow.popin.domain.recommendation.service.RecommendationModelTest.popup;
+import static com.snow.popin.domain.recommendation.service.RecommendationModelTest.signal;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("추천 모델 오프라인 평가 테스트")
+class RecommendationEvaluatorTest {
+
+    @Test
+    @DisplayName("마지막 예약을 숨기고 맞히면 인기도 기준선보다 높은 HitRate, NDCG")
+    void evaluate_leaveLastOut() {
+        // given - 카테고리 1 을 예약한 사용자는 결국 같은 카테고리 팝업을 다시 예약
+        List<PopupSignalDto> popups = new ArrayList<>();
+        for (long id = 1; id <= 20; id++) {
+            popups.add(popup(id, id <= 4 ? 1L : 2L, id <= 4 ? 0L : 1000L + id));
+        }
+        List<UserSignalDto> reservations = new ArrayList<>();
+        for (long userId = 1; userId <= 4; userId++) {
+            reservations.add(signal(userId, userId, 1L, 0));
+            reservations.add(signal(userId, userId % 4 + 1, 1L, 1));
+        }
+        // 한 팝업만 예약한 사용자는 평가에서 빠진다
+        reservations.add(signal(5L, 7L, 2L, 0));
+
+        // when
+        RecommendationEvaluator.EvaluationResult result =
+                RecommendationEvaluator.evaluate(popups, List.of(), reservations, List.of(), 3);
+
+        // then
+        assertThat(result.getUsers()).isEqualTo(4);
+        assertThat(result.getHitRate()).isEqualTo(1.0);
+        assertThat(result.getBaselineHitRate()).isZero();
+        assertThat(result.getNdcg()).isGreaterThan(result.getBaselineNdcg());
+    }
+
+    @Test
+    @DisplayName("평가할 사용자가 없으면 0")
+    void evaluate_빈데이터() {
+        // when
+        RecommendationEvaluator.EvaluationResult result =
+                RecommendationEvaluator.evaluate(List.of(), List.of(), List.of(signal(1L, 1L, 1L, 0)), List.of(), 10);
+
+        // then
+        assertThat(result.getUsers()).isZero();
+        assertThat(result.getHitRate()).isZero();
+    }
+}
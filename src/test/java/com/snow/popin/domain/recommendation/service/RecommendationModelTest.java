@@ -0,0 +1,94 @@
+package com.snow.popin.domain.recommendation.service;
+
+import com.snow.popin.domain.recommendation.dto.PopupSignalDto;
+import com.snow.popin.domain.recommendation.dto.UserSignalDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("로컬 추천 모델 테스트")
+class RecommendationModelTest {
+
+    private static final Long FASHION = 1L;
+    private static final Long GAME = 3L;
+
+    @Test
+    @DisplayName("관심 카테고리가 같은 팝업을 먼저, 이미 예약한 팝업은 제외")
+    void rank_카테고리선호() {
+        // given
+        List<PopupSignalDto> popups = List.of(
+                popup(10L, FASHION, 0L),
+                popup(11L, GAME, 1000L),
+                popup(12L, FASHION, 10L));
+        RecommendationModel model = RecommendationModel.build(popups,
+                List.of(signal(1L, null, FASHION, 0)),
+                List.of(signal(1L, 12L, FASHION, 1)),
+                List.of());
+
+        // when
+        List<Long> result = model.rank(1L, 10);
+
+        // then
+        assertThat(result).containsExactly(10L, 11L);
+        assertThat(model.preferredCategoryIds(1L, 3)).containsExactly(FASHION);
+    }
+
+    @Test
+    @DisplayName("함께 예약된 팝업이 같은 카테고리의 다른 팝업보다 앞선다")
+    void rank_동시예약() {
+        // given - 사용자 2, 3 은 20 과 21 을 함께 예약, 사용자 1 은 20 만 예약
+        List<PopupSignalDto> popups = List.of(
+                popup(20L, GAME, 0L),
+                popup(21L, GAME, 0L),
+                popup(22L, GAME, 0L));
+        List<UserSignalDto> reservations = new ArrayList<>(List.of(
+                signal(1L, 20L, GAME, 0),
+                signal(2L, 20L, GAME, 0), signal(2L, 21L, GAME, 1),
+                signal(3L, 20L, GAME, 0), signal(3L, 21L, GAME, 1)));
+        RecommendationModel model = RecommendationModel.build(popups, List.of(), reservations, List.of());
+
+        // when
+        List<Long> result = model.rank(1L, 2);
+
+        // then
+        assertThat(result).containsExactly(21L, 22L);
+    }
+
+    @Test
+    @DisplayName("사용자 신호를 다시 반영하면 이전 동시 예약이 지워지고, 신호가 없으면 추천하지 않는다")
+    void replaceUser_교체() {
+        // given
+        List<PopupSignalDto> popups = List.of(
+                popup(20L, GAME, 0L),
+                popup(21L, GAME, 5L),
+                popup(22L, GAME, 0L));
+        RecommendationModel model = RecommendationModel.build(popups, List.of(),
+                List.of(signal(1L, 20L, GAME, 0),
+                        signal(2L, 20L, GAME, 0), signal(2L, 22L, GAME, 1)),
+                List.of());
+        assertThat(model.rank(1L, 1)).containsExactly(22L);
+
+        // when - 사용자 2 가 22 예약을 취소
+        model.replaceUser(2L, List.of(), List.of(signal(2L, 20L, GAME, 0)), List.of());
+        model.replaceUser(2L, List.of(), List.of(signal(2L, 20L, GAME, 0)), List.of());
+        model.replaceUser(3L, List.of(), List.of(), List.of());
+
+        // then - 동시 예약이 사라져 조회수 순
+        assertThat(model.rank(1L, 1)).containsExactly(21L);
+        assertThat(model.rank(3L, 5)).isEmpty();
+        assertThat(model.userCount()).isEqualTo(2);
+    }
+
+    static PopupSignalDto popup(Long popupId, Long categoryId, Long viewCount) {
+        return new PopupSignalDto(popupId, categoryId, viewCount);
+    }
+
+    static UserSignalDto signal(Long userId, Long popupId, Long categoryId, int day) {
+        return new UserSignalDto(userId, popupId, categoryId, LocalDateTime.of(2025, 1, 1, 0, 0).plusDays(day));
+    }
+}
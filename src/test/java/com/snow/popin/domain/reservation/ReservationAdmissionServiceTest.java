@@ -0,0 +1,201 @@
+package com.snow.popin.domain.reservation;
+
+import com.snow.popin.domain.mypage.host.dto.PopupRegisterRequestDto;
+import com.snow.popin.domain.popup.entity.Popup;
+import com.snow.popin.domain.popup.repository.PopupRepository;
+import com.snow.popin.domain.popupReservation.dto.AdmissionStatusDto;
+import com.snow.popin.domain.popupReservation.service.ReservationAdmissionService;
+import com.snow.popin.global.config.ReservationAdmissionProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationAdmissionServiceTest {
+
+    @Mock
+    private PopupRepository popupRepository;
+
+    private ReservationAdmissionService admissionService;
+
+    @BeforeEach
+    void setUp() {
+        ReservationAdmissionProperties properties = new ReservationAdmissionProperties();
+        properties.setPermitsPerSecond(2);
+        properties.setMaxWaiting(3);
+        admissionService = new ReservationAdmissionService(popupRepository, properties);
+    }
+
+    @Test
+    @DisplayName("입장 순서대로 대기 순번 부여, 같은 사용자는 같은 토큰")
+    void enter_AssignsPositionsInOrder() {
+        when(popupRepository.findById(1L)).thenReturn(Optional.of(createPopup(true)));
+
+        AdmissionStatusDto first = admissionService.enter(1L, 10L);
+        AdmissionStatusDto second = admissionService.enter(1L, 20L);
+        AdmissionStatusDto again = admissionService.enter(1L, 10L);
+
+        assertThat(first.getPosition()).isEqualTo(0);
+        assertThat(second.getPosition()).isEqualTo(1);
+        assertThat(again.getToken()).isEqualTo(first.getToken());
+        assertThat(first.isAdmitted()).isFalse();
+        verify(popupRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("대기열 미사용 팝업은 입장 불가")
+    void enter_NotWaitlistPopup() {
+        when(popupRepository.findById(1L)).thenReturn(Optional.of(createPopup(false)));
+
+        assertThatThrownBy(() -> admissionService.enter(1L, 10L))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    @DisplayName("최대 대기 인원 초과 시 입장 불가")
+    void enter_QueueFull() {
+        when(popupRepository.findById(1L)).thenReturn(Optional.of(createPopup(true)));
+        admissionService.enter(1L, 1L);
+        admissionService.enter(1L, 2L);
+        admissionService.enter(1L, 3L);
+
+        assertThatThrownBy(() -> admissionService.enter(1L, 4L))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(e -> ((ResponseStatusException) e).getStatus())
+                .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @Test
+    @DisplayName("초당 허용 인원만큼 입장 처리")
+    void admitWaiting_AdmitsAtConfiguredRate() {
+        when(popupRepository.findById(1L)).thenReturn(Optional.of(createPopup(true)));
+        String t1 = admissionService.enter(1L, 1L).getToken();
+        String t2 = admissionService.enter(1L, 2L).getToken();
+        String t3 = admissionService.enter(1L, 3L).getToken();
+
+        admissionService.admitWaiting();
+
+        assertThat(admissionService.getStatus(1L, t1).isAdmitted()).isTrue();
+        assertThat(admissionService.getStatus(1L, t2).isAdmitted()).isTrue();
+        AdmissionStatusDto third = admissionService.getStatus(1L, t3);
+        assertThat(third.isAdmitted()).isFalse();
+        assertThat(third.getPosition()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("대기열 진행 중에는 입장하지 않은 요청 차단")
+    void checkAdmission_RejectsWhileQueueActive() {
+        when(popupRepository.findById(1L)).thenReturn(Optional.of(createPopup(true)));
+        String token = admissionService.enter(1L, 1L).getToken();
+
+        assertThatThrownBy(() -> admissionService.checkAdmission(1L, token))
+                .isInstanceOf(ResponseStatusException.class);
+        assertThatThrownBy(() -> admissionService.checkAdmission(1L, null))
+                .isInstanceOf(ResponseStatusException.class);
+        assertThatCode(() -> admissionService.checkAdmission(2L, null)).doesNotThrowAnyException();
+
+        admissionService.admitWaiting();
+
+        assertThatCode(() -> admissionService.checkAdmission(1L, token)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("입장 토큰은 발급받은 사용자만 한 번 사용 가능")
+    void requireAdmission_BoundToUserAndSingleUse() {
+        when(popupRepository.findById(1L)).thenReturn(Optional.of(createPopup(true)));
+        String token = admissionService.enter(1L, 1L).getToken();
+        admissionService.admitWaiting();
+
+        assertThatThrownBy(() -> admissionService.requireAdmission(1L, 2L, token))
+                .isInstanceOf(ResponseStatusException.class);
+        assertThatCode(() -> admissionService.requireAdmission(1L, 1L, token)).doesNotThrowAnyException();
+
+        admissionService.complete(1L, token);
+
+        assertThatThrownBy(() -> admissionService.requireAdmission(1L, 1L, token))
+                .isInstanceOf(ResponseStatusException.class);
+        assertThat(admissionService.getStatus(1L, token).isExpired()).isTrue();
+    }
+
+    @Test
+    @DisplayName("느린 SSE 클라이언트가 있어도 입장 처리는 바로 끝나고, 밀린 순번은 최신 상태만 전송")
+    void admitWaiting_SlowSubscriberDoesNotBlockTick() throws Exception {
+        when(popupRepository.findById(1L)).thenReturn(Optional.of(createPopup(true)));
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch completed = new CountDownLatch(1);
+        AtomicInteger sends = new AtomicInteger();
+        ReservationAdmissionProperties properties = new ReservationAdmissionProperties();
+        properties.setPermitsPerSecond(1);
+        ReservationAdmissionService slowService = new ReservationAdmissionService(popupRepository, properties) {
+            @Override
+            protected SseEmitter createEmitter(long timeoutMillis) {
+                return new SseEmitter(timeoutMillis) {
+                    @Override
+                    public void send(SseEventBuilder builder) {
+                        sends.incrementAndGet();
+                        awaitQuietly(release);
+                    }
+
+                    @Override
+                    public void complete() {
+                        completed.countDown();
+                    }
+                };
+            }
+        };
+        slowService.enter(1L, 1L);
+        String token = slowService.enter(1L, 2L).getToken();
+        slowService.subscribe(1L, token);
+
+        // 첫 순번 전송이 막혀 있는 동안 입장 처리 두 번
+        long startedAt = System.nanoTime();
+        slowService.admitWaiting();
+        slowService.admitWaiting();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        assertThat(elapsedMillis).isLessThan(1000);
+        assertThat(slowService.getStatus(1L, token).isAdmitted()).isTrue();
+
+        release.countDown();
+        assertThat(completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(sends).hasValue(2);
+        slowService.shutdown();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Popup createPopup(boolean waitlistAvailable) {
+        PopupRegisterRequestDto dto = new PopupRegisterRequestDto();
+        dto.setTitle("Test Popup");
+        dto.setReservationAvailable(true);
+        dto.setWaitlistAvailable(waitlistAvailable);
+        Popup popup = Popup.create(1L, dto);
+        ReflectionTestUtils.setField(popup, "id", 1L);
+        return popup;
+    }
+}
@@ -6,6 +6,7 @@ import com.snow.popin.domain.popupReservation.dto.ReservationRequestDto;
 import com.snow.popin.domain.popupReservation.dto.ReservationResponseDto;
 import com.snow.popin.domain.popupReservation.dto.TimeSlotDto;
 import com.snow.popin.domain.popupReservation.entity.ReservationStatus;
+import com.snow.popin.domain.popupReservation.service.ReservationAdmissionService;
 import com.snow.popin.domain.popupReservation.service.ReservationService;
 import com.snow.popin.domain.user.entity.User;
 import com.snow.popin.global.util.UserUtil;
@@ -47,6 +48,9 @@ class ReservationControllerTest {
     @MockBean
     private ReservationService reservationService;
 
+    @MockBean
+    private ReservationAdmissionService admissionService;
+
     @MockBean
     private UserUtil userUtil;
 
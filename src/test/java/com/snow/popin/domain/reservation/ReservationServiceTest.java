@@ -9,6 +9,8 @@ import com.snow.popin.domain.popup.entity.Popup;
 import com.snow.popin.domain.popup.entity.PopupHours;
 import com.snow.popin.domain.popup.repository.PopupHoursRepository;
 import com.snow.popin.domain.popup.repository.PopupRepository;
+import com.snow.popin.domain.popup.service.PopupTrendingRanking;
+import com.snow.popin.domain.popupReservation.dto.AvailableSlotDto;
 import com.snow.popin.domain.popupReservation.dto.ReservationRequestDto;
 import com.snow.popin.domain.popupReservation.dto.ReservationResponseDto;
 import com.snow.popin.domain.popupReservation.dto.TimeSlotDto;
@@ -17,16 +19,22 @@ import com.snow.popin.domain.popupReservation.entity.Reservation;
 import com.snow.popin.domain.popupReservation.repository.ReservationQueryDslRepository;
 import com.snow.popin.domain.popupReservation.repository.ReservationRepository;
 import com.snow.popin.domain.popupReservation.service.PopupReservationSettingsService;
+import com.snow.popin.domain.popupReservation.service.AvailableDateCalendar;
+import com.snow.popin.domain.popupReservation.service.ReservationAdmissionService;
 import com.snow.popin.domain.popupReservation.service.ReservationService;
+import com.snow.popin.domain.popupReservation.service.SlotCapacityLedger;
 import com.snow.popin.domain.user.constant.Role;
 import com.snow.popin.domain.user.entity.User;
+import com.snow.popin.global.scheduler.ReservationReminderScheduler;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.stubbing.Answer;
+import org.springframework.http.HttpStatus;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.server.ResponseStatusException;
 
@@ -35,12 +43,17 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -70,6 +83,21 @@ public class ReservationServiceTest {
     @Mock
     private PopupReservationSettingsService settingsService;
 
+    @Mock
+    private ReservationAdmissionService admissionService;
+
+    @Mock
+    private PopupTrendingRanking popupTrendingRanking;
+
+    @Mock
+    private ReservationReminderScheduler reminderScheduler;
+
+    @Spy
+    private AvailableDateCalendar availableDateCalendar = new AvailableDateCalendar();
+
+    @Spy
+    private SlotCapacityLedger slotCapacityLedger = new SlotCapacityLedger();
+
     @Test
     @DisplayName("예약 생성 성공")
     void createReservation_Success() {
@@ -88,7 +116,7 @@ public class ReservationServiceTest {
         when(settingsService.getSettings(anyLong())).thenReturn(settings);
         when(reservationQueryDslRepository.existsActiveReservationByPopupAndUser(any(Popup.class), any(User.class))).thenReturn(false);
         when(popupHoursRepository.findByPopupIdAndDayOfWeek(anyLong(), any(Integer.class))).thenReturn(List.of(createTestPopupHours(popup)));
-        when(reservationQueryDslRepository.sumPartySizeByPopupAndReservationDateBetween(any(Popup.class), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(0L);
+        when(reservationQueryDslRepository.sumPartySizeGroupedByReservationDate(any(Popup.class), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(Collections.emptyMap());
 
         when(reservationRepository.save(any(Reservation.class))).thenAnswer((Answer<Reservation>) invocation -> {
             Reservation reservation = invocation.getArgument(0);
@@ -102,6 +130,9 @@ public class ReservationServiceTest {
         // then
         assertThat(reservationId).isNotNull();
         assertThat(reservationId).isEqualTo(1L);
+        assertThat(slotCapacityLedger.getOccupied(1L, dto.getReservationDate())).isEqualTo(2);
+        verify(popupTrendingRanking).record(1L, PopupTrendingRanking.Signal.RESERVATION);
+        verify(reminderScheduler).schedule(1L, dto.getReservationDate());
     }
 
     @Test
@@ -177,6 +208,53 @@ public class ReservationServiceTest {
         });
     }
 
+    @Test
+    @DisplayName("대기열 사용 팝업은 입장 토큰 없이 예약 생성 실패")
+    void createReservation_WaitlistPopupWithoutAdmission() {
+        // given
+        User user = createTestUser(1L);
+        Popup popup = createTestPopup(true);
+        ReflectionTestUtils.setField(popup, "waitlistAvailable", true);
+        ReservationRequestDto dto = new ReservationRequestDto();
+
+        when(popupRepository.findById(anyLong())).thenReturn(Optional.of(popup));
+        doThrow(new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS))
+                .when(admissionService).requireAdmission(1L, 1L, null);
+
+        // when & then
+        assertThrows(ResponseStatusException.class, () -> reservationService.createReservation(user, 1L, dto));
+        verify(reservationRepository, never()).save(any(Reservation.class));
+    }
+
+    @Test
+    @DisplayName("원장에 잔여 좌석이 없으면 예약 생성 실패")
+    void createReservation_LedgerFull() {
+        // given
+        User user = createTestUser(1L);
+        Popup popup = createTestPopup(true);
+        PopupReservationSettings settings = createTestSettings(popup);
+        LocalDateTime slotStart = LocalDate.now().plusDays(1).atTime(14, 0);
+
+        ReservationRequestDto dto = new ReservationRequestDto();
+        dto.setReservationDate(slotStart);
+        dto.setName(user.getName());
+        dto.setPhone("010-1234-5678");
+        dto.setPartySize(2);
+
+        // 아직 커밋되지 않은 다른 예약이 좌석을 모두 선점한 상태
+        slotCapacityLedger.tryReserve(1L, slotStart, 10, 10, () -> 0);
+
+        when(popupRepository.findById(anyLong())).thenReturn(Optional.of(popup));
+        when(settingsService.getSettings(anyLong())).thenReturn(settings);
+        when(reservationQueryDslRepository.existsActiveReservationByPopupAndUser(any(Popup.class), any(User.class))).thenReturn(false);
+        when(popupHoursRepository.findByPopupIdAndDayOfWeek(anyLong(), any(Integer.class))).thenReturn(List.of(createTestPopupHours(popup)));
+        when(reservationQueryDslRepository.sumPartySizeGroupedByReservationDate(any(Popup.class), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(Collections.emptyMap());
+
+        // when & then
+        assertThrows(ResponseStatusException.class, () -> reservationService.createReservation(user, 1L, dto));
+        verify(reservationRepository, never()).save(any(Reservation.class));
+    }
+
     @Test
     @DisplayName("팝업 예약 현황 조회 성공")
     void getPopupReservations_Success() {
@@ -228,11 +306,14 @@ public class ReservationServiceTest {
         when(settingsService.getSettings(anyLong())).thenReturn(settings);
         when(reservationRepository.save(any(Reservation.class))).thenReturn(reservation);
 
+        slotCapacityLedger.tryReserve(1L, reservation.getReservationDate(), 2, 10, () -> 3);
+
         // when
         reservationService.cancelReservation(1L, user);
 
         // then
-        // No exception thrown
+        assertThat(slotCapacityLedger.getOccupied(1L, reservation.getReservationDate())).isEqualTo(3);
+        verify(reminderScheduler).cancel(1L);
     }
 
     @Test
@@ -265,13 +346,69 @@ public class ReservationServiceTest {
 
         when(popupRepository.findById(anyLong())).thenReturn(Optional.of(popup));
         when(settingsService.getSettings(anyLong())).thenReturn(settings);
-        when(popupHoursRepository.findByPopupIdAndDayOfWeek(anyLong(), any(Integer.class))).thenReturn(List.of(createTestPopupHours(popup)));
+        when(popupHoursRepository.findDistinctDayOfWeekByPopupId(anyLong())).thenReturn(List.of(createTestPopupHours(popup).getDayOfWeek()));
 
         // when
         List<LocalDate> availableDates = reservationService.getAvailableDates(1L);
 
         // then
         assertThat(availableDates).isNotEmpty();
+        assertThat(availableDates).allMatch(date -> date.getDayOfWeek() == LocalDate.now().plusDays(1).getDayOfWeek());
+    }
+
+    @Test
+    @DisplayName("예약 가능 날짜는 캘린더에서 조회되어 반복 요청 시 DB 조회 없음")
+    void getAvailableDates_ServedFromCalendar() {
+        // given
+        Popup popup = createTestPopup(true);
+        PopupReservationSettings settings = createTestSettings(popup);
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+
+        when(popupRepository.findById(anyLong())).thenReturn(Optional.of(popup));
+        when(settingsService.getSettings(anyLong())).thenReturn(settings);
+        when(popupHoursRepository.findDistinctDayOfWeekByPopupId(anyLong())).thenReturn(List.of(tomorrow.getDayOfWeek().getValue() % 7));
+
+        // when
+        List<LocalDate> first = reservationService.getAvailableDates(1L);
+        availableDateCalendar.markExhausted(1L, tomorrow);
+        List<LocalDate> second = reservationService.getAvailableDates(1L);
+
+        // then
+        assertThat(first).contains(tomorrow);
+        assertThat(second).doesNotContain(tomorrow).hasSize(first.size() - 1);
+        verify(popupRepository, times(1)).findById(1L);
+        verify(popupHoursRepository, times(1)).findDistinctDayOfWeekByPopupId(1L);
+        verify(popupHoursRepository, never()).findByPopupIdAndDayOfWeek(anyLong(), any(Integer.class));
+
+        // 무효화 후 다시 생성
+        availableDateCalendar.invalidate(1L);
+        assertThat(reservationService.getAvailableDates(1L)).contains(tomorrow);
+        verify(popupRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("캘린더 생성 시 모든 슬롯이 찬 날짜는 DB 예약 인원으로 마감 처리")
+    void getAvailableDates_LoadsExhaustedDates() {
+        // given
+        Popup popup = createTestPopup(true);
+        PopupReservationSettings settings = createTestSettings(popup);
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        PopupHours hours = createTestPopupHours(popup);
+        ReflectionTestUtils.setField(hours, "closeTime", LocalTime.of(11, 0));
+
+        when(popupRepository.findById(anyLong())).thenReturn(Optional.of(popup));
+        when(settingsService.getSettings(anyLong())).thenReturn(settings);
+        when(popupHoursRepository.findDistinctDayOfWeekByPopupId(anyLong())).thenReturn(List.of(hours.getDayOfWeek()));
+        when(popupHoursRepository.findByPopupId(1L)).thenReturn(List.of(hours));
+        when(reservationQueryDslRepository.sumPartySizeGroupedByReservationDate(
+                any(Popup.class), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(Map.of(tomorrow.atTime(10, 0), 10L, tomorrow.atTime(10, 30), 10L));
+
+        // when
+        List<LocalDate> availableDates = reservationService.getAvailableDates(1L);
+
+        // then
+        assertThat(availableDates).doesNotContain(tomorrow).contains(tomorrow.plusWeeks(1));
     }
 
     @Test
@@ -284,7 +421,7 @@ public class ReservationServiceTest {
         when(popupRepository.findById(anyLong())).thenReturn(Optional.of(popup));
         when(settingsService.getSettings(anyLong())).thenReturn(settings);
         when(popupHoursRepository.findByPopupIdAndDayOfWeek(anyLong(), any(Integer.class))).thenReturn(List.of(createTestPopupHours(popup)));
-        when(reservationQueryDslRepository.sumPartySizeByPopupAndReservationDateBetween(any(Popup.class), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(0L);
+        when(reservationQueryDslRepository.sumPartySizeGroupedByReservationDate(any(Popup.class), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(Collections.emptyMap());
 
         // when
         List<TimeSlotDto> availableSlots = reservationService.getAvailableTimeSlots(1L, LocalDate.now().plusDays(1));
@@ -293,6 +430,64 @@ public class ReservationServiceTest {
         assertThat(availableSlots).isNotEmpty();
     }
 
+    @Test
+    @DisplayName("슬롯 간격이 줄어도 예약 인원 집계 쿼리는 하루 1회만 실행")
+    void getAvailableTimeSlots_QueryCountStaysFlat() {
+        // given
+        Popup popup = createTestPopup(true);
+        LocalDate date = LocalDate.now().plusDays(1);
+
+        when(popupRepository.findById(anyLong())).thenReturn(Optional.of(popup));
+        when(popupHoursRepository.findByPopupIdAndDayOfWeek(anyLong(), any(Integer.class))).thenReturn(List.of(createTestPopupHours(popup)));
+        when(reservationQueryDslRepository.sumPartySizeGroupedByReservationDate(any(Popup.class), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(Collections.emptyMap());
+
+        for (int interval : new int[]{60, 30, 15}) {
+            PopupReservationSettings settings = createTestSettings(popup);
+            settings.setTimeSlotInterval(interval);
+            when(settingsService.getSettings(anyLong())).thenReturn(settings);
+
+            // when
+            List<TimeSlotDto> slots = reservationService.getAvailableTimeSlots(1L, date);
+
+            // then
+            assertThat(slots).hasSize(12 * 60 / interval);
+        }
+
+        verify(reservationQueryDslRepository, times(3)).sumPartySizeGroupedByReservationDate(
+                popup, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+    }
+
+    @Test
+    @DisplayName("일괄 집계된 예약 인원이 해당 슬롯의 잔여 인원에 반영")
+    void getAvailableSlots_UsesGroupedOccupancy() {
+        // given
+        Popup popup = createTestPopup(true);
+        PopupReservationSettings settings = createTestSettings(popup);
+        LocalDate date = LocalDate.now().plusDays(1);
+
+        when(popupRepository.findById(anyLong())).thenReturn(Optional.of(popup));
+        when(settingsService.getSettings(anyLong())).thenReturn(settings);
+        when(popupHoursRepository.findByPopupIdAndDayOfWeek(anyLong(), any(Integer.class))).thenReturn(List.of(createTestPopupHours(popup)));
+        when(reservationQueryDslRepository.sumPartySizeGroupedByReservationDate(any(Popup.class), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(Map.of(date.atTime(14, 0), 4L, date.atTime(14, 15), 6L));
+
+        // when
+        List<AvailableSlotDto> slots = reservationService.getAvailableSlots(1L, date);
+
+        // then
+        assertThat(slots).hasSize(24);
+        assertThat(slots).filteredOn(slot -> slot.getStartTime().equals(LocalTime.of(14, 0)))
+                .singleElement()
+                .extracting(AvailableSlotDto::getRemainingCapacity)
+                .isEqualTo(0);
+        assertThat(slots).filteredOn(slot -> slot.getStartTime().equals(LocalTime.of(14, 30)))
+                .singleElement()
+                .extracting(AvailableSlotDto::getRemainingCapacity)
+                .isEqualTo(10);
+        verify(reservationQueryDslRepository, times(1)).sumPartySizeGroupedByReservationDate(
+                any(Popup.class), any(LocalDateTime.class), any(LocalDateTime.class));
+    }
+
     // Helper methods
     private User createTestUser(Long id) {
         User user = User.builder()
@@ -0,0 +1,98 @@
+package com.snow.popin.domain.reservation;
+
+import com.snow.popin.domain.popupReservation.service.SlotCapacityLedger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SlotCapacityLedgerTest {
+
+    private final SlotCapacityLedger ledger = new SlotCapacityLedger();
+    private final LocalDateTime slotStart = LocalDate.now().plusDays(1).atTime(14, 0);
+
+    @Test
+    @DisplayName("기존 예약 인원으로 초기화 후 최대 인원까지만 선점")
+    void tryReserve_SeededFromExistingReservations() {
+        assertThat(ledger.tryReserve(1L, slotStart, 3, 10, () -> 6)).isTrue();
+        assertThat(ledger.tryReserve(1L, slotStart, 2, 10, () -> 0)).isFalse();
+        assertThat(ledger.tryReserve(1L, slotStart, 1, 10, () -> 0)).isTrue();
+        assertThat(ledger.getOccupied(1L, slotStart)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("좌석 반환 후 다시 선점 가능")
+    void release_MakesSeatsAvailableAgain() {
+        ledger.tryReserve(1L, slotStart, 10, 10, () -> 0);
+
+        ledger.release(1L, slotStart, 4);
+
+        assertThat(ledger.tryReserve(1L, slotStart, 4, 10, () -> 0)).isTrue();
+        assertThat(ledger.tryReserve(1L, slotStart, 1, 10, () -> 0)).isFalse();
+    }
+
+    @Test
+    @DisplayName("원장에 없는 슬롯의 반환은 무시")
+    void release_UnknownSlot() {
+        ledger.release(1L, slotStart, 4);
+
+        assertThat(ledger.getOccupied(1L, slotStart)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("지난 날짜의 슬롯 정리")
+    void evictPastSlots() {
+        LocalDateTime yesterday = LocalDate.now().minusDays(1).atTime(14, 0);
+        ledger.tryReserve(1L, yesterday, 1, 10, () -> 0);
+        ledger.tryReserve(1L, slotStart, 1, 10, () -> 0);
+
+        ledger.evictPastSlots();
+
+        assertThat(ledger.getOccupied(1L, yesterday)).isEqualTo(-1);
+        assertThat(ledger.getOccupied(1L, slotStart)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시 예약 요청에도 최대 인원을 초과하지 않음")
+    void tryReserve_NeverOversellsUnderContention() throws Exception {
+        int threads = 16;
+        int attemptsPerThread = 200;
+        int maxCapacity = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                int success = 0;
+                for (int j = 0; j < attemptsPerThread; j++) {
+                    if (ledger.tryReserve(1L, slotStart, 1, maxCapacity, () -> 0)) {
+                        success++;
+                    }
+                }
+                return success;
+            }));
+        }
+
+        start.countDown();
+        int total = 0;
+        for (Future<Integer> result : results) {
+            total += result.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(total).isEqualTo(maxCapacity);
+        assertThat(ledger.getOccupied(1L, slotStart)).isEqualTo(maxCapacity);
+    }
+}
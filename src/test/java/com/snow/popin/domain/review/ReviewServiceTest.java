@@ -4,6 +4,7 @@ import com.snow.popin.domain.map.entity.Venue;
 import com.snow.popin.domain.popup.entity.Popup;
 import com.snow.popin.domain.popup.entity.PopupStatus;
 import com.snow.popin.domain.popup.repository.PopupRepository;
+import com.snow.popin.domain.popup.service.PopupTrendingRanking;
 import com.snow.popin.domain.review.dto.*;
 import com.snow.popin.domain.review.entity.Review;
 import com.snow.popin.domain.review.repository.ReviewRepository;
@@ -49,6 +50,9 @@ class ReviewServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private PopupTrendingRanking popupTrendingRanking;
+
     @InjectMocks
     private ReviewService reviewService;
 
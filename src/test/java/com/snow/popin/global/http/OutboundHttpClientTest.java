@@ -0,0 +1,220 @@
+package com.snow.popin.global.http;
+
+import com.snow.popin.global.config.OutboundHttpProperties;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("외부 API 공용 HTTP 클라이언트 테스트")
+class OutboundHttpClientTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private HttpServer server;
+    private OutboundHttpProperties outboundHttpProperties;
+    private OutboundHttpClient outboundHttpClient;
+
+    private volatile String receivedHeader;
+    private volatile String receivedBody;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/slow", exchange -> {
+            await();
+            respond(exchange, 200, "{}");
+        });
+        server.createContext("/ok", exchange -> {
+            receivedHeader = exchange.getRequestHeaders().getFirst("X-Test");
+            receivedBody = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            respond(exchange, 200, "{\"result\":\"ok\"}");
+        });
+        server.createContext("/bad", exchange -> respond(exchange, 400, "{\"message\":\"bad\"}"));
+        server.createContext("/down", exchange -> respond(exchange, 503, "{}"));
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        outboundHttpProperties = new OutboundHttpProperties();
+        outboundHttpProperties.destination(OutboundHttpClient.KAKAO_PAY).setMaxConcurrent(1);
+        outboundHttpClient = new OutboundHttpClient(outboundHttpProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("동시 호출 한도 초과 - 같은 목적지는 바로 실패, 다른 목적지는 영향 없음")
+    void sendAsync_BulkheadIsolatedPerDestination() throws Exception {
+        // Given - kakao-pay 한도 1개를 느린 호출이 차지
+        CompletableFuture<HttpResponse<String>> slow = outboundHttpClient.sendAsync(
+                OutboundHttpClient.KAKAO_PAY, request(OutboundHttpClient.KAKAO_PAY, "/slow"), HttpResponse.BodyHandlers.ofString());
+
+        // When
+        CompletableFuture<HttpResponse<String>> rejected = outboundHttpClient.sendAsync(
+                OutboundHttpClient.KAKAO_PAY, request(OutboundHttpClient.KAKAO_PAY, "/ok"), HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> other = outboundHttpClient.send(
+                OutboundHttpClient.NAVER_PAY, request(OutboundHttpClient.NAVER_PAY, "/ok"), HttpResponse.BodyHandlers.ofString());
+
+        // Then
+        assertThatThrownBy(() -> rejected.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(BulkheadFullException.class);
+        assertThat(other.statusCode()).isEqualTo(200);
+
+        release.countDown();
+        assertThat(slow.get(5, TimeUnit.SECONDS).statusCode()).isEqualTo(200);
+
+        // 한도가 풀리면 다시 호출 가능
+        HttpResponse<String> retried = outboundHttpClient.send(
+                OutboundHttpClient.KAKAO_PAY, request(OutboundHttpClient.KAKAO_PAY, "/ok"), HttpResponse.BodyHandlers.ofString());
+        assertThat(retried.statusCode()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("RestTemplate 어댑터 - 헤더, 본문 전달과 상태 코드별 예외")
+    void restTemplate_RoundTrip() {
+        // Given
+        RestTemplate restTemplate = outboundHttpClient.restTemplate(OutboundHttpClient.NAVER_PAY);
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Test", "value");
+        headers.set("Content-Type", "application/json;charset=UTF-8");
+
+        // When
+        ResponseEntity<Map> response = restTemplate.exchange(url("/ok"), HttpMethod.POST,
+                new HttpEntity<>(Map.of("paymentId", "NP1"), headers), Map.class);
+
+        // Then
+        assertThat(response.getBody()).containsEntry("result", "ok");
+        assertThat(receivedHeader).isEqualTo("value");
+        assertThat(receivedBody).isEqualTo("{\"paymentId\":\"NP1\"}");
+
+        assertThatThrownBy(() -> restTemplate.exchange(url("/bad"), HttpMethod.POST, new HttpEntity<>("{}", headers), Map.class))
+                .isInstanceOf(HttpClientErrorException.class);
+        assertThat(outboundHttpClient.restTemplate(OutboundHttpClient.NAVER_PAY)).isSameAs(restTemplate);
+    }
+
+    @Test
+    @DisplayName("RestTemplate 어댑터 - 동시 호출 한도 초과는 ResourceAccessException")
+    void restTemplate_BulkheadFull() {
+        // Given
+        outboundHttpClient.sendAsync(OutboundHttpClient.KAKAO_PAY, request(OutboundHttpClient.KAKAO_PAY, "/slow"),
+                HttpResponse.BodyHandlers.ofString());
+
+        // When & Then
+        assertThatThrownBy(() -> outboundHttpClient.restTemplate(OutboundHttpClient.KAKAO_PAY)
+                .exchange(url("/ok"), HttpMethod.POST, new HttpEntity<>("a=b"), Map.class))
+                .isInstanceOf(ResourceAccessException.class)
+                .hasCauseInstanceOf(BulkheadFullException.class);
+    }
+
+    @Test
+    @DisplayName("엔드포인트별 지연 시간 - 호출 수, 5xx 오류, 한도 초과 집계")
+    void metrics_PerEndpoint() throws Exception {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            outboundHttpClient.send(OutboundHttpClient.GEMINI, request(OutboundHttpClient.GEMINI, "/ok"),
+                    HttpResponse.BodyHandlers.ofString());
+        }
+        outboundHttpClient.send(OutboundHttpClient.GEMINI, request(OutboundHttpClient.GEMINI, "/down"),
+                HttpResponse.BodyHandlers.ofString());
+
+        // When
+        List<LatencyHistogram.Snapshot> metrics = outboundHttpClient.metrics();
+
+        // Then
+        assertThat(metrics).hasSize(2);
+        LatencyHistogram.Snapshot ok = metrics.get(0);
+        assertThat(ok.getEndpoint()).isEqualTo("gemini POST localhost/ok");
+        assertThat(ok.getCount()).isEqualTo(3);
+        assertThat(ok.getErrors()).isZero();
+        assertThat(ok.getBuckets().values().stream().mapToLong(Long::longValue).sum()).isEqualTo(3);
+        assertThat(ok.getP99Millis()).isLessThanOrEqualTo(ok.getMaxMillis());
+
+        LatencyHistogram.Snapshot down = metrics.get(1);
+        assertThat(down.getEndpoint()).isEqualTo("gemini POST localhost/down");
+        assertThat(down.getErrors()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("히스토그램 백분위 - 구간 상한으로 근사")
+    void latencyHistogram_Percentiles() {
+        // Given
+        LatencyHistogram histogram = new LatencyHistogram("test");
+        for (int i = 0; i < 98; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(3), false);
+        }
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(200), false);
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(4000), true);
+        histogram.recordRejected();
+
+        // When
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        // Then
+        assertThat(snapshot.getCount()).isEqualTo(100);
+        assertThat(snapshot.getErrors()).isEqualTo(1);
+        assertThat(snapshot.getRejected()).isEqualTo(1);
+        assertThat(snapshot.getP50Millis()).isEqualTo(5);
+        assertThat(snapshot.getP95Millis()).isEqualTo(5);
+        assertThat(snapshot.getP99Millis()).isEqualTo(250);
+        assertThat(snapshot.getMaxMillis()).isEqualTo(4000);
+        assertThat(snapshot.getBuckets()).containsEntry("le_5", 98L).containsEntry("le_5000", 1L);
+    }
+
+    private HttpRequest request(String destination, String path) {
+        return outboundHttpClient.requestBuilder(destination, URI.create(url(path)))
+                .POST(HttpRequest.BodyPublishers.ofString("{}"))
+                .build();
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + server.getAddress().getPort() + path;
+    }
+
+    private void await() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+}
@@ -1,5 +1,6 @@
 package com.snow.popin.global.jwt;
 
+import io.jsonwebtoken.Jwts;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -80,8 +81,7 @@ class JwtFilterTest {
                 .build();
 
         given(jwtTokenResolver.resolve(request)).willReturn(testToken);
-        given(jwtUtil.validateToken(testToken)).willReturn(true);
-        given(jwtUtil.getEmail(testToken)).willReturn(testEmail);
+        given(jwtUtil.verify(testToken)).willReturn(Jwts.claims().setSubject(testEmail));
         given(applicationContext.getBean(UserDetailsService.class)).willReturn(userDetailsService);
         given(userDetailsService.loadUserByUsername(anyString())).willReturn(userDetails);
 
@@ -116,7 +116,7 @@ class JwtFilterTest {
     void givenInvalidToken_whenFilter_thenNoAuthentication() throws Exception {
         // Given
         given(jwtTokenResolver.resolve(request)).willReturn(testToken);
-        given(jwtUtil.validateToken(testToken)).willReturn(false);
+        given(jwtUtil.verify(testToken)).willReturn(null);
 
         // When
         jwtFilter.doFilterInternal(request, response, filterChain);
@@ -131,8 +131,7 @@ class JwtFilterTest {
     void givenTokenWithoutEmail_whenFilter_thenNoAuthentication() throws Exception {
         // Given
         given(jwtTokenResolver.resolve(request)).willReturn(testToken);
-        given(jwtUtil.validateToken(testToken)).willReturn(true);
-        given(jwtUtil.getEmail(testToken)).willReturn(null);
+        given(jwtUtil.verify(testToken)).willReturn(Jwts.claims());
 
         // When
         jwtFilter.doFilterInternal(request, response, filterChain);
@@ -147,8 +146,7 @@ class JwtFilterTest {
     void givenUserNotFound_whenFilter_thenSendsErrorResponse() throws Exception {
         // Given
         given(jwtTokenResolver.resolve(request)).willReturn(testToken);
-        given(jwtUtil.validateToken(testToken)).willReturn(true);
-        given(jwtUtil.getEmail(testToken)).willReturn(testEmail);
+        given(jwtUtil.verify(testToken)).willReturn(Jwts.claims().setSubject(testEmail));
         given(applicationContext.getBean(UserDetailsService.class)).willReturn(userDetailsService);
         given(userDetailsService.loadUserByUsername(anyString()))
                 .willThrow(new UsernameNotFoundException("User not found"));
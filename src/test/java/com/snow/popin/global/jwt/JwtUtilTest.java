@@ -11,8 +11,11 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import org.springframework.test.util.ReflectionTestUtils;
+
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -283,4 +286,96 @@ class JwtUtilTest {
         assertThat(sut.validateToken(token)).isTrue();
     }
 
-}
\ No newline at end of file
+    @DisplayName("검증된 토큰의 claims 는 캐시되고, 반환된 claims 를 바꿔도 캐시는 그대로다")
+    @Test
+    void givenVerifiedToken_whenExtractClaimsTwice_thenReturnsCachedClaims() {
+        // Given
+        String token = sut.createToken(testUserId, testEmail, testName, testRole);
+
+        // When
+        Claims first = sut.extractClaims(token);
+        first.put("role", "ADMIN");
+        Claims second = sut.extractClaims(token);
+
+        // Then
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getSubject()).isEqualTo(testEmail);
+        assertThat(second.get("role", String.class)).isEqualTo(testRole);
+    }
+
+    @DisplayName("검증 캐시가 가득 차도 새 토큰은 캐시되고 가장 오래 쓰지 않은 토큰이 빠진다")
+    @Test
+    void givenFullCache_whenExtractNewToken_thenEvictsLeastRecentlyUsed() {
+        // Given
+        Map<?, ?> verifiedClaims = (Map<?, ?>) ReflectionTestUtils.getField(sut, "verifiedClaims");
+        String oldest = sut.createToken(testUserId, testEmail, testName, testRole);
+        sut.extractClaims(oldest);
+        for (int i = 1; i < 10_000; i++) {
+            sut.extractClaims(sut.createToken((long) i, testEmail, testName, testRole));
+        }
+        assertThat(verifiedClaims).hasSize(10_000);
+
+        // When
+        String latest = sut.createToken(0L, testEmail, testName, testRole);
+        sut.extractClaims(latest);
+
+        // Then
+        assertThat(verifiedClaims).hasSize(10_000);
+        assertThat(verifiedClaims).containsKey(ReflectionTestUtils.invokeMethod(sut, "hash", latest));
+        assertThat(verifiedClaims).doesNotContainKey(ReflectionTestUtils.invokeMethod(sut, "hash", oldest));
+    }
+
+    @DisplayName("폐기된 토큰은 유효하지 않고, 같은 정보로 새로 발급한 토큰은 유효하다")
+    @Test
+    void givenRevokedToken_whenValidateToken_thenReturnsFalse() {
+        // Given
+        String token = sut.createToken(testUserId, testEmail, testName, testRole);
+        assertThat(sut.validateToken(token)).isTrue();
+
+        // When
+        sut.revoke(token);
+        String reissued = sut.createToken(testUserId, testEmail, testName, testRole);
+
+        // Then
+        assertThat(sut.validateToken(token)).isFalse();
+        assertThat(reissued).isNotEqualTo(token);
+        assertThat(sut.validateToken(reissued)).isTrue();
+    }
+
+    @DisplayName("서명이 잘못된 토큰은 폐기 목록에 올리지 않는다")
+    @Test
+    void givenInvalidToken_whenRevoke_thenIgnored() {
+        // Given
+        String token = sut.createToken(testEmail, testName, testRole) + "tampered";
+
+        // When & Then
+        assertThatCode(() -> sut.revoke(token)).doesNotThrowAnyException();
+        assertThat(sut.validateToken(token)).isFalse();
+    }
+
+    @DisplayName("verify 는 유효한 토큰의 claims 를 반환하고, 폐기되거나 만료된 토큰은 null 을 반환한다")
+    @Test
+    void givenTokens_whenVerify_thenReturnsClaimsOnlyForUsableTokens() {
+        // Given
+        String token = sut.createToken(testUserId, testEmail, testName, testRole);
+        SecretKey secretKey = Keys.hmacShaKeyFor(testSecret.getBytes());
+        String expired = Jwts.builder()
+                .setSubject(testEmail)
+                .setExpiration(new Date(System.currentTimeMillis() - 1000))
+                .signWith(secretKey, SignatureAlgorithm.HS256)
+                .compact();
+
+        // When
+        Claims claims = sut.verify(token);
+
+        // Then
+        assertThat(claims).isNotNull();
+        assertThat(claims.getSubject()).isEqualTo(testEmail);
+        assertThat(claims.get("role", String.class)).isEqualTo(testRole);
+        assertThat(sut.verify(expired)).isNull();
+        assertThat(sut.verify("")).isNull();
+
+        sut.revoke(token);
+        assertThat(sut.verify(token)).isNull();
+    }
+}
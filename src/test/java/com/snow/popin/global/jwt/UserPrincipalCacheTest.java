@@ -0,0 +1,119 @@
+package com.snow.popin.global.jwt;
+
+import com.snow.popin.domain.auth.constant.AuthProvider;
+import com.snow.popin.domain.user.constant.Role;
+import com.snow.popin.domain.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("인증 주체 캐시 테스트")
+class UserPrincipalCacheTest {
+
+    private final AtomicLong now = new AtomicLong(0);
+    private final AtomicInteger loads = new AtomicInteger();
+    private UserPrincipalCache sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new UserPrincipalCache(2, Duration.ofMinutes(5), now::get);
+    }
+
+    @DisplayName("TTL 안에서는 다시 조회하지 않고, 만료되면 다시 적재한다")
+    @Test
+    void givenCachedPrincipal_whenGetWithinTtl_thenNoReload() {
+        // Given
+        User user = createUser(1L, "a@example.com", Role.USER);
+
+        // When
+        AuthenticatedUser first = sut.get(user.getEmail(), email -> load(user));
+        AuthenticatedUser second = sut.get(user.getEmail(), email -> load(user));
+        now.addAndGet(Duration.ofMinutes(5).toMillis());
+        sut.get(user.getEmail(), email -> load(user));
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(first.getUserId()).isEqualTo(1L);
+        assertThat(loads).hasValue(2);
+    }
+
+    @DisplayName("역할이 바뀌어 무효화되면 다음 조회에서 새 역할을 읽는다")
+    @Test
+    void givenRoleChanged_whenInvalidate_thenReloadsNewRole() {
+        // Given
+        User user = createUser(1L, "a@example.com", Role.USER);
+        sut.get(user.getEmail(), email -> load(user));
+
+        // When
+        user.updateRole(Role.HOST);
+        sut.invalidate(user);
+        AuthenticatedUser reloaded = sut.get(user.getEmail(), email -> load(user));
+
+        // Then
+        assertThat(reloaded.getRole()).isEqualTo(Role.HOST);
+        assertThat(reloaded.getAuthorities()).extracting("authority").containsExactly("ROLE_HOST");
+    }
+
+    @DisplayName("적재 중에 무효화되면 읽어 온 값을 캐시하지 않는다")
+    @Test
+    void givenInvalidatedDuringLoad_whenGet_thenNotCached() {
+        // Given
+        User user = createUser(1L, "a@example.com", Role.USER);
+
+        // When
+        sut.get(user.getEmail(), email -> {
+            sut.invalidate(user);
+            return load(user);
+        });
+        sut.get(user.getEmail(), email -> load(user));
+
+        // Then
+        assertThat(loads).hasValue(2);
+    }
+
+    @DisplayName("최대 개수를 넘으면 가장 오래 쓰이지 않은 항목부터 밀려난다")
+    @Test
+    void givenFull_whenPut_thenEvictsLeastRecentlyUsed() {
+        // Given
+        User a = createUser(1L, "a@example.com", Role.USER);
+        User b = createUser(2L, "b@example.com", Role.USER);
+        User c = createUser(3L, "c@example.com", Role.USER);
+        sut.get(a.getEmail(), email -> load(a));
+        sut.get(b.getEmail(), email -> load(b));
+        sut.get(a.getEmail(), email -> load(a));
+
+        // When
+        sut.get(c.getEmail(), email -> load(c));
+        sut.get(a.getEmail(), email -> load(a));
+        sut.get(b.getEmail(), email -> load(b));
+
+        // Then - a, b, c 최초 적재 + 밀려난 b 재적재
+        assertThat(loads).hasValue(4);
+        assertThat(sut.size()).isEqualTo(2);
+    }
+
+    private AuthenticatedUser load(User user) {
+        loads.incrementAndGet();
+        return AuthenticatedUser.from(user);
+    }
+
+    private User createUser(Long id, String email, Role role) {
+        User user = User.builder()
+                .email(email)
+                .password("encodedPassword")
+                .name("테스트유저")
+                .nickname("테스터")
+                .authProvider(AuthProvider.LOCAL)
+                .role(role)
+                .build();
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+}
@@ -0,0 +1,115 @@
+package com.snow.popin.global.scheduler;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("계층형 타이머 휠 테스트")
+class HierarchicalTimerWheelTest {
+
+    private static final long TICK_MS = 20L;
+
+    @Test
+    @DisplayName("같은 틱에 만료되는 항목은 만료 시각에 한 번에 꺼냄")
+    void awaitExpired_BatchesSameTick() throws InterruptedException {
+        // Given
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(TICK_MS, 8);
+        long expiration = alignedFuture(100);
+        wheel.schedule("a", expiration);
+        wheel.schedule("b", expiration);
+        wheel.schedule("c", expiration + 200);
+
+        // When
+        List<String> expired = awaitUntilExpired(wheel, 1_000);
+        long firedAt = System.currentTimeMillis();
+
+        // Then
+        assertThat(expired).containsExactlyInAnyOrder("a", "b");
+        assertThat(firedAt).isGreaterThanOrEqualTo(expiration);
+        assertThat(wheel.contains("c")).isTrue();
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("휠 범위를 넘는 항목은 상위 휠을 거쳐 제 시각에 만료")
+    void awaitExpired_CascadesFromOverflowWheel() throws InterruptedException {
+        // Given - 아래 휠 범위 80ms, 상위 휠 범위 320ms 를 넘는 항목
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(TICK_MS, 4);
+        long expiration = alignedFuture(400);
+        wheel.schedule("far", expiration);
+
+        // When
+        List<String> expired = awaitUntilExpired(wheel, 2_000);
+        long firedAt = System.currentTimeMillis();
+
+        // Then
+        assertThat(expired).containsExactly("far");
+        assertThat(firedAt).isGreaterThanOrEqualTo(expiration);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("취소한 항목은 만료되지 않음")
+    void cancel_RemovesEntry() throws InterruptedException {
+        // Given
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(TICK_MS, 8);
+        wheel.schedule("keep", alignedFuture(60));
+        wheel.schedule("drop", alignedFuture(60));
+
+        // When
+        boolean cancelled = wheel.cancel("drop");
+        List<String> expired = awaitUntilExpired(wheel, 1_000);
+
+        // Then
+        assertThat(cancelled).isTrue();
+        assertThat(wheel.cancel("drop")).isFalse();
+        assertThat(expired).containsExactly("keep");
+    }
+
+    @Test
+    @DisplayName("다시 등록하면 이전 만료 시각을 대체, 지난 시각은 바로 만료")
+    void schedule_ReplacesAndFiresOverdue() throws InterruptedException {
+        // Given
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(TICK_MS, 8);
+        wheel.schedule("late", alignedFuture(10_000));
+        wheel.schedule("late", System.currentTimeMillis() - 1_000);
+
+        // When
+        List<String> expired = wheel.awaitExpired(100);
+
+        // Then
+        assertThat(expired).containsExactly("late");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("만료될 항목이 없으면 대기 시간 후 빈 목록")
+    void awaitExpired_TimesOut() throws InterruptedException {
+        // Given
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(TICK_MS, 8);
+        wheel.schedule("later", alignedFuture(5_000));
+
+        // When & Then
+        assertThat(wheel.awaitExpired(50)).isEmpty();
+        assertThat(wheel.contains("later")).isTrue();
+    }
+
+    private List<String> awaitUntilExpired(HierarchicalTimerWheel<String> wheel, long timeoutMs) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        while (System.currentTimeMillis() < deadline) {
+            List<String> expired = wheel.awaitExpired(deadline - System.currentTimeMillis());
+            if (!expired.isEmpty()) {
+                return expired;
+            }
+        }
+        return List.of();
+    }
+
+    private long alignedFuture(long delayMs) {
+        long target = System.currentTimeMillis() + delayMs;
+        return target - (target % TICK_MS) + TICK_MS;
+    }
+}
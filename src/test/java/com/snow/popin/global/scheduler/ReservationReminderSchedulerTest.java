@@ -0,0 +1,180 @@
+package com.snow.popin.global.scheduler;
+
+import com.snow.popin.domain.notification.constant.NotificationType;
+import com.snow.popin.domain.notification.dto.request.NotificationCreateDto;
+import com.snow.popin.domain.notification.service.NotificationService;
+import com.snow.popin.domain.popup.entity.Popup;
+import com.snow.popin.domain.popupReservation.entity.Reservation;
+import com.snow.popin.domain.popupReservation.entity.ReservationReminder;
+import com.snow.popin.domain.popupReservation.entity.ReservationStatus;
+import com.snow.popin.domain.popupReservation.repository.ReservationQueryDslRepository;
+import com.snow.popin.domain.popupReservation.repository.ReservationRepository;
+import com.snow.popin.domain.user.entity.User;
+import com.snow.popin.global.scheduler.ReservationReminderScheduler.ReminderEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("예약 알림 스케줄러 테스트")
+class ReservationReminderSchedulerTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private ReservationQueryDslRepository reservationQueryDslRepository;
+
+    @Mock
+    private NotificationService notificationService;
+
+    private ReservationReminderScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new ReservationReminderScheduler(reservationRepository, reservationQueryDslRepository,
+                notificationService, new TransactionTemplate(mock(PlatformTransactionManager.class)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.stop();
+    }
+
+    @Test
+    @DisplayName("새 예약 - 앞으로 남은 알림만 등록, 취소하면 제거")
+    void scheduleAndCancel() {
+        // When
+        scheduler.schedule(1L, LocalDateTime.now().plusDays(2));
+        scheduler.schedule(2L, LocalDateTime.now().plusHours(3)); // 하루 전 알림은 이미 지남
+
+        // Then
+        assertThat(scheduler.pendingCount()).isEqualTo(3);
+
+        scheduler.cancel(1L);
+        assertThat(scheduler.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("묶음 발송 - 예약은 한 번에 조회, 예약 상태이고 보낸 적 없는 알림만 발송")
+    void fire_SendsOncePerReservation() {
+        // Given
+        Reservation active = createReservation(1L, ReservationStatus.RESERVED);
+        Reservation cancelled = createReservation(2L, ReservationStatus.CANCELLED);
+        Reservation alreadySent = createReservation(3L, ReservationStatus.RESERVED);
+        alreadySent.markReminded(ReservationReminder.SOON);
+        given(reservationQueryDslRepository.findAllWithUserAndPopupByIdIn(anyCollection()))
+                .willReturn(List.of(active, cancelled, alreadySent));
+
+        // When
+        scheduler.fire(List.of(
+                new ReminderEvent(1L, ReservationReminder.DAY_BEFORE),
+                new ReminderEvent(1L, ReservationReminder.SOON),
+                new ReminderEvent(2L, ReservationReminder.SOON),
+                new ReminderEvent(3L, ReservationReminder.SOON)));
+
+        // Then
+        verify(reservationQueryDslRepository, times(1)).findAllWithUserAndPopupByIdIn(anyCollection());
+        List<NotificationCreateDto> sent = sentNotifications(1);
+        assertThat(sent).hasSize(1);
+        assertThat(sent.get(0).getUserId()).isEqualTo(1L);
+        assertThat(sent.get(0).getTitle()).isEqualTo("예약 임박");
+        assertThat(sent.get(0).getMessage()).isEqualTo("[테스트 팝업] 30분 후 예약하신 일정이 시작됩니다.");
+        assertThat(sent.get(0).getType()).isEqualTo(NotificationType.RESERVATION);
+        verify(reservationRepository).saveAll(List.of(active));
+        assertThat(active.getLastReminder()).isEqualTo(ReservationReminder.SOON);
+    }
+
+    @Test
+    @DisplayName("같은 알림이 다시 만료돼도 (재시작 등) 두 번 보내지 않음")
+    void fire_NoDuplicateAfterClaim() {
+        // Given
+        Reservation reservation = createReservation(1L, ReservationStatus.RESERVED);
+        given(reservationQueryDslRepository.findAllWithUserAndPopupByIdIn(anyCollection())).willReturn(List.of(reservation));
+
+        // When
+        scheduler.fire(List.of(new ReminderEvent(1L, ReservationReminder.DAY_BEFORE)));
+        scheduler.fire(List.of(new ReminderEvent(1L, ReservationReminder.DAY_BEFORE)));
+
+        // Then
+        List<NotificationCreateDto> sent = sentNotifications(1);
+        assertThat(sent).extracting(NotificationCreateDto::getTitle).containsExactly("예약 하루 전");
+    }
+
+    @Test
+    @DisplayName("재시작 - 남은 알림 재등록, 서버가 내려가 있는 동안 놓친 알림은 바로 발송")
+    void start_RebuildsAndSendsMissedReminder() {
+        // Given - 이틀 전에 예약, 20분 후 시작 (하루 전, 30분 전 알림 모두 놓침)
+        Reservation missed = createReservation(1L, ReservationStatus.RESERVED, LocalDateTime.now().plusMinutes(20),
+                LocalDateTime.now().minusDays(2));
+        // 방금 예약, 20분 후 시작 (보낼 알림 없음)
+        Reservation lateBooking = createReservation(2L, ReservationStatus.RESERVED, LocalDateTime.now().plusMinutes(20),
+                LocalDateTime.now().minusMinutes(1));
+        // 이틀 후 시작 (두 알림 모두 등록)
+        Reservation upcoming = createReservation(3L, ReservationStatus.RESERVED, LocalDateTime.now().plusDays(2),
+                LocalDateTime.now().minusDays(1));
+        given(reservationQueryDslRepository.findReservedAfter(any(LocalDateTime.class)))
+                .willReturn(List.of(missed, lateBooking, upcoming));
+        given(reservationQueryDslRepository.findAllWithUserAndPopupByIdIn(anyCollection())).willReturn(List.of(missed));
+
+        // When
+        scheduler.start();
+
+        // Then
+        ArgumentCaptor<List<NotificationCreateDto>> sent = ArgumentCaptor.forClass(List.class);
+        verify(notificationService, timeout(3_000)).createNotifications(sent.capture());
+        assertThat(sent.getValue()).extracting(NotificationCreateDto::getTitle).containsExactly("예약 임박");
+        assertThat(scheduler.pendingCount()).isEqualTo(2);
+    }
+
+    private List<NotificationCreateDto> sentNotifications(int times) {
+        ArgumentCaptor<List<NotificationCreateDto>> sent = ArgumentCaptor.forClass(List.class);
+        verify(notificationService, times(times)).createNotifications(sent.capture());
+        return sent.getValue();
+    }
+
+    private Reservation createReservation(Long id, ReservationStatus status) {
+        return createReservation(id, status, LocalDateTime.now().plusMinutes(30), LocalDateTime.now().minusDays(3));
+    }
+
+    private Reservation createReservation(Long id, ReservationStatus status, LocalDateTime reservationDate,
+                                          LocalDateTime reservedAt) {
+        User user = mock(User.class);
+        Popup popup = mock(Popup.class);
+        lenient().when(user.getId()).thenReturn(id);
+        lenient().when(popup.getTitle()).thenReturn("테스트 팝업");
+
+        return Reservation.builder()
+                .id(id)
+                .popup(popup)
+                .user(user)
+                .name("김테스트")
+                .phone("010-1234-5678")
+                .partySize(2)
+                .reservationDate(reservationDate)
+                .reservedAt(reservedAt)
+                .status(status)
+                .paymentStatus(Reservation.PaymentStatus.PENDING)
+                .build();
+    }
+}
@@ -0,0 +1,55 @@
+package com.snow.popin.global.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TransactionUtil 테스트")
+class TransactionUtilTest {
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖이면 바로 실행")
+    void afterCommit_트랜잭션밖() {
+        // given
+        List<String> executed = new ArrayList<>();
+
+        // when
+        TransactionUtil.afterCommit(() -> executed.add("run"));
+
+        // then
+        assertThat(executed).containsExactly("run");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안이면 커밋 후에만 실행, 롤백되면 실행하지 않음")
+    void afterCommit_커밋후실행() {
+        // given
+        List<String> executed = new ArrayList<>();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        TransactionUtil.afterCommit(() -> executed.add("run"));
+
+        // then
+        assertThat(executed).isEmpty();
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        assertThat(executed).isEmpty();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        assertThat(executed).containsExactly("run");
+    }
+}
@@ -6,6 +6,7 @@ import com.snow.popin.domain.user.entity.User;
 import com.snow.popin.domain.user.repository.UserRepository;
 import com.snow.popin.global.constant.ErrorCode;
 import com.snow.popin.global.exception.GeneralException;
+import com.snow.popin.global.jwt.AuthenticatedUser;
 import com.snow.popin.global.jwt.JwtUtil;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,10 +16,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.util.Collections;
 import java.util.Map;
@@ -26,6 +30,9 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @DisplayName("UserUtil 테스트")
 @ExtendWith(MockitoExtension.class)
@@ -79,6 +86,7 @@ class UserUtilTest {
     @AfterEach
     void tearDown() {
         SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
     }
 
     @Test
@@ -346,10 +354,45 @@ class UserUtilTest {
         assertThat(isOwner).isFalse();
     }
 
+    @Test
+    @DisplayName("JWT 인증 주체면 ID, 이름, 역할을 DB 조회 없이 반환한다")
+    void givenAuthenticatedUserPrincipal_whenGetCurrentUserInfo_thenNoLookup() {
+        // Given
+        setUpAuthentication(AuthenticatedUser.from(testUser));
+
+        // When & Then
+        assertThat(userUtil.getCurrentUserId()).isEqualTo(testUserId);
+        assertThat(userUtil.getCurrentUserName()).isEqualTo(testName);
+        assertThat(userUtil.getCurrentUserRole()).isEqualTo("USER");
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("같은 요청 안에서는 사용자 엔티티를 한 번만 조회한다")
+    void givenRequestScope_whenGetCurrentUserTwice_thenLookupOnce() {
+        // Given
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        setUpAuthentication(AuthenticatedUser.from(testUser));
+        given(userRepository.findById(testUserId)).willReturn(Optional.of(testUser));
+
+        // When
+        User first = userUtil.getCurrentUser();
+        User second = userUtil.getCurrentUser();
+
+        // Then
+        assertThat(first).isSameAs(testUser);
+        assertThat(second).isSameAs(first);
+        verify(userRepository, times(1)).findById(testUserId);
+    }
+
     /**
      * 테스트용 인증 설정
      */
     private void setUpAuthentication() {
+        setUpAuthentication(userDetails);
+    }
+
+    private void setUpAuthentication(UserDetails userDetails) {
         UsernamePasswordAuthenticationToken authentication =
                 new UsernamePasswordAuthenticationToken(
                         userDetails,
@@ -0,0 +1,447 @@
+package com.snow.popin.global.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.snow.popin.global.config.WebSocketProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.StompSubProtocolHandler;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * STOMP 브로커 부하 테스트
+ *
+ * WebSocketConfig 와 같은 구성(채널 스레드 풀, SimpleBroker, STOMP 처리, 세션별 전송 한도, 지표)을 스프링 컨텍스트 없이 묶고,
+ * 실제 STOMP 프레임을 주고받는 가짜 WebSocket 세션 수천 개로 접속, 구독, 발행을 돌린다.
+ */
+@DisplayName("STOMP 브로커 부하 테스트")
+class StompBrokerLoadTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger handledSubscriptions = new AtomicInteger();
+    private final List<FakeSession> sessions = Collections.synchronizedList(new ArrayList<>());
+
+    private WebSocketProperties properties;
+    private StompBrokerMetrics metrics;
+    private ThreadPoolTaskExecutor inboundExecutor;
+    private ThreadPoolTaskExecutor outboundExecutor;
+    private SimpleBrokerMessageHandler broker;
+    private SubProtocolWebSocketHandler webSocketHandler;
+    private StompTopicPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        properties = new WebSocketProperties();
+        properties.getInbound().setCorePoolSize(4);
+        properties.getInbound().setMaxPoolSize(4);
+        properties.getOutbound().setCorePoolSize(8);
+        properties.getOutbound().setMaxPoolSize(8);
+        properties.getOutbound().setQueueCapacity(100_000);
+        properties.getSession().setSendBufferSizeLimit(32 * 1024);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (publisher != null) {
+            publisher.shutdown();
+        }
+        if (webSocketHandler != null) {
+            webSocketHandler.stop();
+        }
+        if (broker != null) {
+            broker.stop();
+        }
+        if (inboundExecutor != null) {
+            inboundExecutor.shutdown();
+            outboundExecutor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("클라이언트 3천 개, 방 300개 - 모든 구독자가 모든 메시지를 받고 전송 대기가 비워짐")
+    void thousandsOfClients() throws Exception {
+        // Given
+        start();
+        int rooms = 300;
+        int clientsPerRoom = 10;
+        int messagesPerRoom = 20;
+        connectAll(rooms, clientsPerRoom, -1);
+
+        // When
+        long started = System.nanoTime();
+        publishConcurrently(rooms, messagesPerRoom, "안녕하세요");
+        long expected = (long) messagesPerRoom;
+        await(() -> sessions.stream().allMatch(session -> session.payloads.get() == expected), 30_000);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        // Then
+        StompBrokerMetrics.DestinationSnapshot room = reservationTopic();
+        assertThat(room.getSubscriptions()).isEqualTo(rooms * clientsPerRoom);
+        assertThat(room.getPublished()).isEqualTo((long) rooms * messagesPerRoom);
+        // 전달 수는 세션으로 보낸 뒤에 세므로 마지막 몇 건은 조금 늦게 반영될 수 있음
+        await(() -> reservationTopic().getDelivered() == (long) rooms * clientsPerRoom * messagesPerRoom, 5_000);
+        assertThat(room.getDroppedSessions()).isZero();
+        await(() -> reservationTopic().getQueueDepth() == 0, 5_000);
+        assertThat(metrics.snapshot().getSessions()).isEqualTo(rooms * clientsPerRoom);
+        assertThat(sessions).noneMatch(session -> session.closeStatus != null);
+        assertThat(elapsedMillis).isLessThan(30_000);
+    }
+
+    @Test
+    @DisplayName("느린 클라이언트 - 전송 버퍼 한도를 넘으면 그 세션만 끊기고 같은 방의 다른 구독자는 모두 받음")
+    void slowClientDropped() throws Exception {
+        // Given - 0번 방의 첫 번째 클라이언트는 메시지를 받지 못하고 멈춰 있음
+        start();
+        int rooms = 50;
+        int clientsPerRoom = 20;
+        connectAll(rooms, clientsPerRoom, 0);
+        FakeSession slow = sessions.get(0);
+        String large = "가".repeat(340);
+
+        // When - 1KB 메시지 120개 (버퍼 한도 32KB), 멈춘 세션에만 한도를 훨씬 넘게 쌓이고 정상 세션은 한도 근처까지 밀리지 않음
+        long started = System.nanoTime();
+        for (int seq = 0; seq < 120; seq++) {
+            publisher.publish("/topic/reservation/0", Map.of("seq", seq, "content", large));
+        }
+        long publishMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        // Then
+        await(() -> slow.closeStatus != null, 10_000);
+        assertThat(slow.closeStatus).isEqualTo(CloseStatus.SESSION_NOT_RELIABLE);
+        List<FakeSession> others = new ArrayList<>(sessions.subList(1, clientsPerRoom));
+        await(() -> others.stream().allMatch(session -> session.payloads.get() == 120), 10_000);
+        assertThat(others).noneMatch(session -> session.closeStatus != null);
+        assertThat(publishMillis).isLessThan(2_000);
+
+        StompBrokerMetrics.Snapshot snapshot = metrics.snapshot();
+        assertThat(snapshot.getDroppedSessions()).isEqualTo(1);
+        assertThat(reservationTopic().getDroppedSessions()).isEqualTo(1);
+        assertThat(reservationTopic().getSubscriptions()).isEqualTo(rooms * clientsPerRoom - 1);
+    }
+
+    @Test
+    @DisplayName("몰린 메시지 묶기 - 프레임 수는 줄고, 모든 메시지가 묶음 안에서 발행 순서대로 전달")
+    void coalescesBursts() throws Exception {
+        // Given
+        properties.getCoalesce().setEnabled(true);
+        properties.getCoalesce().setWindow(50L);
+        start();
+        int rooms = 100;
+        int clientsPerRoom = 10;
+        int messagesPerRoom = 30;
+        connectAll(rooms, clientsPerRoom, -1);
+
+        // When - 방마다 한꺼번에 30개
+        for (int room = 0; room < rooms; room++) {
+            for (int seq = 0; seq < messagesPerRoom; seq++) {
+                publisher.publish("/topic/reservation/" + room, Map.of("seq", seq, "content", "안녕하세요"));
+            }
+        }
+
+        // Then
+        await(() -> sessions.stream().allMatch(session -> session.payloads.get() == messagesPerRoom), 10_000);
+        assertThat(sessions).allMatch(session -> session.frames.get() < messagesPerRoom);
+        assertThat(sessions).allMatch(session -> session.inOrder);
+        assertThat(reservationTopic().getCoalesced()).isGreaterThan(0);
+    }
+
+    private void start() {
+        metrics = new StompBrokerMetrics();
+        inboundExecutor = executor(properties.getInbound());
+        outboundExecutor = executor(properties.getOutbound());
+        metrics.monitor("inbound", inboundExecutor);
+        metrics.monitor("outbound", outboundExecutor);
+
+        ExecutorSubscribableChannel clientInbound = new ExecutorSubscribableChannel(inboundExecutor);
+        clientInbound.addInterceptor(metrics.inboundInterceptor());
+        clientInbound.addInterceptor(new ExecutorChannelInterceptor() {
+            @Override
+            public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler,
+                                            Exception ex) {
+                if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.SUBSCRIBE) {
+                    handledSubscriptions.incrementAndGet();
+                }
+            }
+        });
+        ExecutorSubscribableChannel clientOutbound = new ExecutorSubscribableChannel(outboundExecutor);
+        clientOutbound.addInterceptor(metrics.outboundInterceptor());
+        ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+        brokerChannel.addInterceptor(metrics.brokerInterceptor());
+
+        broker = new SimpleBrokerMessageHandler(clientInbound, clientOutbound, brokerChannel,
+                List.of("/queue", "/topic"));
+        broker.start();
+
+        StompSubProtocolHandler stompHandler = new StompSubProtocolHandler();
+        stompHandler.setApplicationEventPublisher(event -> {
+            if (event instanceof SessionDisconnectEvent) {
+                metrics.onDisconnect((SessionDisconnectEvent) event);
+            }
+        });
+        webSocketHandler = new SubProtocolWebSocketHandler(clientInbound, clientOutbound);
+        webSocketHandler.setDefaultProtocolHandler(stompHandler);
+        webSocketHandler.setSendTimeLimit(properties.getSession().getSendTimeLimit());
+        webSocketHandler.setSendBufferSizeLimit(properties.getSession().getSendBufferSizeLimit());
+        webSocketHandler.start();
+
+        SimpMessagingTemplate template = new SimpMessagingTemplate(brokerChannel);
+        template.setMessageConverter(new MappingJackson2MessageConverter());
+        publisher = new StompTopicPublisher(template, metrics, properties);
+    }
+
+    private ThreadPoolTaskExecutor executor(WebSocketProperties.Channel channel) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(channel.getCorePoolSize());
+        executor.setMaxPoolSize(channel.getMaxPoolSize());
+        executor.setQueueCapacity(channel.getQueueCapacity());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 방마다 clientsPerRoom 개 세션 접속, 구독 (slowIndex 번째 세션은 MESSAGE 를 받다 멈춤)
+     */
+    private void connectAll(int rooms, int clientsPerRoom, int slowIndex) throws Exception {
+        for (int room = 0; room < rooms; room++) {
+            for (int client = 0; client < clientsPerRoom; client++) {
+                FakeSession session = new FakeSession("s-" + room + "-" + client,
+                        sessions.size() == slowIndex ? release : null);
+                sessions.add(session);
+                webSocketHandler.afterConnectionEstablished(session);
+                webSocketHandler.handleMessage(session,
+                        new TextMessage("CONNECT\naccept-version:1.2\nheart-beat:0,0\n\n\u0000"));
+                webSocketHandler.handleMessage(session, new TextMessage(
+                        "SUBSCRIBE\nid:sub-0\ndestination:/topic/reservation/" + room + "\n\n\u0000"));
+            }
+        }
+        int total = rooms * clientsPerRoom;
+        await(() -> handledSubscriptions.get() == total && sessions.stream().allMatch(s -> s.connected), 30_000);
+    }
+
+    /**
+     * 발행 스레드 8개가 방을 나눠 맡아 동시에 발행
+     */
+    private void publishConcurrently(int rooms, int messagesPerRoom, String content) throws Exception {
+        ExecutorService publishers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int worker = 0; worker < 8; worker++) {
+                int offset = worker;
+                futures.add(publishers.submit(() -> {
+                    for (int seq = 0; seq < messagesPerRoom; seq++) {
+                        for (int room = offset; room < rooms; room += 8) {
+                            publisher.publish("/topic/reservation/" + room, Map.of("seq", seq, "content", content));
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            publishers.shutdownNow();
+        }
+    }
+
+    private StompBrokerMetrics.DestinationSnapshot reservationTopic() {
+        return metrics.snapshot().getDestinations().stream()
+                .filter(destination -> destination.getDestination().equals("/topic/reservation/*"))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private void await(BooleanSupplier condition, long timeoutMillis) {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("조건을 만족하지 않음");
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(e);
+            }
+        }
+    }
+
+    /**
+     * 받은 STOMP 프레임을 세는 가짜 WebSocket 세션 (blocker 가 있으면 MESSAGE 를 보내다 멈춤)
+     */
+    private static class FakeSession implements WebSocketSession {
+
+        private final String id;
+        private final CountDownLatch blocker;
+        private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+        private final AtomicInteger frames = new AtomicInteger();
+        private final AtomicInteger payloads = new AtomicInteger();
+        private volatile boolean connected;
+        private volatile boolean inOrder = true; // 묶인 메시지가 발행 순서대로 들어 있는지
+        private volatile CloseStatus closeStatus;
+        private int textMessageSizeLimit = 64 * 1024;
+        private int binaryMessageSizeLimit = 64 * 1024;
+
+        private FakeSession(String id, CountDownLatch blocker) {
+            this.id = id;
+            this.blocker = blocker;
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            String frame = (String) message.getPayload();
+            if (frame.startsWith("CONNECTED")) {
+                connected = true;
+                return;
+            }
+            if (!frame.startsWith("MESSAGE")) {
+                return;
+            }
+            if (blocker != null) {
+                try {
+                    blocker.await(30, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return;
+            }
+
+            String body = frame.substring(frame.indexOf("\n\n") + 2, frame.lastIndexOf('\u0000'));
+            JsonNode json = OBJECT_MAPPER.readTree(body);
+            List<JsonNode> received = new ArrayList<>();
+            if (json.isArray()) {
+                json.forEach(received::add);
+            } else {
+                received.add(json);
+            }
+            for (int i = 1; i < received.size(); i++) {
+                if (received.get(i).get("seq").asInt() <= received.get(i - 1).get("seq").asInt()) {
+                    inOrder = false;
+                }
+            }
+            frames.incrementAndGet();
+            payloads.addAndGet(received.size());
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public URI getUri() {
+            return URI.create("ws://localhost/ws");
+        }
+
+        @Override
+        public HttpHeaders getHandshakeHeaders() {
+            return new HttpHeaders();
+        }
+
+        @Override
+        public Map<String, Object> getAttributes() {
+            return attributes;
+        }
+
+        @Override
+        public Principal getPrincipal() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress getLocalAddress() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress getRemoteAddress() {
+            return null;
+        }
+
+        @Override
+        public String getAcceptedProtocol() {
+            return "v12.stomp";
+        }
+
+        @Override
+        public void setTextMessageSizeLimit(int messageSizeLimit) {
+            this.textMessageSizeLimit = messageSizeLimit;
+        }
+
+        @Override
+        public int getTextMessageSizeLimit() {
+            return textMessageSizeLimit;
+        }
+
+        @Override
+        public void setBinaryMessageSizeLimit(int messageSizeLimit) {
+            this.binaryMessageSizeLimit = messageSizeLimit;
+        }
+
+        @Override
+        public int getBinaryMessageSizeLimit() {
+            return binaryMessageSizeLimit;
+        }
+
+        @Override
+        public List<WebSocketExtension> getExtensions() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public boolean isOpen() {
+            return closeStatus == null;
+        }
+
+        @Override
+        public void close() {
+            close(CloseStatus.NORMAL);
+        }
+
+        @Override
+        public void close(CloseStatus status) {
+            closeStatus = status;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.snow.popin.global.websocket;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("STOMP 브로커 지표 테스트")
+class StompBrokerMetricsTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private final MessageChannel channel = mock(MessageChannel.class);
+
+    private StompBrokerMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new StompBrokerMetrics(now::get);
+    }
+
+    @Test
+    @DisplayName("목적지 패턴 - 숫자 경로와 유저 세션 접미사는 * 로 묶음")
+    void pattern() {
+        assertThat(StompBrokerMetrics.pattern("/topic/reservation/12")).isEqualTo("/topic/reservation/*");
+        assertThat(StompBrokerMetrics.pattern("/queue/notifications-userab12cd")).isEqualTo("/queue/notifications-user*");
+        assertThat(StompBrokerMetrics.pattern("/topic/notice")).isEqualTo("/topic/notice");
+    }
+
+    @Test
+    @DisplayName("초당 전달 수와 전송 대기 - 직전 10초 평균, 세션으로 보내면 대기에서 빠짐")
+    void deliveredPerSecondAndQueueDepth() {
+        // Given
+        ExecutorChannelInterceptor outbound = (ExecutorChannelInterceptor) metrics.outboundInterceptor();
+        Message<?> message = message(SimpMessageType.MESSAGE, "s-1", "/topic/reservation/7");
+
+        // When - 20초 동안 초마다 5건 전달, 마지막에 3건은 대기열에 남음
+        for (int second = 0; second < 20; second++) {
+            for (int i = 0; i < 5; i++) {
+                outbound.preSend(message, channel);
+                outbound.afterMessageHandled(message, channel, null, null);
+            }
+            now.addAndGet(1000);
+        }
+        for (int i = 0; i < 3; i++) {
+            outbound.preSend(message, channel);
+        }
+
+        // Then
+        StompBrokerMetrics.DestinationSnapshot snapshot = metrics.snapshot().getDestinations().get(0);
+        assertThat(snapshot.getDestination()).isEqualTo("/topic/reservation/*");
+        assertThat(snapshot.getDelivered()).isEqualTo(100);
+        assertThat(snapshot.getDeliveredPerSecond()).isEqualTo(5.0);
+        assertThat(snapshot.getQueueDepth()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("구독과 끊긴 세션 - 전송 한도 초과(4500)로 끊긴 세션만 세션당 한 번 셈")
+    void subscriptionsAndDroppedSessions() {
+        // Given
+        ChannelInterceptor inbound = metrics.inboundInterceptor();
+        for (String sessionId : new String[]{"s-1", "s-2", "s-3"}) {
+            inbound.preSend(message(SimpMessageType.CONNECT, sessionId, null), channel);
+            inbound.preSend(message(SimpMessageType.SUBSCRIBE, sessionId, "/topic/reservation/" + sessionId.charAt(2)),
+                    channel);
+        }
+
+        // When
+        metrics.onDisconnect(disconnect("s-1", CloseStatus.SESSION_NOT_RELIABLE));
+        metrics.onDisconnect(disconnect("s-1", CloseStatus.SESSION_NOT_RELIABLE)); // 같은 세션의 종료 이벤트가 다시 옴
+        metrics.onDisconnect(disconnect("s-2", CloseStatus.NORMAL));
+
+        // Then
+        StompBrokerMetrics.Snapshot snapshot = metrics.snapshot();
+        assertThat(snapshot.getSessions()).isEqualTo(1);
+        assertThat(snapshot.getDroppedSessions()).isEqualTo(1);
+        StompBrokerMetrics.DestinationSnapshot room = snapshot.getDestinations().get(0);
+        assertThat(room.getSubscriptions()).isEqualTo(1);
+        assertThat(room.getDroppedSessions()).isEqualTo(1);
+    }
+
+    private Message<byte[]> message(SimpMessageType type, String sessionId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId("sub-0");
+        if (destination != null) {
+            accessor.setDestination(destination);
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private SessionDisconnectEvent disconnect(String sessionId, CloseStatus status) {
+        return new SessionDisconnectEvent(this, message(SimpMessageType.DISCONNECT, sessionId, null), sessionId, status);
+    }
+}
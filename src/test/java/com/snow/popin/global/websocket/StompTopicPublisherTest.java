@@ -0,0 +1,91 @@
+package com.snow.popin.global.websocket;
+
+import com.snow.popin.global.config.WebSocketProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("STOMP 목적지 발행 테스트")
+class StompTopicPublisherTest {
+
+    private final SimpMessageSendingOperations messagingTemplate = mock(SimpMessageSendingOperations.class);
+    private final StompBrokerMetrics metrics = new StompBrokerMetrics();
+
+    private StompTopicPublisher publisher;
+
+    @AfterEach
+    void tearDown() {
+        publisher.shutdown();
+    }
+
+    @Test
+    @DisplayName("묶기 꺼짐 - 바로 전송")
+    void publish_CoalesceDisabled() {
+        // Given
+        publisher = new StompTopicPublisher(messagingTemplate, metrics, new WebSocketProperties());
+
+        // When
+        publisher.publish("/topic/reservation/1", "a");
+        publisher.publish("/topic/reservation/1", "b");
+
+        // Then
+        verify(messagingTemplate).convertAndSend("/topic/reservation/1", "a");
+        verify(messagingTemplate).convertAndSend("/topic/reservation/1", "b");
+    }
+
+    @Test
+    @DisplayName("몰린 메시지 - 첫 메시지는 바로, 이후 window 동안 들어온 메시지는 배열 하나로")
+    void publish_CoalescesBurst() {
+        // Given
+        publisher = new StompTopicPublisher(messagingTemplate, metrics, properties(100L, 50));
+
+        // When
+        publisher.publish("/topic/reservation/1", "a");
+        publisher.publish("/topic/reservation/1", "b");
+        publisher.publish("/topic/reservation/1", "c");
+        publisher.publish("/topic/notice", "d");
+
+        // Then
+        verify(messagingTemplate).convertAndSend("/topic/notice", "d");
+        InOrder order = inOrder(messagingTemplate);
+        order.verify(messagingTemplate).convertAndSend("/topic/reservation/1", "a");
+        order.verify(messagingTemplate, timeout(2000)).convertAndSend("/topic/reservation/1", List.of("b", "c"));
+    }
+
+    @Test
+    @DisplayName("묶음 최대 크기 - 차면 window 를 기다리지 않고 전송")
+    void publish_FlushesFullBatch() {
+        // Given - window 가 길어도
+        publisher = new StompTopicPublisher(messagingTemplate, metrics, properties(60_000L, 2));
+
+        // When
+        publisher.publish("/topic/reservation/1", "a");
+        publisher.publish("/topic/reservation/1", "b");
+        publisher.publish("/topic/reservation/1", "c");
+
+        // Then
+        verify(messagingTemplate).convertAndSend("/topic/reservation/1", "a");
+        verify(messagingTemplate).convertAndSend("/topic/reservation/1", List.of("b", "c"));
+        verify(messagingTemplate, times(2)).convertAndSend(anyString(), any(Object.class));
+    }
+
+    private WebSocketProperties properties(Long window, Integer maxBatchSize) {
+        WebSocketProperties properties = new WebSocketProperties();
+        properties.getCoalesce().setEnabled(true);
+        properties.getCoalesce().setWindow(window);
+        properties.getCoalesce().setMaxBatchSize(maxBatchSize);
+        return properties;
+    }
+}